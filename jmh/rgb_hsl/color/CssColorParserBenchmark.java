@@ -0,0 +1,62 @@
+package rgb_hsl.color;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing CssColorParser against the regular
+ * expression based parsing in HexColor. Run with
+ * <b>gradle jmh</b>.
+ * @author Noah Teshima
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CssColorParserBenchmark {
+    private static final String[] HEX_CODES = {"#000000", "#ff0000", "#78a0c8", "#3c7804", "#fff", "#bCa"};
+    private static final String BULK = "#000000\n#ff0000\n#78a0c8\n#3c7804\n#fff\n#bCa\n";
+
+    private final CssColorParser parser = new CssColorParser();
+    private final HexColor hexColor = new HexColor();
+    private final int[] out = new int[HEX_CODES.length];
+
+    @Benchmark
+    public void hexColor(Blackhole blackhole) {
+        for(String code : HEX_CODES) {
+            this.hexColor.setColor(code);
+            blackhole.consume(this.hexColor.getRed());
+        }
+    }
+
+    @Benchmark
+    public void cssColorParser(Blackhole blackhole) {
+        for(String code : HEX_CODES) {
+            this.parser.parse(code, 0, code.length());
+            blackhole.consume(this.parser.getARGB());
+        }
+    }
+
+    @Benchmark
+    public int cssColorParserBulk() {
+        return this.parser.parseAll(BULK, this.out);
+    }
+
+    @Benchmark
+    public void cssColorParserFunctional(Blackhole blackhole) {
+        this.parser.parse("rgb(120, 160, 200)", 0, 18);
+        blackhole.consume(this.parser.getARGB());
+        this.parser.parse("hsl(210 48% 63% / 0.5)", 0, 22);
+        blackhole.consume(this.parser.getARGB());
+    }
+}
@@ -0,0 +1,254 @@
+package rgb_hsl.color;
+
+/**
+ * Modes used to blend a source color over a backdrop color, following
+ * the separable blend modes of the W3C Compositing and Blending
+ * specification. Colors are packed as 0xAARRGGBB. The backdrop is
+ * treated as opaque and its alpha is kept, while the alpha of the
+ * source sets how much of the blended color replaces the backdrop.
+ * Channels are blended with integer arithmetic and an exact rounding
+ * division by 255, in loops with one array pass per call and no
+ * branches other than those of the modes themselves. Soft light needs
+ * a square root, so its results are looked up in a table computed once.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public enum BlendMode {
+	/**
+	 * The source color, ignoring the backdrop.
+	 */
+	NORMAL,
+	/**
+	 * The product of the source and backdrop, which is never lighter
+	 * than either.
+	 */
+	MULTIPLY,
+	/**
+	 * The inverse of the product of the inverted source and backdrop,
+	 * which is never darker than either.
+	 */
+	SCREEN,
+	/**
+	 * Multiply for dark backdrop channels and screen for light ones,
+	 * keeping the contrast of the backdrop.
+	 */
+	OVERLAY,
+	/**
+	 * A softer overlay, darkening or lightening the backdrop by the
+	 * source.
+	 */
+	SOFT_LIGHT;
+
+	/**
+	 * Soft light of every backdrop channel, as the high byte, with
+	 * every source channel.
+	 */
+	private static final byte[] SOFT_LIGHT_TABLE = new byte[256 * 256];
+
+	static {
+		for(int backdrop = 0; backdrop < 256; backdrop++) {
+			double b = backdrop / 255.0,
+					d = (b <= 0.25) ? ((((16 * b) - 12) * b) + 4) * b : Math.sqrt(b);
+			for(int source = 0; source < 256; source++) {
+				double s = source / 255.0,
+						blended = (s <= 0.5)
+								? b - ((1 - (2 * s)) * b * (1 - b))
+								: b + (((2 * s) - 1) * (d - b));
+				SOFT_LIGHT_TABLE[(backdrop << 8) | source] = (byte) Math.round(blended * 255);
+			}
+		}
+	}
+
+	/**
+	 * Blend a source color over a backdrop color.
+	 * @param backdrop integer value containing the packed backdrop.
+	 * @param source integer value containing the packed source.
+	 * @return integer value containing the blended color, with the
+	 * alpha of the backdrop.
+	 */
+	public int blend(int backdrop, int source) {
+		int alpha = source >>> 24;
+		return (backdrop & 0xff000000)
+				| (this.blendChannel((backdrop >> 16) & 0xff, (source >> 16) & 0xff, alpha) << 16)
+				| (this.blendChannel((backdrop >> 8) & 0xff, (source >> 8) & 0xff, alpha) << 8)
+				| this.blendChannel(backdrop & 0xff, source & 0xff, alpha);
+	}
+
+	/**
+	 * Blend a range of source colors over the backdrop colors at the
+	 * same indices. The output may be either input array.
+	 * @param backdrops int array containing packed backdrops.
+	 * @param sources int array containing packed sources.
+	 * @param out int array receiving the blended colors.
+	 * @param from integer value containing the first index to blend.
+	 * @param to integer value containing the index after the last
+	 *           index to blend.
+	 */
+	public void blend(int[] backdrops, int[] sources, int[] out, int from, int to) {
+		this.blend(backdrops, -1, sources, out, from, to);
+	}
+
+	/**
+	 * Blend a range of source colors over a single backdrop color.
+	 * The output may be the source array.
+	 * @param backdrop integer value containing the packed backdrop.
+	 * @param sources int array containing packed sources.
+	 * @param out int array receiving the blended colors.
+	 * @param from integer value containing the first index to blend.
+	 * @param to integer value containing the index after the last
+	 *           index to blend.
+	 */
+	public void blend(int backdrop, int[] sources, int[] out, int from, int to) {
+		this.blend(new int[] {backdrop}, 0, sources, out, from, to);
+	}
+
+	/**
+	 * Blend a range of source colors over backdrop colors. The index of
+	 * each backdrop is the index of its source masked by the given mask,
+	 * so a mask of -1 pairs sources with the backdrops at the same index,
+	 * and a mask of 0 blends every source over the first backdrop.
+	 * @param backdrops int array containing packed backdrops.
+	 * @param mask integer value masking the index of each backdrop.
+	 * @param sources int array containing packed sources.
+	 * @param out int array receiving the blended colors.
+	 * @param from integer value containing the first index to blend.
+	 * @param to integer value containing the index after the last
+	 *           index to blend.
+	 */
+	private void blend(int[] backdrops, int mask, int[] sources, int[] out, int from, int to) {
+		switch(this) {
+			case NORMAL:
+				for(int index = from; index < to; index++) {
+					int backdrop = backdrops[index & mask],
+							source = sources[index],
+							alpha = source >>> 24;
+					out[index] = (backdrop & 0xff000000)
+							| (mix((backdrop >> 16) & 0xff, (source >> 16) & 0xff, alpha) << 16)
+							| (mix((backdrop >> 8) & 0xff, (source >> 8) & 0xff, alpha) << 8)
+							| mix(backdrop & 0xff, source & 0xff, alpha);
+				}
+				break;
+			case MULTIPLY:
+				for(int index = from; index < to; index++) {
+					int backdrop = backdrops[index & mask],
+							source = sources[index],
+							alpha = source >>> 24,
+							red = (backdrop >> 16) & 0xff,
+							green = (backdrop >> 8) & 0xff,
+							blue = backdrop & 0xff;
+					out[index] = (backdrop & 0xff000000)
+							| (mix(red, multiply(red, (source >> 16) & 0xff), alpha) << 16)
+							| (mix(green, multiply(green, (source >> 8) & 0xff), alpha) << 8)
+							| mix(blue, multiply(blue, source & 0xff), alpha);
+				}
+				break;
+			case SCREEN:
+				for(int index = from; index < to; index++) {
+					int backdrop = backdrops[index & mask],
+							source = sources[index],
+							alpha = source >>> 24,
+							red = (backdrop >> 16) & 0xff,
+							green = (backdrop >> 8) & 0xff,
+							blue = backdrop & 0xff;
+					out[index] = (backdrop & 0xff000000)
+							| (mix(red, screen(red, (source >> 16) & 0xff), alpha) << 16)
+							| (mix(green, screen(green, (source >> 8) & 0xff), alpha) << 8)
+							| mix(blue, screen(blue, source & 0xff), alpha);
+				}
+				break;
+			case OVERLAY:
+				for(int index = from; index < to; index++) {
+					int backdrop = backdrops[index & mask],
+							source = sources[index],
+							alpha = source >>> 24,
+							red = (backdrop >> 16) & 0xff,
+							green = (backdrop >> 8) & 0xff,
+							blue = backdrop & 0xff;
+					out[index] = (backdrop & 0xff000000)
+							| (mix(red, overlay(red, (source >> 16) & 0xff), alpha) << 16)
+							| (mix(green, overlay(green, (source >> 8) & 0xff), alpha) << 8)
+							| mix(blue, overlay(blue, source & 0xff), alpha);
+				}
+				break;
+			default:
+				for(int index = from; index < to; index++) {
+					int backdrop = backdrops[index & mask],
+							source = sources[index],
+							alpha = source >>> 24,
+							red = (backdrop >> 16) & 0xff,
+							green = (backdrop >> 8) & 0xff,
+							blue = backdrop & 0xff;
+					out[index] = (backdrop & 0xff000000)
+							| (mix(red, SOFT_LIGHT_TABLE[(red << 8) | ((source >> 16) & 0xff)] & 0xff, alpha) << 16)
+							| (mix(green, SOFT_LIGHT_TABLE[(green << 8) | ((source >> 8) & 0xff)] & 0xff, alpha) << 8)
+							| mix(blue, SOFT_LIGHT_TABLE[(blue << 8) | (source & 0xff)] & 0xff, alpha);
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Blend a single channel of a source over a backdrop.
+	 * @param backdrop integer value containing the backdrop channel.
+	 * @param source integer value containing the source channel.
+	 * @param alpha integer value containing the alpha of the source.
+	 * @return integer value containing the blended channel.
+	 */
+	private int blendChannel(int backdrop, int source, int alpha) {
+		int blended;
+		switch(this) {
+			case NORMAL:
+				blended = source;
+				break;
+			case MULTIPLY:
+				blended = multiply(backdrop, source);
+				break;
+			case SCREEN:
+				blended = screen(backdrop, source);
+				break;
+			case OVERLAY:
+				blended = overlay(backdrop, source);
+				break;
+			default:
+				blended = SOFT_LIGHT_TABLE[(backdrop << 8) | source] & 0xff;
+				break;
+		}
+		return mix(backdrop, blended, alpha);
+	}
+
+	/**
+	 * Divide a product of two channels by 255, rounding to nearest.
+	 * @param product integer value on the range [0, 65025], inclusive.
+	 * @return integer value on the range [0, 255], inclusive.
+	 */
+	static int divide(int product) {
+		product += 128;
+		return (product + (product >> 8)) >> 8;
+	}
+
+	private static int multiply(int backdrop, int source) {
+		return divide(backdrop * source);
+	}
+
+	private static int screen(int backdrop, int source) {
+		return backdrop + source - divide(backdrop * source);
+	}
+
+	private static int overlay(int backdrop, int source) {
+		return (backdrop < 128)
+				? divide(2 * backdrop * source)
+				: screen((2 * backdrop) - 255, source);
+	}
+
+	/**
+	 * Mix a backdrop channel toward a blended channel by the alpha
+	 * of the source.
+	 * @param backdrop integer value containing the backdrop channel.
+	 * @param blended integer value containing the blended channel.
+	 * @param alpha integer value containing the alpha of the source.
+	 * @return integer value containing the mixed channel.
+	 */
+	private static int mix(int backdrop, int blended, int alpha) {
+		return divide((backdrop * (255 - alpha)) + (blended * alpha));
+	}
+}
@@ -3,8 +3,8 @@ package rgb_hsl.color;
 /**
  * Class Color represents the root class for different
  * color spaces. Color spaces represent different ways
- * of describing Color. HSL and RGB color spaces are
- * isomorphic to three dimensional real space. As such,
+ * of describing Color. HSL, RGB, CIELAB and OKLab color
+ * spaces are isomorphic to three dimensional real space. As such,
  * this class should only serve as a root for color spaces
  * that are also isomorphic to three dimensional space.
  * @author Noah Teshima
@@ -32,7 +32,7 @@ public abstract class Color {
     public static HSLColor getHSLColor(Color color) {
         return (color instanceof HSLColor)
                 ? (HSLColor) color
-                : ((RGBColor) color).getHSLColor();
+                : getRGBColor(color).getHSLColor();
     }
 
     /**
@@ -43,8 +43,80 @@ public abstract class Color {
      * color in RGB space.
      */
     public static RGBColor getRGBColor(Color color) {
-        return (color instanceof RGBColor)
-                ? (RGBColor) color
-                : ((HSLColor) color).getRGBColor();
+        if(color instanceof RGBColor) {
+            return (RGBColor) color;
+        }else if(color instanceof LabColor) {
+            return ((LabColor) color).getRGBColor();
+        }else if(color instanceof OKLabColor) {
+            return ((OKLabColor) color).getRGBColor();
+        }else if(color instanceof FloatRGBColor) {
+            return ((FloatRGBColor) color).quantize();
+        }else if(color instanceof FloatHSLColor) {
+            return ((FloatHSLColor) color).quantize();
+        }
+        return ((HSLColor) color).getRGBColor();
+    }
+
+    /**
+     * Accessor method used to get the given color in CIELAB space.
+     * @param color Color reference containing the color
+     *              to get in CIELAB space.
+     * @return LabColor object containing the given
+     * color in CIELAB space.
+     */
+    public static LabColor getLabColor(Color color) {
+        return (color instanceof LabColor)
+                ? (LabColor) color
+                : LabColor.fromRGB(PackedColor.getRGB(color));
+    }
+
+    /**
+     * Accessor method used to get the given color in OKLab space.
+     * @param color Color reference containing the color
+     *              to get in OKLab space.
+     * @return OKLabColor object containing the given
+     * color in OKLab space.
+     */
+    public static OKLabColor getOKLabColor(Color color) {
+        return (color instanceof OKLabColor)
+                ? (OKLabColor) color
+                : OKLabColor.fromRGB(PackedColor.getRGB(color));
+    }
+
+    /**
+     * Accessor method used to get the given color in RGB space
+     * with float channels. Colors in HSL space are converted
+     * without rounding through 8-bit channels.
+     * @param color Color reference containing the color
+     *              to get in RGB space.
+     * @return FloatRGBColor object containing the given
+     * color in RGB space.
+     */
+    public static FloatRGBColor getFloatRGBColor(Color color) {
+        if(color instanceof FloatRGBColor) {
+            return (FloatRGBColor) color;
+        }else if(color instanceof FloatHSLColor || color instanceof HSLColor) {
+            return getFloatHSLColor(color).getRGBColor();
+        }
+        return FloatRGBColor.fromRGB(PackedColor.getRGB(color));
+    }
+
+    /**
+     * Accessor method used to get the given color in HSL space
+     * with float components.
+     * @param color Color reference containing the color
+     *              to get in HSL space.
+     * @return FloatHSLColor object containing the given
+     * color in HSL space.
+     */
+    public static FloatHSLColor getFloatHSLColor(Color color) {
+        if(color instanceof FloatHSLColor) {
+            return (FloatHSLColor) color;
+        }else if(color instanceof HSLColor) {
+            HSLColor hslColor = (HSLColor) color;
+            return new FloatHSLColor(hslColor.getHue(), (float) hslColor.getSaturation(),
+                    (float) hslColor.getLightness());
+        }
+        return getFloatRGBColor(color).getHSLColor();
     }
 }
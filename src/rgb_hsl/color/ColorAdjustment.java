@@ -0,0 +1,304 @@
+package rgb_hsl.color;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Immutable adjustment of colors in HSL space, made of a hue rotation,
+ * saturation and lightness scaling, saturation and lightness clamping,
+ * and a tint toward a target color. Adjustments are built by chaining
+ * calls starting from IDENTITY, and are always applied in that order:
+ * rotation, scaling, clamping, then tinting, no matter the order of the
+ * calls. Repeated rotations add, repeated scales multiply, repeated
+ * clamps narrow to the range they share, and repeated tints mix toward
+ * each target in turn.
+ * Applying an adjustment to a packed color converts it into HSL space
+ * once and back once, however many parts the adjustment has, and
+ * applying it to an array creates no objects, so ranges of an array
+ * can be adjusted by several threads at once.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class ColorAdjustment {
+	/**
+	 * Adjustment leaving every color unchanged.
+	 */
+	public static final ColorAdjustment IDENTITY = new ColorAdjustment(0, 1, 1, 0, 1, 0, 1, 1, 0, 0, 0);
+
+	/**
+	 * Smallest number of colors adjusted by a single task.
+	 */
+	private static final int COLORS_PER_TASK = 1 << 14;
+
+	private final int hueRotation;
+	private final double saturationScale,
+			lightnessScale,
+			minimumSaturation,
+			maximumSaturation,
+			minimumLightness,
+			maximumLightness;
+
+	/**
+	 * Tinting as the part of each channel that is kept, plus the
+	 * part of the targets added to each channel.
+	 */
+	private final double tintKeep,
+			tintRed,
+			tintGreen,
+			tintBlue;
+
+	private ColorAdjustment(int hueRotation, double saturationScale, double lightnessScale,
+			double minimumSaturation, double maximumSaturation, double minimumLightness, double maximumLightness,
+			double tintKeep, double tintRed, double tintGreen, double tintBlue) {
+		this.hueRotation = hueRotation;
+		this.saturationScale = saturationScale;
+		this.lightnessScale = lightnessScale;
+		this.minimumSaturation = minimumSaturation;
+		this.maximumSaturation = maximumSaturation;
+		this.minimumLightness = minimumLightness;
+		this.maximumLightness = maximumLightness;
+		this.tintKeep = tintKeep;
+		this.tintRed = tintRed;
+		this.tintGreen = tintGreen;
+		this.tintBlue = tintBlue;
+	}
+
+	/**
+	 * Get an adjustment that also rotates hue.
+	 * @param degrees integer value containing the degrees of hue to add.
+	 *                Negative values rotate the other way.
+	 * @return ColorAdjustment containing the rotation.
+	 */
+	public ColorAdjustment rotateHue(int degrees) {
+		return new ColorAdjustment(Math.floorMod(this.hueRotation + degrees, 360), this.saturationScale,
+				this.lightnessScale, this.minimumSaturation, this.maximumSaturation, this.minimumLightness,
+				this.maximumLightness, this.tintKeep, this.tintRed, this.tintGreen, this.tintBlue);
+	}
+
+	/**
+	 * Get an adjustment that also scales saturation. Results are
+	 * clamped to the range [0, 1].
+	 * @param factor double value containing the non-negative factor;
+	 *               values above 1 saturate and values below 1 desaturate.
+	 * @return ColorAdjustment containing the scale.
+	 */
+	public ColorAdjustment scaleSaturation(double factor) {
+		checkFactor(factor);
+		return new ColorAdjustment(this.hueRotation, this.saturationScale * factor,
+				this.lightnessScale, this.minimumSaturation, this.maximumSaturation, this.minimumLightness,
+				this.maximumLightness, this.tintKeep, this.tintRed, this.tintGreen, this.tintBlue);
+	}
+
+	/**
+	 * Get an adjustment that also scales lightness. Results are
+	 * clamped to the range [0, 1].
+	 * @param factor double value containing the non-negative factor;
+	 *               values above 1 lighten and values below 1 darken.
+	 * @return ColorAdjustment containing the scale.
+	 */
+	public ColorAdjustment scaleLightness(double factor) {
+		checkFactor(factor);
+		return new ColorAdjustment(this.hueRotation, this.saturationScale,
+				this.lightnessScale * factor, this.minimumSaturation, this.maximumSaturation, this.minimumLightness,
+				this.maximumLightness, this.tintKeep, this.tintRed, this.tintGreen, this.tintBlue);
+	}
+
+	/**
+	 * Get an adjustment that also clamps saturation. The clamp must
+	 * overlap any saturation clamp already in the adjustment.
+	 * @param minimum double value containing the lowest saturation.
+	 * @param maximum double value containing the highest saturation.
+	 * @return ColorAdjustment containing the clamp.
+	 * @throws IllegalArgumentException if the range is invalid, or
+	 * does not overlap the current clamp.
+	 */
+	public ColorAdjustment clampSaturation(double minimum, double maximum) {
+		checkRange(minimum, maximum);
+		checkOverlap(minimum, maximum, this.minimumSaturation, this.maximumSaturation);
+		return new ColorAdjustment(this.hueRotation, this.saturationScale, this.lightnessScale,
+				Math.max(this.minimumSaturation, minimum), Math.min(this.maximumSaturation, maximum),
+				this.minimumLightness, this.maximumLightness, this.tintKeep, this.tintRed, this.tintGreen,
+				this.tintBlue);
+	}
+
+	/**
+	 * Get an adjustment that also clamps lightness. The clamp must
+	 * overlap any lightness clamp already in the adjustment.
+	 * @param minimum double value containing the lowest lightness.
+	 * @param maximum double value containing the highest lightness.
+	 * @return ColorAdjustment containing the clamp.
+	 * @throws IllegalArgumentException if the range is invalid, or
+	 * does not overlap the current clamp.
+	 */
+	public ColorAdjustment clampLightness(double minimum, double maximum) {
+		checkRange(minimum, maximum);
+		checkOverlap(minimum, maximum, this.minimumLightness, this.maximumLightness);
+		return new ColorAdjustment(this.hueRotation, this.saturationScale, this.lightnessScale,
+				this.minimumSaturation, this.maximumSaturation,
+				Math.max(this.minimumLightness, minimum), Math.min(this.maximumLightness, maximum),
+				this.tintKeep, this.tintRed, this.tintGreen, this.tintBlue);
+	}
+
+	/**
+	 * Get an adjustment that also mixes every channel toward a target color.
+	 * @param rgb integer value containing the packed target color.
+	 * @param amount double value on the range [0, 1], inclusive, where 0
+	 *               leaves colors unchanged and 1 replaces them with the target.
+	 * @return ColorAdjustment containing the tint.
+	 */
+	public ColorAdjustment tint(int rgb, double amount) {
+		checkRange(amount, amount);
+		double keep = 1 - amount;
+		return new ColorAdjustment(this.hueRotation, this.saturationScale, this.lightnessScale,
+				this.minimumSaturation, this.maximumSaturation, this.minimumLightness, this.maximumLightness,
+				this.tintKeep * keep,
+				(this.tintRed * keep) + (PackedColor.getRed(rgb) * amount),
+				(this.tintGreen * keep) + (PackedColor.getGreen(rgb) * amount),
+				(this.tintBlue * keep) + (PackedColor.getBlue(rgb) * amount));
+	}
+
+	/**
+	 * Adjust a packed color, keeping its alpha.
+	 * @param argb integer value containing a packed color.
+	 * @return integer value containing the adjusted color.
+	 */
+	public int apply(int argb) {
+		int rgb = PackedColor.fromHSL(PackedColor.getHue(argb) + this.hueRotation,
+				this.adjustSaturation(PackedColor.getSaturation(argb)),
+				this.adjustLightness(PackedColor.getLightness(argb)));
+		return (argb & 0xff000000) | this.applyTint(rgb);
+	}
+
+	/**
+	 * Adjust a range of packed colors in place, keeping the alpha of each.
+	 * @param colors int array containing packed colors.
+	 * @param from integer value containing the first color to adjust.
+	 * @param to integer value containing the index after the last
+	 *           color to adjust.
+	 */
+	public void apply(int[] colors, int from, int to) {
+		for(int index = from; index < to; index++) {
+			colors[index] = this.apply(colors[index]);
+		}
+	}
+
+	/**
+	 * Adjust every packed color of an array in place, dividing the
+	 * array between the threads of a pool.
+	 * @param colors int array containing packed colors.
+	 * @param pool ForkJoinPool reference used to adjust the colors.
+	 */
+	public void apply(int[] colors, ForkJoinPool pool) {
+		pool.invoke(new AdjustTask(colors, 0, colors.length));
+	}
+
+	/**
+	 * Adjust a range of colors held as separate arrays of hue, saturation,
+	 * and lightness in place. Tinting needs RGB values, so it is applied
+	 * only by the methods on packed colors.
+	 * @param hues int array containing the degree of hue of each color.
+	 * @param saturations double array containing the saturation of each color.
+	 * @param lightnesses double array containing the lightness of each color.
+	 * @param from integer value containing the first color to adjust.
+	 * @param to integer value containing the index after the last
+	 *           color to adjust.
+	 */
+	public void applyHSL(int[] hues, double[] saturations, double[] lightnesses, int from, int to) {
+		for(int index = from; index < to; index++) {
+			hues[index] = Math.floorMod(hues[index] + this.hueRotation, 360);
+			saturations[index] = this.adjustSaturation(saturations[index]);
+			lightnesses[index] = this.adjustLightness(lightnesses[index]);
+		}
+	}
+
+	/**
+	 * Adjust an HSLColor in place. The hue, saturation, and lightness
+	 * are adjusted directly, and a tint is mixed in RGB space.
+	 * @param color HSLColor reference to adjust.
+	 */
+	public void apply(HSLColor color) {
+		color.setColor(Math.floorMod(color.getHue() + this.hueRotation, 360),
+				this.adjustSaturation(color.getSaturation()), this.adjustLightness(color.getLightness()));
+		if(this.tintKeep != 1) {
+			int rgb = this.applyTint(PackedColor.getRGB(color));
+			color.setColor(PackedColor.getHue(rgb), PackedColor.getSaturation(rgb), PackedColor.getLightness(rgb));
+		}
+	}
+
+	private double adjustSaturation(double saturation) {
+		double scaled = Math.min(1, saturation * this.saturationScale);
+		return Math.min(this.maximumSaturation, Math.max(this.minimumSaturation, scaled));
+	}
+
+	private double adjustLightness(double lightness) {
+		double scaled = Math.min(1, lightness * this.lightnessScale);
+		return Math.min(this.maximumLightness, Math.max(this.minimumLightness, scaled));
+	}
+
+	private int applyTint(int rgb) {
+		if(this.tintKeep == 1) {
+			return rgb;
+		}
+		return PackedColor.pack(
+				(int) ((PackedColor.getRed(rgb) * this.tintKeep) + this.tintRed + 0.5),
+				(int) ((PackedColor.getGreen(rgb) * this.tintKeep) + this.tintGreen + 0.5),
+				(int) ((PackedColor.getBlue(rgb) * this.tintKeep) + this.tintBlue + 0.5));
+	}
+
+	private static void checkFactor(double factor) {
+		if(!(factor >= 0) || Double.isInfinite(factor)) {
+			throw new IllegalArgumentException("Factor " + factor + " is not a finite non-negative value");
+		}
+	}
+
+	private static void checkRange(double minimum, double maximum) {
+		if(!(minimum >= 0 && maximum <= 1 && minimum <= maximum)) {
+			throw new IllegalArgumentException("Invalid range [" + minimum + ", " + maximum + "] on [0, 1]");
+		}
+	}
+
+	/**
+	 * Check that a clamp overlaps the current clamp, so that their
+	 * intersection gives the same result as applying both in turn.
+	 * @param minimum double value containing the lowest value of the clamp.
+	 * @param maximum double value containing the highest value of the clamp.
+	 * @param currentMinimum double value containing the lowest value
+	 *                       of the current clamp.
+	 * @param currentMaximum double value containing the highest value
+	 *                       of the current clamp.
+	 */
+	private static void checkOverlap(double minimum, double maximum, double currentMinimum, double currentMaximum) {
+		if(minimum > currentMaximum || maximum < currentMinimum) {
+			throw new IllegalArgumentException("Range [" + minimum + ", " + maximum
+					+ "] does not overlap [" + currentMinimum + ", " + currentMaximum + "]");
+		}
+	}
+
+	/**
+	 * Task used to adjust a range of colors. Ranges larger than
+	 * the threshold are split in half.
+	 */
+	private final class AdjustTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] colors;
+		private final int from,
+				to;
+
+		private AdjustTask(int[] colors, int from, int to) {
+			this.colors = colors;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.to - this.from > COLORS_PER_TASK) {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new AdjustTask(this.colors, this.from, middle), new AdjustTask(this.colors, middle, this.to));
+				return;
+			}
+			ColorAdjustment.this.apply(this.colors, this.from, this.to);
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package rgb_hsl.color;
+
+/**
+ * Utility class containing conversions between RGB space and
+ * the perceptual CIELAB and OKLab color spaces. RGB colors are
+ * assumed to be sRGB with a D65 white point. Gamma decoding uses
+ * a table with an entry for every channel value, encodeLinear uses
+ * a table of evenly spaced steps of linear light, and cube roots
+ * use a bit-level estimate refined by Newton's method, so
+ * conversions into CIELAB and OKLab space avoid calls to
+ * Math.pow and Math.cbrt entirely.
+ * Bulk conversions operate on packed colors of the form 0xRRGGBB
+ * and on double arrays holding three components per color.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class ColorConversions {
+	/**
+	 * Linear light for every sRGB channel value.
+	 */
+	private static final double[] LINEAR = new double[256];
+
+	/**
+	 * Weighted linear light of every channel value: red, then
+	 * green, then blue.
+	 */
+	private static final double[] LUMINANCE = new double[3 * 256];
+
+	/**
+	 * sRGB channel values for evenly spaced steps of linear light,
+	 * used by encodeLinear.
+	 */
+	private static final int ENCODE_STEPS = 16384;
+	private static final byte[] ENCODED = new byte[ENCODE_STEPS + 1];
+
+	/**
+	 * D65 reference white in XYZ space.
+	 */
+	private static final double WHITE_X = 0.95047,
+			WHITE_Y = 1.0,
+			WHITE_Z = 1.08883;
+
+	/**
+	 * Constants of the CIELAB transfer function.
+	 */
+	private static final double LAB_EPSILON = 216.0 / 24389,
+			LAB_KAPPA = 24389.0 / 27;
+
+	static {
+		for(int channel = 0; channel < LINEAR.length; channel++) {
+			double value = (double) channel / 255;
+			LINEAR[channel] = (value <= 0.04045)
+					? value / 12.92
+					: Math.pow((value + 0.055) / 1.055, 2.4);
+			LUMINANCE[channel] = 0.2126 * LINEAR[channel];
+			LUMINANCE[256 + channel] = 0.7152 * LINEAR[channel];
+			LUMINANCE[512 + channel] = 0.0722 * LINEAR[channel];
+		}
+		for(int step = 0; step <= ENCODE_STEPS; step++) {
+			ENCODED[step] = (byte) fromLinear((double) step / ENCODE_STEPS);
+		}
+	}
+
+	private ColorConversions() {
+	}
+
+	/**
+	 * Decode an sRGB channel into linear light.
+	 * @param channel integer value on the range [0, 255], inclusive.
+	 * @return double value containing linear light on the range
+	 * [0, 1], inclusive.
+	 */
+	public static double toLinear(int channel) {
+		return LINEAR[channel & 0xff];
+	}
+
+	/**
+	 * Get the relative luminance of a packed color, as defined
+	 * by WCAG.
+	 * @param rgb integer value containing a packed color.
+	 * @return double value on the range [0, 1], inclusive.
+	 */
+	public static double getLuminance(int rgb) {
+		return LUMINANCE[PackedColor.getRed(rgb)]
+				+ LUMINANCE[256 + PackedColor.getGreen(rgb)]
+				+ LUMINANCE[512 + PackedColor.getBlue(rgb)];
+	}
+
+	/**
+	 * Encode linear light into an sRGB channel. Values outside
+	 * of the range [0, 1] are clamped.
+	 * @param linear double value containing linear light.
+	 * @return integer value on the range [0, 255], inclusive.
+	 */
+	public static int fromLinear(double linear) {
+		if(!(linear > 0)) {
+			return 0;
+		}
+		if(linear >= 1) {
+			return 255;
+		}
+		double value = (linear <= 0.0031308)
+				? linear * 12.92
+				: (1.055 * Math.pow(linear, 1 / 2.4)) - 0.055;
+		return (int) Math.round(value * 255);
+	}
+
+	/**
+	 * Encode linear light into an sRGB channel with a table instead
+	 * of Math.pow. The result is within one of fromLinear for any
+	 * value, and values outside of the range [0, 1] are clamped.
+	 * @param linear double value containing linear light.
+	 * @return integer value on the range [0, 255], inclusive.
+	 */
+	public static int encodeLinear(double linear) {
+		if(!(linear > 0)) {
+			return 0;
+		}
+		if(linear >= 1) {
+			return 255;
+		}
+		return ENCODED[(int) ((linear * ENCODE_STEPS) + 0.5)] & 0xff;
+	}
+
+	/**
+	 * Get an approximation of the cube root of the given value,
+	 * accurate to roughly twelve significant digits. An initial
+	 * estimate is taken by dividing the exponent of the value by
+	 * three, and is refined by three iterations of Newton's method.
+	 * @param value double value to take the cube root of.
+	 * @return double value containing the cube root.
+	 */
+	public static double cbrt(double value) {
+		if(value == 0 || Double.isNaN(value) || Double.isInfinite(value)) {
+			return value;
+		}
+		double magnitude = Math.abs(value),
+				root = Double.longBitsToDouble((Double.doubleToRawLongBits(magnitude) / 3) + 0x2a9f7893782da1ceL);
+		root = ((2 * root) + (magnitude / (root * root))) / 3;
+		root = ((2 * root) + (magnitude / (root * root))) / 3;
+		root = ((2 * root) + (magnitude / (root * root))) / 3;
+		return (value < 0) ? -root : root;
+	}
+
+	/**
+	 * Convert packed colors to CIELAB.
+	 * @param rgb int array containing packed colors.
+	 * @param from integer value containing the first index to convert.
+	 * @param to integer value containing the index after the last
+	 *           index to convert.
+	 * @param lab double array receiving the lightness, a, and b of
+	 *            each color, three elements per color, starting at
+	 *            index from * 3.
+	 */
+	public static void rgbToLab(int[] rgb, int from, int to, double[] lab) {
+		for(int index = from; index < to; index++) {
+			int color = rgb[index];
+			double red = LINEAR[PackedColor.getRed(color)],
+					green = LINEAR[PackedColor.getGreen(color)],
+					blue = LINEAR[PackedColor.getBlue(color)],
+					x = labTransfer(((0.4124564 * red) + (0.3575761 * green) + (0.1804375 * blue)) / WHITE_X),
+					y = labTransfer(((0.2126729 * red) + (0.7151522 * green) + (0.0721750 * blue)) / WHITE_Y),
+					z = labTransfer(((0.0193339 * red) + (0.1191920 * green) + (0.9503041 * blue)) / WHITE_Z);
+			lab[index * 3] = (116 * y) - 16;
+			lab[(index * 3) + 1] = 500 * (x - y);
+			lab[(index * 3) + 2] = 200 * (y - z);
+		}
+	}
+
+	/**
+	 * Convert CIELAB colors to packed colors. Colors outside
+	 * of the sRGB gamut are clamped.
+	 * @param lab double array containing the lightness, a, and b
+	 *            of each color, three elements per color.
+	 * @param rgb int array receiving packed colors.
+	 * @param from integer value containing the first color to convert.
+	 * @param to integer value containing the index after the last
+	 *           color to convert.
+	 */
+	public static void labToRGB(double[] lab, int[] rgb, int from, int to) {
+		for(int index = from; index < to; index++) {
+			double y = (lab[index * 3] + 16) / 116,
+					x = y + (lab[(index * 3) + 1] / 500),
+					z = y - (lab[(index * 3) + 2] / 200);
+			x = inverseLabTransfer(x) * WHITE_X;
+			y = inverseLabTransfer(y) * WHITE_Y;
+			z = inverseLabTransfer(z) * WHITE_Z;
+			rgb[index] = PackedColor.pack(
+					fromLinear((3.2404542 * x) - (1.5371385 * y) - (0.4985314 * z)),
+					fromLinear((-0.9692660 * x) + (1.8760108 * y) + (0.0415560 * z)),
+					fromLinear((0.0556434 * x) - (0.2040259 * y) + (1.0572252 * z)));
+		}
+	}
+
+	/**
+	 * Convert packed colors to OKLab.
+	 * @param rgb int array containing packed colors.
+	 * @param from integer value containing the first index to convert.
+	 * @param to integer value containing the index after the last
+	 *           index to convert.
+	 * @param lab double array receiving the lightness, a, and b of
+	 *            each color, three elements per color, starting at
+	 *            index from * 3.
+	 */
+	public static void rgbToOKLab(int[] rgb, int from, int to, double[] lab) {
+		for(int index = from; index < to; index++) {
+			int color = rgb[index];
+			double red = LINEAR[PackedColor.getRed(color)],
+					green = LINEAR[PackedColor.getGreen(color)],
+					blue = LINEAR[PackedColor.getBlue(color)],
+					l = cbrt((0.4122214708 * red) + (0.5363325363 * green) + (0.0514459929 * blue)),
+					m = cbrt((0.2119034982 * red) + (0.6806995451 * green) + (0.1073969566 * blue)),
+					s = cbrt((0.0883024619 * red) + (0.2817188376 * green) + (0.6299787005 * blue));
+			lab[index * 3] = (0.2104542553 * l) + (0.7936177850 * m) - (0.0040720468 * s);
+			lab[(index * 3) + 1] = (1.9779984951 * l) - (2.4285922050 * m) + (0.4505937099 * s);
+			lab[(index * 3) + 2] = (0.0259040371 * l) + (0.7827717662 * m) - (0.8086757660 * s);
+		}
+	}
+
+	/**
+	 * Convert OKLab colors to packed colors. Colors outside
+	 * of the sRGB gamut are clamped.
+	 * @param lab double array containing the lightness, a, and b
+	 *            of each color, three elements per color.
+	 * @param rgb int array receiving packed colors.
+	 * @param from integer value containing the first color to convert.
+	 * @param to integer value containing the index after the last
+	 *           color to convert.
+	 */
+	public static void okLabToRGB(double[] lab, int[] rgb, int from, int to) {
+		for(int index = from; index < to; index++) {
+			double lightness = lab[index * 3],
+					a = lab[(index * 3) + 1],
+					b = lab[(index * 3) + 2],
+					l = lightness + (0.3963377774 * a) + (0.2158037573 * b),
+					m = lightness - (0.1055613458 * a) - (0.0638541728 * b),
+					s = lightness - (0.0894841775 * a) - (1.2914855480 * b);
+			l *= l * l;
+			m *= m * m;
+			s *= s * s;
+			rgb[index] = PackedColor.pack(
+					fromLinear((4.0767416621 * l) - (3.3077115913 * m) + (0.2309699292 * s)),
+					fromLinear((-1.2684380046 * l) + (2.6097574011 * m) - (0.3413193965 * s)),
+					fromLinear((-0.0041960863 * l) - (0.7034186147 * m) + (1.7076147010 * s)));
+		}
+	}
+
+	/**
+	 * CIELAB transfer function from XYZ relative to the white point.
+	 * @param value double value relative to the white point.
+	 * @return double value after the transfer function.
+	 */
+	private static double labTransfer(double value) {
+		return (value > LAB_EPSILON) ? cbrt(value) : ((LAB_KAPPA * value) + 16) / 116;
+	}
+
+	/**
+	 * Inverse of the CIELAB transfer function.
+	 * @param value double value after the transfer function.
+	 * @return double value relative to the white point.
+	 */
+	private static double inverseLabTransfer(double value) {
+		double cube = value * value * value;
+		return (cube > LAB_EPSILON) ? cube : ((116 * value) - 16) / LAB_KAPPA;
+	}
+}
@@ -0,0 +1,505 @@
+package rgb_hsl.color;
+
+import java.util.Arrays;
+
+/**
+ * Table of the named colors defined by CSS, together with
+ * the X11 names that CSS does not define. Names are matched
+ * without regard to case through a minimal perfect hash, and
+ * may be looked up directly from a region of any CharSequence
+ * so that no String needs to be created. The nearest name for
+ * any color is found through a grid over RGB space, where each
+ * cell lists only the names that can be nearest to a color
+ * inside of it.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class ColorNames {
+	/**
+	 * Value returned when a name is not in the table.
+	 */
+	public static final int NOT_FOUND = -1;
+
+	/**
+	 * Lowercase color names, in sorted order.
+	 */
+	private static final String[] NAMES = {
+			"aliceblue", "antiquewhite", "aqua", "aquamarine", "azure", "beige", "bisque",
+			"black", "blanchedalmond", "blue", "blueviolet", "brown", "burlywood", "cadetblue",
+			"chartreuse", "chocolate", "coral", "cornflowerblue", "cornsilk", "crimson", "cyan",
+			"darkblue", "darkcyan", "darkgoldenrod", "darkgray", "darkgreen", "darkgrey",
+			"darkkhaki", "darkmagenta", "darkolivegreen", "darkorange", "darkorchid", "darkred",
+			"darksalmon", "darkseagreen", "darkslateblue", "darkslategray", "darkslategrey",
+			"darkturquoise", "darkviolet", "deeppink", "deepskyblue", "dimgray", "dimgrey",
+			"dodgerblue", "firebrick", "floralwhite", "forestgreen", "fuchsia", "gainsboro",
+			"ghostwhite", "gold", "goldenrod", "gray", "green", "greenyellow", "grey", "honeydew",
+			"hotpink", "indianred", "indigo", "ivory", "khaki", "lavender", "lavenderblush",
+			"lawngreen", "lemonchiffon", "lightblue", "lightcoral", "lightcyan", "lightgoldenrod",
+			"lightgoldenrodyellow", "lightgray", "lightgreen", "lightgrey", "lightpink",
+			"lightsalmon", "lightseagreen", "lightskyblue", "lightslateblue", "lightslategray",
+			"lightslategrey", "lightsteelblue", "lightyellow", "lime", "limegreen", "linen",
+			"magenta", "maroon", "mediumaquamarine", "mediumblue", "mediumorchid", "mediumpurple",
+			"mediumseagreen", "mediumslateblue", "mediumspringgreen", "mediumturquoise",
+			"mediumvioletred", "midnightblue", "mintcream", "mistyrose", "moccasin",
+			"navajowhite", "navy", "navyblue", "oldlace", "olive", "olivedrab", "orange",
+			"orangered", "orchid", "palegoldenrod", "palegreen", "paleturquoise", "palevioletred",
+			"papayawhip", "peachpuff", "peru", "pink", "plum", "powderblue", "purple",
+			"rebeccapurple", "red", "rosybrown", "royalblue", "saddlebrown", "salmon",
+			"sandybrown", "seagreen", "seashell", "sienna", "silver", "skyblue", "slateblue",
+			"slategray", "slategrey", "snow", "springgreen", "steelblue", "tan", "teal",
+			"thistle", "tomato", "turquoise", "violet", "violetred", "webgray", "webgreen",
+			"webmaroon", "webpurple", "wheat", "white", "whitesmoke", "x11gray", "x11green",
+			"x11maroon", "x11purple", "yellow", "yellowgreen"
+	};
+
+	/**
+	 * Packed colors of the form 0xRRGGBB, in the same order as NAMES.
+	 */
+	private static final int[] VALUES = {
+			0xf0f8ff, 0xfaebd7, 0x00ffff, 0x7fffd4, 0xf0ffff, 0xf5f5dc, 0xffe4c4, 0x000000,
+			0xffebcd, 0x0000ff, 0x8a2be2, 0xa52a2a, 0xdeb887, 0x5f9ea0, 0x7fff00, 0xd2691e,
+			0xff7f50, 0x6495ed, 0xfff8dc, 0xdc143c, 0x00ffff, 0x00008b, 0x008b8b, 0xb8860b,
+			0xa9a9a9, 0x006400, 0xa9a9a9, 0xbdb76b, 0x8b008b, 0x556b2f, 0xff8c00, 0x9932cc,
+			0x8b0000, 0xe9967a, 0x8fbc8f, 0x483d8b, 0x2f4f4f, 0x2f4f4f, 0x00ced1, 0x9400d3,
+			0xff1493, 0x00bfff, 0x696969, 0x696969, 0x1e90ff, 0xb22222, 0xfffaf0, 0x228b22,
+			0xff00ff, 0xdcdcdc, 0xf8f8ff, 0xffd700, 0xdaa520, 0x808080, 0x008000, 0xadff2f,
+			0x808080, 0xf0fff0, 0xff69b4, 0xcd5c5c, 0x4b0082, 0xfffff0, 0xf0e68c, 0xe6e6fa,
+			0xfff0f5, 0x7cfc00, 0xfffacd, 0xadd8e6, 0xf08080, 0xe0ffff, 0xeedd82, 0xfafad2,
+			0xd3d3d3, 0x90ee90, 0xd3d3d3, 0xffb6c1, 0xffa07a, 0x20b2aa, 0x87cefa, 0x8470ff,
+			0x778899, 0x778899, 0xb0c4de, 0xffffe0, 0x00ff00, 0x32cd32, 0xfaf0e6, 0xff00ff,
+			0x800000, 0x66cdaa, 0x0000cd, 0xba55d3, 0x9370db, 0x3cb371, 0x7b68ee, 0x00fa9a,
+			0x48d1cc, 0xc71585, 0x191970, 0xf5fffa, 0xffe4e1, 0xffe4b5, 0xffdead, 0x000080,
+			0x000080, 0xfdf5e6, 0x808000, 0x6b8e23, 0xffa500, 0xff4500, 0xda70d6, 0xeee8aa,
+			0x98fb98, 0xafeeee, 0xdb7093, 0xffefd5, 0xffdab9, 0xcd853f, 0xffc0cb, 0xdda0dd,
+			0xb0e0e6, 0x800080, 0x663399, 0xff0000, 0xbc8f8f, 0x4169e1, 0x8b4513, 0xfa8072,
+			0xf4a460, 0x2e8b57, 0xfff5ee, 0xa0522d, 0xc0c0c0, 0x87ceeb, 0x6a5acd, 0x708090,
+			0x708090, 0xfffafa, 0x00ff7f, 0x4682b4, 0xd2b48c, 0x008080, 0xd8bfd8, 0xff6347,
+			0x40e0d0, 0xee82ee, 0xd02090, 0x808080, 0x008000, 0x800000, 0x800080, 0xf5deb3,
+			0xffffff, 0xf5f5f5, 0xbebebe, 0x00ff00, 0xb03060, 0xa020f0, 0xffff00, 0x9acd32
+	};
+
+	/**
+	 * X11 names that CSS does not define, which are never matched
+	 * when parsing CSS.
+	 */
+	private static final String[] X11_ONLY_NAMES = {
+			"lightgoldenrod", "lightslateblue", "navyblue", "violetred", "webgray", "webgreen",
+			"webmaroon", "webpurple", "x11gray", "x11green", "x11maroon", "x11purple"
+	};
+
+	/**
+	 * Whether each name is a CSS keyword, in the same order as NAMES.
+	 */
+	private static final boolean[] CSS = new boolean[NAMES.length];
+
+	/**
+	 * Minimal perfect hash. A name is first hashed to a bucket.
+	 * Positive displacements are the seed used to hash the name
+	 * a second time, while negative displacements directly encode
+	 * the slot of a bucket holding a single name.
+	 */
+	private static final int[] DISPLACEMENTS = new int[NAMES.length];
+	private static final int[] HASHED_INDICES = new int[NAMES.length];
+
+	/**
+	 * Number of cells along each axis of the nearest name grid,
+	 * and the width of each cell in RGB space.
+	 */
+	private static final int GRID_SIZE = 8,
+			CELL_WIDTH = 256 / GRID_SIZE;
+
+	/**
+	 * Candidate names for each cell of the grid, stored as indices
+	 * into NAMES. Candidates of cell c are found between
+	 * CELL_OFFSETS[c], inclusive, and CELL_OFFSETS[c + 1], exclusive.
+	 */
+	private static final int[] CELL_OFFSETS = new int[(GRID_SIZE * GRID_SIZE * GRID_SIZE) + 1];
+	private static final int[] CELL_CANDIDATES;
+
+	static {
+		Arrays.fill(CSS, true);
+		for(String name : X11_ONLY_NAMES) {
+			CSS[Arrays.binarySearch(NAMES, name)] = false;
+		}
+		buildPerfectHash();
+		CELL_CANDIDATES = buildGrid();
+	}
+
+	private ColorNames() {
+	}
+
+	/**
+	 * Get the number of named colors in the table.
+	 * @return integer value containing the number of names.
+	 */
+	public static int size() {
+		return NAMES.length;
+	}
+
+	/**
+	 * Get the packed color with the given name.
+	 * @param name String reference containing a color name.
+	 * @return integer value containing the packed color, or
+	 * NOT_FOUND if no color has the given name.
+	 */
+	public static int getRGB(CharSequence name) {
+		return getRGB(name, 0, name.length());
+	}
+
+	/**
+	 * Get the packed color named by a region of the given
+	 * CharSequence.
+	 * @param text CharSequence reference containing the name.
+	 * @param start integer value containing the index of the
+	 *              first character of the name.
+	 * @param end integer value containing the index after the
+	 *            last character of the name.
+	 * @return integer value containing the packed color, or
+	 * NOT_FOUND if no color has the given name.
+	 */
+	public static int getRGB(CharSequence text, int start, int end) {
+		int index = getIndex(text, start, end);
+		return (index < 0) ? NOT_FOUND : VALUES[index];
+	}
+
+	/**
+	 * Get the packed color named by a region of the given
+	 * CharSequence, if the name is a CSS keyword. X11 names
+	 * that CSS does not define are not found.
+	 * @param text CharSequence reference containing the name.
+	 * @param start integer value containing the index of the
+	 *              first character of the name.
+	 * @param end integer value containing the index after the
+	 *            last character of the name.
+	 * @return integer value containing the packed color, or
+	 * NOT_FOUND if no CSS color has the given name.
+	 */
+	public static int getCssRGB(CharSequence text, int start, int end) {
+		int index = getIndex(text, start, end);
+		return (index < 0 || !CSS[index]) ? NOT_FOUND : VALUES[index];
+	}
+
+	/**
+	 * Get the packed color of the name at the given index.
+	 * @param index integer value on the range [0, size()).
+	 * @return integer value containing the packed color.
+	 */
+	static int getValue(int index) {
+		return VALUES[index];
+	}
+
+	/**
+	 * Get the name of the color closest to the given color in
+	 * RGB space.
+	 * @param color Color reference to name.
+	 * @return String object containing the nearest name.
+	 */
+	public static String getNearestName(Color color) {
+		return getNearestName(PackedColor.getRGB(color));
+	}
+
+	/**
+	 * Get the name of the color closest to the given packed
+	 * color in RGB space. If several names are equally close,
+	 * the first in alphabetical order is returned.
+	 * @param rgb integer value containing a packed color.
+	 * @return String object containing the nearest name.
+	 */
+	public static String getNearestName(int rgb) {
+		return NAMES[getNearestIndex(rgb)];
+	}
+
+	/**
+	 * Get the names of the colors closest to each of the given
+	 * packed colors.
+	 * @param rgb int array containing packed colors.
+	 * @param names String array receiving the nearest name of
+	 *              each color, at the same index.
+	 */
+	public static void getNearestNames(int[] rgb, String[] names) {
+		for(int index = 0; index < rgb.length; index++) {
+			names[index] = NAMES[getNearestIndex(rgb[index])];
+		}
+	}
+
+	/**
+	 * Get the index of the name closest to the given packed color,
+	 * searching only the candidates of its grid cell.
+	 * @param rgb integer value containing a packed color.
+	 * @return integer value containing an index into NAMES.
+	 */
+	private static int getNearestIndex(int rgb) {
+		int red = PackedColor.getRed(rgb),
+				green = PackedColor.getGreen(rgb),
+				blue = PackedColor.getBlue(rgb),
+				cell = getCell(red / CELL_WIDTH, green / CELL_WIDTH, blue / CELL_WIDTH),
+				nearest = 0,
+				nearestDistance = Integer.MAX_VALUE;
+
+		for(int candidate = CELL_OFFSETS[cell]; candidate < CELL_OFFSETS[cell + 1]; candidate++) {
+			int index = CELL_CANDIDATES[candidate],
+					value = VALUES[index],
+					redDistance = PackedColor.getRed(value) - red,
+					greenDistance = PackedColor.getGreen(value) - green,
+					blueDistance = PackedColor.getBlue(value) - blue,
+					distance = (redDistance * redDistance) + (greenDistance * greenDistance)
+							+ (blueDistance * blueDistance);
+			if(distance < nearestDistance) {
+				nearestDistance = distance;
+				nearest = index;
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * Get the index of the name in a region of a CharSequence.
+	 * @param text CharSequence reference containing the name.
+	 * @param start integer value containing the start of the name.
+	 * @param end integer value containing the end of the name.
+	 * @return integer value containing an index into NAMES, or -1
+	 * if the region is not a name.
+	 */
+	private static int getIndex(CharSequence text, int start, int end) {
+		int displacement = DISPLACEMENTS[bucket(hash(text, start, end, 0))],
+				index = (displacement < 0)
+						? HASHED_INDICES[-displacement - 1]
+						: HASHED_INDICES[bucket(hash(text, start, end, displacement))];
+
+		return equalsIgnoreCase(NAMES[index], text, start, end) ? index : -1;
+	}
+
+	/**
+	 * Build the minimal perfect hash, placing the largest buckets
+	 * first and searching for a seed that moves every name of the
+	 * bucket into a free slot. Buckets holding a single name are
+	 * placed last, directly into the remaining slots.
+	 */
+	private static void buildPerfectHash() {
+		int size = NAMES.length;
+		int[][] buckets = new int[size][];
+		int[] bucketSizes = new int[size];
+		for(String name : NAMES) {
+			bucketSizes[bucket(hash(name, 0, name.length(), 0))]++;
+		}
+		for(int bucket = 0; bucket < size; bucket++) {
+			buckets[bucket] = new int[bucketSizes[bucket]];
+			bucketSizes[bucket] = 0;
+		}
+		for(int index = 0; index < size; index++) {
+			int bucket = bucket(hash(NAMES[index], 0, NAMES[index].length(), 0));
+			buckets[bucket][bucketSizes[bucket]++] = index;
+		}
+
+		boolean[] used = new boolean[size];
+		int[] slots = new int[size];
+		for(int bucketSize = size; bucketSize > 1; bucketSize--) {
+			for(int bucket = 0; bucket < size; bucket++) {
+				if(buckets[bucket].length != bucketSize) {
+					continue;
+				}
+				int seed = 1;
+				while(!tryPlace(buckets[bucket], seed, used, slots)) {
+					seed++;
+				}
+				DISPLACEMENTS[bucket] = seed;
+			}
+		}
+
+		int free = 0;
+		for(int bucket = 0; bucket < size; bucket++) {
+			if(buckets[bucket].length == 1) {
+				while(used[free]) {
+					free++;
+				}
+				used[free] = true;
+				HASHED_INDICES[free] = buckets[bucket][0];
+				DISPLACEMENTS[bucket] = -free - 1;
+			}
+		}
+	}
+
+	/**
+	 * Attempt to place every name of a bucket into a free slot
+	 * using the given seed.
+	 * @param bucket int array containing indices into NAMES.
+	 * @param seed integer value containing the seed to hash with.
+	 * @param used boolean array marking the slots already taken.
+	 * @param slots int array used as scratch space for slots.
+	 * @return boolean value determining whether the bucket was placed.
+	 */
+	private static boolean tryPlace(int[] bucket, int seed, boolean[] used, int[] slots) {
+		for(int index = 0; index < bucket.length; index++) {
+			String name = NAMES[bucket[index]];
+			slots[index] = bucket(hash(name, 0, name.length(), seed));
+			if(used[slots[index]]) {
+				return false;
+			}
+			for(int previous = 0; previous < index; previous++) {
+				if(slots[previous] == slots[index]) {
+					return false;
+				}
+			}
+		}
+		for(int index = 0; index < bucket.length; index++) {
+			used[slots[index]] = true;
+			HASHED_INDICES[slots[index]] = bucket[index];
+		}
+		return true;
+	}
+
+	/**
+	 * Build the candidate lists of the nearest name grid. A name is
+	 * a candidate for a cell if its closest distance to the cell is
+	 * no greater than the smallest farthest distance of any name.
+	 * Names with the same color as an earlier name are skipped.
+	 * @return int array containing the candidates of every cell.
+	 */
+	private static int[] buildGrid() {
+		int cells = GRID_SIZE * GRID_SIZE * GRID_SIZE;
+		int[] candidates = new int[cells * NAMES.length];
+		int count = 0;
+
+		for(int redCell = 0; redCell < GRID_SIZE; redCell++) {
+			for(int greenCell = 0; greenCell < GRID_SIZE; greenCell++) {
+				for(int blueCell = 0; blueCell < GRID_SIZE; blueCell++) {
+					int cell = getCell(redCell, greenCell, blueCell),
+							bound = Integer.MAX_VALUE;
+					for(int value : VALUES) {
+						bound = Math.min(bound, getBoxDistance(value, redCell, greenCell, blueCell, true));
+					}
+					CELL_OFFSETS[cell] = count;
+					for(int index = 0; index < NAMES.length; index++) {
+						if(!isDuplicate(index)
+								&& getBoxDistance(VALUES[index], redCell, greenCell, blueCell, false) <= bound) {
+							candidates[count++] = index;
+						}
+					}
+				}
+			}
+		}
+		//cells are visited in order, so the final offset closes the last cell
+		CELL_OFFSETS[cells] = count;
+
+		int[] trimmed = new int[count];
+		System.arraycopy(candidates, 0, trimmed, 0, count);
+		return trimmed;
+	}
+
+	/**
+	 * Determine whether a name has the same color as an earlier name.
+	 * @param index integer value containing an index into NAMES.
+	 * @return boolean value determining whether the color was already named.
+	 */
+	private static boolean isDuplicate(int index) {
+		for(int previous = 0; previous < index; previous++) {
+			if(VALUES[previous] == VALUES[index]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the squared distance between a packed color and a grid cell.
+	 * @param rgb integer value containing a packed color.
+	 * @param redCell integer value containing the red index of the cell.
+	 * @param greenCell integer value containing the green index of the cell.
+	 * @param blueCell integer value containing the blue index of the cell.
+	 * @param farthest boolean value determining whether the farthest
+	 *                 distance is returned instead of the closest.
+	 * @return integer value containing the squared distance.
+	 */
+	private static int getBoxDistance(int rgb, int redCell, int greenCell, int blueCell, boolean farthest) {
+		return getAxisDistance(PackedColor.getRed(rgb), redCell, farthest)
+				+ getAxisDistance(PackedColor.getGreen(rgb), greenCell, farthest)
+				+ getAxisDistance(PackedColor.getBlue(rgb), blueCell, farthest);
+	}
+
+	/**
+	 * Get the squared distance between a channel value and the
+	 * range of a grid cell along one axis.
+	 * @param value integer value containing the channel value.
+	 * @param cell integer value containing the index of the cell.
+	 * @param farthest boolean value determining whether the farthest
+	 *                 distance is returned instead of the closest.
+	 * @return integer value containing the squared distance.
+	 */
+	private static int getAxisDistance(int value, int cell, boolean farthest) {
+		int low = cell * CELL_WIDTH,
+				high = low + CELL_WIDTH - 1,
+				distance;
+		if(farthest) {
+			distance = Math.max(Math.abs(value - low), Math.abs(value - high));
+		}else {
+			distance = (value < low) ? low - value : (value > high) ? value - high : 0;
+		}
+		return distance * distance;
+	}
+
+	/**
+	 * Get the index of a grid cell.
+	 * @param redCell integer value containing the red index of the cell.
+	 * @param greenCell integer value containing the green index of the cell.
+	 * @param blueCell integer value containing the blue index of the cell.
+	 * @return integer value containing the index of the cell.
+	 */
+	private static int getCell(int redCell, int greenCell, int blueCell) {
+		return (((redCell * GRID_SIZE) + greenCell) * GRID_SIZE) + blueCell;
+	}
+
+	/**
+	 * Get the bucket of a hash.
+	 * @param hash integer value containing a hash.
+	 * @return integer value on the range [0, size()).
+	 */
+	private static int bucket(int hash) {
+		return (hash & 0x7fffffff) % NAMES.length;
+	}
+
+	/**
+	 * Get the seeded FNV-1a hash of a region of a CharSequence,
+	 * ignoring the case of ASCII letters.
+	 * @param text CharSequence reference containing the region.
+	 * @param start integer value containing the start of the region.
+	 * @param end integer value containing the end of the region.
+	 * @param seed integer value containing the seed.
+	 * @return integer value containing the hash.
+	 */
+	private static int hash(CharSequence text, int start, int end, int seed) {
+		int hash = 0x811c9dc5 ^ (seed * 0x9e3779b9);
+		for(int index = start; index < end; index++) {
+			char character = text.charAt(index);
+			if(character >= 'A' && character <= 'Z') {
+				character += 'a' - 'A';
+			}
+			hash = (hash ^ character) * 0x01000193;
+		}
+		return hash ^ (hash >>> 15);
+	}
+
+	/**
+	 * Determine whether a lowercase name equals a region of a
+	 * CharSequence, ignoring the case of the region.
+	 * @param name String reference containing a lowercase name.
+	 * @param text CharSequence reference containing the region.
+	 * @param start integer value containing the start of the region.
+	 * @param end integer value containing the end of the region.
+	 * @return boolean value determining whether they are equal.
+	 */
+	private static boolean equalsIgnoreCase(String name, CharSequence text, int start, int end) {
+		if(name.length() != end - start) {
+			return false;
+		}
+		for(int index = 0; index < name.length(); index++) {
+			char character = text.charAt(start + index);
+			if(character >= 'A' && character <= 'Z') {
+				character += 'a' - 'A';
+			}
+			if(name.charAt(index) != character) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
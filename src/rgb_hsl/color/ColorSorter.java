@@ -0,0 +1,473 @@
+package rgb_hsl.color;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorter used to order large arrays of packed colors of the form
+ * 0xRRGGBB. Each color is converted to an integer key once, and the
+ * keys are sorted with a stable least significant digit radix sort,
+ * one pass per byte of the key, instead of converting colors on every
+ * comparison. Passes in which every key has the same digit are skipped.
+ * Large arrays are sorted in parallel: keys are computed in chunks,
+ * and each pass counts digits per chunk and scatters the chunks at
+ * once, in order, so the parallel sort is still stable and gives the
+ * same result as the sequential one.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class ColorSorter {
+	/**
+	 * Keys colors can be sorted by.
+	 */
+	public enum Key {
+		/**
+		 * Hue in whole degrees, as given by PackedColor.getHue().
+		 */
+		HUE(9),
+		/**
+		 * Lightness in HSL space.
+		 */
+		LIGHTNESS(9),
+		/**
+		 * Relative luminance, the perceived brightness of linear light.
+		 */
+		LUMINANCE(31),
+		/**
+		 * Position on the Morton curve through RGB space, which
+		 * interleaves the bits of each channel.
+		 */
+		MORTON(24),
+		/**
+		 * Position on the Hilbert curve through RGB space, on which
+		 * consecutive positions are always adjacent colors.
+		 */
+		HILBERT(24);
+
+		private final int bits;
+
+		Key(int bits) {
+			this.bits = bits;
+		}
+
+		/**
+		 * Get the key of a packed color. Keys are never negative.
+		 * @param rgb integer value containing a packed color.
+		 * @return integer value containing the key.
+		 */
+		public int getKey(int rgb) {
+			int red = PackedColor.getRed(rgb),
+					green = PackedColor.getGreen(rgb),
+					blue = PackedColor.getBlue(rgb);
+			switch(this) {
+				case HUE:
+					return PackedColor.getHue(rgb);
+				case LIGHTNESS:
+					return Math.max(red, Math.max(green, blue)) + Math.min(red, Math.min(green, blue));
+				case LUMINANCE:
+					//the bits of non-negative floats are ordered like the floats
+					return Float.floatToIntBits((float) ColorConversions.getLuminance(rgb));
+				case MORTON:
+					return (spread(red) << 2) | (spread(green) << 1) | spread(blue);
+				default:
+					return getHilbertIndex(red, green, blue);
+			}
+		}
+	}
+
+	/**
+	 * Number of bits sorted by each pass.
+	 */
+	private static final int RADIX_BITS = 8;
+
+	/**
+	 * Arrays shorter than this are sorted on the calling thread.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/**
+	 * Number of colors handled by each parallel task.
+	 */
+	private static final int CHUNK_SIZE = 1 << 14;
+
+	private final Key key;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Create a sorter running on the common fork-join pool.
+	 * @param key Key to sort colors by.
+	 */
+	public ColorSorter(Key key) {
+		this(key, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a sorter running on the given pool.
+	 * @param key Key to sort colors by.
+	 * @param pool ForkJoinPool reference used to sort large arrays.
+	 */
+	public ColorSorter(Key key, ForkJoinPool pool) {
+		this.key = key;
+		this.pool = pool;
+	}
+
+	/**
+	 * Get the key colors are sorted by.
+	 * @return Key of the sorter.
+	 */
+	public Key getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Sort a range of packed colors by their key, in place. Colors
+	 * with equal keys keep their order.
+	 * @param colors int array containing packed colors.
+	 * @param from integer value containing the first index to sort.
+	 * @param to integer value containing the index after the last
+	 *           index to sort.
+	 */
+	public void sort(int[] colors, int from, int to) {
+		int[] keys = this.getKeys(colors, from, to),
+				values = new int[keys.length];
+		System.arraycopy(colors, from, values, 0, values.length);
+		this.sort(keys, values);
+		System.arraycopy(values, 0, colors, from, values.length);
+	}
+
+	/**
+	 * Get the stable order of a range of packed colors by their key,
+	 * without moving them.
+	 * @param colors int array containing packed colors.
+	 * @param from integer value containing the first index to sort.
+	 * @param to integer value containing the index after the last
+	 *           index to sort.
+	 * @return int array containing the index of every color in the
+	 * range, in sorted order. Indices of colors with equal keys are
+	 * in increasing order.
+	 */
+	public int[] sortIndices(int[] colors, int from, int to) {
+		int[] keys = this.getKeys(colors, from, to),
+				indices = new int[keys.length];
+		for(int index = 0; index < indices.length; index++) {
+			indices[index] = from + index;
+		}
+		this.sort(keys, indices);
+		return indices;
+	}
+
+	/**
+	 * Get the key of every color in a range of packed colors.
+	 * @param colors int array containing packed colors.
+	 * @param from integer value containing the first index.
+	 * @param to integer value containing the index after the last index.
+	 * @return int array containing the key of every color in the range.
+	 */
+	public int[] getKeys(int[] colors, int from, int to) {
+		if(from < 0 || to > colors.length || from > to) {
+			throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ")");
+		}
+		int[] keys = new int[to - from];
+		if(keys.length < PARALLEL_THRESHOLD) {
+			this.fillKeys(colors, from, keys, 0, keys.length);
+		}else {
+			this.pool.invoke(new KeyTask(colors, from, keys, 0, keys.length));
+		}
+		return keys;
+	}
+
+	/**
+	 * Compute the keys of a range of colors.
+	 * @param colors int array containing packed colors.
+	 * @param offset integer value containing the index of the color
+	 *               of the first key.
+	 * @param keys int array receiving the keys.
+	 * @param from integer value containing the first key to compute.
+	 * @param to integer value containing the index after the last key.
+	 */
+	private void fillKeys(int[] colors, int offset, int[] keys, int from, int to) {
+		for(int index = from; index < to; index++) {
+			keys[index] = this.key.getKey(colors[offset + index]);
+		}
+	}
+
+	/**
+	 * Sort values by their keys, with one radix pass per digit of the
+	 * key. Both arrays are left sorted.
+	 * @param keys int array containing the key of every value.
+	 * @param values int array containing the values to sort.
+	 */
+	private void sort(int[] keys, int[] values) {
+		int[] sourceKeys = keys,
+				sourceValues = values,
+				targetKeys = new int[keys.length],
+				targetValues = new int[values.length];
+		for(int shift = 0; shift < this.key.bits; shift += RADIX_BITS) {
+			Pass pass = new Pass(sourceKeys, sourceValues, targetKeys, targetValues, shift);
+			boolean moved = (keys.length < PARALLEL_THRESHOLD) ? pass.run() : pass.run(this.pool);
+			if(moved) {
+				int[] swap = sourceKeys;
+				sourceKeys = targetKeys;
+				targetKeys = swap;
+				swap = sourceValues;
+				sourceValues = targetValues;
+				targetValues = swap;
+			}
+		}
+		if(sourceKeys != keys) {
+			System.arraycopy(sourceKeys, 0, keys, 0, keys.length);
+			System.arraycopy(sourceValues, 0, values, 0, values.length);
+		}
+	}
+
+	/**
+	 * Spread the bits of a channel three places apart, for the
+	 * Morton curve.
+	 * @param channel integer value on the range [0, 255], inclusive.
+	 * @return integer value with bit i of the channel at bit 3i.
+	 */
+	private static int spread(int channel) {
+		channel = (channel | (channel << 8)) & 0x00f00f;
+		channel = (channel | (channel << 4)) & 0x0c30c3;
+		return (channel | (channel << 2)) & 0x249249;
+	}
+
+	/**
+	 * Get the position of a color on the Hilbert curve through RGB
+	 * space, following Skilling's transform of the axes into the
+	 * transposed Hilbert index.
+	 * More information can be found here:
+	 * <a href="https://doi.org/10.1063/1.1751381" target="_blank">
+	 *     https://doi.org/10.1063/1.1751381
+	 * </a>
+	 * @param red integer value containing the amount of red.
+	 * @param green integer value containing the amount of green.
+	 * @param blue integer value containing the amount of blue.
+	 * @return integer value on the range [0, 2^24).
+	 */
+	private static int getHilbertIndex(int red, int green, int blue) {
+		int x = red,
+				y = green,
+				z = blue;
+		//undo the rotations and reflections of each level
+		for(int bit = 0x80; bit > 1; bit >>= 1) {
+			int mask = bit - 1;
+			if((x & bit) != 0) {
+				x ^= mask;
+			}
+			if((y & bit) != 0) {
+				x ^= mask;
+			}else {
+				int swap = (x ^ y) & mask;
+				x ^= swap;
+				y ^= swap;
+			}
+			if((z & bit) != 0) {
+				x ^= mask;
+			}else {
+				int swap = (x ^ z) & mask;
+				x ^= swap;
+				z ^= swap;
+			}
+		}
+		//gray encode
+		y ^= x;
+		z ^= y;
+		int flip = 0;
+		for(int bit = 0x80; bit > 1; bit >>= 1) {
+			if((z & bit) != 0) {
+				flip ^= bit - 1;
+			}
+		}
+		x ^= flip;
+		y ^= flip;
+		z ^= flip;
+		return (spread(x) << 2) | (spread(y) << 1) | spread(z);
+	}
+
+	/**
+	 * A single radix pass, scattering values by one digit of their
+	 * keys. Parallel passes count and scatter chunks of CHUNK_SIZE
+	 * values, with every chunk writing after the chunks before it.
+	 */
+	private static final class Pass {
+		private final int[] sourceKeys,
+				sourceValues,
+				targetKeys,
+				targetValues;
+		private final int shift;
+		private int chunkSize;
+		private int[][] counts;
+
+		private Pass(int[] sourceKeys, int[] sourceValues, int[] targetKeys, int[] targetValues, int shift) {
+			this.sourceKeys = sourceKeys;
+			this.sourceValues = sourceValues;
+			this.targetKeys = targetKeys;
+			this.targetValues = targetValues;
+			this.shift = shift;
+		}
+
+		/**
+		 * Run the pass on the calling thread.
+		 * @return boolean value determining whether values were moved
+		 * to the target arrays, which is false if every key has the
+		 * same digit.
+		 */
+		private boolean run() {
+			this.chunkSize = this.sourceKeys.length;
+			this.counts = new int[1][];
+			this.count(0);
+			if(!this.computeOffsets()) {
+				return false;
+			}
+			this.scatter(0);
+			return true;
+		}
+
+		/**
+		 * Run the pass on the given pool.
+		 * @param pool ForkJoinPool reference used to run chunks.
+		 * @return boolean value determining whether values were moved
+		 * to the target arrays, which is false if every key has the
+		 * same digit.
+		 */
+		private boolean run(ForkJoinPool pool) {
+			int chunks = (this.sourceKeys.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+			this.chunkSize = CHUNK_SIZE;
+			this.counts = new int[chunks][];
+			pool.invoke(new ChunkTask(this, 0, chunks, false));
+			if(!this.computeOffsets()) {
+				return false;
+			}
+			pool.invoke(new ChunkTask(this, 0, chunks, true));
+			return true;
+		}
+
+		/**
+		 * Count the digits of a chunk.
+		 * @param chunk integer value containing the chunk to count.
+		 */
+		private void count(int chunk) {
+			int[] count = new int[1 << RADIX_BITS];
+			for(int index = this.getStart(chunk); index < this.getEnd(chunk); index++) {
+				count[(this.sourceKeys[index] >>> this.shift) & 0xff]++;
+			}
+			this.counts[chunk] = count;
+		}
+
+		/**
+		 * Replace the counts of every chunk with the index its first
+		 * value of each digit is written to.
+		 * @return boolean value determining whether the keys have more
+		 * than one digit, and so need to be moved.
+		 */
+		private boolean computeOffsets() {
+			int next = 0;
+			for(int digit = 0; digit < (1 << RADIX_BITS); digit++) {
+				int total = 0;
+				for(int[] count : this.counts) {
+					total += count[digit];
+				}
+				if(total == this.sourceKeys.length) {
+					return false;
+				}
+				for(int[] count : this.counts) {
+					int size = count[digit];
+					count[digit] = next;
+					next += size;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Scatter the values of a chunk to their offsets.
+		 * @param chunk integer value containing the chunk to scatter.
+		 */
+		private void scatter(int chunk) {
+			int[] offsets = this.counts[chunk];
+			for(int index = this.getStart(chunk); index < this.getEnd(chunk); index++) {
+				int key = this.sourceKeys[index],
+						target = offsets[(key >>> this.shift) & 0xff]++;
+				this.targetKeys[target] = key;
+				this.targetValues[target] = this.sourceValues[index];
+			}
+		}
+
+		private int getStart(int chunk) {
+			return chunk * this.chunkSize;
+		}
+
+		private int getEnd(int chunk) {
+			return Math.min(this.getStart(chunk) + this.chunkSize, this.sourceKeys.length);
+		}
+	}
+
+	/**
+	 * Task used to count or scatter a range of chunks of a pass.
+	 * Ranges of more than one chunk are split in half.
+	 */
+	private static final class ChunkTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Pass pass;
+		private final int from,
+				to;
+		private final boolean scatter;
+
+		private ChunkTask(Pass pass, int from, int to, boolean scatter) {
+			this.pass = pass;
+			this.from = from;
+			this.to = to;
+			this.scatter = scatter;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.to - this.from == 1) {
+				if(this.scatter) {
+					this.pass.scatter(this.from);
+				}else {
+					this.pass.count(this.from);
+				}
+			}else {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new ChunkTask(this.pass, this.from, middle, this.scatter),
+						new ChunkTask(this.pass, middle, this.to, this.scatter));
+			}
+		}
+	}
+
+	/**
+	 * Task used to compute the keys of a range of colors. Ranges
+	 * larger than CHUNK_SIZE are split in half.
+	 */
+	private final class KeyTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] colors,
+				keys;
+		private final int offset,
+				from,
+				to;
+
+		private KeyTask(int[] colors, int offset, int[] keys, int from, int to) {
+			this.colors = colors;
+			this.offset = offset;
+			this.keys = keys;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.to - this.from <= CHUNK_SIZE) {
+				ColorSorter.this.fillKeys(this.colors, this.offset, this.keys, this.from, this.to);
+			}else {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new KeyTask(this.colors, this.offset, this.keys, this.from, middle),
+						new KeyTask(this.colors, this.offset, this.keys, middle, this.to));
+			}
+		}
+	}
+}
@@ -0,0 +1,503 @@
+package rgb_hsl.color;
+
+import java.util.InputMismatchException;
+
+/**
+ * Single pass parser for CSS color strings. The following
+ * forms are accepted, with any amount of surrounding whitespace:
+ * <ul>
+ *     <li><b>#rgb</b>, <b>#rgba</b>, <b>#rrggbb</b>, <b>#rrggbbaa</b></li>
+ *     <li><b>rgb(r, g, b)</b>, <b>rgba(r, g, b, a)</b>, <b>rgb(r g b / a)</b></li>
+ *     <li><b>hsl(h, s%, l%)</b>, <b>hsla(h, s%, l%, a)</b>, <b>hsl(h s% l% / a)</b></li>
+ *     <li>CSS named colors, such as <b>rebeccapurple</b>, and <b>transparent</b></li>
+ * </ul>
+ * Parsing reads characters directly from the given CharSequence
+ * and keeps its results in primitive fields, so a single parser
+ * can be reused for any number of colors without creating objects.
+ * Parsed colors are available as packed integers of the form
+ * 0xAARRGGBB, or as RGBColor and HSLColor objects. A parser is not
+ * safe for use by multiple threads at once.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class CssColorParser {
+	private CharSequence text;
+	private int position,
+			end;
+
+	/**
+	 * Components of the last parsed color. For colors given
+	 * in HSL space, the components are hue in degrees and
+	 * saturation and lightness on the range [0, 1].
+	 * Otherwise, they are red, green, and blue on the range
+	 * [0, 255]. Alpha is always on the range [0, 1].
+	 */
+	private double first,
+			second,
+			third,
+			alpha;
+	private boolean hsl;
+
+	/**
+	 * Last number read by parseNumber(), and whether it was
+	 * followed by a percent sign.
+	 */
+	private double number;
+	private boolean percentage;
+
+	/**
+	 * Parse the given CSS color, throwing an exception if it
+	 * is not a valid color.
+	 * @param text CharSequence reference containing a CSS color.
+	 * @return integer value containing the packed color in
+	 * the form 0xAARRGGBB.
+	 * @throws InputMismatchException if the text is not a valid CSS color.
+	 */
+	public static int parseARGB(CharSequence text) throws InputMismatchException {
+		CssColorParser parser = new CssColorParser();
+		if(!parser.parse(text, 0, text.length())) {
+			throw new InputMismatchException("Not a CSS color: " + text);
+		}
+		return parser.getARGB();
+	}
+
+	/**
+	 * Parse a region of the given CharSequence as a CSS color.
+	 * @param text CharSequence reference containing a CSS color.
+	 * @param start integer value containing the index of the first
+	 *              character to parse.
+	 * @param end integer value containing the index after the last
+	 *            character to parse.
+	 * @return boolean value determining whether the region contained
+	 * a valid CSS color. If false, the state of the parser is undefined.
+	 */
+	public boolean parse(CharSequence text, int start, int end) {
+		this.text = text;
+		this.position = start;
+		this.end = end;
+		this.alpha = 1;
+		this.hsl = false;
+
+		this.skipWhitespace();
+		if(this.position >= this.end) {
+			return false;
+		}
+		boolean valid;
+		if(this.text.charAt(this.position) == '#') {
+			this.position++;
+			valid = this.parseHex();
+		}else {
+			valid = this.parseIdentifier();
+		}
+		this.skipWhitespace();
+
+		return valid && this.position == this.end;
+	}
+
+	/**
+	 * Parse every color in the given buffer. Colors are separated by
+	 * newlines or semicolons, and empty entries are skipped.
+	 * @param buffer CharSequence reference containing the colors.
+	 * @param out int array receiving each color in the form 0xAARRGGBB.
+	 * @return integer value containing the number of parsed colors.
+	 * @throws InputMismatchException if any entry is not a valid CSS color.
+	 * @throws ArrayIndexOutOfBoundsException if out is too small.
+	 */
+	public int parseAll(CharSequence buffer, int[] out) throws InputMismatchException {
+		int count = 0,
+				length = buffer.length(),
+				start = 0;
+		for(int index = 0; index <= length; index++) {
+			if(index == length || buffer.charAt(index) == '\n' || buffer.charAt(index) == ';') {
+				if(!this.isBlank(buffer, start, index)) {
+					if(!this.parse(buffer, start, index)) {
+						throw new InputMismatchException("Not a CSS color at index " + start);
+					}
+					out[count++] = this.getARGB();
+				}
+				start = index + 1;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get the last parsed color as a packed integer.
+	 * @return integer value containing the color in the form
+	 * 0xAARRGGBB.
+	 */
+	public int getARGB() {
+		int rgb = this.hsl
+				? PackedColor.fromHSL((int) this.first, this.second, this.third)
+				: PackedColor.pack(toChannel(this.first), toChannel(this.second), toChannel(this.third));
+		return (toChannel(this.alpha * 255) << 24) | rgb;
+	}
+
+	/**
+	 * Get the last parsed color as an RGBColor. Alpha is ignored.
+	 * @return RGBColor object containing the parsed color.
+	 */
+	public RGBColor toRGBColor() {
+		return PackedColor.toRGBColor(this.getARGB());
+	}
+
+	/**
+	 * Get the last parsed color as an HSLColor. Alpha is ignored.
+	 * Colors given in HSL space keep their saturation and lightness
+	 * instead of being rounded through RGB space.
+	 * @return HSLColor object containing the parsed color.
+	 */
+	public HSLColor toHSLColor() {
+		return this.hsl
+				? new HSLColor((int) this.first, this.second, this.third)
+				: PackedColor.toHSLColor(this.getARGB());
+	}
+
+	/**
+	 * Get the last parsed color as an RGBAColor, keeping its alpha.
+	 * @return RGBAColor object containing the parsed color.
+	 */
+	public RGBAColor toRGBAColor() {
+		return PackedColor.toRGBAColor(this.getARGB());
+	}
+
+	/**
+	 * Get the last parsed color as an HSLAColor, keeping its alpha.
+	 * Colors given in HSL space keep their saturation and lightness
+	 * instead of being rounded through RGB space.
+	 * @return HSLAColor object containing the parsed color.
+	 */
+	public HSLAColor toHSLAColor() {
+		return new HSLAColor(this.toHSLColor(), this.getARGB() >>> 24);
+	}
+
+	/**
+	 * Get the alpha of the last parsed color.
+	 * @return double value on the range [0, 1], inclusive.
+	 */
+	public double getAlpha() {
+		return this.alpha;
+	}
+
+	/**
+	 * Parse the digits of a hex color code following '#'.
+	 * @return boolean value determining whether the digits are valid.
+	 */
+	private boolean parseHex() {
+		int start = this.position,
+				value = 0;
+		while(this.position < this.end) {
+			int digit = hexDigit(this.text.charAt(this.position));
+			if(digit < 0) {
+				break;
+			}
+			value = (value << 4) | digit;
+			this.position++;
+		}
+
+		int length = this.position - start;
+		if(length == 3 || length == 4) {
+			//shorthand digits represent both orders of magnitude
+			int expanded = 0;
+			for(int shift = (length - 1) * 4; shift >= 0; shift -= 4) {
+				expanded = (expanded << 8) | (((value >> shift) & 0xf) * 0x11);
+			}
+			value = expanded;
+		}else if(length != 6 && length != 8) {
+			return false;
+		}
+		if(length == 4 || length == 8) {
+			this.alpha = (double) (value & 0xff) / 255;
+			value >>>= 8;
+		}
+		this.first = PackedColor.getRed(value);
+		this.second = PackedColor.getGreen(value);
+		this.third = PackedColor.getBlue(value);
+
+		return true;
+	}
+
+	/**
+	 * Parse a named color or a functional notation.
+	 * @return boolean value determining whether the identifier
+	 * and its arguments are valid.
+	 */
+	private boolean parseIdentifier() {
+		int start = this.position;
+		while(this.position < this.end && isLetter(this.text.charAt(this.position))) {
+			this.position++;
+		}
+		int identifierEnd = this.position;
+		if(identifierEnd == start) {
+			return false;
+		}
+
+		if(this.position < this.end && this.text.charAt(this.position) == '(') {
+			this.position++;
+			if(this.matches(start, identifierEnd, "rgb") || this.matches(start, identifierEnd, "rgba")) {
+				return this.parseArguments(false);
+			}
+			if(this.matches(start, identifierEnd, "hsl") || this.matches(start, identifierEnd, "hsla")) {
+				this.hsl = true;
+				return this.parseArguments(true);
+			}
+			return false;
+		}
+
+		if(this.matches(start, identifierEnd, "transparent")) {
+			this.first = this.second = this.third = this.alpha = 0;
+			return true;
+		}
+		int rgb = ColorNames.getCssRGB(this.text, start, identifierEnd);
+		if(rgb == ColorNames.NOT_FOUND) {
+			return false;
+		}
+		this.first = PackedColor.getRed(rgb);
+		this.second = PackedColor.getGreen(rgb);
+		this.third = PackedColor.getBlue(rgb);
+
+		return true;
+	}
+
+	/**
+	 * Parse the arguments of rgb(), rgba(), hsl() or hsla(),
+	 * including the closing parenthesis. Arguments may be
+	 * separated by commas or by whitespace, with alpha
+	 * following a comma or a slash.
+	 * @param hslArguments boolean value determining whether the
+	 *                     arguments are hue, saturation, and lightness.
+	 * @return boolean value determining whether the arguments are valid.
+	 */
+	private boolean parseArguments(boolean hslArguments) {
+		this.skipWhitespace();
+		if(!this.parseNumber()) {
+			return false;
+		}
+		if(hslArguments) {
+			if(this.percentage) {
+				return false;
+			}
+			this.skipDegrees();
+			this.first = this.number;
+		}else {
+			this.first = this.getRGBComponent();
+		}
+
+		boolean commas = this.skipSeparator();
+		if(!this.parseNumber()) {
+			return false;
+		}
+		this.second = hslArguments ? this.getFraction(100) : this.getRGBComponent();
+
+		if(commas != this.skipSeparator() || !this.parseNumber()) {
+			return false;
+		}
+		this.third = hslArguments ? this.getFraction(100) : this.getRGBComponent();
+
+		this.skipWhitespace();
+		if(this.position < this.end && this.text.charAt(this.position) == (commas ? ',' : '/')) {
+			this.position++;
+			this.skipWhitespace();
+			if(!this.parseNumber()) {
+				return false;
+			}
+			this.alpha = this.getFraction(1);
+			this.skipWhitespace();
+		}
+
+		if(this.position >= this.end || this.text.charAt(this.position) != ')') {
+			return false;
+		}
+		this.position++;
+		return true;
+	}
+
+	/**
+	 * Parse an unsigned or signed decimal number, with an optional
+	 * trailing percent sign, into the number and percentage fields.
+	 * @return boolean value determining whether a number was found.
+	 */
+	private boolean parseNumber() {
+		boolean negative = false,
+				digits = false;
+		double value = 0,
+				scale = 1;
+
+		if(this.position < this.end && (this.text.charAt(this.position) == '-'
+				|| this.text.charAt(this.position) == '+')) {
+			negative = this.text.charAt(this.position) == '-';
+			this.position++;
+		}
+		while(this.position < this.end && isDigit(this.text.charAt(this.position))) {
+			value = (value * 10) + (this.text.charAt(this.position++) - '0');
+			digits = true;
+		}
+		if(this.position < this.end && this.text.charAt(this.position) == '.') {
+			this.position++;
+			while(this.position < this.end && isDigit(this.text.charAt(this.position))) {
+				scale /= 10;
+				value += (this.text.charAt(this.position++) - '0') * scale;
+				digits = true;
+			}
+		}
+		this.percentage = this.position < this.end && this.text.charAt(this.position) == '%';
+		if(this.percentage) {
+			this.position++;
+		}
+		this.number = negative ? -value : value;
+
+		return digits;
+	}
+
+	/**
+	 * Get the last parsed number as an RGB component on the range
+	 * [0, 255]. Percentages are scaled so that 100% is 255.
+	 * @return double value containing the component.
+	 */
+	private double getRGBComponent() {
+		return clamp(this.percentage ? this.number * 2.55 : this.number, 255);
+	}
+
+	/**
+	 * Get the last parsed number as a fraction on the range [0, 1].
+	 * Percentages are always divided by 100.
+	 * @param scale double value to divide plain numbers by.
+	 * @return double value containing the fraction.
+	 */
+	private double getFraction(double scale) {
+		return clamp(this.number / (this.percentage ? 100 : scale), 1);
+	}
+
+	/**
+	 * Skip an optional "deg" unit following a hue.
+	 */
+	private void skipDegrees() {
+		if(this.position + 3 <= this.end && this.matches(this.position, this.position + 3, "deg")) {
+			this.position += 3;
+		}
+	}
+
+	/**
+	 * Skip whitespace and an optional comma between two arguments.
+	 * @return boolean value determining whether a comma was skipped.
+	 */
+	private boolean skipSeparator() {
+		this.skipWhitespace();
+		boolean comma = this.position < this.end && this.text.charAt(this.position) == ',';
+		if(comma) {
+			this.position++;
+			this.skipWhitespace();
+		}
+		return comma;
+	}
+
+	/**
+	 * Advance past any whitespace.
+	 */
+	private void skipWhitespace() {
+		while(this.position < this.end && isWhitespace(this.text.charAt(this.position))) {
+			this.position++;
+		}
+	}
+
+	/**
+	 * Determine whether a region of the text matches a lowercase
+	 * keyword, ignoring case.
+	 * @param start integer value containing the start of the region.
+	 * @param end integer value containing the end of the region.
+	 * @param keyword String reference containing a lowercase keyword.
+	 * @return boolean value determining whether the region matches.
+	 */
+	private boolean matches(int start, int end, String keyword) {
+		if(end - start != keyword.length()) {
+			return false;
+		}
+		for(int index = 0; index < keyword.length(); index++) {
+			if((this.text.charAt(start + index) | 0x20) != keyword.charAt(index)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determine whether a region of the buffer contains only whitespace.
+	 * @param buffer CharSequence reference containing the region.
+	 * @param start integer value containing the start of the region.
+	 * @param end integer value containing the end of the region.
+	 * @return boolean value determining whether the region is blank.
+	 */
+	private boolean isBlank(CharSequence buffer, int start, int end) {
+		for(int index = start; index < end; index++) {
+			if(!isWhitespace(buffer.charAt(index))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determine whether a character is an ASCII digit.
+	 * @param character char value to test.
+	 * @return boolean value determining whether it is a digit.
+	 */
+	private static boolean isDigit(char character) {
+		return character >= '0' && character <= '9';
+	}
+
+	/**
+	 * Get the value of an ASCII hex digit.
+	 * @param character char value to convert.
+	 * @return integer value on the range [0, 15], inclusive, or -1
+	 * if the character is not a hex digit.
+	 */
+	private static int hexDigit(char character) {
+		if(isDigit(character)) {
+			return character - '0';
+		}
+		char lower = (char) (character | 0x20);
+		return (lower >= 'a' && lower <= 'f') ? lower - 'a' + 10 : -1;
+	}
+
+	/**
+	 * Determine whether a character is CSS whitespace: a space,
+	 * tab, line feed, carriage return, or form feed.
+	 * @param character char value to test.
+	 * @return boolean value determining whether it is whitespace.
+	 */
+	private static boolean isWhitespace(char character) {
+		return character == ' ' || character == '\t' || character == '\n'
+				|| character == '\r' || character == '\f';
+	}
+
+	/**
+	 * Determine whether a character is an ASCII letter.
+	 * @param character char value to test.
+	 * @return boolean value determining whether it is a letter.
+	 */
+	private static boolean isLetter(char character) {
+		return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z');
+	}
+
+	/**
+	 * Clamp a value to the range [0, max], inclusive.
+	 * @param value double value to clamp.
+	 * @param max double value containing the upper boundary.
+	 * @return double value on the range [0, max], inclusive.
+	 */
+	private static double clamp(double value, double max) {
+		if(value < 0) {
+			return 0;
+		}
+		return (value > max) ? max : value;
+	}
+
+	/**
+	 * Round a component on the range [0, 255] to an integer channel.
+	 * @param component double value containing the component.
+	 * @return integer value on the range [0, 255], inclusive.
+	 */
+	private static int toChannel(double component) {
+		return (int) Math.round(component);
+	}
+}
@@ -0,0 +1,202 @@
+package rgb_hsl.color;
+
+/**
+ * Utility class containing bulk conversions for colors with float
+ * channels, used where 8-bit channels and integer hue lose too much
+ * precision: chains of palette operations, and 16-bit or HDR image
+ * data. Colors are stored three components per color, either as red,
+ * green, and blue, or as hue in degrees, saturation, and lightness.
+ * Hue is measured on the HSL hexagon, which is the exact inverse of
+ * the conversion from HSL to RGB space, so round trips between the
+ * two spaces only lose float precision. Channels are nominally on
+ * the range [0, 1]. Packing and quantization keep or clamp values
+ * outside of this range, but HSL space cannot describe them, so
+ * conversion to HSL rejects them.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class FloatColorConversions {
+	private FloatColorConversions() {
+	}
+
+	/**
+	 * Convert RGB colors to HSL. Channels must be on the range
+	 * [0, 1], inclusive, since saturation and lightness cannot
+	 * describe colors brighter than white or darker than black.
+	 * @param rgb float array containing the red, green, and blue of
+	 *            each color, three elements per color.
+	 * @param hsl float array receiving the hue, saturation, and
+	 *            lightness of each color, three elements per color.
+	 *            It may be the same array as rgb.
+	 * @param from integer value containing the first color to convert.
+	 * @param to integer value containing the index after the last
+	 *           color to convert.
+	 * @throws IllegalArgumentException if a channel is outside of the
+	 * range [0, 1].
+	 */
+	public static void rgbToHSL(float[] rgb, float[] hsl, int from, int to) {
+		for(int index = from * 3; index < to * 3; index += 3) {
+			float red = rgb[index],
+					green = rgb[index + 1],
+					blue = rgb[index + 2],
+					max = Math.max(red, Math.max(green, blue)),
+					min = Math.min(red, Math.min(green, blue)),
+					chroma = max - min,
+					lightness = (max + min) / 2,
+					hue = 0,
+					saturation = 0;
+			//also rejects NaN, which max and min propagate
+			if(!(min >= 0 && max <= 1)) {
+				throw new IllegalArgumentException("Color " + (index / 3) + " is not on the range [0, 1]");
+			}
+			if(chroma > 0) {
+				if(max == red) {
+					hue = (green - blue) / chroma;
+					hue = (hue < 0) ? hue + 6 : hue;
+				}else if(max == green) {
+					hue = ((blue - red) / chroma) + 2;
+				}else {
+					hue = ((red - green) / chroma) + 4;
+				}
+				hue *= 60;
+				saturation = chroma / (1 - Math.abs((2 * lightness) - 1));
+			}
+			hsl[index] = hue;
+			hsl[index + 1] = saturation;
+			hsl[index + 2] = lightness;
+		}
+	}
+
+	/**
+	 * Convert HSL colors to RGB. Hue may be any number of degrees,
+	 * and saturation and lightness are clamped to the range [0, 1].
+	 * @param hsl float array containing the hue, saturation, and
+	 *            lightness of each color, three elements per color.
+	 * @param rgb float array receiving the red, green, and blue of
+	 *            each color, three elements per color. It may be the
+	 *            same array as hsl.
+	 * @param from integer value containing the first color to convert.
+	 * @param to integer value containing the index after the last
+	 *           color to convert.
+	 */
+	public static void hslToRGB(float[] hsl, float[] rgb, int from, int to) {
+		for(int index = from * 3; index < to * 3; index += 3) {
+			float hue = hsl[index] / 30,
+					saturation = clamp(hsl[index + 1]),
+					lightness = clamp(hsl[index + 2]),
+					amplitude = saturation * Math.min(lightness, 1 - lightness);
+			rgb[index] = getChannel(hue, 0, lightness, amplitude);
+			rgb[index + 1] = getChannel(hue, 8, lightness, amplitude);
+			rgb[index + 2] = getChannel(hue, 4, lightness, amplitude);
+		}
+	}
+
+	/**
+	 * Convert packed colors to float channels.
+	 * @param packed int array containing packed colors of the form 0xRRGGBB.
+	 * @param rgb float array receiving the red, green, and blue of
+	 *            each color, three elements per color.
+	 * @param from integer value containing the first color to convert.
+	 * @param to integer value containing the index after the last
+	 *           color to convert.
+	 */
+	public static void fromPacked(int[] packed, float[] rgb, int from, int to) {
+		for(int index = from; index < to; index++) {
+			int color = packed[index];
+			rgb[index * 3] = (float) PackedColor.getRed(color) / 255;
+			rgb[(index * 3) + 1] = (float) PackedColor.getGreen(color) / 255;
+			rgb[(index * 3) + 2] = (float) PackedColor.getBlue(color) / 255;
+		}
+	}
+
+	/**
+	 * Quantize float channels to packed 8-bit colors, rounding to
+	 * nearest. Channels outside of the range [0, 1] are clamped.
+	 * @param rgb float array containing the red, green, and blue of
+	 *            each color, three elements per color.
+	 * @param packed int array receiving packed colors of the form 0xRRGGBB.
+	 * @param from integer value containing the first color to convert.
+	 * @param to integer value containing the index after the last
+	 *           color to convert.
+	 */
+	public static void quantize(float[] rgb, int[] packed, int from, int to) {
+		for(int index = from; index < to; index++) {
+			packed[index] = PackedColor.pack(quantize(rgb[index * 3], 255),
+					quantize(rgb[(index * 3) + 1], 255),
+					quantize(rgb[(index * 3) + 2], 255));
+		}
+	}
+
+	/**
+	 * Convert unsigned 16-bit channels to float channels.
+	 * @param channels short array containing unsigned channels, three
+	 *                 elements per color.
+	 * @param rgb float array receiving the channels on the range
+	 *            [0, 1], three elements per color.
+	 * @param from integer value containing the first color to convert.
+	 * @param to integer value containing the index after the last
+	 *           color to convert.
+	 */
+	public static void fromShorts(short[] channels, float[] rgb, int from, int to) {
+		for(int index = from * 3; index < to * 3; index++) {
+			rgb[index] = (float) (channels[index] & 0xffff) / 65535;
+		}
+	}
+
+	/**
+	 * Quantize float channels to unsigned 16-bit channels, rounding
+	 * to nearest. Channels outside of the range [0, 1] are clamped.
+	 * @param rgb float array containing channels, three elements per color.
+	 * @param channels short array receiving unsigned channels, three
+	 *                 elements per color.
+	 * @param from integer value containing the first color to convert.
+	 * @param to integer value containing the index after the last
+	 *           color to convert.
+	 */
+	public static void toShorts(float[] rgb, short[] channels, int from, int to) {
+		for(int index = from * 3; index < to * 3; index++) {
+			channels[index] = (short) quantize(rgb[index], 65535);
+		}
+	}
+
+	/**
+	 * Get a single RGB channel of an HSL color. The channel is the
+	 * lightness moved up or down by the amplitude, following a
+	 * trapezoid wave of the hue offset by the given phase.
+	 * @param hue float value containing the hue in units of 30 degrees.
+	 * @param phase integer value containing the phase of the channel
+	 *              in units of 30 degrees.
+	 * @param lightness float value containing the lightness.
+	 * @param amplitude float value containing the amplitude.
+	 * @return float value containing the channel.
+	 */
+	private static float getChannel(float hue, int phase, float lightness, float amplitude) {
+		float position = (phase + hue) % 12;
+		position = (position < 0) ? position + 12 : position;
+		return lightness - (amplitude * Math.max(-1, Math.min(Math.min(position - 3, 9 - position), 1)));
+	}
+
+	/**
+	 * Clamp a channel and scale it to an integer range, rounding
+	 * to nearest.
+	 * @param channel float value containing the channel.
+	 * @param scale integer value containing the largest result.
+	 * @return integer value on the range [0, scale], inclusive.
+	 */
+	private static int quantize(float channel, int scale) {
+		return Math.round(clamp(channel) * scale);
+	}
+
+	/**
+	 * Clamp the given value to the range [0, 1], inclusive. NaN
+	 * is clamped to 0.
+	 * @param value float value to clamp.
+	 * @return float value on the range [0, 1], inclusive.
+	 */
+	private static float clamp(float value) {
+		if(!(value > 0)) {
+			return 0;
+		}
+		return (value > 1) ? 1 : value;
+	}
+}
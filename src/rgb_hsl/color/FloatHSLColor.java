@@ -0,0 +1,161 @@
+package rgb_hsl.color;
+
+/**
+ * Subclass of Color.
+ * Describes a color by hue, saturation, and lightness with float
+ * components. Unlike HSLColor, hue is not truncated to a whole
+ * degree, so conversions to and from RGB space round trip to
+ * within float precision.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class FloatHSLColor extends Color {
+	private float hue,
+	saturation,
+	lightness;
+
+	/**
+	 * Default constructor. When invoked, the current
+	 * instance is set to pure black.
+	 */
+	public FloatHSLColor() {
+		this(0, 0, 0);
+	}
+
+	/**
+	 * Create a float HSL color with the same values as the given
+	 * reference.
+	 * @param color FloatHSLColor reference containing the values to copy.
+	 */
+	public FloatHSLColor(FloatHSLColor color) {
+		this(color.getHue(), color.getSaturation(), color.getLightness());
+	}
+
+	/**
+	 * Set the hue, saturation, and lightness values to their
+	 * corresponding parameters.
+	 * @param hue float value containing the degree of hue.
+	 * @param saturation float value containing the saturation.
+	 * @param lightness float value containing the lightness.
+	 */
+	public FloatHSLColor(float hue, float saturation, float lightness) {
+		this.setColor(hue, saturation, lightness);
+	}
+
+	/**
+	 * Sets the hue, saturation, and lightness.
+	 * @param hue double value containing the degree of hue.
+	 * @param saturation double value containing the saturation.
+	 * @param lightness double value containing the lightness.
+	 */
+	@Override
+	public void setColor(double hue, double saturation, double lightness) {
+		this.setHue((float) hue);
+		this.setSaturation((float) saturation);
+		this.setLightness((float) lightness);
+	}
+
+	/**
+	 * Set the hue of the current instance. Hues outside of the
+	 * range [0, 360) are wrapped around the hue circle.
+	 * @param hue float value containing the degree of the new hue.
+	 */
+	public void setHue(float hue) {
+		hue %= 360;
+		hue = (hue < 0) ? hue + 360 : hue;
+		//tiny negative hues round up to 360 when wrapped
+		this.hue = (hue == 360) ? 0 : hue;
+	}
+
+	/**
+	 * Get the hue of the current instance, on the range [0, 360).
+	 * @return float value containing the degree of hue.
+	 */
+	public float getHue() {
+		return this.hue;
+	}
+
+	/**
+	 * Set the saturation of the current instance on the range
+	 * [0, 1], inclusive. If the given saturation is outside of
+	 * these bounds, it is set to the closest boundary on this range.
+	 * @param saturation float value containing the new saturation.
+	 */
+	public void setSaturation(float saturation) {
+		this.saturation = Math.max(0, Math.min(saturation, 1));
+	}
+
+	/**
+	 * Get the saturation of the current instance.
+	 * @return float value on the range [0, 1], inclusive.
+	 */
+	public float getSaturation() {
+		return this.saturation;
+	}
+
+	/**
+	 * Set the lightness of the current instance on the range
+	 * [0, 1], inclusive. If the given lightness is outside of
+	 * these bounds, it is set to the closest boundary on this range.
+	 * @param lightness float value containing the new lightness.
+	 */
+	public void setLightness(float lightness) {
+		this.lightness = Math.max(0, Math.min(lightness, 1));
+	}
+
+	/**
+	 * Get the lightness of the current instance.
+	 * @return float value on the range [0, 1], inclusive.
+	 */
+	public float getLightness() {
+		return this.lightness;
+	}
+
+	/**
+	 * Get the corresponding color in RGB space, with float channels.
+	 * @return FloatRGBColor object that corresponds to the
+	 * current instance's HSL values.
+	 */
+	public FloatRGBColor getRGBColor() {
+		float[] rgb = {this.hue, this.saturation, this.lightness};
+		FloatColorConversions.hslToRGB(rgb, rgb, 0, 1);
+		return new FloatRGBColor(rgb[0], rgb[1], rgb[2]);
+	}
+
+	/**
+	 * Quantize the current color to 8-bit RGB channels, rounding
+	 * to nearest.
+	 * @return RGBColor object containing the quantized color.
+	 */
+	public RGBColor quantize() {
+		return this.getRGBColor().quantize();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(!(obj instanceof FloatHSLColor)) {
+			return false;
+		}
+		FloatHSLColor colorObj = (FloatHSLColor) obj;
+
+		return (this.getHue() == colorObj.getHue()
+				&& this.getSaturation() == colorObj.getSaturation()
+				&& this.getLightness() == colorObj.getLightness());
+	}
+
+	@Override
+	public int hashCode() {
+		//adding zero turns -0f into 0f, which equals() treats alike
+		int hash = Float.hashCode(this.hue + 0f);
+		hash = (31 * hash) + Float.hashCode(this.saturation + 0f);
+		return (31 * hash) + Float.hashCode(this.lightness + 0f);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("HSL (%.4f, %.4f, %.4f)",
+				this.hue,
+				this.saturation,
+				this.lightness);
+	}
+}
@@ -0,0 +1,148 @@
+package rgb_hsl.color;
+
+/**
+ * Subclass of Color.
+ * Describes a color in RGB space with float channels instead of
+ * 8-bit integers, so colors keep their precision through chains of
+ * operations. Channels are nominally on the range [0, 1], inclusive,
+ * and are not clamped, so HDR colors brighter than white are kept
+ * until the color is quantized. Such colors cannot be converted to
+ * HSL space, nor used to generate palettes.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class FloatRGBColor extends Color {
+	private float red,
+	green,
+	blue;
+
+	/**
+	 * Default constructor. When invoked, the current
+	 * instance is set to pure black.
+	 */
+	public FloatRGBColor() {
+		this(0, 0, 0);
+	}
+
+	/**
+	 * Create a float RGB color with the same values as the given
+	 * reference.
+	 * @param color FloatRGBColor reference containing the values to copy.
+	 */
+	public FloatRGBColor(FloatRGBColor color) {
+		this(color.getRed(), color.getGreen(), color.getBlue());
+	}
+
+	/**
+	 * Set the red, green, and blue values to their corresponding
+	 * parameters.
+	 * @param red float value containing the amount of red
+	 * @param green float value containing the amount of green
+	 * @param blue float value containing the amount of blue
+	 */
+	public FloatRGBColor(float red, float green, float blue) {
+		this.setColor(red, green, blue);
+	}
+
+	/**
+	 * Create the float RGB color corresponding to a packed color.
+	 * @param rgb integer value containing a packed color of the
+	 *            form 0xRRGGBB.
+	 * @return FloatRGBColor object corresponding to the given color.
+	 */
+	public static FloatRGBColor fromRGB(int rgb) {
+		float[] channels = new float[3];
+		FloatColorConversions.fromPacked(new int[] {rgb}, channels, 0, 1);
+		return new FloatRGBColor(channels[0], channels[1], channels[2]);
+	}
+
+	/**
+	 * Sets the amount of red, green, and blue.
+	 * @param red double value containing the amount of red
+	 * @param green double value containing the amount of green
+	 * @param blue double value containing the amount of blue
+	 */
+	@Override
+	public void setColor(double red, double green, double blue) {
+		this.red = (float) red;
+		this.green = (float) green;
+		this.blue = (float) blue;
+	}
+
+	/**
+	 * Get the amount of red in the current color.
+	 * @return float value containing the amount of red.
+	 */
+	public float getRed() {
+		return this.red;
+	}
+
+	/**
+	 * Get the amount of green in the current color.
+	 * @return float value containing the amount of green.
+	 */
+	public float getGreen() {
+		return this.green;
+	}
+
+	/**
+	 * Get the amount of blue in the current color.
+	 * @return float value containing the amount of blue.
+	 */
+	public float getBlue() {
+		return this.blue;
+	}
+
+	/**
+	 * Get the corresponding color in HSL space, without rounding
+	 * hue to a whole degree.
+	 * @return FloatHSLColor object that corresponds to the
+	 * current instance's RGB values.
+	 * @throws IllegalArgumentException if a channel is outside of
+	 * the range [0, 1].
+	 */
+	public FloatHSLColor getHSLColor() {
+		float[] hsl = {this.red, this.green, this.blue};
+		FloatColorConversions.rgbToHSL(hsl, hsl, 0, 1);
+		return new FloatHSLColor(hsl[0], hsl[1], hsl[2]);
+	}
+
+	/**
+	 * Quantize the current color to 8-bit channels, rounding to
+	 * nearest. Channels outside of the range [0, 1] are clamped.
+	 * @return RGBColor object containing the quantized color.
+	 */
+	public RGBColor quantize() {
+		int[] rgb = new int[1];
+		FloatColorConversions.quantize(new float[] {this.red, this.green, this.blue}, rgb, 0, 1);
+		return PackedColor.toRGBColor(rgb[0]);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(!(obj instanceof FloatRGBColor)) {
+			return false;
+		}
+		FloatRGBColor colorObj = (FloatRGBColor) obj;
+
+		return (this.getRed() == colorObj.getRed()
+				&& this.getGreen() == colorObj.getGreen()
+				&& this.getBlue() == colorObj.getBlue());
+	}
+
+	@Override
+	public int hashCode() {
+		//adding zero turns -0f into 0f, which equals() treats alike
+		int hash = Float.hashCode(this.red + 0f);
+		hash = (31 * hash) + Float.hashCode(this.green + 0f);
+		return (31 * hash) + Float.hashCode(this.blue + 0f);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("RGB (%.4f, %.4f, %.4f)",
+				this.red,
+				this.green,
+				this.blue);
+	}
+}
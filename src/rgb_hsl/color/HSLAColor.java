@@ -0,0 +1,122 @@
+package rgb_hsl.color;
+
+/**
+ * Subclass of HSLColor.
+ * Adds an alpha channel to a color described by hue,
+ * saturation, and lightness, on the range [0, 255],
+ * inclusive, where 0 is fully transparent and 255 is
+ * fully opaque. Alpha is kept when converting to RGB space.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class HSLAColor extends HSLColor {
+	private int alpha;
+
+	/**
+	 * Default constructor. When invoked, the current
+	 * instance is set to an opaque black.
+	 */
+	public HSLAColor() {
+		this(0, 0, 0, 255);
+	}
+
+	/**
+	 * Create an HSLA color with the same values as the given
+	 * reference, and the alpha of the given reference if it has one.
+	 * @param color HSLColor reference containing the values to copy.
+	 */
+	public HSLAColor(HSLColor color) {
+		this(color, PackedColor.getAlpha(color));
+	}
+
+	/**
+	 * Create an HSLA color with the same HSL values as the given
+	 * reference and the given alpha.
+	 * @param color HSLColor reference containing the HSL values to copy.
+	 * @param alpha integer value containing the alpha, on the
+	 *                 range [0, 255], inclusive.
+	 */
+	public HSLAColor(HSLColor color, int alpha) {
+		this(color.getHue(), color.getSaturation(), color.getLightness(), alpha);
+	}
+
+	/**
+	 * Create an opaque HSLA color.
+	 * @param hue integer value containing the degree of
+	 *               the new hue.
+	 * @param saturation double value containing the percentage
+	 *                      of saturation.
+	 * @param lightness double value containing the percentage
+	 *                     of lightness.
+	 */
+	public HSLAColor(int hue, double saturation, double lightness) {
+		this(hue, saturation, lightness, 255);
+	}
+
+	/**
+	 * Set the hue, saturation, lightness, and alpha values to
+	 * their corresponding parameters.
+	 * @param hue integer value containing the degree of
+	 *               the new hue.
+	 * @param saturation double value containing the percentage
+	 *                      of saturation.
+	 * @param lightness double value containing the percentage
+	 *                     of lightness.
+	 * @param alpha integer value containing the alpha, on the
+	 *                 range [0, 255], inclusive.
+	 */
+	public HSLAColor(int hue, double saturation, double lightness, int alpha) {
+		super(hue, saturation, lightness);
+		this.setAlpha(alpha);
+	}
+
+	/**
+	 * Get the alpha of the current color. The alpha is
+	 * guaranteed to be on the range [0, 255], inclusive.
+	 * @return integer value containing the alpha.
+	 */
+	public int getAlpha() {
+		return this.alpha;
+	}
+
+	/**
+	 * Set the alpha of the current color. If the given alpha
+	 * is outside of the range [0, 255], it is set to the
+	 * closest boundary on this range.
+	 * @param alpha integer value containing the new alpha.
+	 */
+	public void setAlpha(int alpha) {
+		this.alpha = (alpha < 0) ? 0 : Math.min(alpha, 255);
+	}
+
+	/**
+	 * Get the current color packed as a single integer.
+	 * @return integer value containing the color in the
+	 * form 0xAARRGGBB.
+	 */
+	public int getARGB() {
+		return (this.alpha << 24) | PackedColor.getRGB(this);
+	}
+
+	/**
+	 * Get the corresponding color in an RGB color space,
+	 * with the same alpha. Opaque colors give a plain RGBColor.
+	 * @return RGBColor object that corresponds to the
+	 * current instance's HSLA values, which is an RGBAColor
+	 * if the current instance is not opaque.
+	 */
+	@Override
+	public RGBColor getRGBColor() {
+		RGBColor color = super.getRGBColor();
+		return (this.alpha == 255) ? color : new RGBAColor(color, this.alpha);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("HSLA (%d, %.2f, %.2f, %d)",
+				this.getHue(),
+				this.getSaturation(),
+				this.getLightness(),
+				this.alpha);
+	}
+}
@@ -100,7 +100,71 @@ public class HSLColor extends Color {
 	public void incrementHue(int degrees) {
 		this.setHue(this.getHue() + degrees);
 	}
-	
+
+	/**
+	 * Multiply the saturation of the current instance by the
+	 * given factor. The result is set to the closest boundary
+	 * on the range [0, 1] if it falls outside of it.
+	 * @param factor double value containing the non-negative
+	 *                  factor to multiply by.
+	 */
+	public void scaleSaturation(double factor) {
+		ColorAdjustment.IDENTITY.scaleSaturation(factor).apply(this);
+	}
+
+	/**
+	 * Multiply the lightness of the current instance by the
+	 * given factor. The result is set to the closest boundary
+	 * on the range [0, 1] if it falls outside of it.
+	 * @param factor double value containing the non-negative
+	 *                  factor to multiply by.
+	 */
+	public void scaleLightness(double factor) {
+		ColorAdjustment.IDENTITY.scaleLightness(factor).apply(this);
+	}
+
+	/**
+	 * Keep the saturation of the current instance within the
+	 * given bounds.
+	 * @param minimum double value containing the lowest saturation.
+	 * @param maximum double value containing the highest saturation.
+	 */
+	public void clampSaturation(double minimum, double maximum) {
+		ColorAdjustment.IDENTITY.clampSaturation(minimum, maximum).apply(this);
+	}
+
+	/**
+	 * Keep the lightness of the current instance within the
+	 * given bounds.
+	 * @param minimum double value containing the lowest lightness.
+	 * @param maximum double value containing the highest lightness.
+	 */
+	public void clampLightness(double minimum, double maximum) {
+		ColorAdjustment.IDENTITY.clampLightness(minimum, maximum).apply(this);
+	}
+
+	/**
+	 * Mix the current instance toward the given color in RGB
+	 * space.
+	 * @param color Color reference containing the target color.
+	 * @param amount double value on the range [0, 1], inclusive,
+	 *                  where 0 leaves the current instance unchanged
+	 *                  and 1 replaces it with the target.
+	 */
+	public void tint(Color color, double amount) {
+		ColorAdjustment.IDENTITY.tint(PackedColor.getRGB(color), amount).apply(this);
+	}
+
+	/**
+	 * Apply the given adjustment to the current instance. The hue,
+	 * saturation, and lightness are adjusted directly, without rounding
+	 * through a packed color, and any tint is then mixed in RGB space.
+	 * @param adjustment ColorAdjustment reference to apply.
+	 */
+	public void adjust(ColorAdjustment adjustment) {
+		adjustment.apply(this);
+	}
+
 	/**
 	 * Set the saturation of the current instance
 	 * on the range [0, 1], inclusive. If the given
@@ -318,7 +382,8 @@ public class HSLColor extends Color {
 
 		return (this.getHue() == colorObj.getHue()
 		&& this.getSaturation() == colorObj.getSaturation()
-		&& this.getLightness() == colorObj.getLightness());
+		&& this.getLightness() == colorObj.getLightness()
+		&& PackedColor.getAlpha(this) == PackedColor.getAlpha(colorObj));
 	}
 	
 	@Override
@@ -3,18 +3,19 @@ package rgb_hsl.color;
 import java.util.InputMismatchException;
 
 /**
- * Subclass of class RGBColor.
+ * Subclass of class RGBAColor.
  * Uses integer values for red, blue and green
  * and compensates for any remainder. Hex color codes
  * are given in the following form
  * #rrggbb
  * where rr, gg, and bb represent hexadecimal values on the
  * range of [00-ff], for the amount of red, green, and blue,
- * respectively.
+ * respectively. Colors that are not opaque have a fourth
+ * pair, aa, for the alpha.
  * @author Noah Teshima
  * @since 1.0.0
  */
-public class HexColor extends RGBColor {
+public class HexColor extends RGBAColor {
 	private String hexCode;
 
 	/**
@@ -27,10 +28,10 @@ public class HexColor extends RGBColor {
 		 * if a String is a valid hex color code. In general, a
 		 * String is a valid hex color code iff it follows any of
 		 * the following forms:
-		 * #rgb, rgb, #rrggbb, rrggbb
-		 * for r,g,b represent arbitrary digits or letters a-f.
+		 * #rgb, rgb, #rgba, rgba, #rrggbb, rrggbb, #rrggbbaa, rrggbbaa
+		 * for r,g,b,a represent arbitrary digits or letters a-f.
 		 */
-		private static String PATTERN_ONE = "^[\\s]*[#]?([\\da-fA-F]{3}|[\\da-fA-F]{6})[\\s]*$";
+		private static String PATTERN_ONE = "^[\\s]*[#]?([\\da-fA-F]{3,4}|[\\da-fA-F]{6}|[\\da-fA-F]{8})[\\s]*$";
 
 		/**
 		 * Remove unnecessary characters from the given hex code.
@@ -97,6 +98,21 @@ public class HexColor extends RGBColor {
 			return getBaseTen(getBlue(hexString));
 		}
 
+		/**
+		 * Get the alpha in the given hex color code in base ten.
+		 * Hex color codes without an alpha are opaque.
+		 * @param hexString String reference containing the hex color code.
+		 * @return int value containing the alpha in base ten.
+		 * @throws InputMismatchException if the given String reference is not a valid hex color code.
+		 */
+		public static int getAlphaBaseTen(String hexString) throws InputMismatchException {
+			if(!isParseable(hexString)) {
+				throw new InputMismatchException();
+			}
+
+			return getBaseTen(getAlpha(hexString));
+		}
+
 		/**
 		 * Get the hex code for the amount of red.
 		 * @param hexString String reference containing the hex color code.
@@ -105,7 +121,7 @@ public class HexColor extends RGBColor {
 		 */
 		private static String getRed(String hexString) {
 			String strippedString = strip(hexString);
-			return (strippedString.length() == 6) ? strippedString.substring(0, 2)
+			return (strippedString.length() >= 6) ? strippedString.substring(0, 2)
 					: strippedString.substring(0, 1) + strippedString.substring(0, 1);
 		}
 
@@ -117,7 +133,7 @@ public class HexColor extends RGBColor {
 		 */
 		private static String getGreen(String hexString) {
 			String strippedString = strip(hexString);
-			return (strippedString.length() == 6) ? strippedString.substring(2, 4)
+			return (strippedString.length() >= 6) ? strippedString.substring(2, 4)
 					: strippedString.substring(1, 2) + strippedString.substring(1, 2);
 		}
 
@@ -129,8 +145,26 @@ public class HexColor extends RGBColor {
 		 */
 		private static String getBlue(String hexString) {
 			String strippedString = strip(hexString);
-			return (strippedString.length() == 6) ? strippedString.substring(4)
-					: strippedString.substring(2) + strippedString.substring(2);
+			return (strippedString.length() >= 6) ? strippedString.substring(4, 6)
+					: strippedString.substring(2, 3) + strippedString.substring(2, 3);
+		}
+
+		/**
+		 * Get the hex code for the alpha.
+		 * @param hexString String reference containing the hex color code.
+		 * @return String value containing the alpha in base 16.
+		 * @precondition hexString is a valid hex color code.
+		 */
+		private static String getAlpha(String hexString) {
+			String strippedString = strip(hexString);
+			switch(strippedString.length()) {
+				case 8:
+					return strippedString.substring(6);
+				case 4:
+					return strippedString.substring(3) + strippedString.substring(3);
+				default:
+					return "ff";
+			}
 		}
 
 		/**
@@ -159,12 +193,13 @@ public class HexColor extends RGBColor {
 	}
 
 	/**
-	 * Create a HexColor with the same values as the given RGBColor reference.
+	 * Create a HexColor with the same values as the given RGBColor reference,
+	 * including its alpha if it has one.
 	 * @param color RGBColor reference containing the RGB values to
 	 *                 copy.
 	 */
 	public HexColor(RGBColor color) {
-		this(color.getRed(), color.getGreen(), color.getBlue());
+		this(color.getRed(), color.getGreen(), color.getBlue(), PackedColor.getAlpha(color));
 	}
 	
 	/**
@@ -178,7 +213,22 @@ public class HexColor extends RGBColor {
 	 *                of blue
 	 */
 	public HexColor(int red, int green, int blue) {
-		this.setColor(red, green, blue);
+		this(red, green, blue, 255);
+	}
+
+	/**
+	 * Set the hex color given the amount of red, green,
+	 * and blue, and the alpha for the current instance.
+	 * @param red integer value containing the amount
+	 *               of red
+	 * @param green integer value containing the amount
+	 *                 of green
+	 * @param blue integer value containing the amount
+	 *                of blue
+	 * @param alpha integer value containing the alpha
+	 */
+	public HexColor(int red, int green, int blue, int alpha) {
+		super(red, green, blue, alpha);
 	}
 
 	/**
@@ -195,7 +245,8 @@ public class HexColor extends RGBColor {
 	 * Set the instance's hexCode to its corresponding
 	 * color. Uses hexadecimal format in order
 	 * to properly convert the amount of red,
-	 * blue, and green for the current color.
+	 * blue, and green for the current color, and
+	 * the alpha if the color is not opaque.
 	 */
 	private void updateHexCode() {
 		String redHex = Integer.toHexString(this.getRed()),
@@ -213,6 +264,10 @@ public class HexColor extends RGBColor {
 				redHex,
 				greenHex,
 				blueHex);
+		if(this.getAlpha() != 255) {
+			String alphaHex = Integer.toHexString(this.getAlpha());
+			this.hexCode += (alphaHex.length() == 1) ? "0" + alphaHex : alphaHex;
+		}
 	}
 
 	/**
@@ -221,7 +276,8 @@ public class HexColor extends RGBColor {
 	 * <b>#rrggbb</b>
 	 * where <b>rr</b>, <b>gg</b>, and <b>bb</b> represent hexadecimal values on the
 	 * range of [00-ff], inclusive, for the amount of red, green, and blue,
-	 * respectively.
+	 * respectively. Colors that are not opaque are given in the form
+	 * <b>#rrggbbaa</b>, where <b>aa</b> is the alpha.
 	 * @return String object containing the current hex color
 	 * code.
 	 */
@@ -233,18 +289,19 @@ public class HexColor extends RGBColor {
 	 * Set the current HexColor instance with a hex String.
 	 * All valid hex color codes are given in either of the
 	 * following forms
-	 * <b>#rrggbb</b>, or <b>#rgb</b>
+	 * <b>#rrggbb</b>, <b>#rgb</b>, <b>#rrggbbaa</b>, or <b>#rgba</b>
 	 * where <b>rr</b>, <b>gg</b>, and <b>bb</b> represent hexadecimal values on the
 	 * range of [00-ff], inclusive, for the amount of red, green, and blue,
-	 * respectively. In the case where shorthand hex color codes is used,
-	 * <b>r</b>, <b>g</b>, and <b>b</b> collectively repesent both the
+	 * respectively, and <b>aa</b> represents the alpha. Codes without an
+	 * alpha are opaque. In the case where shorthand hex color codes is used,
+	 * <b>r</b>, <b>g</b>, <b>b</b>, and <b>a</b> collectively repesent both the
 	 * first and second order of magnitude in base 16.
 	 * @param hexCode String reference containing a valid hexCode.
 	 * @throws InputMismatchException If the given hex String is not parseable.
 	 */
 	public void setColor(String hexCode) throws InputMismatchException {
 		this.setColor(HexParser.getRedBaseTen(hexCode), HexParser.getGreenBaseTen(hexCode), HexParser.getBlueBaseTen(hexCode));
-		this.updateHexCode();
+		this.setAlpha(HexParser.getAlphaBaseTen(hexCode));
 	}
 
 	@Override
@@ -270,6 +327,12 @@ public class HexColor extends RGBColor {
 		super.setBlue(blue);
 		this.updateHexCode();
 	}
+
+	@Override
+	public void setAlpha(int alpha) {
+		super.setAlpha(alpha);
+		this.updateHexCode();
+	}
 	
 	@Override
 	public String toString() {
@@ -0,0 +1,89 @@
+package rgb_hsl.color;
+
+/**
+ * Subclass of OpponentColor.
+ * Used for describing a color in the CIELAB color space,
+ * by lightness and the a and b opponent axes. Unlike RGB
+ * and HSL space, euclidean distance in CIELAB space
+ * approximates the perceived difference between two colors.
+ * Lightness is on the range [0, 100], inclusive.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class LabColor extends OpponentColor {
+
+	/**
+	 * Default constructor. When invoked, the current
+	 * instance is set to pure black.
+	 */
+	public LabColor() {
+		this(0, 0, 0);
+	}
+
+	/**
+	 * Create a CIELAB color with the same values as the given
+	 * reference.
+	 * @param color LabColor reference containing the values to copy.
+	 */
+	public LabColor(LabColor color) {
+		this(color.getLightness(), color.getA(), color.getB());
+	}
+
+	/**
+	 * Set the lightness, a, and b values to their corresponding
+	 * parameters.
+	 * @param lightness double value containing the lightness, on
+	 *                  the range [0, 100], inclusive.
+	 * @param a double value containing the position on the
+	 *          green-red axis.
+	 * @param b double value containing the position on the
+	 *          blue-yellow axis.
+	 */
+	public LabColor(double lightness, double a, double b) {
+		super(100);
+		this.setColor(lightness, a, b);
+	}
+
+	/**
+	 * Create the CIELAB color corresponding to a packed color.
+	 * @param rgb integer value containing a packed color of the
+	 *            form 0xRRGGBB.
+	 * @return LabColor object corresponding to the given color.
+	 */
+	public static LabColor fromRGB(int rgb) {
+		double[] lab = new double[3];
+		ColorConversions.rgbToLab(new int[]{rgb}, 0, 1, lab);
+		return new LabColor(lab[0], lab[1], lab[2]);
+	}
+
+	/**
+	 * Get the perceived difference between the current instance
+	 * and the given color, given as the CIE76 color difference.
+	 * @param color LabColor reference to compare against.
+	 * @return double value containing the euclidean distance in
+	 * CIELAB space.
+	 */
+	public double getDistance(LabColor color) {
+		return this.getEuclideanDistance(color);
+	}
+
+	/**
+	 * Get the corresponding color in an RGB color space. Colors
+	 * outside of the sRGB gamut are clamped to its boundary.
+	 * @return RGBColor object that corresponds to the current
+	 * instance's CIELAB values.
+	 */
+	public RGBColor getRGBColor() {
+		int[] rgb = new int[1];
+		ColorConversions.labToRGB(this.getComponents(), rgb, 0, 1);
+		return PackedColor.toRGBColor(rgb[0]);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Lab (%.2f, %.2f, %.2f)",
+				this.getLightness(),
+				this.getA(),
+				this.getB());
+	}
+}
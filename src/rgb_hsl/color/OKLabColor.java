@@ -0,0 +1,89 @@
+package rgb_hsl.color;
+
+/**
+ * Subclass of OpponentColor.
+ * Used for describing a color in the OKLab color space,
+ * by lightness and the a and b opponent axes. OKLab is
+ * more perceptually uniform than CIELAB, particularly for
+ * blue hues, and keeps hue more stable when lightness or
+ * chroma change. Lightness is on the range [0, 1], inclusive.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class OKLabColor extends OpponentColor {
+
+	/**
+	 * Default constructor. When invoked, the current
+	 * instance is set to pure black.
+	 */
+	public OKLabColor() {
+		this(0, 0, 0);
+	}
+
+	/**
+	 * Create an OKLab color with the same values as the given
+	 * reference.
+	 * @param color OKLabColor reference containing the values to copy.
+	 */
+	public OKLabColor(OKLabColor color) {
+		this(color.getLightness(), color.getA(), color.getB());
+	}
+
+	/**
+	 * Set the lightness, a, and b values to their corresponding
+	 * parameters.
+	 * @param lightness double value containing the lightness, on
+	 *                  the range [0, 1], inclusive.
+	 * @param a double value containing the position on the
+	 *          green-red axis.
+	 * @param b double value containing the position on the
+	 *          blue-yellow axis.
+	 */
+	public OKLabColor(double lightness, double a, double b) {
+		super(1);
+		this.setColor(lightness, a, b);
+	}
+
+	/**
+	 * Create the OKLab color corresponding to a packed color.
+	 * @param rgb integer value containing a packed color of the
+	 *            form 0xRRGGBB.
+	 * @return OKLabColor object corresponding to the given color.
+	 */
+	public static OKLabColor fromRGB(int rgb) {
+		double[] lab = new double[3];
+		ColorConversions.rgbToOKLab(new int[]{rgb}, 0, 1, lab);
+		return new OKLabColor(lab[0], lab[1], lab[2]);
+	}
+
+	/**
+	 * Get the perceived difference between the current instance
+	 * and the given color.
+	 * @param color OKLabColor reference to compare against.
+	 * @return double value containing the euclidean distance in
+	 * OKLab space.
+	 */
+	public double getDistance(OKLabColor color) {
+		return this.getEuclideanDistance(color);
+	}
+
+	/**
+	 * Get the corresponding color in an RGB color space. Colors
+	 * outside of the sRGB gamut are clamped to its boundary.
+	 * @return RGBColor object that corresponds to the current
+	 * instance's OKLab values.
+	 */
+	public RGBColor getRGBColor() {
+		int[] rgb = new int[1];
+		ColorConversions.okLabToRGB(this.getComponents(), rgb, 0, 1);
+		return PackedColor.toRGBColor(rgb[0]);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("OKLab (%.4f, %.4f, %.4f)",
+				this.getLightness(),
+				this.getA(),
+				this.getB());
+	}
+}
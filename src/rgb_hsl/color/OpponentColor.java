@@ -0,0 +1,126 @@
+package rgb_hsl.color;
+
+/**
+ * Subclass of Color.
+ * Shared base of colors described by lightness and the a and b
+ * opponent axes, such as CIELAB and OKLab colors. Lightness is
+ * clamped to a range starting at 0 that depends on the color space,
+ * while a and b are not bounded.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+abstract class OpponentColor extends Color {
+	private final double maximumLightness;
+	private double lightness,
+	a,
+	b;
+
+	/**
+	 * Create a color whose lightness is clamped to the given maximum.
+	 * @param maximumLightness double value containing the highest
+	 *                         lightness of the color space.
+	 */
+	OpponentColor(double maximumLightness) {
+		this.maximumLightness = maximumLightness;
+	}
+
+	/**
+	 * Sets the lightness, a, and b values.
+	 * @param lightness double value containing the lightness.
+	 * @param a double value containing the position on the
+	 *          green-red axis.
+	 * @param b double value containing the position on the
+	 *          blue-yellow axis.
+	 */
+	@Override
+	public void setColor(double lightness, double a, double b) {
+		this.setLightness(lightness);
+		this.a = a;
+		this.b = b;
+	}
+
+	/**
+	 * Set the lightness of the current instance. If the given
+	 * lightness is outside of the range of the color space, it
+	 * is set to the closest boundary on this range.
+	 * @param lightness double value containing the new lightness.
+	 */
+	public void setLightness(double lightness) {
+		if(lightness < 0) {
+			this.lightness = 0;
+		}else if(lightness > this.maximumLightness) {
+			this.lightness = this.maximumLightness;
+		}else {
+			this.lightness = lightness;
+		}
+	}
+
+	/**
+	 * Get the lightness of the current instance.
+	 * @return double value on the range of the color space.
+	 */
+	public double getLightness() {
+		return this.lightness;
+	}
+
+	/**
+	 * Get the position of the current instance on the
+	 * green-red axis.
+	 * @return double value containing a.
+	 */
+	public double getA() {
+		return this.a;
+	}
+
+	/**
+	 * Get the position of the current instance on the
+	 * blue-yellow axis.
+	 * @return double value containing b.
+	 */
+	public double getB() {
+		return this.b;
+	}
+
+	/**
+	 * Get the euclidean distance between the current instance and
+	 * another color of the same space.
+	 * @param color OpponentColor reference to compare against.
+	 * @return double value containing the distance.
+	 */
+	double getEuclideanDistance(OpponentColor color) {
+		double lightnessDistance = this.lightness - color.getLightness(),
+				aDistance = this.a - color.getA(),
+				bDistance = this.b - color.getB();
+		return Math.sqrt((lightnessDistance * lightnessDistance)
+				+ (aDistance * aDistance)
+				+ (bDistance * bDistance));
+	}
+
+	/**
+	 * Get the lightness, a, and b of the current instance.
+	 * @return double array containing lightness, a, and b.
+	 */
+	double[] getComponents() {
+		return new double[]{this.lightness, this.a, this.b};
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(obj == null || obj.getClass() != this.getClass()) {
+			return false;
+		}
+		OpponentColor colorObj = (OpponentColor) obj;
+
+		return (this.getLightness() == colorObj.getLightness()
+				&& this.getA() == colorObj.getA()
+				&& this.getB() == colorObj.getB());
+	}
+
+	@Override
+	public int hashCode() {
+		//adding zero turns -0.0 into 0.0, which equals() treats alike
+		int hash = Double.hashCode(this.lightness + 0.0);
+		hash = (31 * hash) + Double.hashCode(this.a + 0.0);
+		return (31 * hash) + Double.hashCode(this.b + 0.0);
+	}
+}
@@ -0,0 +1,314 @@
+package rgb_hsl.color;
+
+/**
+ * Utility class used to describe colors in RGB space as
+ * packed integers of the form 0xRRGGBB, or 0xAARRGGBB for
+ * colors with an alpha channel. Packed colors allow
+ * large numbers of colors to be stored and converted without
+ * creating a Color object for each one. All conversions
+ * produce the same values as RGBColor and HSLColor.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class PackedColor {
+	/**
+	 * Square root of three, used for the chromaticity plane.
+	 */
+	private static final double SQRT_THREE = Math.sqrt(3);
+
+	private PackedColor() {
+	}
+
+	/**
+	 * Pack the given amount of red, green, and blue into
+	 * a single integer.
+	 * @param red integer value containing the amount of red,
+	 *               on the range [0, 255], inclusive.
+	 * @param green integer value containing the amount of green,
+	 *                 on the range [0, 255], inclusive.
+	 * @param blue integer value containing the amount of blue,
+	 *                on the range [0, 255], inclusive.
+	 * @return integer value containing the packed color.
+	 */
+	public static int pack(int red, int green, int blue) {
+		return ((red & 0xff) << 16) | ((green & 0xff) << 8) | (blue & 0xff);
+	}
+
+	/**
+	 * Pack the given alpha, red, green, and blue into
+	 * a single integer.
+	 * @param alpha integer value containing the alpha,
+	 *                 on the range [0, 255], inclusive.
+	 * @param red integer value containing the amount of red,
+	 *               on the range [0, 255], inclusive.
+	 * @param green integer value containing the amount of green,
+	 *                 on the range [0, 255], inclusive.
+	 * @param blue integer value containing the amount of blue,
+	 *                on the range [0, 255], inclusive.
+	 * @return integer value containing the packed color in
+	 * the form 0xAARRGGBB.
+	 */
+	public static int pack(int alpha, int red, int green, int blue) {
+		return ((alpha & 0xff) << 24) | pack(red, green, blue);
+	}
+
+	/**
+	 * Get the alpha of the given packed color.
+	 * @param argb integer value containing a packed color in
+	 *                the form 0xAARRGGBB.
+	 * @return integer value containing the alpha.
+	 */
+	public static int getAlpha(int argb) {
+		return argb >>> 24;
+	}
+
+	/**
+	 * Get the alpha of any Color reference. Colors without an
+	 * alpha channel are opaque.
+	 * @param color Color reference to get the alpha of.
+	 * @return integer value containing the alpha, on the
+	 * range [0, 255], inclusive.
+	 */
+	public static int getAlpha(Color color) {
+		if(color instanceof RGBAColor) {
+			return ((RGBAColor) color).getAlpha();
+		}else if(color instanceof HSLAColor) {
+			return ((HSLAColor) color).getAlpha();
+		}
+		return 255;
+	}
+
+	/**
+	 * Get the amount of red in the given packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return integer value containing the amount of red.
+	 */
+	public static int getRed(int rgb) {
+		return (rgb >> 16) & 0xff;
+	}
+
+	/**
+	 * Get the amount of green in the given packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return integer value containing the amount of green.
+	 */
+	public static int getGreen(int rgb) {
+		return (rgb >> 8) & 0xff;
+	}
+
+	/**
+	 * Get the amount of blue in the given packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return integer value containing the amount of blue.
+	 */
+	public static int getBlue(int rgb) {
+		return rgb & 0xff;
+	}
+
+	/**
+	 * Get the packed form of any Color reference. HSL colors
+	 * are converted without creating an intermediate RGBColor.
+	 * @param color Color reference to pack.
+	 * @return integer value containing the packed color.
+	 */
+	public static int getRGB(Color color) {
+		if(color instanceof HSLColor) {
+			HSLColor hslColor = (HSLColor) color;
+			return fromHSL(hslColor.getHue(), hslColor.getSaturation(), hslColor.getLightness());
+		}
+		RGBColor rgbColor = Color.getRGBColor(color);
+		return pack(rgbColor.getRed(), rgbColor.getGreen(), rgbColor.getBlue());
+	}
+
+	/**
+	 * Get the packed form of any Color reference, including
+	 * its alpha.
+	 * @param color Color reference to pack.
+	 * @return integer value containing the packed color in
+	 * the form 0xAARRGGBB.
+	 */
+	public static int getARGB(Color color) {
+		return (getAlpha(color) << 24) | getRGB(color);
+	}
+
+	/**
+	 * Create an RGBColor from the given packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return RGBColor object with the same position in RGB space.
+	 */
+	public static RGBColor toRGBColor(int rgb) {
+		return new RGBColor(getRed(rgb), getGreen(rgb), getBlue(rgb));
+	}
+
+	/**
+	 * Create an HSLColor from the given packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return HSLColor object equal to the result of
+	 * RGBColor.getHSLColor() for the same color.
+	 */
+	public static HSLColor toHSLColor(int rgb) {
+		return new HSLColor(getHue(rgb), getSaturation(rgb), getLightness(rgb));
+	}
+
+	/**
+	 * Create an RGBAColor from the given packed color.
+	 * @param argb integer value containing a packed color in
+	 *                the form 0xAARRGGBB.
+	 * @return RGBAColor object with the same position in RGB
+	 * space and the same alpha.
+	 */
+	public static RGBAColor toRGBAColor(int argb) {
+		return new RGBAColor(getRed(argb), getGreen(argb), getBlue(argb), getAlpha(argb));
+	}
+
+	/**
+	 * Create an HSLAColor from the given packed color.
+	 * @param argb integer value containing a packed color in
+	 *                the form 0xAARRGGBB.
+	 * @return HSLAColor object with the same HSL values as
+	 * toHSLColor(argb) and the same alpha.
+	 */
+	public static HSLAColor toHSLAColor(int argb) {
+		return new HSLAColor(getHue(argb), getSaturation(argb), getLightness(argb), getAlpha(argb));
+	}
+
+	/**
+	 * Get the hue of the given packed color, using the
+	 * same chromaticity plane as RGBColor.
+	 * @param rgb integer value containing a packed color.
+	 * @return integer value containing the degree of hue,
+	 * on the range [0, 360).
+	 */
+	public static int getHue(int rgb) {
+		int red = getRed(rgb),
+				green = getGreen(rgb),
+				blue = getBlue(rgb);
+		double x = (((green - blue) * .5) * SQRT_THREE),
+				y = (((2 * red) - (green + blue)) * .5),
+				hue = Math.toDegrees(Math.atan2(x, y)) + 360;
+
+		return (int) (hue % 360);
+	}
+
+	/**
+	 * Get the saturation of the given packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return double value containing the saturation,
+	 * on the range [0, 1], inclusive.
+	 */
+	public static double getSaturation(int rgb) {
+		double max = getMax(rgb),
+				min = getMin(rgb);
+		if(max == min) {
+			return 0;
+		}
+		return ((max + min) / 2 < 0.5)
+				? (max - min) / (max + min)
+				: (max - min) / (2 - (max + min));
+	}
+
+	/**
+	 * Get the lightness of the given packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return double value containing the lightness,
+	 * on the range [0, 1], inclusive.
+	 */
+	public static double getLightness(int rgb) {
+		return (getMax(rgb) + getMin(rgb)) / 2;
+	}
+
+	/**
+	 * Get the packed RGB color for the given HSL values. The
+	 * result is the same as HSLColor.getRGBColor() for an HSLColor
+	 * with the same hue, saturation, and lightness.
+	 * @param hue integer value containing the degree of hue.
+	 * @param saturation double value containing the saturation,
+	 *                      on the range [0, 1], inclusive.
+	 * @param lightness double value containing the lightness,
+	 *                     on the range [0, 1], inclusive.
+	 * @return integer value containing the packed color.
+	 */
+	public static int fromHSL(int hue, double saturation, double lightness) {
+		hue = (hue < 0) ? 360 + (hue % 360) : hue % 360;
+		saturation = clamp(saturation);
+		lightness = clamp(lightness);
+
+		/*if no saturation there is a shade of gray*/
+		if(saturation == 0) {
+			int gray = (int) (255 * lightness);
+			return pack(gray, gray, gray);
+		}
+
+		double tempOne = (lightness < .5)
+				? lightness * (1.0 + saturation)
+				: lightness + saturation - (lightness * saturation),
+				tempTwo = (2 * lightness) - tempOne,
+				interpolatedHue = (double) hue / 360;
+
+		return pack(getChannel(interpolatedHue + ((double) 1 / 3), tempOne, tempTwo),
+				getChannel(interpolatedHue, tempOne, tempTwo),
+				getChannel(interpolatedHue - ((double) 1 / 3), tempOne, tempTwo));
+	}
+
+	/**
+	 * Get a single RGB channel for an interpolated hue, following
+	 * the same transformation as HSLColor.
+	 * @param tempColor double value containing the interpolated hue
+	 *                     of the channel.
+	 * @param tempOne double value containing the first temporary value.
+	 * @param tempTwo double value containing the second temporary value.
+	 * @return integer value containing the channel on the range
+	 * [0, 255], inclusive.
+	 */
+	private static int getChannel(double tempColor, double tempOne, double tempTwo) {
+		double returnColor;
+
+		if(tempColor < 0) {
+			tempColor += 1;
+		}else if(tempColor > 1) {
+			tempColor -= 1;
+		}
+
+		if(tempColor * 6 < 1) {
+			returnColor = tempTwo + ((tempOne - tempTwo) * 6 * tempColor);
+		}else if(tempColor * 2 < 1) {
+			returnColor = tempOne;
+		}else if(tempColor * 3 < 2) {
+			returnColor = tempTwo + ((tempOne - tempTwo) * (4 - (6 * tempColor)));
+		}else {
+			returnColor = tempTwo;
+		}
+
+		return (int) Math.round(returnColor * 255);
+	}
+
+	/**
+	 * Get the maximum interpolated channel of a packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return double value on the range [0, 1], inclusive.
+	 */
+	private static double getMax(int rgb) {
+		return (double) Math.max(getRed(rgb), Math.max(getGreen(rgb), getBlue(rgb))) / 255;
+	}
+
+	/**
+	 * Get the minimum interpolated channel of a packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return double value on the range [0, 1], inclusive.
+	 */
+	private static double getMin(int rgb) {
+		return (double) Math.min(getRed(rgb), Math.min(getGreen(rgb), getBlue(rgb))) / 255;
+	}
+
+	/**
+	 * Clamp the given value to the range [0, 1], inclusive.
+	 * @param value double value to clamp.
+	 * @return double value on the range [0, 1], inclusive.
+	 */
+	private static double clamp(double value) {
+		if(value < 0) {
+			return 0;
+		}
+		return (value > 1) ? 1 : value;
+	}
+}
@@ -0,0 +1,132 @@
+package rgb_hsl.color;
+
+/**
+ * Utility class used to convert and composite packed colors of the
+ * form 0xAARRGGBB with premultiplied alpha, where each channel has
+ * already been multiplied by the alpha of the color. Premultiplied
+ * colors composite with a multiply and an add per channel, and none
+ * of the bulk operations divide per pixel: division by 255 is done
+ * with shifts, and division by alpha with a table of reciprocals.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class PremultipliedColor {
+	/**
+	 * Reciprocal of every alpha, scaled by 255 and 2^32 and rounded up,
+	 * so a channel is divided by an alpha with a multiply and a shift.
+	 * Rounding up keeps halfway results rounding up, and the scale is
+	 * large enough that no other result is rounded differently than
+	 * by an exact division. The reciprocal of an alpha of zero is zero.
+	 */
+	private static final long[] RECIPROCALS = new long[256];
+
+	static {
+		for(int alpha = 1; alpha < 256; alpha++) {
+			RECIPROCALS[alpha] = ((255L << 32) + alpha - 1) / alpha;
+		}
+	}
+
+	private PremultipliedColor() {
+	}
+
+	/**
+	 * Premultiply a packed color by its alpha.
+	 * @param argb integer value containing a packed color in
+	 *                the form 0xAARRGGBB.
+	 * @return integer value containing the premultiplied color.
+	 */
+	public static int premultiply(int argb) {
+		int alpha = argb >>> 24;
+		return (argb & 0xff000000)
+				| (BlendMode.divide(((argb >> 16) & 0xff) * alpha) << 16)
+				| (BlendMode.divide(((argb >> 8) & 0xff) * alpha) << 8)
+				| BlendMode.divide((argb & 0xff) * alpha);
+	}
+
+	/**
+	 * Premultiply a range of packed colors by their alpha, in place.
+	 * @param colors int array containing packed colors in the form
+	 *                  0xAARRGGBB.
+	 * @param from integer value containing the first index to premultiply.
+	 * @param to integer value containing the index after the last
+	 *           index to premultiply.
+	 */
+	public static void premultiply(int[] colors, int from, int to) {
+		for(int index = from; index < to; index++) {
+			colors[index] = premultiply(colors[index]);
+		}
+	}
+
+	/**
+	 * Divide a premultiplied color by its alpha. Fully transparent
+	 * colors become transparent black.
+	 * @param argb integer value containing a premultiplied color in
+	 *                the form 0xAARRGGBB.
+	 * @return integer value containing the straight color.
+	 */
+	public static int unpremultiply(int argb) {
+		long reciprocal = RECIPROCALS[argb >>> 24];
+		return (argb & 0xff000000)
+				| (divide((argb >> 16) & 0xff, reciprocal) << 16)
+				| (divide((argb >> 8) & 0xff, reciprocal) << 8)
+				| divide(argb & 0xff, reciprocal);
+	}
+
+	/**
+	 * Divide a range of premultiplied colors by their alpha, in place.
+	 * @param colors int array containing premultiplied colors in the
+	 *                  form 0xAARRGGBB.
+	 * @param from integer value containing the first index to convert.
+	 * @param to integer value containing the index after the last
+	 *           index to convert.
+	 */
+	public static void unpremultiply(int[] colors, int from, int to) {
+		for(int index = from; index < to; index++) {
+			colors[index] = unpremultiply(colors[index]);
+		}
+	}
+
+	/**
+	 * Composite a premultiplied source color over a premultiplied
+	 * backdrop color, following the source-over operator.
+	 * @param backdrop integer value containing the premultiplied backdrop.
+	 * @param source integer value containing the premultiplied source.
+	 * @return integer value containing the premultiplied result.
+	 */
+	public static int composite(int backdrop, int source) {
+		int remaining = 255 - (source >>> 24);
+		return (((source >>> 24) + BlendMode.divide((backdrop >>> 24) * remaining)) << 24)
+				| ((((source >> 16) & 0xff) + BlendMode.divide(((backdrop >> 16) & 0xff) * remaining)) << 16)
+				| ((((source >> 8) & 0xff) + BlendMode.divide(((backdrop >> 8) & 0xff) * remaining)) << 8)
+				| ((source & 0xff) + BlendMode.divide((backdrop & 0xff) * remaining));
+	}
+
+	/**
+	 * Composite a range of premultiplied source colors over the
+	 * premultiplied backdrop colors at the same indices. The output
+	 * may be either input array.
+	 * @param backdrops int array containing premultiplied backdrops.
+	 * @param sources int array containing premultiplied sources.
+	 * @param out int array receiving the premultiplied results.
+	 * @param from integer value containing the first index to composite.
+	 * @param to integer value containing the index after the last
+	 *           index to composite.
+	 */
+	public static void composite(int[] backdrops, int[] sources, int[] out, int from, int to) {
+		for(int index = from; index < to; index++) {
+			out[index] = composite(backdrops[index], sources[index]);
+		}
+	}
+
+	/**
+	 * Divide a premultiplied channel by an alpha, given the reciprocal
+	 * of the alpha, rounding to nearest.
+	 * @param channel integer value containing the premultiplied channel.
+	 * @param reciprocal long value containing the scaled reciprocal
+	 *                      of the alpha.
+	 * @return integer value on the range [0, 255], inclusive.
+	 */
+	private static int divide(int channel, long reciprocal) {
+		return (int) Math.min(((channel * reciprocal) + (1L << 31)) >>> 32, 255);
+	}
+}
@@ -0,0 +1,124 @@
+package rgb_hsl.color;
+
+/**
+ * Subclass of RGBColor.
+ * Adds an alpha channel to a color in RGB space, on the
+ * range [0, 255], inclusive, where 0 is fully transparent
+ * and 255 is fully opaque. Alpha is kept when converting to
+ * HSL space, and is packed into the high byte of colors of
+ * the form 0xAARRGGBB.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class RGBAColor extends RGBColor {
+	private int alpha;
+
+	/**
+	 * Default constructor. When invoked, the current
+	 * instance is set to an opaque black.
+	 */
+	public RGBAColor() {
+		this(0, 0, 0, 255);
+	}
+
+	/**
+	 * Create an RGBA color with the same position in RGB space
+	 * as the given reference, and the alpha of the given reference
+	 * if it has one.
+	 * @param color RGBColor reference containing the values to copy.
+	 */
+	public RGBAColor(RGBColor color) {
+		this(color, PackedColor.getAlpha(color));
+	}
+
+	/**
+	 * Create an RGBA color with the same position in RGB space
+	 * as the given reference and the given alpha.
+	 * @param color RGBColor reference containing the RGB values to copy.
+	 * @param alpha integer value containing the alpha, on the
+	 *                 range [0, 255], inclusive.
+	 */
+	public RGBAColor(RGBColor color, int alpha) {
+		this(color.getRed(), color.getGreen(), color.getBlue(), alpha);
+	}
+
+	/**
+	 * Create an opaque RGBA color.
+	 * @param red integer value containing the amount
+	 *               of red
+	 * @param green integer value containing the amount
+	 *                 of green
+	 * @param blue integer value containing the amount
+	 *                of blue
+	 */
+	public RGBAColor(int red, int green, int blue) {
+		this(red, green, blue, 255);
+	}
+
+	/**
+	 * Set the red, green, blue, and alpha values of the current
+	 * color to their corresponding values.
+	 * @param red integer value containing the amount
+	 *               of red
+	 * @param green integer value containing the amount
+	 *                 of green
+	 * @param blue integer value containing the amount
+	 *                of blue
+	 * @param alpha integer value containing the alpha, on the
+	 *                 range [0, 255], inclusive.
+	 */
+	public RGBAColor(int red, int green, int blue, int alpha) {
+		super(red, green, blue);
+		this.setAlpha(alpha);
+	}
+
+	/**
+	 * Get the alpha of the current color. The alpha is
+	 * guaranteed to be on the range [0, 255], inclusive.
+	 * @return integer value containing the alpha.
+	 */
+	public int getAlpha() {
+		return this.alpha;
+	}
+
+	/**
+	 * Set the alpha of the current color. If the given alpha
+	 * is outside of the range [0, 255], it is set to the
+	 * closest boundary on this range.
+	 * @param alpha integer value containing the new alpha.
+	 */
+	public void setAlpha(int alpha) {
+		this.alpha = (alpha < 0) ? 0 : Math.min(alpha, 255);
+	}
+
+	/**
+	 * Get the current color packed as a single integer.
+	 * @return integer value containing the color in the
+	 * form 0xAARRGGBB.
+	 */
+	public int getARGB() {
+		return PackedColor.pack(this.alpha, this.getRed(), this.getGreen(), this.getBlue());
+	}
+
+	/**
+	 * Get the corresponding color in an HSL color space,
+	 * with the same alpha. Opaque colors give a plain HSLColor.
+	 * @return HSLColor object that corresponds to the
+	 * current instance's RGBA values, which is an HSLAColor
+	 * if the current instance is not opaque.
+	 */
+	@Override
+	public HSLColor getHSLColor() {
+		HSLColor color = super.getHSLColor();
+		return (this.alpha == 255) ? color : new HSLAColor(color, this.alpha);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("RGBA(%d, %d, %d, %d)\n",
+				this.getRed(),
+				this.getGreen(),
+				this.getBlue(),
+				this.alpha);
+	}
+}
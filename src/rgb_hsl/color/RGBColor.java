@@ -300,7 +300,8 @@ public class RGBColor extends Color {
 
 		return (this.getRed() == colorObj.getRed()
 				&& this.getBlue() == colorObj.getBlue()
-				&& this.getGreen() == colorObj.getGreen());
+				&& this.getGreen() == colorObj.getGreen()
+				&& PackedColor.getAlpha(this) == PackedColor.getAlpha(colorObj));
 	}
 
 
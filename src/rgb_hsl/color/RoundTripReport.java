@@ -0,0 +1,156 @@
+package rgb_hsl.color;
+
+/**
+ * Errors found by RoundTripVerifier, as a histogram of the absolute
+ * error of each channel after a round trip, along with the number of
+ * colors that did not survive the round trip and the color with the
+ * largest error.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class RoundTripReport {
+	/**
+	 * Channels of the histogram.
+	 */
+	public static final int RED = 0,
+			GREEN = 1,
+			BLUE = 2;
+
+	private final long[][] histogram;
+	private long count,
+			mismatches;
+	private int worstColor,
+			worstError;
+
+	/**
+	 * Create an empty report.
+	 */
+	RoundTripReport() {
+		this.histogram = new long[3][256];
+		this.worstColor = -1;
+	}
+
+	/**
+	 * Record the round trip of a color.
+	 * @param rgb integer value containing the packed color.
+	 * @param result integer value containing the packed color after
+	 *               the round trip.
+	 */
+	void add(int rgb, int result) {
+		int red = Math.abs(PackedColor.getRed(rgb) - PackedColor.getRed(result)),
+				green = Math.abs(PackedColor.getGreen(rgb) - PackedColor.getGreen(result)),
+				blue = Math.abs(PackedColor.getBlue(rgb) - PackedColor.getBlue(result)),
+				error = red + green + blue;
+		this.histogram[RED][red]++;
+		this.histogram[GREEN][green]++;
+		this.histogram[BLUE][blue]++;
+		this.count++;
+		if(error > 0) {
+			this.mismatches++;
+			this.setWorst(rgb, error);
+		}
+	}
+
+	/**
+	 * Add the round trips of another report, keeping the worst color
+	 * of either.
+	 * @param report RoundTripReport reference to add.
+	 */
+	void addAll(RoundTripReport report) {
+		for(int channel = 0; channel < this.histogram.length; channel++) {
+			for(int error = 0; error < 256; error++) {
+				this.histogram[channel][error] += report.histogram[channel][error];
+			}
+		}
+		this.count += report.count;
+		this.mismatches += report.mismatches;
+		if(report.worstColor >= 0) {
+			this.setWorst(report.worstColor, report.worstError);
+		}
+	}
+
+	/**
+	 * Get the number of colors that were verified.
+	 * @return long value containing the number of colors.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Get the number of colors that changed after a round trip.
+	 * @return long value containing the number of colors with an
+	 * error in any channel.
+	 */
+	public long getMismatches() {
+		return this.mismatches;
+	}
+
+	/**
+	 * Get the number of colors whose channel was off by an error.
+	 * @param channel integer value containing RED, GREEN, or BLUE.
+	 * @param error integer value on the range [0, 255], inclusive.
+	 * @return long value containing the number of colors.
+	 */
+	public long getCount(int channel, int error) {
+		return this.histogram[channel][error];
+	}
+
+	/**
+	 * Get the largest error of a channel.
+	 * @param channel integer value containing RED, GREEN, or BLUE.
+	 * @return integer value containing the largest error, or 0 if
+	 * the channel always survived the round trip.
+	 */
+	public int getMaxError(int channel) {
+		for(int error = 255; error > 0; error--) {
+			if(this.histogram[channel][error] > 0) {
+				return error;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Get the color with the largest total error over all three
+	 * channels. Ties are broken by the smallest packed color, so the
+	 * worst color does not depend on the order colors were verified in.
+	 * @return integer value containing the packed color, or -1 if
+	 * every color survived the round trip.
+	 */
+	public int getWorstColor() {
+		return this.worstColor;
+	}
+
+	/**
+	 * Get the total error over all three channels of the worst color.
+	 * @return integer value containing the error.
+	 */
+	public int getWorstError() {
+		return this.worstError;
+	}
+
+	private void setWorst(int rgb, int error) {
+		if(error > this.worstError || (error == this.worstError && rgb < this.worstColor)) {
+			this.worstColor = rgb;
+			this.worstError = error;
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder(String.format("%d of %d colors changed",
+				this.mismatches, this.count));
+		String[] names = {"red", "green", "blue"};
+		for(int channel = 0; channel < this.histogram.length; channel++) {
+			builder.append(String.format("\n%s:", names[channel]));
+			for(int error = 0; error <= this.getMaxError(channel); error++) {
+				builder.append(String.format(" %d=%d", error, this.histogram[channel][error]));
+			}
+		}
+		if(this.worstColor >= 0) {
+			builder.append(String.format("\nworst: #%06x, off by %d", this.worstColor, this.worstError));
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,133 @@
+package rgb_hsl.color;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Verifier used to check round trips of packed colors through another
+ * color space over the whole of RGB space. The range of colors is
+ * split in half until each task holds a small block, each task counts
+ * the errors of its block in its own report, and the reports are
+ * added together, so all 16,777,216 colors are checked in parallel
+ * without sharing any state between threads.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class RoundTripVerifier {
+	/**
+	 * Number of colors in RGB space.
+	 */
+	public static final int COLOR_COUNT = 1 << 24;
+
+	/**
+	 * Round trip through HSL space, as RGBColor.getHSLColor().getRGBColor().
+	 */
+	public static final IntUnaryOperator HSL_ROUND_TRIP =
+			rgb -> PackedColor.getRGB(PackedColor.toRGBColor(rgb).getHSLColor().getRGBColor());
+
+	/**
+	 * Number of colors verified by each task.
+	 */
+	private static final int BLOCK_SIZE = 1 << 16;
+
+	private final IntUnaryOperator roundTrip;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Create a verifier of round trips through HSL space, running
+	 * on the common fork-join pool.
+	 */
+	public RoundTripVerifier() {
+		this(HSL_ROUND_TRIP);
+	}
+
+	/**
+	 * Create a verifier of the given round trip, running on the
+	 * common fork-join pool.
+	 * @param roundTrip IntUnaryOperator reference converting a packed
+	 *                  color to another color space and back.
+	 */
+	public RoundTripVerifier(IntUnaryOperator roundTrip) {
+		this(roundTrip, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a verifier of the given round trip, running on the given pool.
+	 * @param roundTrip IntUnaryOperator reference converting a packed
+	 *                  color to another color space and back. It must be
+	 *                  safe to call from several threads at once.
+	 * @param pool ForkJoinPool reference used to verify blocks of colors.
+	 */
+	public RoundTripVerifier(IntUnaryOperator roundTrip, ForkJoinPool pool) {
+		this.roundTrip = roundTrip;
+		this.pool = pool;
+	}
+
+	/**
+	 * Verify the round trip of every color in RGB space.
+	 * @return RoundTripReport containing the errors of every color.
+	 */
+	public RoundTripReport verify() {
+		return this.verify(0, COLOR_COUNT);
+	}
+
+	/**
+	 * Verify the round trip of a range of packed colors.
+	 * @param from integer value containing the first packed color.
+	 * @param to integer value containing the packed color after the
+	 *           last color to verify.
+	 * @return RoundTripReport containing the errors of every color
+	 * in the range.
+	 */
+	public RoundTripReport verify(int from, int to) {
+		if(from < 0 || to > COLOR_COUNT || from > to) {
+			throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ")");
+		}
+		return this.pool.invoke(new VerifyTask(from, to));
+	}
+
+	/**
+	 * Verify a block of colors on the calling thread.
+	 * @param from integer value containing the first packed color.
+	 * @param to integer value containing the packed color after the
+	 *           last color to verify.
+	 * @return RoundTripReport containing the errors of the block.
+	 */
+	private RoundTripReport verifyBlock(int from, int to) {
+		RoundTripReport report = new RoundTripReport();
+		for(int rgb = from; rgb < to; rgb++) {
+			report.add(rgb, this.roundTrip.applyAsInt(rgb));
+		}
+		return report;
+	}
+
+	/**
+	 * Task used to verify a range of colors. Ranges larger than a
+	 * block are split in half, and the reports of both halves added.
+	 */
+	private final class VerifyTask extends RecursiveTask<RoundTripReport> {
+		private static final long serialVersionUID = 1L;
+
+		private final int from,
+				to;
+
+		private VerifyTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected RoundTripReport compute() {
+			if(this.to - this.from <= BLOCK_SIZE) {
+				return RoundTripVerifier.this.verifyBlock(this.from, this.to);
+			}
+			int middle = (this.from + this.to) >>> 1;
+			VerifyTask second = new VerifyTask(middle, this.to);
+			second.fork();
+			RoundTripReport report = new VerifyTask(this.from, middle).compute();
+			report.addAll(second.join());
+			return report;
+		}
+	}
+}
@@ -0,0 +1,261 @@
+package rgb_hsl.image;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pipeline used to process a stream of raw RGB24 frames, such as
+ * the output of a video decoder, with a chain of PixelOperations.
+ * Frames are read into a fixed pool of direct buffers on the calling
+ * thread, processed by several worker threads at once, and written
+ * by a single writer thread in the order they were read. A frame
+ * buffer returns to the pool only once it has been written, so a
+ * slow writer or slow workers hold back the reader, and memory use
+ * never exceeds the size of the pool.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class FramePipeline {
+	private static final int RGB_CHANNELS = 3,
+			DEFAULT_QUEUE_CAPACITY = 4;
+
+	/**
+	 * Time the reader waits for a free frame before checking
+	 * whether the pipeline has failed.
+	 */
+	private static final long POLL_MILLISECONDS = 100;
+
+	private final int width,
+			height,
+			workers,
+			queueCapacity;
+	private final PixelOperation operation;
+
+	/**
+	 * Create a pipeline with one worker per processor.
+	 * @param width integer value containing the width of every frame.
+	 * @param height integer value containing the height of every frame.
+	 * @param operations PixelOperation references applied to every
+	 *                   frame, in order.
+	 */
+	public FramePipeline(int width, int height, PixelOperation... operations) {
+		this(width, height, Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY, operations);
+	}
+
+	/**
+	 * Create a pipeline.
+	 * @param width integer value containing the width of every frame.
+	 * @param height integer value containing the height of every frame.
+	 * @param workers integer value containing the number of worker threads.
+	 * @param queueCapacity integer value containing the number of frames
+	 *                      that can wait to be processed or written,
+	 *                      beyond those held by the workers.
+	 * @param operations PixelOperation references applied to every
+	 *                   frame, in order.
+	 */
+	public FramePipeline(int width, int height, int workers, int queueCapacity, PixelOperation... operations) {
+		if(width < 1 || height < 1 || (long) width * height * RGB_CHANNELS > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Invalid frame size " + width + "x" + height);
+		}
+		if(workers < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("At least one worker and one queued frame are required");
+		}
+		this.width = width;
+		this.height = height;
+		this.workers = workers;
+		this.queueCapacity = queueCapacity;
+		this.operation = PixelOperations.chain(operations);
+	}
+
+	/**
+	 * Get the number of bytes in every frame.
+	 * @return integer value containing the size of a frame.
+	 */
+	public int getFrameBytes() {
+		return this.width * this.height * RGB_CHANNELS;
+	}
+
+	/**
+	 * Process every frame of the input, writing each one to the
+	 * output in order. Returns once the input has ended and every
+	 * frame has been written. Neither channel is closed.
+	 * @param in ReadableByteChannel reference containing raw frames.
+	 * @param out WritableByteChannel reference receiving raw frames.
+	 * @return long value containing the number of frames processed.
+	 * @throws IOException if either channel fails, or the input ends
+	 * in the middle of a frame.
+	 */
+	public long run(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+		int frameCount = this.queueCapacity + this.workers + 1;
+		BlockingQueue<Frame> free = new ArrayBlockingQueue<>(frameCount),
+				work = new ArrayBlockingQueue<>(frameCount + this.workers),
+				written = new ArrayBlockingQueue<>(frameCount + 1);
+		for(int frame = 0; frame < frameCount; frame++) {
+			free.add(new Frame(this.getFrameBytes()));
+		}
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		Thread[] threads = new Thread[this.workers + 1];
+		for(int worker = 0; worker < this.workers; worker++) {
+			threads[worker] = new Thread(() -> this.work(work, failure), "frame-worker-" + worker);
+		}
+		threads[this.workers] = new Thread(() -> write(out, written, free, failure), "frame-writer");
+		for(Thread thread : threads) {
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		long frames = 0;
+		try {
+			while(failure.get() == null) {
+				Frame frame = free.poll(POLL_MILLISECONDS, TimeUnit.MILLISECONDS);
+				if(frame == null) {
+					continue;
+				}
+				if(!read(in, frame.buffer)) {
+					break;
+				}
+				written.put(frame);
+				work.put(frame);
+				frames++;
+			}
+		}catch(InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			failure.compareAndSet(null, new InterruptedIOException("Interrupted while reading frames"));
+		}catch(IOException | RuntimeException exception) {
+			failure.compareAndSet(null, exception);
+		}finally {
+			written.add(Frame.END);
+			for(int worker = 0; worker < this.workers; worker++) {
+				work.add(Frame.END);
+			}
+		}
+
+		for(Thread thread : threads) {
+			try {
+				thread.join();
+			}catch(InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				failure.compareAndSet(null, new InterruptedIOException("Interrupted while finishing frames"));
+				break;
+			}
+		}
+
+		Throwable thrown = failure.get();
+		if(thrown instanceof IOException) {
+			throw (IOException) thrown;
+		}else if(thrown instanceof RuntimeException) {
+			throw (RuntimeException) thrown;
+		}else if(thrown instanceof Error) {
+			throw (Error) thrown;
+		}
+		return frames;
+	}
+
+	/**
+	 * Process frames until the end of the stream. Frames are always
+	 * marked as done, even after a failure, so the writer never waits
+	 * on a frame that will not be processed.
+	 * @param work BlockingQueue of frames to process.
+	 * @param failure AtomicReference holding the first failure.
+	 */
+	private void work(BlockingQueue<Frame> work, AtomicReference<Throwable> failure) {
+		int[] pixels = new int[this.width * this.height];
+		byte[] bytes = new byte[this.getFrameBytes()];
+		try {
+			for(Frame frame = work.take(); frame != Frame.END; frame = work.take()) {
+				try {
+					if(failure.get() == null) {
+						frame.buffer.clear();
+						RawImageFile.readPixels(frame.buffer, bytes, pixels, pixels.length, RGB_CHANNELS);
+						this.operation.apply(pixels, 0, pixels.length);
+						frame.buffer.clear();
+						RawImageFile.writePixels(frame.buffer, bytes, pixels, pixels.length, RGB_CHANNELS);
+						frame.buffer.flip();
+					}
+				}catch(RuntimeException | Error exception) {
+					failure.compareAndSet(null, exception);
+				}finally {
+					frame.done.release();
+				}
+			}
+		}catch(InterruptedException exception) {
+			failure.compareAndSet(null, new InterruptedIOException("Worker interrupted"));
+		}
+	}
+
+	/**
+	 * Write frames in the order they were read, returning each one
+	 * to the pool once written.
+	 * @param out WritableByteChannel reference receiving raw frames.
+	 * @param written BlockingQueue of frames in the order they were read.
+	 * @param free BlockingQueue of frames that can be read into.
+	 * @param failure AtomicReference holding the first failure.
+	 */
+	private static void write(WritableByteChannel out, BlockingQueue<Frame> written, BlockingQueue<Frame> free,
+			AtomicReference<Throwable> failure) {
+		try {
+			for(Frame frame = written.take(); frame != Frame.END; frame = written.take()) {
+				frame.done.acquire();
+				if(failure.get() != null) {
+					return;
+				}
+				while(frame.buffer.hasRemaining()) {
+					out.write(frame.buffer);
+				}
+				free.put(frame);
+			}
+		}catch(InterruptedException exception) {
+			failure.compareAndSet(null, new InterruptedIOException("Writer interrupted"));
+		}catch(IOException | RuntimeException exception) {
+			failure.compareAndSet(null, exception);
+		}
+	}
+
+	/**
+	 * Read a whole frame into a buffer.
+	 * @param in ReadableByteChannel reference containing raw frames.
+	 * @param buffer ByteBuffer receiving the frame.
+	 * @return boolean value determining whether a frame was read, or
+	 * false if the input ended before the frame.
+	 * @throws IOException if the input fails or ends in the middle
+	 * of the frame.
+	 */
+	private static boolean read(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+		buffer.clear();
+		while(buffer.hasRemaining()) {
+			if(in.read(buffer) < 0) {
+				if(buffer.position() == 0) {
+					return false;
+				}
+				throw new IOException("Input ended in the middle of a frame");
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Pooled frame buffer, signalled by its worker once processed.
+	 */
+	private static final class Frame {
+		/**
+		 * Marker placed after the last frame of each queue.
+		 */
+		private static final Frame END = new Frame(0);
+
+		private final ByteBuffer buffer;
+		private final Semaphore done = new Semaphore(0);
+
+		private Frame(int bytes) {
+			this.buffer = ByteBuffer.allocateDirect(bytes);
+		}
+	}
+}
@@ -0,0 +1,350 @@
+package rgb_hsl.image;
+
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Histogram of colors in HSL space. Colors are counted into
+ * buckets of one degree of hue, matching the hue of HSLColor,
+ * and an equal division of saturation and lightness, without
+ * creating an HSLColor for each one.
+ * Pixel buffers are counted by fork-join tasks that each fill a
+ * partial histogram of their own; partials are added together as
+ * tasks join and then added once into the shared counts. Counts
+ * can be added to at any time, from any thread, so a histogram can
+ * be updated frame by frame while it is read.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class HSLHistogram {
+	/**
+	 * Number of hue buckets, one for each degree.
+	 */
+	public static final int HUES = 360;
+
+	/**
+	 * Smallest number of pixels counted by a single task.
+	 */
+	private static final int MIN_PIXELS_PER_TASK = 1 << 16;
+
+	private final int saturationBuckets,
+			lightnessBuckets;
+	private final AtomicLongArray counts;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Create a histogram with the given number of saturation and
+	 * lightness buckets, counting on the common fork-join pool.
+	 * @param saturationBuckets integer value containing the number
+	 *                          of equal divisions of saturation.
+	 * @param lightnessBuckets integer value containing the number
+	 *                         of equal divisions of lightness.
+	 */
+	public HSLHistogram(int saturationBuckets, int lightnessBuckets) {
+		this(saturationBuckets, lightnessBuckets, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a histogram with the given number of saturation and
+	 * lightness buckets.
+	 * @param saturationBuckets integer value containing the number
+	 *                          of equal divisions of saturation.
+	 * @param lightnessBuckets integer value containing the number
+	 *                         of equal divisions of lightness.
+	 * @param pool ForkJoinPool reference used to count pixel buffers.
+	 */
+	public HSLHistogram(int saturationBuckets, int lightnessBuckets, ForkJoinPool pool) {
+		if(saturationBuckets < 1 || lightnessBuckets < 1) {
+			throw new IllegalArgumentException("At least one bucket is required");
+		}
+		this.saturationBuckets = saturationBuckets;
+		this.lightnessBuckets = lightnessBuckets;
+		this.counts = new AtomicLongArray(HUES * saturationBuckets * lightnessBuckets);
+		this.pool = pool;
+	}
+
+	/**
+	 * Get the number of saturation buckets.
+	 * @return integer value containing the number of saturation buckets.
+	 */
+	public int getSaturationBuckets() {
+		return this.saturationBuckets;
+	}
+
+	/**
+	 * Get the number of lightness buckets.
+	 * @return integer value containing the number of lightness buckets.
+	 */
+	public int getLightnessBuckets() {
+		return this.lightnessBuckets;
+	}
+
+	/**
+	 * Count every pixel of an image.
+	 * @param image BufferedImage reference to count.
+	 */
+	public void add(BufferedImage image) {
+		this.add(ImagePixels.getPixels(image));
+	}
+
+	/**
+	 * Count every pixel of a buffer.
+	 * @param pixels int array containing packed pixels. Any alpha
+	 *               in the highest byte is ignored.
+	 */
+	public void add(int[] pixels) {
+		this.add(pixels, 0, pixels.length);
+	}
+
+	/**
+	 * Count a range of pixels of a buffer.
+	 * @param pixels int array containing packed pixels.
+	 * @param from integer value containing the first pixel to count.
+	 * @param to integer value containing the index after the last
+	 *           pixel to count.
+	 */
+	public void add(int[] pixels, int from, int to) {
+		int threshold = Math.max(MIN_PIXELS_PER_TASK, (to - from) / (this.pool.getParallelism() * 4));
+		this.merge(this.pool.invoke(new CountTask(pixels, from, to, threshold)));
+	}
+
+	/**
+	 * Count every color of a stream of packed colors. Parallel
+	 * streams allocate a full partial histogram for every split
+	 * of the stream rather than one per thread, so large buffers
+	 * are better counted through add(int[], int, int).
+	 * @param colors IntStream of packed colors.
+	 */
+	public void add(IntStream colors) {
+		this.merge(colors.collect(() -> new int[this.counts.length()],
+				(partial, rgb) -> partial[this.getBucket(rgb)]++,
+				HSLHistogram::addTo));
+	}
+
+	/**
+	 * Count a single packed color.
+	 * @param rgb integer value containing a packed color.
+	 */
+	public void add(int rgb) {
+		this.counts.incrementAndGet(this.getBucket(rgb));
+	}
+
+	/**
+	 * Add every count of another histogram with the same buckets
+	 * to the current instance.
+	 * @param histogram HSLHistogram reference to add.
+	 */
+	public void add(HSLHistogram histogram) {
+		if(histogram.saturationBuckets != this.saturationBuckets
+				|| histogram.lightnessBuckets != this.lightnessBuckets) {
+			throw new IllegalArgumentException("Histograms have different buckets");
+		}
+		for(int bucket = 0; bucket < this.counts.length(); bucket++) {
+			long count = histogram.counts.get(bucket);
+			if(count != 0) {
+				this.counts.addAndGet(bucket, count);
+			}
+		}
+	}
+
+	/**
+	 * Reset every count to zero.
+	 */
+	public void clear() {
+		for(int bucket = 0; bucket < this.counts.length(); bucket++) {
+			this.counts.set(bucket, 0);
+		}
+	}
+
+	/**
+	 * Get the number of colors counted in a bucket.
+	 * @param hue integer value containing the degree of hue.
+	 * @param saturationBucket integer value containing the saturation bucket.
+	 * @param lightnessBucket integer value containing the lightness bucket.
+	 * @return long value containing the number of colors counted.
+	 */
+	public long getCount(int hue, int saturationBucket, int lightnessBucket) {
+		return this.counts.get(this.getIndex(hue, saturationBucket, lightnessBucket));
+	}
+
+	/**
+	 * Get the number of colors counted in the bucket of a color.
+	 * @param rgb integer value containing a packed color.
+	 * @return long value containing the number of colors counted.
+	 */
+	public long getCount(int rgb) {
+		return this.counts.get(this.getBucket(rgb));
+	}
+
+	/**
+	 * Get the total number of colors counted.
+	 * @return long value containing the number of colors counted.
+	 */
+	public long getTotal() {
+		long total = 0;
+		for(int bucket = 0; bucket < this.counts.length(); bucket++) {
+			total += this.counts.get(bucket);
+		}
+		return total;
+	}
+
+	/**
+	 * Get the number of colors counted for each degree of hue,
+	 * over every saturation and lightness.
+	 * @return long array containing 360 counts.
+	 */
+	public long[] getHueCounts() {
+		long[] hues = new long[HUES];
+		int perHue = this.saturationBuckets * this.lightnessBuckets;
+		for(int bucket = 0; bucket < this.counts.length(); bucket++) {
+			hues[bucket / perHue] += this.counts.get(bucket);
+		}
+		return hues;
+	}
+
+	/**
+	 * Get the hues with the most colors. Gray colors carry no hue,
+	 * so only colors outside of the lowest saturation bucket are
+	 * considered when there is more than one saturation bucket.
+	 * Hues with no colors are never returned.
+	 * @param count integer value containing the most hues to return.
+	 * @return int array containing hues in order of decreasing count,
+	 * with ties broken by the lower hue.
+	 */
+	public int[] getDominantHues(int count) {
+		long[] hues = new long[HUES];
+		int firstSaturation = (this.saturationBuckets > 1) ? 1 : 0;
+		for(int hue = 0; hue < HUES; hue++) {
+			for(int saturation = firstSaturation; saturation < this.saturationBuckets; saturation++) {
+				for(int lightness = 0; lightness < this.lightnessBuckets; lightness++) {
+					hues[hue] += this.counts.get(this.getIndex(hue, saturation, lightness));
+				}
+			}
+		}
+		Integer[] order = new Integer[HUES];
+		for(int hue = 0; hue < HUES; hue++) {
+			order[hue] = hue;
+		}
+		Arrays.sort(order, (one, two) -> Long.compare(hues[two], hues[one]));
+
+		int found = 0;
+		while(found < Math.min(count, HUES) && hues[order[found]] > 0) {
+			found++;
+		}
+		int[] dominant = new int[found];
+		for(int index = 0; index < found; index++) {
+			dominant[index] = order[index];
+		}
+		return dominant;
+	}
+
+	/**
+	 * Get the color at the center of a bucket, which can be used
+	 * to seed a palette.
+	 * @param hue integer value containing the degree of hue.
+	 * @param saturationBucket integer value containing the saturation bucket.
+	 * @param lightnessBucket integer value containing the lightness bucket.
+	 * @return HSLColor object at the center of the bucket.
+	 */
+	public HSLColor getBucketColor(int hue, int saturationBucket, int lightnessBucket) {
+		return new HSLColor(hue, (saturationBucket + 0.5) / this.saturationBuckets,
+				(lightnessBucket + 0.5) / this.lightnessBuckets);
+	}
+
+	/**
+	 * Get the bucket index of a packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return integer value containing the index of its bucket.
+	 */
+	private int getBucket(int rgb) {
+		int saturation = (int) (PackedColor.getSaturation(rgb) * this.saturationBuckets),
+				lightness = (int) (PackedColor.getLightness(rgb) * this.lightnessBuckets);
+		return this.getIndex(PackedColor.getHue(rgb),
+				Math.min(saturation, this.saturationBuckets - 1),
+				Math.min(lightness, this.lightnessBuckets - 1));
+	}
+
+	/**
+	 * Get the index of a bucket.
+	 * @param hue integer value containing the degree of hue.
+	 * @param saturationBucket integer value containing the saturation bucket.
+	 * @param lightnessBucket integer value containing the lightness bucket.
+	 * @return integer value containing the index of the bucket.
+	 */
+	private int getIndex(int hue, int saturationBucket, int lightnessBucket) {
+		if(hue < 0 || hue >= HUES
+				|| saturationBucket < 0 || saturationBucket >= this.saturationBuckets
+				|| lightnessBucket < 0 || lightnessBucket >= this.lightnessBuckets) {
+			throw new IndexOutOfBoundsException("No such bucket");
+		}
+		return (((hue * this.saturationBuckets) + saturationBucket) * this.lightnessBuckets) + lightnessBucket;
+	}
+
+	/**
+	 * Add a partial histogram into the shared counts.
+	 * @param partial int array containing a count for every bucket.
+	 */
+	private void merge(int[] partial) {
+		for(int bucket = 0; bucket < partial.length; bucket++) {
+			if(partial[bucket] != 0) {
+				this.counts.addAndGet(bucket, partial[bucket]);
+			}
+		}
+	}
+
+	/**
+	 * Add one partial histogram into another.
+	 * @param to int array receiving the sum.
+	 * @param from int array to add.
+	 */
+	private static void addTo(int[] to, int[] from) {
+		for(int bucket = 0; bucket < to.length; bucket++) {
+			to[bucket] += from[bucket];
+		}
+	}
+
+	/**
+	 * Task used to count a range of pixels into a partial histogram.
+	 * Ranges larger than the threshold are split in half, and the
+	 * partial histograms of both halves are added together.
+	 */
+	private final class CountTask extends RecursiveTask<int[]> {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] pixels;
+		private final int from,
+				to,
+				threshold;
+
+		private CountTask(int[] pixels, int from, int to, int threshold) {
+			this.pixels = pixels;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected int[] compute() {
+			if(this.to - this.from <= this.threshold) {
+				int[] partial = new int[HSLHistogram.this.counts.length()];
+				for(int index = this.from; index < this.to; index++) {
+					partial[HSLHistogram.this.getBucket(this.pixels[index])]++;
+				}
+				return partial;
+			}
+			int middle = (this.from + this.to) >>> 1;
+			CountTask left = new CountTask(this.pixels, this.from, middle, this.threshold);
+			left.fork();
+			int[] partial = new CountTask(this.pixels, middle, this.to, this.threshold).compute();
+			addTo(partial, left.join());
+			return partial;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package rgb_hsl.image;
+
+import rgb_hsl.color.BlendMode;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Blender used to composite a source image over a backdrop image
+ * with a BlendMode. The backdrop is divided into tiles, each blended
+ * in place by its own task, so whole rasters are blended in parallel.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class ImageBlender {
+	private static final int TILE_SIZE = 64;
+
+	private final BlendMode mode;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Create a blender running on the common fork-join pool.
+	 * @param mode BlendMode used to blend every pixel.
+	 */
+	public ImageBlender(BlendMode mode) {
+		this(mode, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a blender running on the given pool.
+	 * @param mode BlendMode used to blend every pixel.
+	 * @param pool ForkJoinPool reference used to blend tiles.
+	 */
+	public ImageBlender(BlendMode mode, ForkJoinPool pool) {
+		this.mode = mode;
+		this.pool = pool;
+	}
+
+	/**
+	 * Get the mode used to blend every pixel.
+	 * @return BlendMode of the blender.
+	 */
+	public BlendMode getMode() {
+		return this.mode;
+	}
+
+	/**
+	 * Blend a source image over a backdrop image of the same size, in
+	 * place. Backdrops that are not backed by packed integers are copied,
+	 * blended, and written back.
+	 * @param backdrop BufferedImage reference to blend onto.
+	 * @param source BufferedImage reference containing the source, whose
+	 *               alpha sets the strength of the blend.
+	 */
+	public void blend(BufferedImage backdrop, BufferedImage source) {
+		if(backdrop.getWidth() != source.getWidth() || backdrop.getHeight() != source.getHeight()) {
+			throw new IllegalArgumentException("Images are of different sizes");
+		}
+		//only the data of ARGB images holds alpha, which sets the strength of the blend
+		int[] sources = (source.getType() == BufferedImage.TYPE_INT_ARGB) ? ImagePixels.getData(source) : null;
+		if(sources == null) {
+			sources = source.getRGB(0, 0, source.getWidth(), source.getHeight(), null, 0, source.getWidth());
+		}
+		int[] data = ImagePixels.getData(backdrop);
+		if(data != null) {
+			this.blend(data, sources, backdrop.getWidth(), backdrop.getHeight());
+			return;
+		}
+		int[] pixels = ImagePixels.getPixels(backdrop);
+		this.blend(pixels, sources, backdrop.getWidth(), backdrop.getHeight());
+		backdrop.setRGB(0, 0, backdrop.getWidth(), backdrop.getHeight(), pixels, 0, backdrop.getWidth());
+	}
+
+	/**
+	 * Blend a source raster over a backdrop raster of the same size,
+	 * in place.
+	 * @param backdrop int array containing packed pixels in row-major
+	 *                 order, which receives the blended pixels.
+	 * @param source int array containing packed pixels in row-major order.
+	 * @param width integer value containing the width of both rasters.
+	 * @param height integer value containing the height of both rasters.
+	 */
+	public void blend(int[] backdrop, int[] source, int width, int height) {
+		if(width < 0 || height < 0 || backdrop.length < (long) width * height
+				|| source.length < (long) width * height) {
+			throw new IllegalArgumentException("Raster is smaller than its dimensions");
+		}
+		this.pool.invoke(new TileTask(backdrop, source, width, 0, 0, width, height));
+	}
+
+	/**
+	 * Blend a rectangle of a source raster over a backdrop raster on
+	 * the calling thread.
+	 * @param backdrop int array containing packed pixels in row-major
+	 *                 order, which receives the blended pixels.
+	 * @param source int array containing packed pixels in row-major order.
+	 * @param width integer value containing the width of both rasters.
+	 * @param x integer value containing the left of the rectangle.
+	 * @param y integer value containing the top of the rectangle.
+	 * @param tileWidth integer value containing the width of the rectangle.
+	 * @param tileHeight integer value containing the height of the rectangle.
+	 */
+	public void blendTile(int[] backdrop, int[] source, int width, int x, int y, int tileWidth, int tileHeight) {
+		for(int row = y; row < y + tileHeight; row++) {
+			int offset = (row * width) + x;
+			this.mode.blend(backdrop, source, backdrop, offset, offset + tileWidth);
+		}
+	}
+
+	/**
+	 * Task used to blend a rectangle of a raster. Rectangles
+	 * larger than a tile are split in half along their longer side.
+	 */
+	private final class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] backdrop,
+				source;
+		private final int width,
+				x,
+				y,
+				tileWidth,
+				tileHeight;
+
+		private TileTask(int[] backdrop, int[] source, int width, int x, int y, int tileWidth, int tileHeight) {
+			this.backdrop = backdrop;
+			this.source = source;
+			this.width = width;
+			this.x = x;
+			this.y = y;
+			this.tileWidth = tileWidth;
+			this.tileHeight = tileHeight;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.tileWidth <= TILE_SIZE && this.tileHeight <= TILE_SIZE) {
+				ImageBlender.this.blendTile(this.backdrop, this.source, this.width, this.x, this.y,
+						this.tileWidth, this.tileHeight);
+			}else if(this.tileWidth >= this.tileHeight) {
+				int half = this.tileWidth / 2;
+				invokeAll(new TileTask(this.backdrop, this.source, this.width, this.x, this.y, half, this.tileHeight),
+						new TileTask(this.backdrop, this.source, this.width, this.x + half, this.y,
+								this.tileWidth - half, this.tileHeight));
+			}else {
+				int half = this.tileHeight / 2;
+				invokeAll(new TileTask(this.backdrop, this.source, this.width, this.x, this.y, this.tileWidth, half),
+						new TileTask(this.backdrop, this.source, this.width, this.x, this.y + half,
+								this.tileWidth, this.tileHeight - half));
+			}
+		}
+	}
+}
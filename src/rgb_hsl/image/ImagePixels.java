@@ -0,0 +1,63 @@
+package rgb_hsl.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+
+/**
+ * Utility class used to reach the pixels of a BufferedImage
+ * as packed colors of the form 0xAARRGGBB. Images of type
+ * TYPE_INT_RGB and TYPE_INT_ARGB whose raster covers its whole
+ * data buffer expose that buffer directly, so their pixels can
+ * be read and written without copying.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class ImagePixels {
+	private ImagePixels() {
+	}
+
+	/**
+	 * Get the data buffer backing the given image, if its pixels
+	 * are stored as packed integers in row-major order with no
+	 * padding. Writes to the returned array change the image.
+	 * @param image BufferedImage reference to read.
+	 * @return int array backing the image, or null if the image
+	 * is not stored in that form.
+	 */
+	public static int[] getData(BufferedImage image) {
+		if(image.getType() != BufferedImage.TYPE_INT_RGB && image.getType() != BufferedImage.TYPE_INT_ARGB) {
+			return null;
+		}
+		Raster raster = image.getRaster();
+		if(!(raster.getDataBuffer() instanceof DataBufferInt)
+				|| !(raster.getSampleModel() instanceof SinglePixelPackedSampleModel)) {
+			return null;
+		}
+		DataBufferInt buffer = (DataBufferInt) raster.getDataBuffer();
+		SinglePixelPackedSampleModel model = (SinglePixelPackedSampleModel) raster.getSampleModel();
+		int[] data = buffer.getData();
+		if(buffer.getOffset() != 0
+				|| raster.getSampleModelTranslateX() != 0
+				|| raster.getSampleModelTranslateY() != 0
+				|| model.getScanlineStride() != image.getWidth()
+				|| data.length != image.getWidth() * image.getHeight()) {
+			return null;
+		}
+		return data;
+	}
+
+	/**
+	 * Get the pixels of the given image. The backing data buffer
+	 * is returned when possible, and a copy otherwise.
+	 * @param image BufferedImage reference to read.
+	 * @return int array containing every pixel in row-major order.
+	 */
+	public static int[] getPixels(BufferedImage image) {
+		int[] data = getData(image);
+		return (data != null)
+				? data
+				: image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+}
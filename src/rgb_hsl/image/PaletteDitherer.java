@@ -0,0 +1,314 @@
+package rgb_hsl.image;
+
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.palette.PaletteIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ditherer used to reduce rasters to the colors of a palette
+ * without the banding of mapping each pixel to its nearest color.
+ * Ordered dithering adds a threshold from an 8x8 Bayer matrix to
+ * each pixel before mapping it, so every band of rows is independent
+ * and bands are dithered in parallel.
+ * Floyd-Steinberg error diffusion carries the error of each pixel to
+ * its unprocessed neighbours. Since a pixel only depends on the pixel
+ * to its left and the three pixels above it, the raster is divided
+ * into blocks whose rows each start one column further left than the
+ * row above, so a block can be dithered once the block to its left and
+ * the blocks above and above to the right are done. Blocks are
+ * dithered in waves along that diagonal, with every block of a wave
+ * in parallel, and the result is the same as dithering the whole
+ * raster in order on one thread.
+ * Both methods work in place on packed pixels, keep the alpha of
+ * each pixel, and create no objects for any pixel.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class PaletteDitherer {
+	/**
+	 * Bayer matrix of eight by eight thresholds.
+	 */
+	private static final int[] BAYER = {
+			0, 32, 8, 40, 2, 34, 10, 42,
+			48, 16, 56, 24, 50, 18, 58, 26,
+			12, 44, 4, 36, 14, 46, 6, 38,
+			60, 28, 52, 20, 62, 30, 54, 22,
+			3, 35, 11, 43, 1, 33, 9, 41,
+			51, 19, 59, 27, 49, 17, 57, 25,
+			15, 47, 7, 39, 13, 45, 5, 37,
+			63, 31, 55, 23, 61, 29, 53, 21
+	};
+
+	/**
+	 * Rows in each band of ordered dithering, and rows and columns
+	 * in each block of error diffusion. Blocks must be wider than
+	 * they are tall.
+	 */
+	private static final int BAND_ROWS = 16,
+			BLOCK_ROWS = 16,
+			BLOCK_COLUMNS = 64;
+
+	private final PaletteIndex index;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Create a ditherer running on the common fork-join pool.
+	 * @param index PaletteIndex reference containing the palette.
+	 */
+	public PaletteDitherer(PaletteIndex index) {
+		this(index, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a ditherer running on the given pool.
+	 * @param index PaletteIndex reference containing the palette.
+	 * @param pool ForkJoinPool reference used to run every task.
+	 */
+	public PaletteDitherer(PaletteIndex index, ForkJoinPool pool) {
+		if(index.getSize() == 0) {
+			throw new IllegalArgumentException("Palette has no colors");
+		}
+		this.index = index;
+		this.pool = pool;
+	}
+
+	/**
+	 * Get the default spread of ordered dithering, which is the
+	 * distance between channel levels of a palette with the same
+	 * number of colors spaced evenly over RGB space.
+	 * @return double value containing the spread.
+	 */
+	public double getDefaultSpread() {
+		return 255 / Math.max(1, Math.cbrt(this.index.getSize()) - 1);
+	}
+
+	/**
+	 * Dither a raster in place with the default spread.
+	 * @param raster int array containing packed pixels in row-major order.
+	 * @param width integer value containing the width of the raster.
+	 * @param height integer value containing the height of the raster.
+	 */
+	public void orderedDither(int[] raster, int width, int height) {
+		this.orderedDither(raster, width, height, this.getDefaultSpread());
+	}
+
+	/**
+	 * Dither a raster in place with a Bayer matrix.
+	 * @param raster int array containing packed pixels in row-major order.
+	 * @param width integer value containing the width of the raster.
+	 * @param height integer value containing the height of the raster.
+	 * @param spread double value containing the difference between the
+	 *               largest and smallest threshold added to each channel.
+	 */
+	public void orderedDither(int[] raster, int width, int height, double spread) {
+		checkSize(raster, width, height);
+		int[] thresholds = new int[BAYER.length];
+		for(int cell = 0; cell < BAYER.length; cell++) {
+			thresholds[cell] = (int) Math.round((((BAYER[cell] + 0.5) / BAYER.length) - 0.5) * spread);
+		}
+		this.pool.invoke(new BandTask(raster, width, thresholds, 0, height));
+	}
+
+	/**
+	 * Dither a raster in place with Floyd-Steinberg error diffusion.
+	 * @param raster int array containing packed pixels in row-major order.
+	 * @param width integer value containing the width of the raster.
+	 * @param height integer value containing the height of the raster.
+	 */
+	public void errorDiffuse(int[] raster, int width, int height) {
+		checkSize(raster, width, height);
+		if(width == 0 || height == 0) {
+			return;
+		}
+		int blockRows = (height + BLOCK_ROWS - 1) / BLOCK_ROWS,
+				blockColumns = (width + BLOCK_ROWS - 1 + BLOCK_COLUMNS - 1) / BLOCK_COLUMNS,
+				waves = (2 * (blockRows - 1)) + blockColumns;
+		int[][] errors = new int[height][];
+		errors[0] = new int[width * 3];
+
+		this.pool.invoke(new RecursiveAction() {
+			@Override
+			protected void compute() {
+				List<ForkJoinTask<?>> blocks = new ArrayList<>();
+				for(int wave = 0; wave < waves; wave++) {
+					blocks.clear();
+					//block (row, column) is in wave 2 * row + column
+					for(int blockRow = Math.max(0, (wave - blockColumns + 2) / 2);
+							blockRow < blockRows && 2 * blockRow <= wave; blockRow++) {
+						int top = blockRow * BLOCK_ROWS,
+								left = (wave - (2 * blockRow)) * BLOCK_COLUMNS;
+						blocks.add(ForkJoinTask.adapt(() -> PaletteDitherer.this.diffuseBlock(raster, width, height,
+								errors, top, left)));
+					}
+					invokeAll(blocks);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Dither one block of a raster with error diffusion. Each row
+	 * of the block starts one column further left than the row above.
+	 * The error of each row is held as sixteenths of a channel value,
+	 * three channels per pixel, so errors added from different blocks
+	 * give the same sum in any order. The error line of a row is created
+	 * by the first block of the row above, and dropped once the last
+	 * block of the row is done.
+	 * @param raster int array containing packed pixels in row-major order.
+	 * @param width integer value containing the width of the raster.
+	 * @param height integer value containing the height of the raster.
+	 * @param errors array of int arrays containing the error line of
+	 *               each row in progress.
+	 * @param top integer value containing the first row of the block.
+	 * @param left integer value containing the first column of the
+	 *             first row of the block.
+	 */
+	private void diffuseBlock(int[] raster, int width, int height, int[][] errors, int top, int left) {
+		int bottom = Math.min(height, top + BLOCK_ROWS);
+		for(int row = top; row < bottom; row++) {
+			int rowLeft = Math.max(0, left - (row - top)),
+					right = Math.min(width, left + BLOCK_COLUMNS - (row - top));
+			if(rowLeft >= right) {
+				continue;
+			}
+			int[] line = errors[row],
+					next = null;
+			if(row + 1 < height) {
+				if(rowLeft == 0) {
+					errors[row + 1] = new int[width * 3];
+				}
+				next = errors[row + 1];
+			}
+			for(int column = rowLeft; column < right; column++) {
+				int pixel = row * width + column,
+						argb = raster[pixel],
+						error = column * 3,
+						red = clamp(PackedColor.getRed(argb) + divide(line[error])),
+						green = clamp(PackedColor.getGreen(argb) + divide(line[error + 1])),
+						blue = clamp(PackedColor.getBlue(argb) + divide(line[error + 2])),
+						nearest = this.index.getRGB(this.index.getNearestIndex(PackedColor.pack(red, green, blue)));
+				raster[pixel] = (argb & 0xff000000) | nearest;
+
+				diffuse(line, next, width, column, 0, red - PackedColor.getRed(nearest));
+				diffuse(line, next, width, column, 1, green - PackedColor.getGreen(nearest));
+				diffuse(line, next, width, column, 2, blue - PackedColor.getBlue(nearest));
+			}
+			if(right == width) {
+				errors[row] = null;
+			}
+		}
+	}
+
+	/**
+	 * Carry the error of one channel of a pixel to its neighbours,
+	 * as sixteenths of a channel value.
+	 * @param line int array containing the error line of the row.
+	 * @param next int array containing the error line of the next
+	 *             row, or null on the last row.
+	 * @param width integer value containing the width of the raster.
+	 * @param column integer value containing the column of the pixel.
+	 * @param channel integer value containing the channel, 0 for red,
+	 *                1 for green, and 2 for blue.
+	 * @param error integer value containing the error of the channel.
+	 */
+	private static void diffuse(int[] line, int[] next, int width, int column, int channel, int error) {
+		int offset = (column * 3) + channel;
+		if(column + 1 < width) {
+			line[offset + 3] += 7 * error;
+		}
+		if(next != null) {
+			if(column > 0) {
+				next[offset - 3] += 3 * error;
+			}
+			next[offset] += 5 * error;
+			if(column + 1 < width) {
+				next[offset + 3] += error;
+			}
+		}
+	}
+
+	/**
+	 * Round sixteenths of a channel value to a whole value.
+	 * @param sixteenths integer value containing the error in sixteenths.
+	 * @return integer value containing the rounded error.
+	 */
+	private static int divide(int sixteenths) {
+		return (sixteenths >= 0) ? (sixteenths + 8) >> 4 : -((8 - sixteenths) >> 4);
+	}
+
+	/**
+	 * Clamp a channel value to the range [0, 255], inclusive.
+	 * @param channel integer value to clamp.
+	 * @return integer value on the range [0, 255], inclusive.
+	 */
+	private static int clamp(int channel) {
+		return (channel < 0) ? 0 : (channel > 255) ? 255 : channel;
+	}
+
+	/**
+	 * Check that a raster holds every pixel of its dimensions.
+	 * @param raster int array containing packed pixels.
+	 * @param width integer value containing the width of the raster.
+	 * @param height integer value containing the height of the raster.
+	 */
+	private static void checkSize(int[] raster, int width, int height) {
+		if(width < 0 || height < 0 || raster.length < (long) width * height) {
+			throw new IllegalArgumentException("Raster is smaller than its dimensions");
+		}
+	}
+
+	/**
+	 * Task used to dither a range of rows with a Bayer matrix.
+	 * Ranges larger than a band are split in half.
+	 */
+	private final class BandTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] raster,
+				thresholds;
+		private final int width,
+				from,
+				to;
+
+		private BandTask(int[] raster, int width, int[] thresholds, int from, int to) {
+			this.raster = raster;
+			this.width = width;
+			this.thresholds = thresholds;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.to - this.from > BAND_ROWS) {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new BandTask(this.raster, this.width, this.thresholds, this.from, middle),
+						new BandTask(this.raster, this.width, this.thresholds, middle, this.to));
+				return;
+			}
+			int start = this.from * this.width,
+					count = (this.to - this.from) * this.width;
+			int[] targets = new int[count];
+			for(int row = this.from; row < this.to; row++) {
+				for(int column = 0; column < this.width; column++) {
+					int argb = this.raster[(row * this.width) + column],
+							threshold = this.thresholds[((row & 7) << 3) | (column & 7)];
+					targets[((row - this.from) * this.width) + column] = PackedColor.pack(
+							clamp(PackedColor.getRed(argb) + threshold),
+							clamp(PackedColor.getGreen(argb) + threshold),
+							clamp(PackedColor.getBlue(argb) + threshold));
+				}
+			}
+			PaletteDitherer.this.index.mapRange(targets, targets, 0, count);
+			for(int pixel = 0; pixel < count; pixel++) {
+				this.raster[start + pixel] = (this.raster[start + pixel] & 0xff000000)
+						| PaletteDitherer.this.index.getRGB(targets[pixel]);
+			}
+		}
+	}
+}
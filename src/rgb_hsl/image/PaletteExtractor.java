@@ -0,0 +1,472 @@
+package rgb_hsl.image;
+
+import rgb_hsl.color.Color;
+import rgb_hsl.color.PackedColor;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Extractor used to find the dominant colors of an image, to
+ * be used as starting colors for palettes. Pixels are counted
+ * into a histogram of 32 levels per channel, built in parallel
+ * with one partial histogram per fork-join task that is merged
+ * as tasks complete. Median cut then divides the histogram into
+ * boxes of similar population, and optionally a number of
+ * weighted k-means iterations refine the color of each box, again
+ * in parallel over the histogram.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class PaletteExtractor {
+	private static final int BITS = 5,
+			LEVELS = 1 << BITS,
+			BINS = LEVELS * LEVELS * LEVELS,
+			SHIFT = 8 - BITS;
+	private static final int DEFAULT_ITERATIONS = 2,
+			DOMINANT_CANDIDATES = 8;
+
+	/**
+	 * Smallest number of pixels counted by a single task, and the
+	 * number of histogram bins refined by a single task.
+	 */
+	private static final int MIN_PIXELS_PER_TASK = 1 << 16,
+			BINS_PER_TASK = 4096;
+
+	private final ForkJoinPool pool;
+	private final int iterations;
+
+	/**
+	 * Default constructor. When invoked, extraction runs on the
+	 * common fork-join pool with two k-means iterations.
+	 */
+	public PaletteExtractor() {
+		this(ForkJoinPool.commonPool(), DEFAULT_ITERATIONS);
+	}
+
+	/**
+	 * Create an extractor running on the given pool.
+	 * @param pool ForkJoinPool reference used to run every task.
+	 * @param iterations integer value containing the number of
+	 *                   k-means iterations refining median cut.
+	 *                   Zero uses median cut alone.
+	 */
+	public PaletteExtractor(ForkJoinPool pool, int iterations) {
+		this.pool = pool;
+		this.iterations = (iterations < 0) ? 0 : iterations;
+	}
+
+	/**
+	 * Extract the dominant colors of an image.
+	 * @param image BufferedImage reference to read. Images of type
+	 *              TYPE_INT_RGB or TYPE_INT_ARGB are read directly
+	 *              from their data buffer.
+	 * @param count integer value containing the most colors to return.
+	 * @return List of basetype Color containing up to count colors,
+	 * in order of decreasing population.
+	 */
+	public List<Color> extract(BufferedImage image, int count) {
+		return this.extract(ImagePixels.getPixels(image), count);
+	}
+
+	/**
+	 * Extract the dominant colors of a buffer of packed pixels.
+	 * @param pixels int array containing packed pixels. Any alpha
+	 *               in the highest byte is ignored.
+	 * @param count integer value containing the most colors to return.
+	 * @return List of basetype Color containing up to count colors,
+	 * in order of decreasing population.
+	 */
+	public List<Color> extract(int[] pixels, int count) {
+		int[] rgb = this.extractRGB(pixels, count);
+		List<Color> colors = new ArrayList<>(rgb.length);
+		for(int color : rgb) {
+			colors.add(PackedColor.toRGBColor(color));
+		}
+		return colors;
+	}
+
+	/**
+	 * Extract the dominant color of an image. The image is divided
+	 * into several colors first, so the result is the most populous
+	 * of them rather than the mean of the whole image.
+	 * @param image BufferedImage reference to read.
+	 * @return Color object containing the most populous color.
+	 */
+	public Color getDominantColor(BufferedImage image) {
+		return this.extract(image, DOMINANT_CANDIDATES).get(0);
+	}
+
+	/**
+	 * Extract the dominant colors of a buffer of packed pixels
+	 * as packed colors.
+	 * @param pixels int array containing packed pixels.
+	 * @param count integer value containing the most colors to return.
+	 * @return int array containing up to count packed colors, in
+	 * order of decreasing population.
+	 */
+	public int[] extractRGB(int[] pixels, int count) {
+		if(count < 1) {
+			throw new IllegalArgumentException("At least one color must be extracted");
+		}
+		int threshold = Math.max(MIN_PIXELS_PER_TASK,
+				pixels.length / (this.pool.getParallelism() * 4));
+		int[] histogram = this.pool.invoke(new HistogramTask(pixels, 0, pixels.length, threshold));
+
+		List<Box> boxes = medianCut(histogram, count);
+		double[] centroids = new double[boxes.size() * 3];
+		for(int index = 0; index < boxes.size(); index++) {
+			boxes.get(index).getMean(histogram, centroids, index);
+		}
+		long[] populations = new long[boxes.size()];
+		for(int iteration = 0; iteration < this.iterations; iteration++) {
+			double[] sums = this.pool.invoke(new RefineTask(histogram, centroids, 0, BINS));
+			for(int index = 0; index < populations.length; index++) {
+				double weight = sums[(index * 4) + 3];
+				populations[index] = (long) weight;
+				if(weight > 0) {
+					centroids[index * 3] = sums[index * 4] / weight;
+					centroids[(index * 3) + 1] = sums[(index * 4) + 1] / weight;
+					centroids[(index * 3) + 2] = sums[(index * 4) + 2] / weight;
+				}
+			}
+		}
+		if(this.iterations == 0) {
+			for(int index = 0; index < populations.length; index++) {
+				populations[index] = boxes.get(index).population;
+			}
+		}
+
+		return sortByPopulation(centroids, populations);
+	}
+
+	/**
+	 * Divide the histogram into at most count boxes, repeatedly
+	 * splitting the most populous box that holds more than one
+	 * color at the median of its longest side.
+	 * @param histogram int array containing the population of each bin.
+	 * @param count integer value containing the most boxes to create.
+	 * @return List of Box objects covering every populated bin.
+	 */
+	private static List<Box> medianCut(int[] histogram, int count) {
+		List<Box> boxes = new ArrayList<>();
+		Box first = new Box(0, LEVELS - 1, 0, LEVELS - 1, 0, LEVELS - 1);
+		first.shrink(histogram);
+		boxes.add(first);
+
+		while(boxes.size() < count) {
+			Box largest = null;
+			for(Box box : boxes) {
+				if(box.isSplittable() && (largest == null || box.population > largest.population)) {
+					largest = box;
+				}
+			}
+			if(largest == null || largest.population == 0) {
+				break;
+			}
+			boxes.add(largest.split(histogram));
+		}
+		return boxes;
+	}
+
+	/**
+	 * Order packed colors by decreasing population, dropping
+	 * colors that no pixel was assigned to.
+	 * @param centroids double array containing three channels per color.
+	 * @param populations long array containing the population of each color.
+	 * @return int array containing the ordered packed colors.
+	 */
+	private static int[] sortByPopulation(double[] centroids, long[] populations) {
+		//each key holds the population above the reversed index, so that
+		//an ascending sort read backwards keeps ties in index order
+		long[] keys = new long[populations.length];
+		int populated = 0;
+		for(int index = 0; index < populations.length; index++) {
+			if(populations[index] > 0 || populations.length == 1) {
+				keys[populated++] = (populations[index] << (3 * BITS)) | (BINS - 1 - index);
+			}
+		}
+		Arrays.sort(keys, 0, populated);
+
+		int[] rgb = new int[populated];
+		for(int index = 0; index < populated; index++) {
+			int color = BINS - 1 - (int) (keys[populated - 1 - index] & (BINS - 1));
+			rgb[index] = PackedColor.pack((int) Math.round(centroids[color * 3]),
+					(int) Math.round(centroids[(color * 3) + 1]),
+					(int) Math.round(centroids[(color * 3) + 2]));
+		}
+		return rgb;
+	}
+
+	/**
+	 * Get the histogram bin of a packed pixel.
+	 * @param rgb integer value containing a packed pixel.
+	 * @return integer value containing the index of the bin.
+	 */
+	private static int getBin(int rgb) {
+		return ((PackedColor.getRed(rgb) >> SHIFT) << (2 * BITS))
+				| ((PackedColor.getGreen(rgb) >> SHIFT) << BITS)
+				| (PackedColor.getBlue(rgb) >> SHIFT);
+	}
+
+	/**
+	 * Get the channel value at the center of a histogram level.
+	 * @param level integer value containing the level of a channel.
+	 * @return double value on the range [0, 255].
+	 */
+	private static double getCenter(int level) {
+		return (level << SHIFT) + ((1 << SHIFT) - 1) / 2.0;
+	}
+
+	/**
+	 * Task used to build the histogram of a range of pixels.
+	 * Ranges larger than the threshold are split in half, and
+	 * the partial histograms of both halves are added together.
+	 */
+	private static final class HistogramTask extends RecursiveTask<int[]> {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] pixels;
+		private final int from,
+				to,
+				threshold;
+
+		private HistogramTask(int[] pixels, int from, int to, int threshold) {
+			this.pixels = pixels;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected int[] compute() {
+			if(this.to - this.from <= this.threshold) {
+				int[] histogram = new int[BINS];
+				for(int index = this.from; index < this.to; index++) {
+					histogram[getBin(this.pixels[index])]++;
+				}
+				return histogram;
+			}
+			int middle = (this.from + this.to) >>> 1;
+			HistogramTask left = new HistogramTask(this.pixels, this.from, middle, this.threshold);
+			left.fork();
+			int[] histogram = new HistogramTask(this.pixels, middle, this.to, this.threshold).compute(),
+					leftHistogram = left.join();
+			for(int bin = 0; bin < BINS; bin++) {
+				histogram[bin] += leftHistogram[bin];
+			}
+			return histogram;
+		}
+	}
+
+	/**
+	 * Task used to run one weighted k-means iteration over a range
+	 * of histogram bins. Every populated bin is assigned to its
+	 * nearest centroid, and the result holds the weighted sum of
+	 * each channel followed by the total weight, for each centroid.
+	 */
+	private static final class RefineTask extends RecursiveTask<double[]> {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] histogram;
+		private final double[] centroids;
+		private final int from,
+				to;
+
+		private RefineTask(int[] histogram, double[] centroids, int from, int to) {
+			this.histogram = histogram;
+			this.centroids = centroids;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected double[] compute() {
+			int colors = this.centroids.length / 3;
+			if(this.to - this.from <= BINS_PER_TASK) {
+				double[] sums = new double[colors * 4];
+				for(int bin = this.from; bin < this.to; bin++) {
+					int weight = this.histogram[bin];
+					if(weight == 0) {
+						continue;
+					}
+					double red = getCenter(bin >> (2 * BITS)),
+							green = getCenter((bin >> BITS) & (LEVELS - 1)),
+							blue = getCenter(bin & (LEVELS - 1)),
+							nearestDistance = Double.POSITIVE_INFINITY;
+					int nearest = 0;
+					for(int color = 0; color < colors; color++) {
+						double redDistance = red - this.centroids[color * 3],
+								greenDistance = green - this.centroids[(color * 3) + 1],
+								blueDistance = blue - this.centroids[(color * 3) + 2],
+								distance = (redDistance * redDistance) + (greenDistance * greenDistance)
+										+ (blueDistance * blueDistance);
+						if(distance < nearestDistance) {
+							nearestDistance = distance;
+							nearest = color;
+						}
+					}
+					sums[nearest * 4] += red * weight;
+					sums[(nearest * 4) + 1] += green * weight;
+					sums[(nearest * 4) + 2] += blue * weight;
+					sums[(nearest * 4) + 3] += weight;
+				}
+				return sums;
+			}
+			int middle = (this.from + this.to) >>> 1;
+			RefineTask left = new RefineTask(this.histogram, this.centroids, this.from, middle);
+			left.fork();
+			double[] sums = new RefineTask(this.histogram, this.centroids, middle, this.to).compute(),
+					leftSums = left.join();
+			for(int index = 0; index < sums.length; index++) {
+				sums[index] += leftSums[index];
+			}
+			return sums;
+		}
+	}
+
+	/**
+	 * Box of histogram levels used by median cut. Bounds are
+	 * inclusive levels of each channel.
+	 */
+	private static final class Box {
+		private int redLow, redHigh,
+				greenLow, greenHigh,
+				blueLow, blueHigh;
+		private long population;
+
+		private Box(int redLow, int redHigh, int greenLow, int greenHigh, int blueLow, int blueHigh) {
+			this.redLow = redLow;
+			this.redHigh = redHigh;
+			this.greenLow = greenLow;
+			this.greenHigh = greenHigh;
+			this.blueLow = blueLow;
+			this.blueHigh = blueHigh;
+		}
+
+		/**
+		 * Shrink the box to the smallest bounds containing all of
+		 * its populated bins, and update its population.
+		 * @param histogram int array containing the population of each bin.
+		 */
+		private void shrink(int[] histogram) {
+			int newRedLow = LEVELS, newRedHigh = -1,
+					newGreenLow = LEVELS, newGreenHigh = -1,
+					newBlueLow = LEVELS, newBlueHigh = -1;
+			this.population = 0;
+			for(int red = this.redLow; red <= this.redHigh; red++) {
+				for(int green = this.greenLow; green <= this.greenHigh; green++) {
+					for(int blue = this.blueLow; blue <= this.blueHigh; blue++) {
+						int weight = histogram[(red << (2 * BITS)) | (green << BITS) | blue];
+						if(weight > 0) {
+							this.population += weight;
+							newRedLow = Math.min(newRedLow, red);
+							newRedHigh = Math.max(newRedHigh, red);
+							newGreenLow = Math.min(newGreenLow, green);
+							newGreenHigh = Math.max(newGreenHigh, green);
+							newBlueLow = Math.min(newBlueLow, blue);
+							newBlueHigh = Math.max(newBlueHigh, blue);
+						}
+					}
+				}
+			}
+			if(this.population > 0) {
+				this.redLow = newRedLow;
+				this.redHigh = newRedHigh;
+				this.greenLow = newGreenLow;
+				this.greenHigh = newGreenHigh;
+				this.blueLow = newBlueLow;
+				this.blueHigh = newBlueHigh;
+			}
+		}
+
+		/**
+		 * Determine whether the box holds more than one level on
+		 * any channel.
+		 * @return boolean value determining whether it can be split.
+		 */
+		private boolean isSplittable() {
+			return this.redHigh > this.redLow || this.greenHigh > this.greenLow || this.blueHigh > this.blueLow;
+		}
+
+		/**
+		 * Split the box at the median of its longest side. The
+		 * current box keeps the lower half.
+		 * @param histogram int array containing the population of each bin.
+		 * @return Box object containing the upper half.
+		 */
+		private Box split(int[] histogram) {
+			int redLength = this.redHigh - this.redLow,
+					greenLength = this.greenHigh - this.greenLow,
+					blueLength = this.blueHigh - this.blueLow,
+					axis = (redLength >= greenLength && redLength >= blueLength) ? 0
+							: (greenLength >= blueLength) ? 1 : 2,
+					low = (axis == 0) ? this.redLow : (axis == 1) ? this.greenLow : this.blueLow,
+					high = (axis == 0) ? this.redHigh : (axis == 1) ? this.greenHigh : this.blueHigh;
+
+			long[] planes = new long[LEVELS];
+			for(int red = this.redLow; red <= this.redHigh; red++) {
+				for(int green = this.greenLow; green <= this.greenHigh; green++) {
+					for(int blue = this.blueLow; blue <= this.blueHigh; blue++) {
+						int level = (axis == 0) ? red : (axis == 1) ? green : blue;
+						planes[level] += histogram[(red << (2 * BITS)) | (green << BITS) | blue];
+					}
+				}
+			}
+			//the lower half ends at the median, but always leaves one level for the upper half
+			long half = this.population / 2,
+					running = 0;
+			int median = low;
+			for(int level = low; level < high; level++) {
+				running += planes[level];
+				median = level;
+				if(running >= half) {
+					break;
+				}
+			}
+
+			Box upper = new Box(this.redLow, this.redHigh, this.greenLow, this.greenHigh, this.blueLow, this.blueHigh);
+			if(axis == 0) {
+				this.redHigh = median;
+				upper.redLow = median + 1;
+			}else if(axis == 1) {
+				this.greenHigh = median;
+				upper.greenLow = median + 1;
+			}else {
+				this.blueHigh = median;
+				upper.blueLow = median + 1;
+			}
+			this.shrink(histogram);
+			upper.shrink(histogram);
+			return upper;
+		}
+
+		/**
+		 * Get the weighted mean color of the box.
+		 * @param histogram int array containing the population of each bin.
+		 * @param out double array receiving three channels.
+		 * @param index integer value containing the color index in out.
+		 */
+		private void getMean(int[] histogram, double[] out, int index) {
+			double red = 0, green = 0, blue = 0;
+			for(int redLevel = this.redLow; redLevel <= this.redHigh; redLevel++) {
+				for(int greenLevel = this.greenLow; greenLevel <= this.greenHigh; greenLevel++) {
+					for(int blueLevel = this.blueLow; blueLevel <= this.blueHigh; blueLevel++) {
+						int weight = histogram[(redLevel << (2 * BITS)) | (greenLevel << BITS) | blueLevel];
+						red += getCenter(redLevel) * weight;
+						green += getCenter(greenLevel) * weight;
+						blue += getCenter(blueLevel) * weight;
+					}
+				}
+			}
+			double population = Math.max(1, this.population);
+			out[index * 3] = red / population;
+			out[(index * 3) + 1] = green / population;
+			out[(index * 3) + 2] = blue / population;
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package rgb_hsl.image;
+
+import rgb_hsl.color.Color;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.palette.Palette;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Transform used to recolor whole images the same way a Palette
+ * recolors its starting color. Each pixel is converted to HSL,
+ * its hue is rotated and its lightness shifted, and the result is
+ * converted back to RGB and written in place. The alpha in the
+ * highest byte of each pixel is kept.
+ * Rasters are divided into square tiles processed in parallel on
+ * a fork-join pool, and conversions go through PackedColor, so no
+ * object is created for any pixel.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class PaletteRecolorer {
+	/**
+	 * Width and height of the tiles processed by a single task.
+	 */
+	private static final int TILE_SIZE = 64;
+
+	private final int hueShift;
+	private final double lightnessShift;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Create a recolorer applying the change from the starting
+	 * color of a palette to one of its colors. For example, the
+	 * second color of a ComplementaryPalette rotates every hue by
+	 * 180 degrees, and the colors of an AnalogousPalette rotate
+	 * every hue by the offset of the palette.
+	 * @param palette Palette reference containing the colors.
+	 * @param index integer value containing the index of the
+	 *              target color in the palette.
+	 */
+	public PaletteRecolorer(Palette palette, int index) {
+		this(getHueShift(palette.getStartingColor(), palette.getColor(index)),
+				Color.getHSLColor(palette.getColor(index)).getLightness()
+						- Color.getHSLColor(palette.getStartingColor()).getLightness());
+	}
+
+	/**
+	 * Create a recolorer running on the common fork-join pool.
+	 * @param hueShift integer value containing the degrees of hue
+	 *                 to add to every pixel.
+	 * @param lightnessShift double value containing the lightness
+	 *                       to add to every pixel. Results outside
+	 *                       of the range [0, 1] are clamped.
+	 */
+	public PaletteRecolorer(int hueShift, double lightnessShift) {
+		this(hueShift, lightnessShift, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a recolorer running on the given pool.
+	 * @param hueShift integer value containing the degrees of hue
+	 *                 to add to every pixel.
+	 * @param lightnessShift double value containing the lightness
+	 *                       to add to every pixel.
+	 * @param pool ForkJoinPool reference used to run every task.
+	 */
+	public PaletteRecolorer(int hueShift, double lightnessShift, ForkJoinPool pool) {
+		this.hueShift = (hueShift < 0) ? 360 + (hueShift % 360) : hueShift % 360;
+		this.lightnessShift = lightnessShift;
+		this.pool = pool;
+	}
+
+	/**
+	 * Get the degrees of hue added to every pixel.
+	 * @return integer value on the range [0, 360).
+	 */
+	public int getHueShift() {
+		return this.hueShift;
+	}
+
+	/**
+	 * Get the lightness added to every pixel.
+	 * @return double value containing the lightness shift.
+	 */
+	public double getLightnessShift() {
+		return this.lightnessShift;
+	}
+
+	/**
+	 * Recolor a single packed color.
+	 * @param argb integer value containing a packed color. Any
+	 *             alpha in the highest byte is kept.
+	 * @return integer value containing the recolored packed color.
+	 */
+	public int apply(int argb) {
+		return (argb & 0xff000000) | PackedColor.fromHSL(PackedColor.getHue(argb) + this.hueShift,
+				PackedColor.getSaturation(argb),
+				PackedColor.getLightness(argb) + this.lightnessShift);
+	}
+
+	/**
+	 * Recolor every pixel of an image in place. Images that are not
+	 * backed by packed integers are copied, recolored, and written
+	 * back.
+	 * @param image BufferedImage reference to recolor.
+	 */
+	public void apply(BufferedImage image) {
+		int[] data = ImagePixels.getData(image);
+		if(data != null) {
+			this.apply(data, image.getWidth(), image.getHeight());
+			return;
+		}
+		int[] pixels = ImagePixels.getPixels(image);
+		this.apply(pixels, image.getWidth(), image.getHeight());
+		image.setRGB(0, 0, image.getWidth(), image.getHeight(), pixels, 0, image.getWidth());
+	}
+
+	/**
+	 * Recolor every pixel of a raster in place.
+	 * @param raster int array containing packed pixels in row-major order.
+	 * @param width integer value containing the width of the raster.
+	 * @param height integer value containing the height of the raster.
+	 */
+	public void apply(int[] raster, int width, int height) {
+		if(raster.length < width * height) {
+			throw new IllegalArgumentException("Raster is smaller than its dimensions");
+		}
+		if(this.hueShift == 0 && this.lightnessShift == 0) {
+			return;
+		}
+		this.pool.invoke(new TileTask(raster, width, 0, 0, width, height));
+	}
+
+	/**
+	 * Recolor a rectangle of a raster on the calling thread.
+	 * @param raster int array containing packed pixels in row-major order.
+	 * @param width integer value containing the width of the raster.
+	 * @param x integer value containing the left of the rectangle.
+	 * @param y integer value containing the top of the rectangle.
+	 * @param tileWidth integer value containing the width of the rectangle.
+	 * @param tileHeight integer value containing the height of the rectangle.
+	 */
+	public void applyTile(int[] raster, int width, int x, int y, int tileWidth, int tileHeight) {
+		for(int row = y; row < y + tileHeight; row++) {
+			int offset = row * width;
+			for(int index = offset + x; index < offset + x + tileWidth; index++) {
+				raster[index] = this.apply(raster[index]);
+			}
+		}
+	}
+
+	/**
+	 * Get the rotation of hue from one color to another.
+	 * @param from Color reference containing the original color.
+	 * @param to Color reference containing the target color.
+	 * @return integer value containing the degrees of rotation.
+	 */
+	private static int getHueShift(Color from, Color to) {
+		HSLColor fromColor = Color.getHSLColor(from),
+				toColor = Color.getHSLColor(to);
+		return toColor.getHue() - fromColor.getHue();
+	}
+
+	/**
+	 * Task used to recolor a rectangle of a raster. Rectangles
+	 * larger than a tile are split in half along their longer side.
+	 */
+	private final class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] raster;
+		private final int width,
+				x,
+				y,
+				tileWidth,
+				tileHeight;
+
+		private TileTask(int[] raster, int width, int x, int y, int tileWidth, int tileHeight) {
+			this.raster = raster;
+			this.width = width;
+			this.x = x;
+			this.y = y;
+			this.tileWidth = tileWidth;
+			this.tileHeight = tileHeight;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.tileWidth <= TILE_SIZE && this.tileHeight <= TILE_SIZE) {
+				PaletteRecolorer.this.applyTile(this.raster, this.width, this.x, this.y,
+						this.tileWidth, this.tileHeight);
+			}else if(this.tileWidth >= this.tileHeight) {
+				int half = this.tileWidth / 2;
+				invokeAll(new TileTask(this.raster, this.width, this.x, this.y, half, this.tileHeight),
+						new TileTask(this.raster, this.width, this.x + half, this.y,
+								this.tileWidth - half, this.tileHeight));
+			}else {
+				int half = this.tileHeight / 2;
+				invokeAll(new TileTask(this.raster, this.width, this.x, this.y, this.tileWidth, half),
+						new TileTask(this.raster, this.width, this.x, this.y + half,
+								this.tileWidth, this.tileHeight - half));
+			}
+		}
+	}
+}
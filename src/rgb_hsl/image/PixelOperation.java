@@ -0,0 +1,20 @@
+package rgb_hsl.image;
+
+/**
+ * Operation applied in place to a range of packed pixels of the
+ * form 0xAARRGGBB. Operations are called from several threads at
+ * once on different ranges, so they must not keep state between
+ * calls outside of the pixels they are given.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public interface PixelOperation {
+	/**
+	 * Apply the operation to a range of pixels.
+	 * @param pixels int array containing packed pixels.
+	 * @param from integer value containing the first pixel to change.
+	 * @param to integer value containing the index after the last
+	 *           pixel to change.
+	 */
+	void apply(int[] pixels, int from, int to);
+}
@@ -0,0 +1,104 @@
+package rgb_hsl.image;
+
+import rgb_hsl.color.ColorAdjustment;
+import rgb_hsl.color.ColorVisionDeficiency;
+import rgb_hsl.palette.PaletteIndex;
+
+/**
+ * Utility class containing the built in PixelOperations. Every
+ * operation keeps the alpha of each pixel.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class PixelOperations {
+	private PixelOperations() {
+	}
+
+	/**
+	 * Get an operation rotating the hue and shifting the lightness
+	 * of every pixel.
+	 * @param recolorer PaletteRecolorer reference containing the shifts.
+	 * @return PixelOperation applying the recolorer.
+	 */
+	public static PixelOperation adjust(PaletteRecolorer recolorer) {
+		return (pixels, from, to) -> {
+			for(int index = from; index < to; index++) {
+				pixels[index] = recolorer.apply(pixels[index]);
+			}
+		};
+	}
+
+	/**
+	 * Get an operation adjusting the hue, saturation, lightness,
+	 * and tint of every pixel.
+	 * @param adjustment ColorAdjustment reference to apply.
+	 * @return PixelOperation applying the adjustment.
+	 */
+	public static PixelOperation adjust(ColorAdjustment adjustment) {
+		return adjustment::apply;
+	}
+
+	/**
+	 * Get an operation replacing every pixel with its nearest
+	 * palette color.
+	 * @param paletteIndex PaletteIndex reference containing the palette.
+	 * @return PixelOperation mapping pixels to the palette.
+	 */
+	public static PixelOperation map(PaletteIndex paletteIndex) {
+		return (pixels, from, to) -> {
+			int[] indices = new int[to - from];
+			paletteIndex.mapRange(pixels, indices, from, to - from);
+			for(int index = from; index < to; index++) {
+				pixels[index] = (pixels[index] & 0xff000000) | paletteIndex.getRGB(indices[index - from]);
+			}
+		};
+	}
+
+	/**
+	 * Get an operation simulating a color vision deficiency.
+	 * @param deficiency ColorVisionDeficiency to simulate.
+	 * @return PixelOperation simulating the deficiency.
+	 */
+	public static PixelOperation simulate(ColorVisionDeficiency deficiency) {
+		return deficiency::simulate;
+	}
+
+	/**
+	 * Get an operation reducing every channel to the given number
+	 * of evenly spaced levels, including 0 and 255.
+	 * @param levels integer value containing the levels per channel,
+	 *               on the range [2, 256], inclusive.
+	 * @return PixelOperation quantizing every channel.
+	 */
+	public static PixelOperation quantize(int levels) {
+		if(levels < 2 || levels > 256) {
+			throw new IllegalArgumentException("Channels are quantized to between 2 and 256 levels");
+		}
+		int[] table = new int[256];
+		for(int channel = 0; channel < table.length; channel++) {
+			int level = (int) Math.round(channel * (levels - 1) / 255.0);
+			table[channel] = (int) Math.round(level * 255.0 / (levels - 1));
+		}
+		return (pixels, from, to) -> {
+			for(int index = from; index < to; index++) {
+				int pixel = pixels[index];
+				pixels[index] = (pixel & 0xff000000) | (table[(pixel >> 16) & 0xff] << 16)
+						| (table[(pixel >> 8) & 0xff] << 8) | table[pixel & 0xff];
+			}
+		};
+	}
+
+	/**
+	 * Get an operation applying several operations in order.
+	 * @param operations PixelOperation references to apply.
+	 * @return PixelOperation applying every operation in turn.
+	 */
+	public static PixelOperation chain(PixelOperation... operations) {
+		PixelOperation[] chain = operations.clone();
+		return (pixels, from, to) -> {
+			for(PixelOperation operation : chain) {
+				operation.apply(pixels, from, to);
+			}
+		};
+	}
+}
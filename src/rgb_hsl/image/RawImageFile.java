@@ -0,0 +1,310 @@
+package rgb_hsl.image;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Image stored in a file as raw interleaved samples, one byte per
+ * channel, in row-major order with no header or padding. Pixels
+ * are either RGB, three bytes each, or RGBA, four bytes each.
+ * Rows of the file are read and written a band at a time, either
+ * through a buffer owned by the caller or by mapping them into
+ * memory, so images far larger than the heap can be processed.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class RawImageFile implements Closeable {
+	/**
+	 * Largest number of bytes that can be mapped or buffered at once.
+	 */
+	static final long MAX_MAPPED_BYTES = Integer.MAX_VALUE;
+
+	private final FileChannel channel;
+	private final int width,
+			height,
+			channels;
+	private final boolean writable;
+
+	/**
+	 * Open an existing raw image for reading.
+	 * @param file Path reference containing the file to open.
+	 * @param width integer value containing the width of the image.
+	 * @param height integer value containing the height of the image.
+	 * @param channels integer value containing the bytes per pixel,
+	 *                 3 for RGB or 4 for RGBA.
+	 * @throws IOException if the file cannot be opened, or is smaller
+	 * than the given dimensions.
+	 */
+	public RawImageFile(Path file, int width, int height, int channels) throws IOException {
+		this(file, width, height, channels, false);
+	}
+
+	/**
+	 * Open an existing raw image.
+	 * @param file Path reference containing the file to open.
+	 * @param width integer value containing the width of the image.
+	 * @param height integer value containing the height of the image.
+	 * @param channels integer value containing the bytes per pixel,
+	 *                 3 for RGB or 4 for RGBA.
+	 * @param writable boolean value determining whether the image can
+	 *                 be written to.
+	 * @throws IOException if the file cannot be opened, or is smaller
+	 * than the given dimensions.
+	 */
+	public RawImageFile(Path file, int width, int height, int channels, boolean writable) throws IOException {
+		checkLayout(width, height, channels);
+		this.width = width;
+		this.height = height;
+		this.channels = channels;
+		this.writable = writable;
+		this.channel = writable
+				? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+				: FileChannel.open(file, StandardOpenOption.READ);
+		if(this.channel.size() < this.getByteSize()) {
+			this.channel.close();
+			throw new IOException("File is smaller than a " + width + "x" + height + " image");
+		}
+	}
+
+	/**
+	 * Create a raw image, or overwrite an existing one, filled with
+	 * zeros and open for writing.
+	 * @param file Path reference containing the file to create.
+	 * @param width integer value containing the width of the image.
+	 * @param height integer value containing the height of the image.
+	 * @param channels integer value containing the bytes per pixel,
+	 *                 3 for RGB or 4 for RGBA.
+	 * @return RawImageFile object open for reading and writing.
+	 * @throws IOException if the file cannot be created.
+	 */
+	public static RawImageFile create(Path file, int width, int height, int channels) throws IOException {
+		checkLayout(width, height, channels);
+		long size = (long) width * height * channels;
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			if(size > 0) {
+				channel.write(ByteBuffer.wrap(new byte[1]), size - 1);
+			}
+		}
+		return new RawImageFile(file, width, height, channels, true);
+	}
+
+	/**
+	 * Get the width of the image.
+	 * @return integer value containing the width in pixels.
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Get the height of the image.
+	 * @return integer value containing the height in pixels.
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * Get the number of bytes per pixel.
+	 * @return integer value containing 3 for RGB or 4 for RGBA.
+	 */
+	public int getChannels() {
+		return this.channels;
+	}
+
+	/**
+	 * Determine whether the image can be written to.
+	 * @return boolean value determining whether the image is writable.
+	 */
+	public boolean isWritable() {
+		return this.writable;
+	}
+
+	/**
+	 * Get the number of bytes in the image.
+	 * @return long value containing the size of the image.
+	 */
+	public long getByteSize() {
+		return (long) this.width * this.height * this.channels;
+	}
+
+	/**
+	 * Map a band of rows into memory. Each mapping holds address space
+	 * until it is garbage collected, so mapping many bands of a large
+	 * image should be avoided; readRows and writeRows reuse a buffer
+	 * instead. Changes to a writable mapping are only guaranteed to
+	 * reach the file once force() is invoked.
+	 * @param firstRow integer value containing the first row to map.
+	 * @param rows integer value containing the number of rows to map.
+	 * @return MappedByteBuffer containing the rows, writable if the
+	 * image is writable.
+	 * @throws IOException if the rows cannot be mapped.
+	 */
+	public MappedByteBuffer mapRows(int firstRow, int rows) throws IOException {
+		return this.channel.map(this.writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+				this.getRowPosition(firstRow, rows), this.getRowBytes() * rows);
+	}
+
+	/**
+	 * Read a band of rows into a buffer, starting at its position.
+	 * The position of the buffer is advanced past the rows.
+	 * @param firstRow integer value containing the first row to read.
+	 * @param rows integer value containing the number of rows to read.
+	 * @param buffer ByteBuffer receiving the rows, with room for all
+	 *               of their samples.
+	 * @throws IOException if the rows cannot be read.
+	 */
+	public void readRows(int firstRow, int rows, ByteBuffer buffer) throws IOException {
+		long position = this.getRowPosition(firstRow, rows);
+		int limit = buffer.limit();
+		buffer.limit(buffer.position() + (int) (this.getRowBytes() * rows));
+		try {
+			while(buffer.hasRemaining()) {
+				int read = this.channel.read(buffer, position);
+				if(read < 0) {
+					throw new EOFException("File ended before row " + (firstRow + rows));
+				}
+				position += read;
+			}
+		}finally {
+			buffer.limit(limit);
+		}
+	}
+
+	/**
+	 * Write a band of rows from a buffer, starting at its position.
+	 * The position of the buffer is advanced past the rows.
+	 * @param firstRow integer value containing the first row to write.
+	 * @param rows integer value containing the number of rows to write.
+	 * @param buffer ByteBuffer containing the samples of the rows.
+	 * @throws IOException if the rows cannot be written.
+	 */
+	public void writeRows(int firstRow, int rows, ByteBuffer buffer) throws IOException {
+		if(!this.writable) {
+			throw new IllegalStateException("Image is not writable");
+		}
+		long position = this.getRowPosition(firstRow, rows);
+		int limit = buffer.limit();
+		buffer.limit(buffer.position() + (int) (this.getRowBytes() * rows));
+		try {
+			while(buffer.hasRemaining()) {
+				position += this.channel.write(buffer, position);
+			}
+		}finally {
+			buffer.limit(limit);
+		}
+	}
+
+	/**
+	 * Force every change written to the image, including changes
+	 * to mapped rows, out to the file.
+	 * @throws IOException if the file cannot be written to.
+	 */
+	public void force() throws IOException {
+		this.channel.force(false);
+	}
+
+	/**
+	 * Decode pixels from a buffer of raw samples, starting at its
+	 * position. Pixels of RGB images are given an opaque alpha.
+	 * @param buffer ByteBuffer containing raw samples.
+	 * @param bytes byte array used as scratch space, at least as
+	 *              large as the samples of the pixels read.
+	 * @param pixels int array receiving packed pixels.
+	 * @param count integer value containing the number of pixels to read.
+	 * @param channels integer value containing the bytes per pixel.
+	 */
+	static void readPixels(ByteBuffer buffer, byte[] bytes, int[] pixels, int count, int channels) {
+		buffer.get(bytes, 0, count * channels);
+		if(channels == 3) {
+			for(int index = 0, offset = 0; index < count; index++, offset += 3) {
+				pixels[index] = 0xff000000 | ((bytes[offset] & 0xff) << 16)
+						| ((bytes[offset + 1] & 0xff) << 8) | (bytes[offset + 2] & 0xff);
+			}
+		}else {
+			for(int index = 0, offset = 0; index < count; index++, offset += 4) {
+				pixels[index] = ((bytes[offset + 3] & 0xff) << 24) | ((bytes[offset] & 0xff) << 16)
+						| ((bytes[offset + 1] & 0xff) << 8) | (bytes[offset + 2] & 0xff);
+			}
+		}
+	}
+
+	/**
+	 * Encode pixels into a buffer of raw samples, starting at its
+	 * position. Alpha is dropped from pixels of RGB images.
+	 * @param buffer ByteBuffer receiving raw samples.
+	 * @param bytes byte array used as scratch space, at least as
+	 *              large as the samples of the pixels written.
+	 * @param pixels int array containing packed pixels.
+	 * @param count integer value containing the number of pixels to write.
+	 * @param channels integer value containing the bytes per pixel.
+	 */
+	static void writePixels(ByteBuffer buffer, byte[] bytes, int[] pixels, int count, int channels) {
+		int offset = 0;
+		for(int index = 0; index < count; index++) {
+			int pixel = pixels[index];
+			bytes[offset++] = (byte) (pixel >> 16);
+			bytes[offset++] = (byte) (pixel >> 8);
+			bytes[offset++] = (byte) pixel;
+			if(channels == 4) {
+				bytes[offset++] = (byte) (pixel >>> 24);
+			}
+		}
+		buffer.put(bytes, 0, offset);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	/**
+	 * Get the number of bytes in a row of the image.
+	 * @return long value containing the size of a row.
+	 */
+	private long getRowBytes() {
+		return (long) this.width * this.channels;
+	}
+
+	/**
+	 * Check a band of rows, and get its position in the file.
+	 * @param firstRow integer value containing the first row.
+	 * @param rows integer value containing the number of rows.
+	 * @return long value containing the position of the first row.
+	 */
+	private long getRowPosition(int firstRow, int rows) {
+		if(firstRow < 0 || rows < 0 || firstRow + rows > this.height) {
+			throw new IndexOutOfBoundsException("Rows " + firstRow + " to " + (firstRow + rows)
+					+ " are outside of the image");
+		}
+		if(this.getRowBytes() * rows > MAX_MAPPED_BYTES) {
+			throw new IllegalArgumentException("Too many rows to access at once");
+		}
+		return this.getRowBytes() * firstRow;
+	}
+
+	/**
+	 * Check the layout of a raw image.
+	 * @param width integer value containing the width of the image.
+	 * @param height integer value containing the height of the image.
+	 * @param channels integer value containing the bytes per pixel.
+	 */
+	private static void checkLayout(int width, int height, int channels) {
+		if(channels != 3 && channels != 4) {
+			throw new IllegalArgumentException("Raw images have 3 or 4 channels");
+		}
+		if(width < 0 || height < 0) {
+			throw new IllegalArgumentException("Dimensions cannot be negative");
+		}
+		if((long) width * channels > MAX_MAPPED_BYTES) {
+			throw new IllegalArgumentException("Rows are too wide to map");
+		}
+	}
+}
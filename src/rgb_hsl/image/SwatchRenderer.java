@@ -0,0 +1,383 @@
+package rgb_hsl.image;
+
+import rgb_hsl.color.ColorConversions;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.palette.Palette;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renderer used to draw the colors of a Palette as a grid of
+ * swatches and save them as PNG images. Swatches are filled
+ * directly in the integer data buffer of the image, and hex labels
+ * are drawn from a small built in bitmap font, so no Graphics2D is
+ * used. PNG encoding reuses one ImageWriter per thread, and batches
+ * of palettes are rendered in parallel, each thread reusing its image
+ * whenever the next palette has the same dimensions.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class SwatchRenderer {
+	/**
+	 * Rows of each glyph of the label font as five bits, the highest
+	 * bit being the leftmost pixel. The first glyph is '#', followed
+	 * by the hex digits 0 through f, so a digit's glyph is found
+	 * directly from its value.
+	 */
+	private static final int GLYPH_WIDTH = 5,
+			GLYPH_HEIGHT = 7;
+	private static final int[] GLYPHS = {
+			0b01010, 0b01010, 0b11111, 0b01010, 0b11111, 0b01010, 0b01010,
+			0b01110, 0b10001, 0b10011, 0b10101, 0b11001, 0b10001, 0b01110,
+			0b00100, 0b01100, 0b00100, 0b00100, 0b00100, 0b00100, 0b01110,
+			0b01110, 0b10001, 0b00001, 0b00010, 0b00100, 0b01000, 0b11111,
+			0b11111, 0b00010, 0b00100, 0b00010, 0b00001, 0b10001, 0b01110,
+			0b00010, 0b00110, 0b01010, 0b10010, 0b11111, 0b00010, 0b00010,
+			0b11111, 0b10000, 0b11110, 0b00001, 0b00001, 0b10001, 0b01110,
+			0b00110, 0b01000, 0b10000, 0b11110, 0b10001, 0b10001, 0b01110,
+			0b11111, 0b00001, 0b00010, 0b00100, 0b01000, 0b01000, 0b01000,
+			0b01110, 0b10001, 0b10001, 0b01110, 0b10001, 0b10001, 0b01110,
+			0b01110, 0b10001, 0b10001, 0b01111, 0b00001, 0b00010, 0b01100,
+			0b00000, 0b00000, 0b01110, 0b00001, 0b01111, 0b10001, 0b01111,
+			0b10000, 0b10000, 0b10110, 0b11001, 0b10001, 0b10001, 0b11110,
+			0b00000, 0b00000, 0b01110, 0b10000, 0b10000, 0b10001, 0b01110,
+			0b00001, 0b00001, 0b01101, 0b10011, 0b10001, 0b10001, 0b01111,
+			0b00000, 0b00000, 0b01110, 0b10001, 0b11111, 0b10000, 0b01110,
+			0b00110, 0b01001, 0b01000, 0b11100, 0b01000, 0b01000, 0b01000
+	};
+
+	/**
+	 * Number of characters in a label: '#' and six hex digits.
+	 */
+	private static final int LABEL_LENGTH = 7;
+
+	/**
+	 * Relative luminance above which labels are drawn in black.
+	 */
+	private static final double LABEL_LUMINANCE = 0.179;
+
+	private final int swatchWidth,
+			swatchHeight,
+			columns;
+	private int gap,
+			background,
+			labelScale;
+	private boolean labels;
+	private final ForkJoinPool pool;
+	private final ThreadLocal<ImageWriter> writers = ThreadLocal.withInitial(SwatchRenderer::createWriter);
+
+	/**
+	 * Create a renderer running on the common fork-join pool.
+	 * Swatches are separated by a gap of four pixels on a white
+	 * background, with labels at their natural size.
+	 * @param swatchWidth integer value containing the width of a swatch.
+	 * @param swatchHeight integer value containing the height of a swatch.
+	 * @param columns integer value containing the swatches in each row.
+	 */
+	public SwatchRenderer(int swatchWidth, int swatchHeight, int columns) {
+		this(swatchWidth, swatchHeight, columns, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a renderer running on the given pool.
+	 * @param swatchWidth integer value containing the width of a swatch.
+	 * @param swatchHeight integer value containing the height of a swatch.
+	 * @param columns integer value containing the swatches in each row.
+	 * @param pool ForkJoinPool reference used to render batches.
+	 */
+	public SwatchRenderer(int swatchWidth, int swatchHeight, int columns, ForkJoinPool pool) {
+		if(swatchWidth < 1 || swatchHeight < 1 || columns < 1) {
+			throw new IllegalArgumentException("Swatches and columns must be at least one pixel");
+		}
+		this.swatchWidth = swatchWidth;
+		this.swatchHeight = swatchHeight;
+		this.columns = columns;
+		this.pool = pool;
+		this.setGap(4);
+		this.setBackground(0xffffff);
+		this.setLabelScale(1);
+		this.setLabels(true);
+	}
+
+	/**
+	 * Set the space around and between swatches.
+	 * @param gap integer value containing the gap in pixels.
+	 */
+	public void setGap(int gap) {
+		this.gap = (gap < 0) ? 0 : gap;
+	}
+
+	/**
+	 * Get the space around and between swatches.
+	 * @return integer value containing the gap in pixels.
+	 */
+	public int getGap() {
+		return this.gap;
+	}
+
+	/**
+	 * Set the color behind the swatches.
+	 * @param rgb integer value containing a packed color.
+	 */
+	public void setBackground(int rgb) {
+		this.background = rgb & 0xffffff;
+	}
+
+	/**
+	 * Get the color behind the swatches.
+	 * @return integer value containing a packed color.
+	 */
+	public int getBackground() {
+		return this.background;
+	}
+
+	/**
+	 * Set whether each swatch is labelled with its hex code.
+	 * Labels that do not fit in a swatch are left out.
+	 * @param labels boolean value determining whether labels are drawn.
+	 */
+	public void setLabels(boolean labels) {
+		this.labels = labels;
+	}
+
+	/**
+	 * Determine whether each swatch is labelled with its hex code.
+	 * @return boolean value determining whether labels are drawn.
+	 */
+	public boolean hasLabels() {
+		return this.labels;
+	}
+
+	/**
+	 * Set the size of each pixel of the label font.
+	 * @param labelScale integer value containing the width and height
+	 *                   of a font pixel, at least 1.
+	 */
+	public void setLabelScale(int labelScale) {
+		this.labelScale = (labelScale < 1) ? 1 : labelScale;
+	}
+
+	/**
+	 * Get the size of each pixel of the label font.
+	 * @return integer value containing the width and height of a font pixel.
+	 */
+	public int getLabelScale() {
+		return this.labelScale;
+	}
+
+	/**
+	 * Get the width of the image of a palette.
+	 * @param palette Palette reference to render.
+	 * @return integer value containing the width in pixels.
+	 */
+	public int getWidth(Palette palette) {
+		int used = Math.max(1, Math.min(this.columns, palette.getSize()));
+		return (used * this.swatchWidth) + ((used + 1) * this.gap);
+	}
+
+	/**
+	 * Get the height of the image of a palette.
+	 * @param palette Palette reference to render.
+	 * @return integer value containing the height in pixels.
+	 */
+	public int getHeight(Palette palette) {
+		int rows = Math.max(1, (palette.getSize() + this.columns - 1) / this.columns);
+		return (rows * this.swatchHeight) + ((rows + 1) * this.gap);
+	}
+
+	/**
+	 * Render a palette into a new image.
+	 * @param palette Palette reference to render.
+	 * @return BufferedImage of type TYPE_INT_RGB containing the swatches.
+	 */
+	public BufferedImage render(Palette palette) {
+		BufferedImage image = new BufferedImage(this.getWidth(palette), this.getHeight(palette),
+				BufferedImage.TYPE_INT_RGB);
+		this.render(palette, image);
+		return image;
+	}
+
+	/**
+	 * Render a palette into an existing image.
+	 * @param palette Palette reference to render.
+	 * @param image BufferedImage of type TYPE_INT_RGB with the
+	 *              dimensions given by getWidth and getHeight.
+	 */
+	public void render(Palette palette, BufferedImage image) {
+		int width = this.getWidth(palette);
+		int[] data = ImagePixels.getData(image);
+		if(data == null || image.getWidth() != width || image.getHeight() != this.getHeight(palette)) {
+			throw new IllegalArgumentException("Image must be a packed image of the palette's dimensions");
+		}
+		Arrays.fill(data, this.background);
+
+		for(int color = 0; color < palette.getSize(); color++) {
+			int rgb = PackedColor.getRGB(palette.getColor(color)),
+					left = this.gap + ((color % this.columns) * (this.swatchWidth + this.gap)),
+					top = this.gap + ((color / this.columns) * (this.swatchHeight + this.gap));
+			for(int row = top; row < top + this.swatchHeight; row++) {
+				Arrays.fill(data, (row * width) + left, (row * width) + left + this.swatchWidth, rgb);
+			}
+			if(this.labels) {
+				this.drawLabel(data, width, left, top, rgb);
+			}
+		}
+	}
+
+	/**
+	 * Render a palette and save it as a PNG image.
+	 * @param palette Palette reference to render.
+	 * @param file Path reference containing the file to write.
+	 * @throws IOException if the file cannot be written to.
+	 */
+	public void write(Palette palette, Path file) throws IOException {
+		this.write(this.render(palette), file);
+	}
+
+	/**
+	 * Render every palette of a batch in parallel, saving each one
+	 * as a PNG image named after the prefix and its position in the
+	 * batch, such as prefix-0003.png.
+	 * @param palettes List of palettes to render.
+	 * @param directory Path reference containing the directory to write to.
+	 * @param prefix String reference containing the start of each file name.
+	 * @return List of Path objects containing the files written, in
+	 * the same order as the palettes.
+	 * @throws IOException if any file cannot be written to.
+	 */
+	public List<Path> writeAll(List<? extends Palette> palettes, Path directory, String prefix) throws IOException {
+		Files.createDirectories(directory);
+		Path[] files = new Path[palettes.size()];
+		for(int index = 0; index < files.length; index++) {
+			files[index] = directory.resolve(String.format("%s-%04d.png", prefix, index));
+		}
+
+		AtomicInteger next = new AtomicInteger();
+		int workers = Math.min(this.pool.getParallelism(), files.length);
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+		for(int worker = 0; worker < workers; worker++) {
+			tasks.add(this.pool.submit(() -> {
+				BufferedImage image = null;
+				for(int index = next.getAndIncrement(); index < files.length; index = next.getAndIncrement()) {
+					Palette palette = palettes.get(index);
+					if(image == null || image.getWidth() != this.getWidth(palette)
+							|| image.getHeight() != this.getHeight(palette)) {
+						image = new BufferedImage(this.getWidth(palette), this.getHeight(palette),
+								BufferedImage.TYPE_INT_RGB);
+					}
+					this.render(palette, image);
+					try {
+						this.write(image, files[index]);
+					}catch(IOException exception) {
+						throw new UncheckedIOException(exception);
+					}
+				}
+			}));
+		}
+
+		UncheckedIOException failure = null;
+		for(ForkJoinTask<?> task : tasks) {
+			try {
+				task.join();
+			}catch(UncheckedIOException exception) {
+				if(failure == null) {
+					failure = exception;
+				}else {
+					failure.addSuppressed(exception);
+				}
+			}
+		}
+		if(failure != null) {
+			throw failure.getCause();
+		}
+		return Arrays.asList(files);
+	}
+
+	/**
+	 * Encode an image as PNG with the ImageWriter of the calling thread.
+	 * @param image BufferedImage reference to encode.
+	 * @param file Path reference containing the file to write.
+	 * @throws IOException if the file cannot be written to.
+	 */
+	private void write(BufferedImage image, Path file) throws IOException {
+		ImageWriter writer = this.writers.get();
+		Files.deleteIfExists(file);
+		try(ImageOutputStream output = ImageIO.createImageOutputStream(file.toFile())) {
+			if(output == null) {
+				throw new IOException("Cannot write to " + file);
+			}
+			writer.setOutput(output);
+			writer.write(image);
+		}finally {
+			writer.reset();
+		}
+	}
+
+	/**
+	 * Draw the hex code of a swatch along its bottom left corner,
+	 * in black or white, whichever stands out more.
+	 * @param data int array containing the pixels of the image.
+	 * @param width integer value containing the width of the image.
+	 * @param left integer value containing the left of the swatch.
+	 * @param top integer value containing the top of the swatch.
+	 * @param rgb integer value containing the color of the swatch.
+	 */
+	private void drawLabel(int[] data, int width, int left, int top, int rgb) {
+		int scale = this.labelScale,
+				margin = 2 * scale,
+				advance = (GLYPH_WIDTH + 1) * scale,
+				labelWidth = (LABEL_LENGTH * advance) - scale,
+				labelHeight = GLYPH_HEIGHT * scale;
+		if(labelWidth + (2 * margin) > this.swatchWidth || labelHeight + (2 * margin) > this.swatchHeight) {
+			return;
+		}
+		int ink = (ColorConversions.getLuminance(rgb) > LABEL_LUMINANCE) ? 0x000000 : 0xffffff,
+				x = left + margin,
+				y = top + this.swatchHeight - margin - labelHeight;
+
+		for(int character = 0; character < LABEL_LENGTH; character++) {
+			//'#' first, then each digit from the highest
+			int glyph = ((character == 0) ? 0 : 1 + ((rgb >> (4 * (LABEL_LENGTH - 1 - character))) & 0xf))
+					* GLYPH_HEIGHT;
+			for(int glyphRow = 0; glyphRow < GLYPH_HEIGHT; glyphRow++) {
+				int bits = GLYPHS[glyph + glyphRow];
+				for(int glyphColumn = 0; glyphColumn < GLYPH_WIDTH; glyphColumn++) {
+					if((bits & (1 << (GLYPH_WIDTH - 1 - glyphColumn))) == 0) {
+						continue;
+					}
+					int pixelX = x + (character * advance) + (glyphColumn * scale);
+					for(int row = 0; row < scale; row++) {
+						int offset = ((y + (glyphRow * scale) + row) * width) + pixelX;
+						Arrays.fill(data, offset, offset + scale, ink);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Create a PNG ImageWriter.
+	 * @return ImageWriter object able to encode PNG images.
+	 */
+	private static ImageWriter createWriter() {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("png");
+		if(!writers.hasNext()) {
+			throw new IllegalStateException("No PNG ImageWriter is available");
+		}
+		return writers.next();
+	}
+}
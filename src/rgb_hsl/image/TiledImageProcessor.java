@@ -0,0 +1,192 @@
+package rgb_hsl.image;
+
+import rgb_hsl.palette.PaletteIndex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processor used to run operations over raw image files larger
+ * than the heap. The image is divided into tiles, each a band of
+ * whole rows holding about the same number of pixels, and each tile
+ * is read with positional FileChannel reads into a direct buffer,
+ * decoded into a buffer of packed pixels, processed, and encoded and
+ * written back to the output. A fixed number of workers share the
+ * tiles, and each worker keeps one set of tile buffers for its whole
+ * run, so memory use is bounded by the number of cached tiles and the
+ * size of a tile, regardless of the size of the image, and no memory
+ * is mapped. The output is forced to the file before returning.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class TiledImageProcessor {
+	private static final int DEFAULT_TILE_PIXELS = 1 << 20;
+
+	private final int tilePixels,
+			cachedTiles;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Default constructor. When invoked, tiles hold about a million
+	 * pixels, and one tile is cached per thread of the common pool.
+	 */
+	public TiledImageProcessor() {
+		this(DEFAULT_TILE_PIXELS, ForkJoinPool.commonPool().getParallelism(), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a processor with the given tile size and cache.
+	 * @param tilePixels integer value containing the number of pixels
+	 *                   a tile should hold. Tiles always hold at least
+	 *                   one whole row.
+	 * @param cachedTiles integer value containing the most tiles held
+	 *                    in memory at once, which is also the most
+	 *                    tiles processed at once.
+	 * @param pool ForkJoinPool reference used to run every worker.
+	 */
+	public TiledImageProcessor(int tilePixels, int cachedTiles, ForkJoinPool pool) {
+		if(tilePixels < 1 || cachedTiles < 1) {
+			throw new IllegalArgumentException("Tiles and cache must hold at least one pixel");
+		}
+		this.tilePixels = tilePixels;
+		this.cachedTiles = cachedTiles;
+		this.pool = pool;
+	}
+
+	/**
+	 * Count every pixel of an image into a histogram.
+	 * @param image RawImageFile reference to read.
+	 * @param histogram HSLHistogram reference receiving the counts.
+	 * @throws IOException if the image cannot be read.
+	 */
+	public void histogram(RawImageFile image, HSLHistogram histogram) throws IOException {
+		this.run(image, null, (pixels, from, to) -> histogram.add(Arrays.stream(pixels, from, to)));
+	}
+
+	/**
+	 * Replace every pixel with its nearest palette color, keeping alpha.
+	 * @param in RawImageFile reference to read.
+	 * @param out RawImageFile reference to write, which may be the same
+	 *            image as in.
+	 * @param index PaletteIndex reference containing the palette.
+	 * @throws IOException if either image cannot be read or written.
+	 */
+	public void map(RawImageFile in, RawImageFile out, PaletteIndex index) throws IOException {
+		this.process(in, out, PixelOperations.map(index));
+	}
+
+	/**
+	 * Rotate the hue and shift the lightness of every pixel.
+	 * @param in RawImageFile reference to read.
+	 * @param out RawImageFile reference to write, which may be the same
+	 *            image as in.
+	 * @param recolorer PaletteRecolorer reference containing the shifts.
+	 * @throws IOException if either image cannot be read or written.
+	 */
+	public void adjust(RawImageFile in, RawImageFile out, PaletteRecolorer recolorer) throws IOException {
+		this.process(in, out, PixelOperations.adjust(recolorer));
+	}
+
+	/**
+	 * Apply any operation to every pixel of an image.
+	 * @param in RawImageFile reference to read.
+	 * @param out RawImageFile reference to write, which may be the
+	 *            same image as in.
+	 * @param operation PixelOperation reference applied to each tile.
+	 * @throws IOException if either image cannot be read or written.
+	 */
+	public void process(RawImageFile in, RawImageFile out, PixelOperation operation) throws IOException {
+		if(!out.isWritable()) {
+			throw new IllegalArgumentException("Output image is not writable");
+		}
+		if(out.getWidth() != in.getWidth() || out.getHeight() != in.getHeight()) {
+			throw new IllegalArgumentException("Images have different dimensions");
+		}
+		this.run(in, out, operation);
+	}
+
+	/**
+	 * Get the number of rows in each tile of an image.
+	 * @param image RawImageFile reference to divide.
+	 * @return integer value containing the rows per tile.
+	 */
+	int getTileRows(RawImageFile image) {
+		long rowBytes = (long) Math.max(1, image.getWidth()) * image.getChannels();
+		int rows = Math.max(1, this.tilePixels / Math.max(1, image.getWidth()));
+		return (int) Math.min(rows, RawImageFile.MAX_MAPPED_BYTES / rowBytes);
+	}
+
+	/**
+	 * Run an operation over every tile of an image, writing each
+	 * tile to the output image if there is one.
+	 * @param in RawImageFile reference to read.
+	 * @param out RawImageFile reference to write, or null.
+	 * @param operation PixelOperation reference applied to each tile.
+	 * @throws IOException if either image cannot be read or written.
+	 */
+	private void run(RawImageFile in, RawImageFile out, PixelOperation operation) throws IOException {
+		int tileRows = this.getTileRows(in),
+				tiles = (in.getHeight() + tileRows - 1) / tileRows,
+				workers = Math.min(this.cachedTiles, tiles);
+		AtomicInteger nextTile = new AtomicInteger();
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+		for(int worker = 0; worker < workers; worker++) {
+			tasks.add(this.pool.submit(() -> {
+				int tilePixelCount = tileRows * in.getWidth(),
+						tileBytes = tilePixelCount * Math.max(in.getChannels(),
+								(out == null) ? 0 : out.getChannels());
+				int[] pixels = new int[tilePixelCount];
+				byte[] bytes = new byte[tileBytes];
+				ByteBuffer buffer = ByteBuffer.allocateDirect(tileBytes);
+				for(int tile = nextTile.getAndIncrement(); tile < tiles; tile = nextTile.getAndIncrement()) {
+					int firstRow = tile * tileRows,
+							rows = Math.min(tileRows, in.getHeight() - firstRow),
+							count = rows * in.getWidth();
+					try {
+						buffer.clear();
+						in.readRows(firstRow, rows, buffer);
+						buffer.flip();
+						RawImageFile.readPixels(buffer, bytes, pixels, count, in.getChannels());
+						operation.apply(pixels, 0, count);
+						if(out != null) {
+							buffer.clear();
+							RawImageFile.writePixels(buffer, bytes, pixels, count, out.getChannels());
+							buffer.flip();
+							out.writeRows(firstRow, rows, buffer);
+						}
+					}catch(IOException exception) {
+						throw new UncheckedIOException(exception);
+					}
+				}
+			}));
+		}
+
+		RuntimeException failure = null;
+		for(ForkJoinTask<?> task : tasks) {
+			try {
+				task.join();
+			}catch(RuntimeException exception) {
+				if(failure == null) {
+					failure = exception;
+				}else {
+					failure.addSuppressed(exception);
+				}
+			}
+		}
+		if(failure instanceof UncheckedIOException) {
+			throw ((UncheckedIOException) failure).getCause();
+		}else if(failure != null) {
+			throw failure;
+		}
+		if(out != null) {
+			out.force();
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package rgb_hsl.palette;
 
-import rgb_hsl.color.HSLColor;
 import rgb_hsl.color.Color;
 
 /**
@@ -12,7 +11,7 @@ import rgb_hsl.color.Color;
  * @since 1.0.0
  */
 public class AnalogousPalette extends Palette {
-	private int offset;
+	private HarmonyTemplate template;
 
 	/**
 	 * Set the base color and the offset of adjacent
@@ -29,9 +28,9 @@ public class AnalogousPalette extends Palette {
 	}
 
 	/**
-	 * Set the offset of adjacent colors. If the offset
-	 * is greater than 120 degrees, then 120 is set as
-	 * the maximum.
+	 * Set the offset of adjacent colors, and build the
+	 * template generating them. If the offset is greater
+	 * than 120 degrees, then 120 is set as the maximum.
 	 * @param offset int value containing the hue offset of each
 	 *               analogous color.
 	 */
@@ -39,18 +38,12 @@ public class AnalogousPalette extends Palette {
 		if(offset < 0) {
 			offset *= -1;
 		}
-		this.offset = (offset > 120) ? 120 : offset;
+		this.template = HarmonyTemplate.analogous((offset > 120) ? 120 : offset);
 	}
 
 	@Override
 	protected void generate() {
-		HSLColor analogousOne = new HSLColor(Color.getHSLColor(super.getStartingColor())),
-				analogousTwo = new HSLColor(Color.getHSLColor(super.getStartingColor()));
-		analogousOne.incrementHue(this.offset);
-		analogousTwo.incrementHue(-this.offset);
-
-		super.addColor(analogousOne);
-		super.addColor(analogousTwo);
+		this.template.generate(this);
 	}
 
 }
@@ -1,7 +1,6 @@
 package rgb_hsl.palette;
 
 import rgb_hsl.color.Color;
-import rgb_hsl.color.HSLColor;
 
 /**
  * Palette subclass used to generate a complementary
@@ -34,32 +33,11 @@ public class ComplementaryPalette extends Palette {
 		this.generate();
 	}
 
-	/**
-	 * Get a Color object with the opposite hue of the
-	 * starting color. Opposite hue is given as the maximal
-	 * distance in HSL space between the starting color and
-	 * any color with the same saturation and lightness. In
-	 * other words, the complementary color is given by the color
-	 * with a difference of 180 degrees in hue, while retaining
-	 * the same saturation and lightness.
-	 * @return Color object containing the complementary
-	 * Color of the starting color
-	 */
-	private Color getComplementaryColor() {
-	    HSLColor startingHSL = Color.getHSLColor(super.getStartingColor());
-		int hue = startingHSL.getHue();
-		double saturation = startingHSL.getSaturation(),
-				lightness = startingHSL.getLightness();
-
-		HSLColor complementary = new HSLColor(hue, saturation, lightness);
-		complementary.incrementHue(180);
-
-		return complementary;
-	}
-
 	@Override
 	protected void generate() {
-		super.addColor(this.getComplementaryColor());
+		//opposite hue is the maximal distance in HSL space from the
+		//starting color with the same saturation and lightness
+		HarmonyTemplate.COMPLEMENTARY.generate(this);
 	}
 
 }
@@ -0,0 +1,256 @@
+package rgb_hsl.palette;
+
+import rgb_hsl.color.ColorConversions;
+import rgb_hsl.color.PackedColor;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluator used to check the contrast between colors of palettes
+ * against the WCAG 2 contrast ratio. Relative luminance is computed
+ * by ColorConversions from a table of 256 entries per channel, each
+ * holding the weighted linear light of a channel value, so it takes
+ * three lookups and two additions per color. Batches of palettes are evaluated in
+ * parallel and only the pairs below a minimum ratio are kept.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class ContrastEvaluator {
+	/**
+	 * Minimum contrast ratio of WCAG level AA for large text.
+	 */
+	public static final double AA_LARGE = 3;
+
+	/**
+	 * Minimum contrast ratio of WCAG level AA for normal text, and
+	 * of level AAA for large text.
+	 */
+	public static final double AA = 4.5;
+
+	/**
+	 * Minimum contrast ratio of WCAG level AAA for normal text.
+	 */
+	public static final double AAA = 7;
+
+	/**
+	 * Smallest number of palettes evaluated by a single task.
+	 */
+	private static final int PALETTES_PER_TASK = 256;
+
+	private final ForkJoinPool pool;
+
+	/**
+	 * Default constructor. When invoked, batches are evaluated on
+	 * the common fork-join pool.
+	 */
+	public ContrastEvaluator() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create an evaluator running on the given pool.
+	 * @param pool ForkJoinPool reference used to evaluate batches.
+	 */
+	public ContrastEvaluator(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Get the relative luminance of a packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return double value on the range [0, 1], inclusive.
+	 */
+	public static double getLuminance(int rgb) {
+		return ColorConversions.getLuminance(rgb);
+	}
+
+	/**
+	 * Get the contrast ratio between two relative luminances.
+	 * @param luminanceOne double value containing the first luminance.
+	 * @param luminanceTwo double value containing the second luminance.
+	 * @return double value on the range [1, 21], inclusive.
+	 */
+	public static double getContrast(double luminanceOne, double luminanceTwo) {
+		return (luminanceOne > luminanceTwo)
+				? (luminanceOne + 0.05) / (luminanceTwo + 0.05)
+				: (luminanceTwo + 0.05) / (luminanceOne + 0.05);
+	}
+
+	/**
+	 * Get the contrast ratio between two packed colors.
+	 * @param rgbOne integer value containing the first packed color.
+	 * @param rgbTwo integer value containing the second packed color.
+	 * @return double value on the range [1, 21], inclusive.
+	 */
+	public static double getContrast(int rgbOne, int rgbTwo) {
+		return getContrast(getLuminance(rgbOne), getLuminance(rgbTwo));
+	}
+
+	/**
+	 * Get the contrast ratio between every pair of colors of a palette.
+	 * @param palette Palette reference to evaluate.
+	 * @return double array of size * size elements, where the element
+	 * at row i and column j holds the ratio between colors i and j.
+	 */
+	public static double[] getContrastMatrix(Palette palette) {
+		int[] colors = pack(palette);
+		double[] matrix = new double[colors.length * colors.length];
+		getContrastMatrix(colors, 0, colors.length, matrix);
+		return matrix;
+	}
+
+	/**
+	 * Get the contrast ratio between every pair of a range of packed colors.
+	 * @param colors int array containing packed colors.
+	 * @param from integer value containing the first color.
+	 * @param to integer value containing the index after the last color.
+	 * @param matrix double array receiving (to - from) squared ratios
+	 *               in row-major order.
+	 */
+	public static void getContrastMatrix(int[] colors, int from, int to, double[] matrix) {
+		int size = to - from;
+		for(int row = 0; row < size; row++) {
+			double luminance = getLuminance(colors[from + row]);
+			matrix[(row * size) + row] = 1;
+			for(int column = row + 1; column < size; column++) {
+				double ratio = getContrast(luminance, getLuminance(colors[from + column]));
+				matrix[(row * size) + column] = ratio;
+				matrix[(column * size) + row] = ratio;
+			}
+		}
+	}
+
+	/**
+	 * Find every pair of colors of a palette below a minimum ratio.
+	 * @param palette Palette reference to evaluate.
+	 * @param minimum double value containing the minimum contrast ratio.
+	 * @return ContrastViolations containing the failing pairs, all
+	 * with a palette index of 0.
+	 */
+	public ContrastViolations evaluate(Palette palette, double minimum) {
+		int[] colors = pack(palette);
+		ContrastViolations violations = new ContrastViolations();
+		evaluate(colors, 0, colors.length, 0, minimum, violations);
+		return violations;
+	}
+
+	/**
+	 * Find every pair of colors below a minimum ratio in each palette
+	 * of a batch, evaluating palettes in parallel.
+	 * @param palettes List of palettes to evaluate.
+	 * @param minimum double value containing the minimum contrast ratio.
+	 * @return ContrastViolations containing the failing pairs, indexed
+	 * by position in the list.
+	 */
+	public ContrastViolations evaluateAll(List<? extends Palette> palettes, double minimum) {
+		int[] offsets = new int[palettes.size() + 1];
+		for(int palette = 0; palette < palettes.size(); palette++) {
+			offsets[palette + 1] = offsets[palette] + palettes.get(palette).getSize();
+		}
+		int[] colors = new int[offsets[palettes.size()]];
+		for(int palette = 0; palette < palettes.size(); palette++) {
+			Palette current = palettes.get(palette);
+			for(int color = 0; color < current.getSize(); color++) {
+				colors[offsets[palette] + color] = PackedColor.getRGB(current.getColor(color));
+			}
+		}
+		return this.evaluateAll(colors, offsets, minimum);
+	}
+
+	/**
+	 * Find every pair of colors below a minimum ratio in each palette
+	 * of a batch of packed palettes, evaluating palettes in parallel.
+	 * Storing many palettes this way avoids creating Palette and
+	 * Color objects entirely.
+	 * @param colors int array containing the packed colors of every
+	 *               palette, one palette after another.
+	 * @param offsets int array containing the index of the first color
+	 *                of each palette, followed by the index after the
+	 *                last color of the last palette.
+	 * @param minimum double value containing the minimum contrast ratio.
+	 * @return ContrastViolations containing the failing pairs, indexed
+	 * by position in the batch.
+	 */
+	public ContrastViolations evaluateAll(int[] colors, int[] offsets, double minimum) {
+		return this.pool.invoke(new EvaluateTask(colors, offsets, minimum, 0, offsets.length - 1));
+	}
+
+	/**
+	 * Find every pair of a range of packed colors below a minimum ratio.
+	 * @param colors int array containing packed colors.
+	 * @param from integer value containing the first color.
+	 * @param to integer value containing the index after the last color.
+	 * @param palette integer value containing the index of the palette.
+	 * @param minimum double value containing the minimum contrast ratio.
+	 * @param violations ContrastViolations receiving the failing pairs.
+	 */
+	private static void evaluate(int[] colors, int from, int to, int palette, double minimum,
+			ContrastViolations violations) {
+		for(int first = from; first < to; first++) {
+			double luminance = getLuminance(colors[first]);
+			for(int second = first + 1; second < to; second++) {
+				double ratio = getContrast(luminance, getLuminance(colors[second]));
+				if(ratio < minimum) {
+					violations.add(palette, first - from, second - from, ratio);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Pack every color of a palette.
+	 * @param palette Palette reference to pack.
+	 * @return int array containing the packed colors.
+	 */
+	private static int[] pack(Palette palette) {
+		int[] colors = new int[palette.getSize()];
+		for(int color = 0; color < colors.length; color++) {
+			colors[color] = PackedColor.getRGB(palette.getColor(color));
+		}
+		return colors;
+	}
+
+	/**
+	 * Task used to evaluate a range of palettes. Ranges larger than
+	 * the threshold are split in half, and the violations of the
+	 * second half are added after those of the first.
+	 */
+	private static final class EvaluateTask extends RecursiveTask<ContrastViolations> {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] colors,
+				offsets;
+		private final double minimum;
+		private final int from,
+				to;
+
+		private EvaluateTask(int[] colors, int[] offsets, double minimum, int from, int to) {
+			this.colors = colors;
+			this.offsets = offsets;
+			this.minimum = minimum;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected ContrastViolations compute() {
+			if(this.to - this.from <= PALETTES_PER_TASK) {
+				ContrastViolations violations = new ContrastViolations();
+				for(int palette = this.from; palette < this.to; palette++) {
+					evaluate(this.colors, this.offsets[palette], this.offsets[palette + 1], palette,
+							this.minimum, violations);
+				}
+				return violations;
+			}
+			int middle = (this.from + this.to) >>> 1;
+			EvaluateTask second = new EvaluateTask(this.colors, this.offsets, this.minimum, middle, this.to);
+			second.fork();
+			ContrastViolations violations = new EvaluateTask(this.colors, this.offsets, this.minimum,
+					this.from, middle).compute();
+			violations.addAll(second.join());
+			return violations;
+		}
+	}
+}
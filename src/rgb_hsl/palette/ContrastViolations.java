@@ -0,0 +1,154 @@
+package rgb_hsl.palette;
+
+import java.util.Arrays;
+
+/**
+ * Pairs of palette colors whose contrast ratio falls below a
+ * minimum, as found by ContrastEvaluator. Violations are stored in
+ * primitive arrays rather than one object per pair, and are ordered
+ * by palette, then by the first color, then by the second color.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class ContrastViolations {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private int[] palettes,
+			firsts,
+			seconds;
+	private double[] ratios;
+	private int size;
+
+	/**
+	 * Create an empty set of violations.
+	 */
+	ContrastViolations() {
+		this.palettes = new int[INITIAL_CAPACITY];
+		this.firsts = new int[INITIAL_CAPACITY];
+		this.seconds = new int[INITIAL_CAPACITY];
+		this.ratios = new double[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Get the number of violations.
+	 * @return integer value containing the number of violating pairs.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Determine whether there are no violations.
+	 * @return boolean value determining whether every pair passed.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Get the palette of a violation.
+	 * @param violation integer value containing the index of the violation.
+	 * @return integer value containing the index of the palette in the batch.
+	 */
+	public int getPalette(int violation) {
+		this.checkIndex(violation);
+		return this.palettes[violation];
+	}
+
+	/**
+	 * Get the first color of a violation.
+	 * @param violation integer value containing the index of the violation.
+	 * @return integer value containing the index of the color in its palette.
+	 */
+	public int getFirst(int violation) {
+		this.checkIndex(violation);
+		return this.firsts[violation];
+	}
+
+	/**
+	 * Get the second color of a violation, which always comes after
+	 * the first color in its palette.
+	 * @param violation integer value containing the index of the violation.
+	 * @return integer value containing the index of the color in its palette.
+	 */
+	public int getSecond(int violation) {
+		this.checkIndex(violation);
+		return this.seconds[violation];
+	}
+
+	/**
+	 * Get the contrast ratio of a violation.
+	 * @param violation integer value containing the index of the violation.
+	 * @return double value containing the contrast ratio, on the range
+	 * [1, 21], inclusive.
+	 */
+	public double getRatio(int violation) {
+		this.checkIndex(violation);
+		return this.ratios[violation];
+	}
+
+	/**
+	 * Add a violation.
+	 * @param palette integer value containing the index of the palette.
+	 * @param first integer value containing the index of the first color.
+	 * @param second integer value containing the index of the second color.
+	 * @param ratio double value containing the contrast ratio.
+	 */
+	void add(int palette, int first, int second, double ratio) {
+		this.ensureCapacity(this.size + 1);
+		this.palettes[this.size] = palette;
+		this.firsts[this.size] = first;
+		this.seconds[this.size] = second;
+		this.ratios[this.size] = ratio;
+		this.size++;
+	}
+
+	/**
+	 * Add every violation of another set after those of the current
+	 * instance.
+	 * @param violations ContrastViolations reference to add.
+	 */
+	void addAll(ContrastViolations violations) {
+		this.ensureCapacity(this.size + violations.size);
+		System.arraycopy(violations.palettes, 0, this.palettes, this.size, violations.size);
+		System.arraycopy(violations.firsts, 0, this.firsts, this.size, violations.size);
+		System.arraycopy(violations.seconds, 0, this.seconds, this.size, violations.size);
+		System.arraycopy(violations.ratios, 0, this.ratios, this.size, violations.size);
+		this.size += violations.size;
+	}
+
+	/**
+	 * Grow the arrays to hold at least the given number of violations.
+	 * @param capacity integer value containing the number of violations.
+	 */
+	private void ensureCapacity(int capacity) {
+		if(capacity <= this.palettes.length) {
+			return;
+		}
+		int length = Math.max(capacity, this.palettes.length * 2);
+		this.palettes = Arrays.copyOf(this.palettes, length);
+		this.firsts = Arrays.copyOf(this.firsts, length);
+		this.seconds = Arrays.copyOf(this.seconds, length);
+		this.ratios = Arrays.copyOf(this.ratios, length);
+	}
+
+	/**
+	 * Check the index of a violation.
+	 * @param violation integer value containing the index of the violation.
+	 */
+	private void checkIndex(int violation) {
+		if(violation < 0 || violation >= this.size) {
+			throw new IndexOutOfBoundsException("No violation " + violation);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for(int violation = 0; violation < this.size; violation++) {
+			builder.append(String.format("palette %d: %d and %d at %.2f:1\n", this.palettes[violation],
+					this.firsts[violation], this.seconds[violation], this.ratios[violation]));
+		}
+		return builder.append(String.format("Total violations: %d.", this.size)).toString();
+	}
+}
@@ -0,0 +1,96 @@
+package rgb_hsl.palette;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Easing curve mapping a position on the range [0, 1] to an eased
+ * position on the same range. Curves are sampled once into a table,
+ * and positions between samples are linearly interpolated, so
+ * easing a position costs a lookup regardless of the curve.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class Easing {
+	/**
+	 * Default number of intervals between samples of a curve.
+	 */
+	private static final int DEFAULT_STEPS = 1024;
+
+	/**
+	 * Positions are unchanged.
+	 */
+	public static final Easing LINEAR = of(position -> position, 1);
+
+	/**
+	 * Starts slowly and speeds up, following position squared.
+	 */
+	public static final Easing EASE_IN = of(position -> position * position);
+
+	/**
+	 * Starts quickly and slows down, mirroring EASE_IN.
+	 */
+	public static final Easing EASE_OUT = of(position -> 1 - ((1 - position) * (1 - position)));
+
+	/**
+	 * Starts and ends slowly, following the smoothstep curve.
+	 */
+	public static final Easing EASE_IN_OUT = of(position -> position * position * (3 - (2 * position)));
+
+	private final double[] table;
+
+	/**
+	 * Create an easing from its samples.
+	 * @param table double array containing the eased position at each
+	 *              of evenly spaced positions from 0 to 1, inclusive.
+	 */
+	private Easing(double[] table) {
+		this.table = table;
+	}
+
+	/**
+	 * Sample a curve with the default number of steps.
+	 * @param curve DoubleUnaryOperator reference mapping positions on
+	 *              the range [0, 1] to eased positions.
+	 * @return Easing containing the sampled curve.
+	 */
+	public static Easing of(DoubleUnaryOperator curve) {
+		return of(curve, DEFAULT_STEPS);
+	}
+
+	/**
+	 * Sample a curve. Eased positions outside the range [0, 1] are clamped.
+	 * @param curve DoubleUnaryOperator reference mapping positions on
+	 *              the range [0, 1] to eased positions.
+	 * @param steps integer value containing the number of intervals
+	 *              between samples.
+	 * @return Easing containing the sampled curve.
+	 */
+	public static Easing of(DoubleUnaryOperator curve, int steps) {
+		if(steps < 1) {
+			throw new IllegalArgumentException("Curves need at least one step");
+		}
+		double[] table = new double[steps + 1];
+		for(int step = 0; step <= steps; step++) {
+			table[step] = Math.max(0, Math.min(1, curve.applyAsDouble((double) step / steps)));
+		}
+		return new Easing(table);
+	}
+
+	/**
+	 * Ease a position.
+	 * @param position double value on the range [0, 1], inclusive.
+	 *                 Positions outside of the range are clamped.
+	 * @return double value on the range [0, 1], inclusive.
+	 */
+	public double apply(double position) {
+		int steps = this.table.length - 1;
+		if(!(position > 0)) {
+			return this.table[0];
+		}else if(position >= 1) {
+			return this.table[steps];
+		}
+		double scaled = position * steps;
+		int step = (int) scaled;
+		return this.table[step] + ((this.table[step + 1] - this.table[step]) * (scaled - step));
+	}
+}
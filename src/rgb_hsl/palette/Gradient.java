@@ -0,0 +1,365 @@
+package rgb_hsl.palette;
+
+import rgb_hsl.color.Color;
+import rgb_hsl.color.ColorConversions;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Gradient through two or more evenly spaced Color stops, interpolated
+ * in RGB space, in HSL space along the shorter arc of hue, or in the
+ * perceptual CIELAB or OKLab spaces. Stops are converted into the space
+ * once, and steps of the gradient are produced as packed colors of the
+ * form 0xRRGGBB through a bulk fill, a primitive iterator, or a
+ * splittable primitive spliterator, none of which create objects per
+ * step. An Easing may be applied to the position of every step.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class Gradient {
+	/**
+	 * Space colors are interpolated in.
+	 */
+	public enum Space {
+		RGB,
+		HSL,
+		LAB,
+		OKLAB
+	}
+
+	private final Space space;
+	private final List<Color> stops;
+
+	/**
+	 * Components of the first stop of each segment, and the difference
+	 * to the second stop, three per segment.
+	 */
+	private final double[] starts,
+			deltas;
+	private final int segments;
+	private Easing easing;
+
+	/**
+	 * Create a gradient through the given stops.
+	 * @param space Space to interpolate in.
+	 * @param stops Color references containing at least two stops.
+	 */
+	public Gradient(Space space, Color... stops) {
+		this(space, Arrays.asList(stops));
+	}
+
+	/**
+	 * Create a gradient through every color of a palette.
+	 * @param space Space to interpolate in.
+	 * @param palette Palette reference containing at least two colors.
+	 */
+	public Gradient(Space space, Palette palette) {
+		this(space, palette.getColors());
+	}
+
+	/**
+	 * Create a gradient through the given stops.
+	 * @param space Space to interpolate in.
+	 * @param stops List of at least two Colors.
+	 */
+	public Gradient(Space space, List<? extends Color> stops) {
+		if(stops.size() < 2) {
+			throw new IllegalArgumentException("Gradients need at least two stops");
+		}
+		this.space = space;
+		this.stops = Collections.unmodifiableList(new ArrayList<>(stops));
+		this.segments = stops.size() - 1;
+		this.starts = new double[this.segments * 3];
+		this.deltas = new double[this.segments * 3];
+		this.easing = Easing.LINEAR;
+
+		double[] components = this.getComponents();
+		for(int segment = 0; segment < this.segments; segment++) {
+			for(int component = 0; component < 3; component++) {
+				int index = (segment * 3) + component;
+				this.starts[index] = components[index];
+				this.deltas[index] = components[index + 3] - components[index];
+			}
+			if(space == Space.HSL) {
+				this.setHueArc(segment);
+			}
+		}
+	}
+
+	/**
+	 * Get the space colors are interpolated in.
+	 * @return Space of the gradient.
+	 */
+	public Space getSpace() {
+		return this.space;
+	}
+
+	/**
+	 * Get the stops of the gradient.
+	 * @return List of Colors containing the stops, which cannot be modified.
+	 */
+	public List<Color> getStops() {
+		return this.stops;
+	}
+
+	/**
+	 * Set the easing applied to the position of every step.
+	 * @param easing Easing reference to apply.
+	 */
+	public void setEasing(Easing easing) {
+		if(easing == null) {
+			throw new IllegalArgumentException("Easing must not be null");
+		}
+		this.easing = easing;
+	}
+
+	/**
+	 * Get the easing applied to the position of every step.
+	 * @return Easing reference applied to positions.
+	 */
+	public Easing getEasing() {
+		return this.easing;
+	}
+
+	/**
+	 * Get the color at a position of the gradient.
+	 * @param position double value on the range [0, 1], inclusive,
+	 *                 where 0 is the first stop and 1 is the last.
+	 * @return integer value containing the packed color.
+	 */
+	public int getRGB(double position) {
+		return this.interpolate(position, new double[3], new int[1]);
+	}
+
+	/**
+	 * Get evenly spaced steps of the gradient, from the first stop
+	 * to the last stop.
+	 * @param steps integer value containing the number of steps.
+	 * @return int array containing the packed color of each step.
+	 */
+	public int[] getColors(int steps) {
+		int[] colors = new int[steps];
+		this.fill(colors, 0, steps);
+		return colors;
+	}
+
+	/**
+	 * Write evenly spaced steps of the gradient, from the first stop
+	 * to the last stop.
+	 * @param colors int array receiving packed colors.
+	 * @param offset integer value containing the index of the first step.
+	 * @param steps integer value containing the number of steps.
+	 */
+	public void fill(int[] colors, int offset, int steps) {
+		if(steps < 0 || offset < 0 || offset + (long) steps > colors.length) {
+			throw new IndexOutOfBoundsException("Steps do not fit in the output");
+		}
+		double[] components = new double[3];
+		int[] rgb = new int[1];
+		for(int step = 0; step < steps; step++) {
+			colors[offset + step] = this.interpolate(getPosition(step, steps), components, rgb);
+		}
+	}
+
+	/**
+	 * Get an iterator over evenly spaced steps of the gradient.
+	 * @param steps integer value containing the number of steps.
+	 * @return PrimitiveIterator.OfInt over the packed color of each step.
+	 */
+	public PrimitiveIterator.OfInt iterator(int steps) {
+		return Spliterators.iterator(this.spliterator(steps));
+	}
+
+	/**
+	 * Get a spliterator over evenly spaced steps of the gradient.
+	 * Splitting divides the steps in half, so steps can be produced
+	 * by several threads at once.
+	 * @param steps integer value containing the number of steps.
+	 * @return Spliterator.OfInt over the packed color of each step.
+	 */
+	public Spliterator.OfInt spliterator(int steps) {
+		if(steps < 0) {
+			throw new IllegalArgumentException("Steps must not be negative");
+		}
+		return new StepSpliterator(steps, 0, steps);
+	}
+
+	/**
+	 * Get a stream of evenly spaced steps of the gradient.
+	 * @param steps integer value containing the number of steps.
+	 * @return IntStream of the packed color of each step.
+	 */
+	public IntStream stream(int steps) {
+		return StreamSupport.intStream(this.spliterator(steps), false);
+	}
+
+	/**
+	 * Get the position of a step.
+	 * @param step integer value containing the step.
+	 * @param steps integer value containing the number of steps.
+	 * @return double value on the range [0, 1], inclusive.
+	 */
+	static double getPosition(int step, int steps) {
+		return (steps > 1) ? (double) step / (steps - 1) : 0;
+	}
+
+	/**
+	 * Get the color at a position of the gradient.
+	 * @param position double value on the range [0, 1], inclusive.
+	 * @param components double array of three elements used to hold
+	 *                   the interpolated components.
+	 * @param rgb int array of one element used to hold the result of
+	 *            a conversion from a perceptual space.
+	 * @return integer value containing the packed color.
+	 */
+	int interpolate(double position, double[] components, int[] rgb) {
+		double scaled = this.easing.apply(position) * this.segments;
+		int segment = Math.min((int) scaled, this.segments - 1),
+				index = segment * 3;
+		double amount = scaled - segment;
+		for(int component = 0; component < 3; component++) {
+			components[component] = this.starts[index + component] + (this.deltas[index + component] * amount);
+		}
+
+		switch(this.space) {
+			case RGB:
+				return PackedColor.pack((int) Math.round(components[0]), (int) Math.round(components[1]),
+						(int) Math.round(components[2]));
+			case HSL:
+				return PackedColor.fromHSL((int) Math.round(components[0]), components[1], components[2]);
+			case LAB:
+				ColorConversions.labToRGB(components, rgb, 0, 1);
+				return rgb[0];
+			default:
+				ColorConversions.okLabToRGB(components, rgb, 0, 1);
+				return rgb[0];
+		}
+	}
+
+	/**
+	 * Get the components of every stop in the space of the gradient.
+	 * @return double array containing three components per stop.
+	 */
+	private double[] getComponents() {
+		int[] packed = new int[this.stops.size()];
+		double[] components = new double[packed.length * 3];
+		for(int stop = 0; stop < packed.length; stop++) {
+			packed[stop] = PackedColor.getRGB(this.stops.get(stop));
+		}
+
+		switch(this.space) {
+			case RGB:
+				for(int stop = 0; stop < packed.length; stop++) {
+					components[stop * 3] = PackedColor.getRed(packed[stop]);
+					components[(stop * 3) + 1] = PackedColor.getGreen(packed[stop]);
+					components[(stop * 3) + 2] = PackedColor.getBlue(packed[stop]);
+				}
+				break;
+			case HSL:
+				for(int stop = 0; stop < packed.length; stop++) {
+					HSLColor color = Color.getHSLColor(this.stops.get(stop));
+					components[stop * 3] = color.getHue();
+					components[(stop * 3) + 1] = color.getSaturation();
+					components[(stop * 3) + 2] = color.getLightness();
+				}
+				break;
+			case LAB:
+				ColorConversions.rgbToLab(packed, 0, packed.length, components);
+				break;
+			default:
+				ColorConversions.rgbToOKLab(packed, 0, packed.length, components);
+				break;
+		}
+		return components;
+	}
+
+	/**
+	 * Set the hue of a segment to follow the shorter arc between its
+	 * stops. A gray stop has no hue of its own, so it takes the hue of
+	 * the other stop.
+	 * @param segment integer value containing the segment.
+	 */
+	private void setHueArc(int segment) {
+		int index = segment * 3;
+		double startHue = this.starts[index],
+				endHue = startHue + this.deltas[index];
+		if(this.starts[index + 1] == 0) {
+			startHue = endHue;
+		}else if(this.starts[index + 1] + this.deltas[index + 1] == 0) {
+			endHue = startHue;
+		}
+		double arc = (endHue - startHue) % 360;
+		if(arc > 180) {
+			arc -= 360;
+		}else if(arc < -180) {
+			arc += 360;
+		}
+		this.starts[index] = startHue;
+		this.deltas[index] = arc;
+	}
+
+	/**
+	 * Spliterator over a range of evenly spaced steps.
+	 */
+	private final class StepSpliterator implements Spliterator.OfInt {
+		private final int steps;
+		private final double[] components = new double[3];
+		private final int[] rgb = new int[1];
+		private int step,
+				end;
+
+		private StepSpliterator(int steps, int step, int end) {
+			this.steps = steps;
+			this.step = step;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			if(this.step >= this.end) {
+				return false;
+			}
+			action.accept(Gradient.this.interpolate(getPosition(this.step++, this.steps), this.components, this.rgb));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			for(; this.step < this.end; this.step++) {
+				action.accept(Gradient.this.interpolate(getPosition(this.step, this.steps), this.components, this.rgb));
+			}
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int middle = (this.step + this.end) >>> 1;
+			if(middle <= this.step) {
+				return null;
+			}
+			StepSpliterator prefix = new StepSpliterator(this.steps, this.step, middle);
+			this.step = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.end - this.step;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+		}
+	}
+}
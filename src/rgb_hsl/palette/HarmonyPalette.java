@@ -0,0 +1,39 @@
+package rgb_hsl.palette;
+
+import rgb_hsl.color.Color;
+
+/**
+ * Palette subclass used to generate the palette of any
+ * HarmonyTemplate, such as a split complementary, tetradic, or
+ * square palette.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class HarmonyPalette extends Palette {
+	private final HarmonyTemplate template;
+
+	/**
+	 * Create a palette of a template around the given color.
+	 * @param color Color reference containing the starting color.
+	 * @param template HarmonyTemplate reference describing the
+	 *                 colors that follow the starting color.
+	 */
+	public HarmonyPalette(Color color, HarmonyTemplate template) {
+		super(color);
+		this.template = template;
+		this.generate();
+	}
+
+	/**
+	 * Get the template of the palette.
+	 * @return HarmonyTemplate reference describing the palette.
+	 */
+	public HarmonyTemplate getTemplate() {
+		return this.template;
+	}
+
+	@Override
+	protected void generate() {
+		this.template.generate(this);
+	}
+}
@@ -0,0 +1,215 @@
+package rgb_hsl.palette;
+
+import rgb_hsl.color.Color;
+import rgb_hsl.color.PackedColor;
+
+/**
+ * Template describing a color harmony as the colors that follow a
+ * seed color, each given by a hue offset from the seed and optional
+ * saturation and lightness deltas. Templates are compiled once into
+ * primitive tables, so applying one costs a single HSL conversion of
+ * the seed plus one RGB conversion per color, and applying one to an
+ * array of packed seeds creates no objects.
+ * More information on harmonies can be found here:
+ * <a href="https://en.wikipedia.org/wiki/Color_scheme" target="_blank">
+ *     https://en.wikipedia.org/wiki/Color_scheme
+ * </a>
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public final class HarmonyTemplate {
+	/**
+	 * The color with the opposite hue.
+	 */
+	public static final HarmonyTemplate COMPLEMENTARY = new HarmonyTemplate(180);
+
+	/**
+	 * The two colors adjacent to the opposite hue.
+	 */
+	public static final HarmonyTemplate SPLIT_COMPLEMENTARY = new HarmonyTemplate(150, 210);
+
+	/**
+	 * The two colors a third of the way around the hue circle.
+	 */
+	public static final HarmonyTemplate TRIAD = new HarmonyTemplate(120, -120);
+
+	/**
+	 * The colors of a rectangle on the hue circle: a neighbour, the
+	 * opposite hue, and the opposite of the neighbour.
+	 */
+	public static final HarmonyTemplate TETRADIC = new HarmonyTemplate(60, 180, 240);
+
+	/**
+	 * The colors of a square on the hue circle.
+	 */
+	public static final HarmonyTemplate SQUARE = new HarmonyTemplate(90, 180, 270);
+
+	private final int[] hueOffsets;
+	private final double[] saturationDeltas,
+			lightnessDeltas;
+
+	/**
+	 * Create a template whose colors only differ from the seed in hue.
+	 * @param hueOffsets int array containing the degrees of hue added
+	 *                   to the seed for each color.
+	 */
+	public HarmonyTemplate(int... hueOffsets) {
+		this(hueOffsets, new double[hueOffsets.length], new double[hueOffsets.length]);
+	}
+
+	/**
+	 * Create a template.
+	 * @param hueOffsets int array containing the degrees of hue added
+	 *                   to the seed for each color.
+	 * @param saturationDeltas double array containing the saturation
+	 *                         added to the seed for each color. Results
+	 *                         are clamped to the range [0, 1].
+	 * @param lightnessDeltas double array containing the lightness
+	 *                        added to the seed for each color. Results
+	 *                        are clamped to the range [0, 1].
+	 */
+	public HarmonyTemplate(int[] hueOffsets, double[] saturationDeltas, double[] lightnessDeltas) {
+		if(saturationDeltas.length != hueOffsets.length || lightnessDeltas.length != hueOffsets.length) {
+			throw new IllegalArgumentException("Every color needs a hue offset, saturation delta, and lightness delta");
+		}
+		this.hueOffsets = new int[hueOffsets.length];
+		for(int color = 0; color < hueOffsets.length; color++) {
+			this.hueOffsets[color] = Math.floorMod(hueOffsets[color], 360);
+		}
+		this.saturationDeltas = saturationDeltas.clone();
+		this.lightnessDeltas = lightnessDeltas.clone();
+	}
+
+	/**
+	 * Get a template of the two colors on either side of the seed.
+	 * @param offset integer value containing the degrees of hue between
+	 *               the seed and each adjacent color.
+	 * @return HarmonyTemplate containing the analogous colors.
+	 */
+	public static HarmonyTemplate analogous(int offset) {
+		return new HarmonyTemplate(offset, -offset);
+	}
+
+	/**
+	 * Get the number of colors in each palette, including the seed.
+	 * @return integer value containing the number of colors.
+	 */
+	public int getSize() {
+		return this.hueOffsets.length + 1;
+	}
+
+	/**
+	 * Get a palette of the template around a seed color.
+	 * @param color Color reference containing the seed.
+	 * @return Palette whose starting color is the seed.
+	 */
+	public Palette apply(Color color) {
+		return new HarmonyPalette(color, this);
+	}
+
+	/**
+	 * Get the packed colors of the template around a packed seed.
+	 * Every color keeps the alpha of the seed.
+	 * @param rgb integer value containing the packed seed, in the
+	 *            form 0xAARRGGBB.
+	 * @return int array containing the seed, followed by each color.
+	 */
+	public int[] apply(int rgb) {
+		int[] colors = new int[this.getSize()];
+		this.apply(new int[] {rgb}, 0, 1, colors, 0);
+		return colors;
+	}
+
+	/**
+	 * Get the packed colors of the template around a range of packed
+	 * seeds. The colors of each seed are written as the seed followed
+	 * by each color of the template, one seed after another, and every
+	 * color keeps the alpha of its seed.
+	 * @param seeds int array containing packed seeds, in the form 0xAARRGGBB.
+	 * @param from integer value containing the first seed.
+	 * @param to integer value containing the index after the last seed.
+	 * @param colors int array receiving getSize() colors per seed.
+	 * @param offset integer value containing the index of the first
+	 *               color to write.
+	 */
+	public void apply(int[] seeds, int from, int to, int[] colors, int offset) {
+		if(from < 0 || to > seeds.length || from > to) {
+			throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ")");
+		}
+		if(offset < 0 || offset + ((long) (to - from) * this.getSize()) > colors.length) {
+			throw new IndexOutOfBoundsException("Colors do not fit in the output");
+		}
+		int write = offset;
+		for(int seed = from; seed < to; seed++) {
+			int rgb = seeds[seed],
+					alpha = rgb & 0xff000000,
+					hue = PackedColor.getHue(rgb);
+			double saturation = PackedColor.getSaturation(rgb),
+					lightness = PackedColor.getLightness(rgb);
+			colors[write++] = rgb;
+			for(int color = 0; color < this.hueOffsets.length; color++) {
+				colors[write++] = alpha | PackedColor.fromHSL(hue + this.hueOffsets[color],
+						saturation + this.saturationDeltas[color], lightness + this.lightnessDeltas[color]);
+			}
+		}
+	}
+
+	/**
+	 * Get the colors of the template around a range of seeds in HSL
+	 * space with float components, without rounding hue to a whole
+	 * degree. Colors are stored as hue, saturation, and lightness, three
+	 * elements per color, as used by FloatColorConversions. The colors
+	 * of each seed are written as the seed followed by each color of
+	 * the template, one seed after another.
+	 * @param seeds float array containing seeds, three elements per color.
+	 * @param from integer value containing the first seed.
+	 * @param to integer value containing the index after the last seed.
+	 * @param colors float array receiving getSize() colors per seed.
+	 * @param offset integer value containing the index of the first
+	 *               color to write.
+	 */
+	public void apply(float[] seeds, int from, int to, float[] colors, int offset) {
+		if(from < 0 || to * 3L > seeds.length || from > to) {
+			throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ")");
+		}
+		if(offset < 0 || (offset + ((long) (to - from) * this.getSize())) * 3 > colors.length) {
+			throw new IndexOutOfBoundsException("Colors do not fit in the output");
+		}
+		int write = offset * 3;
+		for(int seed = from; seed < to; seed++) {
+			float hue = seeds[seed * 3],
+					saturation = seeds[(seed * 3) + 1],
+					lightness = seeds[(seed * 3) + 2];
+			colors[write++] = hue;
+			colors[write++] = saturation;
+			colors[write++] = lightness;
+			for(int color = 0; color < this.hueOffsets.length; color++) {
+				colors[write++] = (hue + this.hueOffsets[color]) % 360;
+				colors[write++] = clamp(saturation + (float) this.saturationDeltas[color]);
+				colors[write++] = clamp(lightness + (float) this.lightnessDeltas[color]);
+			}
+		}
+	}
+
+	/**
+	 * Add the colors of the template to a palette, around its starting
+	 * color.
+	 * @param palette Palette reference whose starting color is the seed.
+	 */
+	void generate(Palette palette) {
+		double[] seed = palette.getStartingHSL();
+		for(int color = 0; color < this.hueOffsets.length; color++) {
+			palette.addColor(palette.createColor(seed[0] + this.hueOffsets[color],
+					seed[1] + this.saturationDeltas[color], seed[2] + this.lightnessDeltas[color]));
+		}
+	}
+
+	/**
+	 * Clamp the given value to the range [0, 1], inclusive.
+	 * @param value float value to clamp.
+	 * @return float value on the range [0, 1], inclusive.
+	 */
+	private static float clamp(float value) {
+		return Math.max(0, Math.min(value, 1));
+	}
+}
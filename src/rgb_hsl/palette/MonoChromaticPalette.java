@@ -1,7 +1,6 @@
 package rgb_hsl.palette;
 
 import rgb_hsl.color.Color;
-import rgb_hsl.color.HSLColor;
 
 /**
  * Palette subclass used to generate a monochromatic
@@ -51,21 +50,15 @@ public class MonoChromaticPalette extends Palette {
 
 	@Override
 	protected void generate() {
-	    HSLColor startingHSL = Color.getHSLColor(super.getStartingColor());
-		double currentLightness = startingHSL.getLightness();
-		HSLColor currentColor,
-				tempHSL;
+		double[] startingHSL = super.getStartingHSL();
+		double currentLightness = startingHSL[2];
 		//create all other aside from base color
 		for(int index = 0; index < (this.amount - 1); index++) {
 			currentLightness += ((double) 1 / (this.amount));
 			//make sure lightness is in range of 0 to 1, inclusive
 			currentLightness %= 1;
 
-			tempHSL = Color.getHSLColor(super.getColor(index));
-			int hue = tempHSL.getHue();
-			double saturation = tempHSL.getSaturation();
-			currentColor = new HSLColor(hue, saturation, currentLightness);
-			super.addColor(currentColor);
+			super.addColor(super.createColor(startingHSL[0], startingHSL[1], currentLightness));
 		}
 	}
 
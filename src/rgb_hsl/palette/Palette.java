@@ -1,7 +1,14 @@
 package rgb_hsl.palette;
 
+import rgb_hsl.color.BlendMode;
 import rgb_hsl.color.Color;
+import rgb_hsl.color.ColorNames;
+import rgb_hsl.color.ColorVisionDeficiency;
+import rgb_hsl.color.FloatHSLColor;
+import rgb_hsl.color.FloatRGBColor;
+import rgb_hsl.color.HSLAColor;
 import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
 
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
@@ -115,6 +122,144 @@ public abstract class Palette {
 		return this.colors.size();
 	}
 
+	/**
+	 * Get the name of the nearest named color for every
+	 * Color in the palette.
+	 * @return String array containing the nearest color
+	 * name of each Color, in the same order as getColors().
+	 */
+	public String[] getColorNames() {
+		int[] packed = this.toPackedArray();
+		String[] names = new String[packed.length];
+		ColorNames.getNearestNames(packed, names);
+
+		return names;
+	}
+
+	/**
+	 * Get every Color in the palette as it appears to a viewer with
+	 * the given color vision deficiency. Colors that are not opaque
+	 * keep their alpha.
+	 * @param deficiency ColorVisionDeficiency to simulate.
+	 * @return List of basetype Color containing the simulated colors,
+	 * in the same order as getColors().
+	 */
+	public List<Color> simulate(ColorVisionDeficiency deficiency) {
+		int[] packed = this.toPackedArray();
+		deficiency.simulate(packed, 0, packed.length);
+
+		List<Color> simulated = new ArrayList<>(packed.length);
+		for(int argb : packed) {
+			simulated.add(((argb >>> 24) == 255) ? PackedColor.toRGBColor(argb) : PackedColor.toRGBAColor(argb));
+		}
+		return simulated;
+	}
+
+	/**
+	 * Get every Color in the palette as it appears when blended
+	 * over the given background.
+	 * @param mode BlendMode used to blend each Color.
+	 * @param background Color reference containing the background.
+	 * @param opacity double value on the range [0, 1], inclusive,
+	 *                   containing the opacity of each Color, which
+	 *                   is multiplied with the alpha of the Color.
+	 * @return List of basetype Color containing the blended colors,
+	 * in the same order as getColors().
+	 */
+	public List<Color> blend(BlendMode mode, Color background, double opacity) {
+		if(!(opacity >= 0 && opacity <= 1)) {
+			throw new IllegalArgumentException("Opacity " + opacity + " is not on the range [0, 1]");
+		}
+		int[] packed = this.toPackedArray();
+		for(int index = 0; index < packed.length; index++) {
+			int alpha = (int) Math.round((packed[index] >>> 24) * opacity);
+			packed[index] = (alpha << 24) | (packed[index] & 0xffffff);
+		}
+		mode.blend(PackedColor.getRGB(background), packed, packed, 0, packed.length);
+
+		List<Color> blended = new ArrayList<>(packed.length);
+		for(int rgb : packed) {
+			blended.add(PackedColor.toRGBColor(rgb));
+		}
+		return blended;
+	}
+
+	/**
+	 * Get every Color in the palette quantized to 8-bit RGB channels.
+	 * Palettes generated from a high precision starting color keep
+	 * their precision until they are quantized.
+	 * @return List of basetype Color containing the quantized colors,
+	 * in the same order as getColors().
+	 */
+	public List<Color> quantize() {
+		List<Color> quantized = new ArrayList<>(this.colors.size());
+		for(Color color : this.colors) {
+			quantized.add(Color.getRGBColor(color));
+		}
+		return quantized;
+	}
+
+	/**
+	 * Get the hue, saturation, and lightness of the starting color
+	 * to generate the palette from. Starting colors with float
+	 * components keep their precision.
+	 * @return double array containing the hue, saturation, and
+	 * lightness of the starting color.
+	 * @throws IllegalArgumentException if the starting color has
+	 * float channels outside of the range [0, 1].
+	 */
+	protected double[] getStartingHSL() {
+		if(this.isHighPrecision()) {
+			FloatHSLColor hslColor = Color.getFloatHSLColor(this.startingColor);
+			return new double[] {hslColor.getHue(), hslColor.getSaturation(), hslColor.getLightness()};
+		}
+		HSLColor hslColor = Color.getHSLColor(this.startingColor);
+		return new double[] {hslColor.getHue(), hslColor.getSaturation(), hslColor.getLightness()};
+	}
+
+	/**
+	 * Create a color for the palette to generate. If the starting
+	 * color has float components, the created color does too, and
+	 * otherwise hue is truncated to a whole degree. If the starting
+	 * color is not opaque, the created color has the same alpha.
+	 * @param hue double value containing the degree of hue.
+	 * @param saturation double value containing the saturation.
+	 * @param lightness double value containing the lightness.
+	 * @return Color object containing the created color.
+	 */
+	protected Color createColor(double hue, double saturation, double lightness) {
+		if(this.isHighPrecision()) {
+			return new FloatHSLColor((float) hue, (float) saturation, (float) lightness);
+		}
+		int alpha = PackedColor.getAlpha(this.startingColor);
+		if(alpha != 255) {
+			return new HSLAColor((int) hue, saturation, lightness, alpha);
+		}
+		return new HSLColor((int) hue, saturation, lightness);
+	}
+
+	/**
+	 * Determine whether the palette is generated with float components.
+	 * @return boolean value determining whether the starting color
+	 * has float components.
+	 */
+	private boolean isHighPrecision() {
+		return this.startingColor instanceof FloatRGBColor || this.startingColor instanceof FloatHSLColor;
+	}
+
+	/**
+	 * Get every Color in the palette as a packed color, keeping its alpha.
+	 * @return int array containing the packed colors in the form
+	 * 0xAARRGGBB, in the same order as getColors().
+	 */
+	private int[] toPackedArray() {
+		int[] packed = new int[this.colors.size()];
+		for(int index = 0; index < packed.length; index++) {
+			packed[index] = PackedColor.getARGB(this.colors.get(index));
+		}
+		return packed;
+	}
+
 	/**
 	 * Add a new Color reference to the instance's
 	 * list of Colors.
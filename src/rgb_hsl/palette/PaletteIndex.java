@@ -0,0 +1,372 @@
+package rgb_hsl.palette;
+
+import rgb_hsl.color.Color;
+import rgb_hsl.color.ColorConversions;
+import rgb_hsl.color.PackedColor;
+
+import java.util.stream.IntStream;
+
+/**
+ * Index used to find the nearest color of a Palette to any
+ * other color. The colors of the palette are converted once
+ * into the coordinates of a Metric and stored in a k-d tree
+ * held in flat arrays, so queries create no Color objects and
+ * visit only a few palette colors. When several palette colors
+ * are equally near, the one added to the palette first is chosen.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class PaletteIndex {
+	/**
+	 * Spaces in which distance between colors can be measured.
+	 */
+	public enum Metric {
+		/**
+		 * Euclidean distance between RGB triplets.
+		 */
+		RGB,
+		/**
+		 * Euclidean distance in the HSL cylinder, where hue is
+		 * the angle, saturation the radius, and lightness the height.
+		 */
+		HSL,
+		/**
+		 * Euclidean distance in CIELAB space.
+		 */
+		LAB,
+		/**
+		 * Euclidean distance in OKLab space.
+		 */
+		OKLAB
+	}
+
+	/**
+	 * Number of pixels converted at a time by mapPixels.
+	 */
+	private static final int CHUNK_SIZE = 4096;
+
+	/**
+	 * Cosine and sine of every whole degree of hue.
+	 */
+	private static final double[] COSINES = new double[360],
+			SINES = new double[360];
+
+	static {
+		for(int degree = 0; degree < 360; degree++) {
+			COSINES[degree] = Math.cos(Math.toRadians(degree));
+			SINES[degree] = Math.sin(Math.toRadians(degree));
+		}
+	}
+
+	/**
+	 * Query of each thread, reused by single color lookups so
+	 * that they create no objects.
+	 */
+	private static final ThreadLocal<Query> QUERIES = ThreadLocal.withInitial(Query::new);
+
+	private final Metric metric;
+	private final int[] colors;
+
+	/**
+	 * Palette indices in k-d tree order. The node of the range
+	 * [low, high) is found at the middle of the range, and its
+	 * children are the ranges on either side of it.
+	 */
+	private final int[] tree;
+
+	/**
+	 * Coordinates of each node, three elements per node, and
+	 * the axis each node splits on.
+	 */
+	private final double[] coordinates;
+	private final byte[] axes;
+
+	/**
+	 * Create an index over the given palette, measuring distance
+	 * in RGB space.
+	 * @param palette Palette reference to index.
+	 */
+	public PaletteIndex(Palette palette) {
+		this(palette, Metric.RGB);
+	}
+
+	/**
+	 * Create an index over the given palette.
+	 * @param palette Palette reference to index.
+	 * @param metric Metric used to measure distance between colors.
+	 */
+	public PaletteIndex(Palette palette, Metric metric) {
+		this.metric = metric;
+		this.colors = new int[palette.getSize()];
+		for(int index = 0; index < this.colors.length; index++) {
+			this.colors[index] = PackedColor.getRGB(palette.getColor(index));
+		}
+
+		double[] paletteCoordinates = new double[this.colors.length * 3];
+		toCoordinates(metric, this.colors, this.colors.length, paletteCoordinates);
+
+		this.tree = new int[this.colors.length];
+		for(int index = 0; index < this.tree.length; index++) {
+			this.tree[index] = index;
+		}
+		this.axes = new byte[this.tree.length];
+		this.build(paletteCoordinates, 0, this.tree.length);
+
+		this.coordinates = new double[this.tree.length * 3];
+		for(int node = 0; node < this.tree.length; node++) {
+			System.arraycopy(paletteCoordinates, this.tree[node] * 3, this.coordinates, node * 3, 3);
+		}
+	}
+
+	/**
+	 * Get the metric used by the index.
+	 * @return Metric used to measure distance between colors.
+	 */
+	public Metric getMetric() {
+		return this.metric;
+	}
+
+	/**
+	 * Get the number of colors in the index.
+	 * @return integer value containing the number of colors.
+	 */
+	public int getSize() {
+		return this.colors.length;
+	}
+
+	/**
+	 * Get a palette color as a packed color.
+	 * @param index integer value containing the index of the color
+	 *              in the palette.
+	 * @return integer value containing the packed color.
+	 */
+	public int getRGB(int index) {
+		return this.colors[index];
+	}
+
+	/**
+	 * Get the index of the palette color nearest to the given color.
+	 * @param color Color reference to search for.
+	 * @return integer value containing the index of the nearest
+	 * color in the palette, or -1 if the palette is empty.
+	 */
+	public int getNearestIndex(Color color) {
+		return this.getNearestIndex(PackedColor.getRGB(color));
+	}
+
+	/**
+	 * Get the index of the palette color nearest to the given
+	 * packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return integer value containing the index of the nearest
+	 * color in the palette, or -1 if the palette is empty.
+	 */
+	public int getNearestIndex(int rgb) {
+		Query query = QUERIES.get();
+		query.color[0] = rgb;
+		toCoordinates(this.metric, query.color, 1, query.point);
+		return this.search(query, query.point[0], query.point[1], query.point[2]);
+	}
+
+	/**
+	 * Get the palette color nearest to the given packed color.
+	 * @param rgb integer value containing a packed color.
+	 * @return integer value containing the nearest palette color.
+	 */
+	public int getNearestRGB(int rgb) {
+		return this.colors[this.getNearestIndex(rgb)];
+	}
+
+	/**
+	 * Map every pixel to the index of its nearest palette color.
+	 * Pixels are converted in chunks, and chunks are mapped in
+	 * parallel on the common fork-join pool.
+	 * @param in int array containing packed pixels. Any alpha in
+	 *           the highest byte is ignored.
+	 * @param outIndices int array receiving the palette index of
+	 *                   each pixel. May be the same array as in.
+	 */
+	public void mapPixels(int[] in, int[] outIndices) {
+		if(outIndices.length < in.length) {
+			throw new IllegalArgumentException("Output is smaller than input");
+		}
+		int chunks = (in.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		IntStream.range(0, chunks).parallel().forEach(chunk -> {
+			int from = chunk * CHUNK_SIZE,
+					length = Math.min(CHUNK_SIZE, in.length - from);
+			this.mapRange(in, outIndices, from, length);
+		});
+	}
+
+	/**
+	 * Map a range of pixels to the indices of their nearest palette
+	 * colors on the calling thread.
+	 * @param in int array containing packed pixels.
+	 * @param outIndices int array receiving the palette index of each pixel.
+	 * @param from integer value containing the first pixel to map.
+	 * @param length integer value containing the number of pixels to map.
+	 */
+	public void mapRange(int[] in, int[] outIndices, int from, int length) {
+		int[] pixels = new int[Math.max(1, Math.min(length, CHUNK_SIZE))];
+		double[] points = new double[pixels.length * 3];
+		Query query = new Query();
+		for(int start = from; start < from + length; start += pixels.length) {
+			int count = Math.min(pixels.length, from + length - start);
+			System.arraycopy(in, start, pixels, 0, count);
+			toCoordinates(this.metric, pixels, count, points);
+			for(int index = 0; index < count; index++) {
+				outIndices[start + index] = this.search(query, points[index * 3],
+						points[(index * 3) + 1], points[(index * 3) + 2]);
+			}
+		}
+	}
+
+	/**
+	 * Find the palette index nearest to a point in metric space.
+	 * @param query Query reference used to hold the best match.
+	 * @param x double value containing the first coordinate.
+	 * @param y double value containing the second coordinate.
+	 * @param z double value containing the third coordinate.
+	 * @return integer value containing the nearest palette index,
+	 * or -1 if the palette is empty.
+	 */
+	private int search(Query query, double x, double y, double z) {
+		query.distance = Double.POSITIVE_INFINITY;
+		query.index = -1;
+		this.search(query, x, y, z, 0, this.tree.length);
+		return query.index;
+	}
+
+	/**
+	 * Search the subtree of the range [low, high) for a palette
+	 * color nearer than the best match of the query. The side of
+	 * the splitting plane containing the point is searched first,
+	 * and the other side only if the plane is near enough to hold
+	 * a better match.
+	 * @param query Query reference holding the best match so far.
+	 * @param x double value containing the first coordinate.
+	 * @param y double value containing the second coordinate.
+	 * @param z double value containing the third coordinate.
+	 * @param low integer value containing the start of the range.
+	 * @param high integer value containing the end of the range.
+	 */
+	private void search(Query query, double x, double y, double z, int low, int high) {
+		if(low >= high) {
+			return;
+		}
+		int node = (low + high) >>> 1,
+				index = this.tree[node];
+		double xDistance = x - this.coordinates[node * 3],
+				yDistance = y - this.coordinates[(node * 3) + 1],
+				zDistance = z - this.coordinates[(node * 3) + 2],
+				distance = (xDistance * xDistance) + (yDistance * yDistance) + (zDistance * zDistance);
+		if(distance < query.distance || (distance == query.distance && index < query.index)) {
+			query.distance = distance;
+			query.index = index;
+		}
+
+		double split = (this.axes[node] == 0) ? xDistance : (this.axes[node] == 1) ? yDistance : zDistance;
+		if(split < 0) {
+			this.search(query, x, y, z, low, node);
+			if(split * split <= query.distance) {
+				this.search(query, x, y, z, node + 1, high);
+			}
+		}else {
+			this.search(query, x, y, z, node + 1, high);
+			if(split * split <= query.distance) {
+				this.search(query, x, y, z, low, node);
+			}
+		}
+	}
+
+	/**
+	 * Arrange the range [low, high) of the tree into a balanced
+	 * k-d tree, splitting on the axis with the widest spread.
+	 * @param points double array containing the coordinates of every
+	 *               palette color, indexed by palette index.
+	 * @param low integer value containing the start of the range.
+	 * @param high integer value containing the end of the range.
+	 */
+	private void build(double[] points, int low, int high) {
+		if(high - low <= 1) {
+			return;
+		}
+		int axis = 0;
+		double widest = -1;
+		for(int candidate = 0; candidate < 3; candidate++) {
+			double min = Double.POSITIVE_INFINITY,
+					max = Double.NEGATIVE_INFINITY;
+			for(int node = low; node < high; node++) {
+				double value = points[(this.tree[node] * 3) + candidate];
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+			}
+			if(max - min > widest) {
+				widest = max - min;
+				axis = candidate;
+			}
+		}
+
+		//insertion sort along the axis; palettes are small
+		for(int node = low + 1; node < high; node++) {
+			int index = this.tree[node],
+					previous = node - 1;
+			double value = points[(index * 3) + axis];
+			while(previous >= low && points[(this.tree[previous] * 3) + axis] > value) {
+				this.tree[previous + 1] = this.tree[previous];
+				previous--;
+			}
+			this.tree[previous + 1] = index;
+		}
+
+		int middle = (low + high) >>> 1;
+		this.axes[middle] = (byte) axis;
+		this.build(points, low, middle);
+		this.build(points, middle + 1, high);
+	}
+
+	/**
+	 * Convert packed colors into the coordinates of a metric.
+	 * @param metric Metric whose coordinates are wanted.
+	 * @param rgb int array containing packed colors.
+	 * @param count integer value containing the number of colors.
+	 * @param out double array receiving three coordinates per color.
+	 */
+	static void toCoordinates(Metric metric, int[] rgb, int count, double[] out) {
+		switch(metric) {
+			case LAB:
+				ColorConversions.rgbToLab(rgb, 0, count, out);
+				break;
+			case OKLAB:
+				ColorConversions.rgbToOKLab(rgb, 0, count, out);
+				break;
+			case HSL:
+				for(int index = 0; index < count; index++) {
+					int hue = PackedColor.getHue(rgb[index]);
+					double saturation = PackedColor.getSaturation(rgb[index]);
+					out[index * 3] = saturation * COSINES[hue];
+					out[(index * 3) + 1] = saturation * SINES[hue];
+					out[(index * 3) + 2] = PackedColor.getLightness(rgb[index]);
+				}
+				break;
+			default:
+				for(int index = 0; index < count; index++) {
+					out[index * 3] = PackedColor.getRed(rgb[index]);
+					out[(index * 3) + 1] = PackedColor.getGreen(rgb[index]);
+					out[(index * 3) + 2] = PackedColor.getBlue(rgb[index]);
+				}
+		}
+	}
+
+	/**
+	 * Best match found so far by a search. One query is reused
+	 * for every pixel of a chunk, or for every single color lookup
+	 * made by a thread.
+	 */
+	private static final class Query {
+		private final int[] color = new int[1];
+		private final double[] point = new double[3];
+		private double distance;
+		private int index;
+	}
+}
@@ -0,0 +1,37 @@
+package rgb_hsl.palette;
+
+/**
+ * Scoring function used by PaletteSearch to rank palettes, where
+ * a larger score is better. Scores are called from several threads
+ * at once, so they must not keep state between calls, and must not
+ * keep the arrays they are given.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface PaletteScore {
+	/**
+	 * Score a complete palette.
+	 * @param colors int array containing the packed colors of the
+	 *               palette, starting with the starting color.
+	 * @param size integer value containing the number of colors.
+	 * @return double value containing the score of the palette.
+	 */
+	double score(int[] colors, int size);
+
+	/**
+	 * Get a bound on the score of every palette that starts with the
+	 * given colors. PaletteSearch skips every palette starting with
+	 * these colors once the bound falls below the scores it has already
+	 * found, so the bound must never be lower than the score of any
+	 * such palette. By default, no palette is skipped.
+	 * @param colors int array containing the packed colors chosen so
+	 *               far, starting with the starting color.
+	 * @param count integer value containing the number of colors
+	 *              chosen so far.
+	 * @return double value containing the largest possible score.
+	 */
+	default double getUpperBound(int[] colors, int count) {
+		return Double.POSITIVE_INFINITY;
+	}
+}
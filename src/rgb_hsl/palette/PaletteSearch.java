@@ -0,0 +1,561 @@
+package rgb_hsl.palette;
+
+import rgb_hsl.color.Color;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Search used to find palettes around a starting color that meet a
+ * minimum contrast ratio between every pair of colors, and a minimum
+ * spacing of lightness between every pair of colors. Candidate colors
+ * are every combination of a hue offset from the starting color, a
+ * saturation, and a lightness, and palettes are the starting color
+ * followed by candidates in the order of increasing lightness.
+ * The search is a branch and bound over the candidates. Before any
+ * hue of a saturation and lightness is converted to RGB, the range of
+ * relative luminance every such hue can have is checked against the
+ * colors chosen so far, and the whole group is skipped if no hue can
+ * reach the minimum contrast. Branches whose best possible score is
+ * below the scores already found are skipped as well. Branches are
+ * searched in parallel, and the best palettes are always the same as
+ * those of searching every palette in order.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class PaletteSearch {
+	/**
+	 * Tolerance used when comparing lightness spacing, so that grids
+	 * of evenly spaced lightnesses meet a spacing of their own step.
+	 */
+	private static final double SPACING_TOLERANCE = 1e-9;
+
+	/**
+	 * Order of results from worst to best. Ties in score go to the
+	 * palette whose candidates come first.
+	 */
+	private static final Comparator<Result> WORST_FIRST = (resultOne, resultTwo) -> {
+		int compare = Double.compare(resultOne.score, resultTwo.score);
+		return (compare != 0) ? compare : compare(resultTwo.picks, resultOne.picks, resultOne.picks.length);
+	};
+
+	private final int[] hueOffsets;
+	private final double[] saturations,
+			lightnesses;
+	private final ForkJoinPool pool;
+	private double minimumContrast,
+			lightnessSpacing;
+	private PaletteScore score;
+
+	/**
+	 * Create a search running on the common fork-join pool.
+	 * @param hueOffsets int array containing the degrees of hue added
+	 *                   to the hue of the starting color.
+	 * @param saturations double array containing the saturations to
+	 *                    try, on the range [0, 1], inclusive.
+	 * @param lightnesses double array containing the lightnesses to
+	 *                    try, on the range [0, 1], inclusive.
+	 */
+	public PaletteSearch(int[] hueOffsets, double[] saturations, double[] lightnesses) {
+		this(hueOffsets, saturations, lightnesses, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a search running on the given pool. By default, every pair
+	 * of colors needs a contrast ratio of at least 3, there is no spacing
+	 * of lightness, and palettes are scored by their lowest contrast ratio.
+	 * @param hueOffsets int array containing the degrees of hue added
+	 *                   to the hue of the starting color.
+	 * @param saturations double array containing the saturations to
+	 *                    try, on the range [0, 1], inclusive.
+	 * @param lightnesses double array containing the lightnesses to
+	 *                    try, on the range [0, 1], inclusive.
+	 * @param pool ForkJoinPool reference used to run every task.
+	 */
+	public PaletteSearch(int[] hueOffsets, double[] saturations, double[] lightnesses, ForkJoinPool pool) {
+		if(hueOffsets.length == 0 || saturations.length == 0 || lightnesses.length == 0) {
+			throw new IllegalArgumentException("Every dimension needs at least one value");
+		}
+		for(double value : saturations) {
+			checkUnit(value);
+		}
+		for(double value : lightnesses) {
+			checkUnit(value);
+		}
+		this.hueOffsets = hueOffsets.clone();
+		this.saturations = saturations.clone();
+		this.lightnesses = lightnesses.clone();
+		Arrays.sort(this.saturations);
+		Arrays.sort(this.lightnesses);
+		this.pool = pool;
+		this.minimumContrast = ContrastEvaluator.AA_LARGE;
+		this.lightnessSpacing = 0;
+		this.score = minimumContrast();
+	}
+
+	/**
+	 * Get a score giving the lowest contrast ratio between any pair
+	 * of colors of a palette. Since adding a color can only lower this
+	 * ratio, the ratio of the colors chosen so far bounds the score.
+	 * @return PaletteScore reference scoring by contrast.
+	 */
+	public static PaletteScore minimumContrast() {
+		return new PaletteScore() {
+			@Override
+			public double score(int[] colors, int size) {
+				double minimum = Double.POSITIVE_INFINITY;
+				for(int first = 0; first < size; first++) {
+					double luminance = ContrastEvaluator.getLuminance(colors[first]);
+					for(int second = first + 1; second < size; second++) {
+						minimum = Math.min(minimum,
+								ContrastEvaluator.getContrast(luminance, ContrastEvaluator.getLuminance(colors[second])));
+					}
+				}
+				return minimum;
+			}
+
+			@Override
+			public double getUpperBound(int[] colors, int count) {
+				return this.score(colors, count);
+			}
+		};
+	}
+
+	/**
+	 * Set the minimum contrast ratio between every pair of colors.
+	 * @param minimumContrast double value containing the ratio, on the
+	 *                        range [1, 21], inclusive.
+	 */
+	public void setMinimumContrast(double minimumContrast) {
+		if(minimumContrast < 1 || minimumContrast > 21) {
+			throw new IllegalArgumentException("Contrast ratios are on the range [1, 21]");
+		}
+		this.minimumContrast = minimumContrast;
+	}
+
+	/**
+	 * Get the minimum contrast ratio between every pair of colors.
+	 * @return double value containing the ratio.
+	 */
+	public double getMinimumContrast() {
+		return this.minimumContrast;
+	}
+
+	/**
+	 * Set the minimum difference in lightness between every pair of colors.
+	 * @param lightnessSpacing double value containing the difference, on
+	 *                         the range [0, 1], inclusive.
+	 */
+	public void setLightnessSpacing(double lightnessSpacing) {
+		checkUnit(lightnessSpacing);
+		this.lightnessSpacing = lightnessSpacing;
+	}
+
+	/**
+	 * Get the minimum difference in lightness between every pair of colors.
+	 * @return double value containing the difference.
+	 */
+	public double getLightnessSpacing() {
+		return this.lightnessSpacing;
+	}
+
+	/**
+	 * Set the function palettes are ranked by.
+	 * @param score PaletteScore reference used to rank palettes.
+	 */
+	public void setScore(PaletteScore score) {
+		if(score == null) {
+			throw new IllegalArgumentException("Score must not be null");
+		}
+		this.score = score;
+	}
+
+	/**
+	 * Get the function palettes are ranked by.
+	 * @return PaletteScore reference used to rank palettes.
+	 */
+	public PaletteScore getScore() {
+		return this.score;
+	}
+
+	/**
+	 * Find the best palettes around a starting color.
+	 * @param color Color reference containing the starting color, which
+	 *              is the first color of every palette.
+	 * @param size integer value containing the number of colors in each
+	 *             palette, including the starting color.
+	 * @param count integer value containing the largest number of
+	 *              palettes to return.
+	 * @return List of SearchedPalettes meeting every constraint, from the
+	 * best score to the worst, which is empty if no palette meets them.
+	 */
+	public List<SearchedPalette> search(Color color, int size, int count) {
+		if(size < 1 || count < 1) {
+			throw new IllegalArgumentException("Palettes need at least one color, and at least one must be returned");
+		}
+		Search search = new Search(color, size, count);
+		List<Result> results;
+		if(size == 1) {
+			results = new ArrayList<>();
+			results.add(new Result(this.score.score(new int[] {search.startRGB}, 1), new int[0]));
+		}else {
+			results = this.pool.invoke(new SearchTask(search, 0, search.candidates)).results();
+		}
+
+		List<SearchedPalette> palettes = new ArrayList<>(results.size());
+		for(Result result : results) {
+			List<HSLColor> colors = new ArrayList<>(result.picks.length);
+			for(int pick : result.picks) {
+				colors.add(new HSLColor(search.getHue(pick), search.getSaturation(pick), search.getLightness(pick)));
+			}
+			palettes.add(new SearchedPalette(color, colors, result.score));
+		}
+		return palettes;
+	}
+
+	/**
+	 * Check that a value is on the range [0, 1], inclusive.
+	 * @param value double value to check.
+	 */
+	private static void checkUnit(double value) {
+		if(!(value >= 0 && value <= 1)) {
+			throw new IllegalArgumentException("Value " + value + " is not on the range [0, 1]");
+		}
+	}
+
+	/**
+	 * Compare two sequences of candidates in lexicographic order.
+	 * @param picksOne int array containing the first sequence.
+	 * @param picksTwo int array containing the second sequence.
+	 * @param length integer value containing the length of both.
+	 * @return integer value that is negative, zero, or positive as the
+	 * first sequence comes before, with, or after the second.
+	 */
+	private static int compare(int[] picksOne, int[] picksTwo, int length) {
+		for(int index = 0; index < length; index++) {
+			if(picksOne[index] != picksTwo[index]) {
+				return Integer.compare(picksOne[index], picksTwo[index]);
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * State of a single search shared by every task. Candidate c has
+	 * the hue offset c % hues and the saturation and lightness of group
+	 * c / hues, where groups are ordered by lightness, then saturation.
+	 */
+	private final class Search {
+		private final int size,
+				count,
+				hues,
+				candidates,
+				startHue,
+				startRGB;
+		private final double startLuminance,
+				startLightness,
+				minimumContrast,
+				lightnessSpacing;
+		private final PaletteScore score;
+
+		/**
+		 * Lowest and highest relative luminance of any hue of each group.
+		 */
+		private final double[] lowLuminances,
+				highLuminances;
+
+		/**
+		 * Packed color of each candidate, or -1 until it is first needed.
+		 * Every thread writes the same value, so no locking is needed.
+		 */
+		private final int[] rgb;
+
+		/**
+		 * Bits of the lowest score a palette needs to be among the best,
+		 * as known so far by any task.
+		 */
+		private final AtomicLong threshold = new AtomicLong(Double.doubleToLongBits(Double.NEGATIVE_INFINITY));
+
+		private Search(Color color, int size, int count) {
+			HSLColor start = Color.getHSLColor(color);
+			this.size = size;
+			this.count = count;
+			this.hues = PaletteSearch.this.hueOffsets.length;
+			int groups = PaletteSearch.this.saturations.length * PaletteSearch.this.lightnesses.length;
+			this.candidates = groups * this.hues;
+			this.startHue = start.getHue();
+			this.startRGB = PackedColor.getRGB(color);
+			this.startLuminance = ContrastEvaluator.getLuminance(this.startRGB);
+			this.startLightness = start.getLightness();
+			this.minimumContrast = PaletteSearch.this.minimumContrast;
+			this.lightnessSpacing = PaletteSearch.this.lightnessSpacing - SPACING_TOLERANCE;
+			this.score = PaletteSearch.this.score;
+
+			this.lowLuminances = new double[groups];
+			this.highLuminances = new double[groups];
+			for(int group = 0; group < groups; group++) {
+				int candidate = group * this.hues;
+				double saturation = this.getSaturation(candidate),
+						lightness = this.getLightness(candidate);
+				if(saturation == 0) {
+					int gray = (int) (255 * lightness);
+					this.lowLuminances[group] = getGrayLuminance(gray);
+					this.highLuminances[group] = this.lowLuminances[group];
+				}else {
+					//every channel lies between the two temporary values of the conversion
+					double high = (lightness < .5)
+							? lightness * (1.0 + saturation)
+							: lightness + saturation - (lightness * saturation),
+							low = (2 * lightness) - high;
+					this.lowLuminances[group] = getGrayLuminance((int) Math.floor(low * 255));
+					this.highLuminances[group] = getGrayLuminance((int) Math.ceil(high * 255));
+				}
+			}
+			this.rgb = new int[this.candidates];
+			Arrays.fill(this.rgb, -1);
+		}
+
+		private int getHue(int candidate) {
+			return Math.floorMod(this.startHue + PaletteSearch.this.hueOffsets[candidate % this.hues], 360);
+		}
+
+		private double getSaturation(int candidate) {
+			return PaletteSearch.this.saturations[(candidate / this.hues) % PaletteSearch.this.saturations.length];
+		}
+
+		private double getLightness(int candidate) {
+			return PaletteSearch.this.lightnesses[(candidate / this.hues) / PaletteSearch.this.saturations.length];
+		}
+
+		private int getRGB(int candidate) {
+			int rgb = this.rgb[candidate];
+			if(rgb < 0) {
+				rgb = PackedColor.fromHSL(this.getHue(candidate), this.getSaturation(candidate),
+						this.getLightness(candidate));
+				this.rgb[candidate] = rgb;
+			}
+			return rgb;
+		}
+
+		private double getThreshold() {
+			return Double.longBitsToDouble(this.threshold.get());
+		}
+
+		private void raiseThreshold(double score) {
+			long current = this.threshold.get();
+			while(Double.longBitsToDouble(current) < score
+					&& !this.threshold.compareAndSet(current, Double.doubleToLongBits(score))) {
+				current = this.threshold.get();
+			}
+		}
+
+		/**
+		 * Get the relative luminance of a gray channel value, clamped
+		 * to the range [0, 255], inclusive.
+		 * @param gray integer value containing the channel value.
+		 * @return double value containing the relative luminance.
+		 */
+		private double getGrayLuminance(int gray) {
+			gray = Math.max(0, Math.min(255, gray));
+			return ContrastEvaluator.getLuminance(PackedColor.pack(gray, gray, gray));
+		}
+	}
+
+	/**
+	 * Complete palette found by a task, as the candidates following
+	 * the starting color.
+	 */
+	private static final class Result {
+		private final double score;
+		private final int[] picks;
+
+		private Result(double score, int[] picks) {
+			this.score = score;
+			this.picks = picks;
+		}
+	}
+
+	/**
+	 * Best palettes found by a task, kept in a heap with the worst
+	 * palette on top.
+	 */
+	private static final class Ranking {
+		private final Search search;
+		private final PriorityQueue<Result> results;
+
+		private Ranking(Search search) {
+			this.search = search;
+			this.results = new PriorityQueue<>(search.count + 1, WORST_FIRST);
+		}
+
+		/**
+		 * Offer a palette, copying its candidates only if it ranks.
+		 * @param score double value containing the score of the palette.
+		 * @param picks int array containing the candidates of the palette.
+		 */
+		private void offer(double score, int[] picks) {
+			if(this.results.size() == this.search.count) {
+				Result worst = this.results.peek();
+				if(score < worst.score || (score == worst.score && compare(picks, worst.picks, picks.length) > 0)) {
+					return;
+				}
+				this.results.poll();
+			}
+			this.results.add(new Result(score, picks.clone()));
+			if(this.results.size() == this.search.count) {
+				this.search.raiseThreshold(this.results.peek().score);
+			}
+		}
+
+		private void addAll(Ranking ranking) {
+			for(Result result : ranking.results) {
+				this.offer(result.score, result.picks);
+			}
+		}
+
+		/**
+		 * Get every palette from best to worst.
+		 * @return List of Results.
+		 */
+		private List<Result> results() {
+			List<Result> results = new ArrayList<>(this.results);
+			results.sort(WORST_FIRST.reversed());
+			return results;
+		}
+	}
+
+	/**
+	 * Task used to search every palette whose first candidate is in a
+	 * range. Ranges of more than one candidate are split in half.
+	 */
+	private static final class SearchTask extends RecursiveTask<Ranking> {
+		private static final long serialVersionUID = 1L;
+
+		private final Search search;
+		private final int from,
+				to;
+		private int[] colors,
+				picks;
+		private double[] luminances,
+				lightnesses;
+		private Ranking ranking;
+
+		private SearchTask(Search search, int from, int to) {
+			this.search = search;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Ranking compute() {
+			if(this.to - this.from > 1) {
+				int middle = (this.from + this.to) >>> 1;
+				SearchTask second = new SearchTask(this.search, middle, this.to);
+				second.fork();
+				Ranking ranking = new SearchTask(this.search, this.from, middle).compute();
+				ranking.addAll(second.join());
+				return ranking;
+			}
+			Search search = this.search;
+			this.ranking = new Ranking(search);
+			this.colors = new int[search.size];
+			this.luminances = new double[search.size];
+			this.lightnesses = new double[search.size];
+			this.picks = new int[search.size - 1];
+			this.colors[0] = search.startRGB;
+			this.luminances[0] = search.startLuminance;
+			this.lightnesses[0] = search.startLightness;
+
+			int group = this.from / search.hues;
+			if(group < search.lowLuminances.length && this.fits(group, 1) && this.place(this.from, 1)) {
+				this.extend(2, this.from + 1);
+			}
+			return this.ranking;
+		}
+
+		/**
+		 * Search every palette starting with the colors chosen so far.
+		 * @param count integer value containing the number of colors chosen.
+		 * @param first integer value containing the first candidate that
+		 *              can follow them.
+		 */
+		private void extend(int count, int first) {
+			Search search = this.search;
+			if(count == search.size) {
+				this.ranking.offer(search.score.score(this.colors, count), this.picks);
+				return;
+			}
+			if(search.score.getUpperBound(this.colors, count) < search.getThreshold()) {
+				return;
+			}
+			for(int group = first / search.hues; group < search.lowLuminances.length; group++) {
+				if(!this.fits(group, count)) {
+					continue;
+				}
+				int end = (group + 1) * search.hues;
+				for(int candidate = Math.max(first, group * search.hues); candidate < end; candidate++) {
+					if(this.place(candidate, count)) {
+						this.extend(count + 1, candidate + 1);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Determine whether any hue of a group can follow the colors
+		 * chosen so far, using only the lightness and luminance range
+		 * of the group.
+		 * @param group integer value containing the group.
+		 * @param count integer value containing the number of colors chosen.
+		 * @return boolean value determining whether the group is worth trying.
+		 */
+		private boolean fits(int group, int count) {
+			Search search = this.search;
+			double lightness = search.getLightness(group * search.hues),
+					low = search.lowLuminances[group],
+					high = search.highLuminances[group];
+			for(int color = 0; color < count; color++) {
+				if(Math.abs(lightness - this.lightnesses[color]) < search.lightnessSpacing) {
+					return false;
+				}
+				double luminance = this.luminances[color];
+				if(ContrastEvaluator.getContrast(luminance, low) < search.minimumContrast
+						&& ContrastEvaluator.getContrast(luminance, high) < search.minimumContrast) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Place a candidate after the colors chosen so far if it has
+		 * enough contrast with each of them.
+		 * @param candidate integer value containing the candidate.
+		 * @param count integer value containing the number of colors chosen.
+		 * @return boolean value determining whether the candidate was placed.
+		 */
+		private boolean place(int candidate, int count) {
+			Search search = this.search;
+			int rgb = search.getRGB(candidate);
+			double luminance = ContrastEvaluator.getLuminance(rgb);
+			for(int color = 0; color < count; color++) {
+				if(ContrastEvaluator.getContrast(luminance, this.luminances[color]) < search.minimumContrast) {
+					return false;
+				}
+			}
+			this.colors[count] = rgb;
+			this.luminances[count] = luminance;
+			this.lightnesses[count] = search.getLightness(candidate);
+			this.picks[count - 1] = candidate;
+			return true;
+		}
+	}
+}
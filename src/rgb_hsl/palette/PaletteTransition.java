@@ -0,0 +1,185 @@
+package rgb_hsl.palette;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Transition used to animate every color of one palette into the
+ * color at the same index of another palette over a number of frames.
+ * Each pair of colors is interpolated by a Gradient, so transitions
+ * support the same spaces and easing. Frames are produced lazily into
+ * a single reused buffer of packed colors rather than as Palettes, or
+ * precomputed in parallel into an atlas holding every frame.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class PaletteTransition {
+	/**
+	 * Smallest number of frames computed by a single task of an atlas.
+	 */
+	private static final int FRAMES_PER_TASK = 16;
+
+	private final Gradient[] gradients;
+	private final int frames;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Create a transition interpolated in OKLab space, running on the
+	 * common fork-join pool.
+	 * @param from Palette reference containing the first frame.
+	 * @param to Palette reference containing the last frame.
+	 * @param frames integer value containing the number of frames,
+	 *               including the first and last.
+	 */
+	public PaletteTransition(Palette from, Palette to, int frames) {
+		this(from, to, frames, Gradient.Space.OKLAB, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a transition.
+	 * @param from Palette reference containing the first frame.
+	 * @param to Palette reference containing the last frame.
+	 * @param frames integer value containing the number of frames,
+	 *               including the first and last.
+	 * @param space Gradient.Space to interpolate in.
+	 * @param pool ForkJoinPool reference used to compute atlases.
+	 */
+	public PaletteTransition(Palette from, Palette to, int frames, Gradient.Space space, ForkJoinPool pool) {
+		if(from.getSize() != to.getSize()) {
+			throw new IllegalArgumentException("Palettes of " + from.getSize() + " and " + to.getSize()
+					+ " colors cannot be interpolated");
+		}
+		if(frames < 1) {
+			throw new IllegalArgumentException("Transitions need at least one frame");
+		}
+		this.gradients = new Gradient[from.getSize()];
+		for(int color = 0; color < this.gradients.length; color++) {
+			this.gradients[color] = new Gradient(space, from.getColor(color), to.getColor(color));
+		}
+		this.frames = frames;
+		this.pool = pool;
+	}
+
+	/**
+	 * Set the easing applied to the position of every frame.
+	 * @param easing Easing reference to apply.
+	 */
+	public void setEasing(Easing easing) {
+		for(Gradient gradient : this.gradients) {
+			gradient.setEasing(easing);
+		}
+	}
+
+	/**
+	 * Get the number of frames.
+	 * @return integer value containing the number of frames.
+	 */
+	public int getFrameCount() {
+		return this.frames;
+	}
+
+	/**
+	 * Get the number of colors in every frame.
+	 * @return integer value containing the size of the palettes.
+	 */
+	public int getSize() {
+		return this.gradients.length;
+	}
+
+	/**
+	 * Write the colors of a frame.
+	 * @param frame integer value containing the frame, on the range
+	 *              [0, getFrameCount()).
+	 * @param colors int array receiving getSize() packed colors.
+	 * @param offset integer value containing the index of the first color.
+	 */
+	public void getFrame(int frame, int[] colors, int offset) {
+		if(frame < 0 || frame >= this.frames) {
+			throw new IndexOutOfBoundsException("No frame " + frame);
+		}
+		if(offset < 0 || offset + this.gradients.length > colors.length) {
+			throw new IndexOutOfBoundsException("Frame does not fit in the output");
+		}
+		this.fill(frame, frame + 1, colors, offset, new double[3], new int[1]);
+	}
+
+	/**
+	 * Pass every frame in order to a consumer. The same buffer is
+	 * passed for every frame and is overwritten by the next frame, so
+	 * consumers must copy any colors they keep.
+	 * @param consumer ObjIntConsumer reference receiving the packed colors
+	 *                 of each frame, and the index of the frame.
+	 */
+	public void forEachFrame(ObjIntConsumer<int[]> consumer) {
+		int[] colors = new int[this.gradients.length];
+		double[] components = new double[3];
+		int[] rgb = new int[1];
+		for(int frame = 0; frame < this.frames; frame++) {
+			this.fill(frame, frame + 1, colors, 0, components, rgb);
+			consumer.accept(colors, frame);
+		}
+	}
+
+	/**
+	 * Compute every frame in parallel.
+	 * @return int array containing getSize() packed colors per frame,
+	 * one frame after another.
+	 */
+	public int[] getAtlas() {
+		if((long) this.frames * this.gradients.length > Integer.MAX_VALUE) {
+			throw new IllegalStateException("Atlas of " + this.frames + " frames is too large");
+		}
+		int[] atlas = new int[this.frames * this.gradients.length];
+		this.pool.invoke(new AtlasTask(atlas, 0, this.frames));
+		return atlas;
+	}
+
+	/**
+	 * Write the colors of a range of frames, one frame after another.
+	 * @param from integer value containing the first frame.
+	 * @param to integer value containing the frame after the last frame.
+	 * @param colors int array receiving packed colors.
+	 * @param offset integer value containing the index of the first color.
+	 * @param components double array of three elements used to hold
+	 *                   interpolated components.
+	 * @param rgb int array of one element used to hold conversions.
+	 */
+	private void fill(int from, int to, int[] colors, int offset, double[] components, int[] rgb) {
+		for(int frame = from; frame < to; frame++) {
+			double position = Gradient.getPosition(frame, this.frames);
+			for(Gradient gradient : this.gradients) {
+				colors[offset++] = gradient.interpolate(position, components, rgb);
+			}
+		}
+	}
+
+	/**
+	 * Task used to compute a range of frames of an atlas. Ranges
+	 * larger than the threshold are split in half.
+	 */
+	private final class AtlasTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] atlas;
+		private final int from,
+				to;
+
+		private AtlasTask(int[] atlas, int from, int to) {
+			this.atlas = atlas;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.to - this.from > FRAMES_PER_TASK) {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new AtlasTask(this.atlas, this.from, middle), new AtlasTask(this.atlas, middle, this.to));
+				return;
+			}
+			PaletteTransition.this.fill(this.from, this.to, this.atlas, this.from * PaletteTransition.this.getSize(),
+					new double[3], new int[1]);
+		}
+	}
+}
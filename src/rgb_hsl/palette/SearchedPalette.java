@@ -0,0 +1,44 @@
+package rgb_hsl.palette;
+
+import rgb_hsl.color.Color;
+
+import java.util.List;
+
+/**
+ * Palette subclass holding one result of a PaletteSearch, along
+ * with the score it was ranked by.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class SearchedPalette extends Palette {
+	private final double score;
+
+	/**
+	 * Create a palette from the colors found by a search.
+	 * @param color Color reference containing the starting color.
+	 * @param colors List of Colors following the starting color.
+	 * @param score double value containing the score of the palette.
+	 */
+	SearchedPalette(Color color, List<? extends Color> colors, double score) {
+		super(color);
+		this.score = score;
+		for(Color current : colors) {
+			super.addColor(current);
+		}
+	}
+
+	/**
+	 * Get the score the palette was ranked by.
+	 * @return double value containing the score.
+	 */
+	public double getScore() {
+		return this.score;
+	}
+
+	/**
+	 * Colors are given by the search, so there is nothing to generate.
+	 */
+	@Override
+	protected void generate() {
+	}
+}
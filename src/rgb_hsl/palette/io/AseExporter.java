@@ -0,0 +1,91 @@
+package rgb_hsl.palette.io;
+
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.palette.Palette;
+
+import java.io.IOException;
+
+/**
+ * PaletteExporter used to write Adobe Swatch Exchange (.ase)
+ * files. Every palette is written as a group of RGB color
+ * entries named by their hex color codes. The block count in
+ * the header is only known once every palette has been written,
+ * so the PaletteEncoder must write to a seekable channel unless
+ * the whole output fits in its buffer.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class AseExporter implements PaletteExporter {
+	private static final int SIGNATURE = 0x41534546,
+			GROUP_START = 0xc001,
+			GROUP_END = 0xc002,
+			COLOR_ENTRY = 0x0001,
+			RGB_MODEL = 0x52474220,
+			NORMAL_COLOR = 2;
+
+	/**
+	 * Length of a color entry block: name length, "#rrggbb"
+	 * with a terminating null in UTF-16, color model, three
+	 * floats, and color type.
+	 */
+	private static final int COLOR_ENTRY_LENGTH = 2 + (8 * 2) + 4 + (3 * 4) + 2;
+
+	private long blockCountPosition;
+	private int blockCount,
+			paletteCount;
+
+	@Override
+	public String getExtension() {
+		return "ase";
+	}
+
+	@Override
+	public void begin(PaletteEncoder encoder, String name) throws IOException {
+		this.blockCount = 0;
+		this.paletteCount = 0;
+		encoder.writeInt(SIGNATURE);
+		encoder.writeShort(1);
+		encoder.writeShort(0);
+		this.blockCountPosition = encoder.position();
+		encoder.writeInt(0);
+	}
+
+	@Override
+	public void export(PaletteEncoder encoder, Palette palette) throws IOException {
+		String type = palette.getClass().getSimpleName();
+		//group name is the type, a space, and the index, with a terminating null
+		int nameLength = type.length() + 1 + PaletteEncoder.getDecimalLength(this.paletteCount) + 1;
+
+		encoder.writeShort(GROUP_START);
+		encoder.writeInt(2 + (nameLength * 2));
+		encoder.writeShort(nameLength);
+		encoder.writeUtf16(type);
+		encoder.writeShort(' ');
+		encoder.writeDecimalUtf16(this.paletteCount++);
+		encoder.writeShort(0);
+
+		for(int index = 0; index < palette.getSize(); index++) {
+			int rgb = PackedColor.getRGB(palette.getColor(index));
+			encoder.writeShort(COLOR_ENTRY);
+			encoder.writeInt(COLOR_ENTRY_LENGTH);
+			encoder.writeShort(8);
+			encoder.writeShort('#');
+			encoder.writeHexUtf16(rgb);
+			encoder.writeShort(0);
+			encoder.writeInt(RGB_MODEL);
+			encoder.writeChannelFloat(PackedColor.getRed(rgb));
+			encoder.writeChannelFloat(PackedColor.getGreen(rgb));
+			encoder.writeChannelFloat(PackedColor.getBlue(rgb));
+			encoder.writeShort(NORMAL_COLOR);
+		}
+
+		encoder.writeShort(GROUP_END);
+		encoder.writeInt(0);
+		this.blockCount += palette.getSize() + 2;
+	}
+
+	@Override
+	public void end(PaletteEncoder encoder) throws IOException {
+		encoder.patchInt(this.blockCountPosition, this.blockCount);
+	}
+}
@@ -0,0 +1,105 @@
+package rgb_hsl.palette.io;
+
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.palette.Palette;
+
+import java.io.IOException;
+
+/**
+ * PaletteExporter used to write palettes as CSS custom
+ * properties. Every color becomes a variable on the :root
+ * selector named after the palette and its position, in
+ * the following form
+ * <pre>
+ * --prefix-0-1: #00ffff;
+ * </pre>
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class CssExporter implements PaletteExporter {
+	private static final String DEFAULT_PREFIX = "palette";
+	private final String prefix;
+	private int paletteCount;
+
+	/**
+	 * Default constructor. When invoked, variables are
+	 * prefixed with "palette".
+	 */
+	public CssExporter() {
+		this(DEFAULT_PREFIX);
+	}
+
+	/**
+	 * Create a CSS exporter with the given variable prefix.
+	 * @param prefix String reference containing the prefix of
+	 *               every variable name, without leading dashes.
+	 * @throws IllegalArgumentException if the prefix is empty or
+	 * contains characters other than ASCII letters, digits, dashes
+	 * and underscores.
+	 */
+	public CssExporter(String prefix) {
+		if(prefix.isEmpty()) {
+			throw new IllegalArgumentException("Prefix must not be empty");
+		}
+		for(int index = 0; index < prefix.length(); index++) {
+			char character = prefix.charAt(index);
+			if(!((character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+					|| (character >= '0' && character <= '9') || character == '-' || character == '_')) {
+				throw new IllegalArgumentException("Prefix is not a CSS identifier: " + prefix);
+			}
+		}
+		this.prefix = "  --" + prefix + "-";
+	}
+
+	@Override
+	public String getExtension() {
+		return "css";
+	}
+
+	@Override
+	public void begin(PaletteEncoder encoder, String name) throws IOException {
+		this.paletteCount = 0;
+		encoder.writeAscii("/* ");
+		encoder.writeAscii(toComment(name));
+		encoder.writeAscii(" */\n:root {\n");
+	}
+
+	@Override
+	public void export(PaletteEncoder encoder, Palette palette) throws IOException {
+		for(int index = 0; index < palette.getSize(); index++) {
+			encoder.writeAscii(this.prefix);
+			encoder.writeDecimal(this.paletteCount);
+			encoder.writeByte('-');
+			encoder.writeDecimal(index);
+			encoder.writeAscii(": #");
+			encoder.writeHex(PackedColor.getRGB(palette.getColor(index)));
+			encoder.writeAscii(";\n");
+		}
+		this.paletteCount++;
+	}
+
+	@Override
+	public void end(PaletteEncoder encoder) throws IOException {
+		encoder.writeAscii("}\n");
+	}
+
+	/**
+	 * Make a name safe to write inside of a CSS comment. Characters
+	 * outside of printable US-ASCII are replaced with '?', and a
+	 * space is put between '*' and '/' so the comment cannot be
+	 * closed early.
+	 * @param name String reference containing the name to write.
+	 * @return String object containing the safe name.
+	 */
+	private static String toComment(String name) {
+		StringBuilder comment = new StringBuilder(name.length());
+		for(int index = 0; index < name.length(); index++) {
+			char character = name.charAt(index);
+			if(character == '/' && index > 0 && name.charAt(index - 1) == '*') {
+				comment.append(' ');
+			}
+			comment.append((character >= ' ' && character <= '~') ? character : '?');
+		}
+		return comment.toString();
+	}
+}
@@ -0,0 +1,56 @@
+package rgb_hsl.palette.io;
+
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.palette.Palette;
+
+import java.io.IOException;
+
+/**
+ * PaletteExporter used to write GIMP palette (.gpl) files.
+ * Every exported palette is appended to a single GIMP palette,
+ * preceded by a comment naming the palette. Each color is
+ * written as its red, green, and blue values followed by its
+ * hex color code.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class GplExporter implements PaletteExporter {
+	private int paletteCount;
+
+	@Override
+	public String getExtension() {
+		return "gpl";
+	}
+
+	@Override
+	public void begin(PaletteEncoder encoder, String name) throws IOException {
+		this.paletteCount = 0;
+		encoder.writeAscii("GIMP Palette\nName: ");
+		encoder.writeAscii(name);
+		encoder.writeAscii("\n#\n");
+	}
+
+	@Override
+	public void export(PaletteEncoder encoder, Palette palette) throws IOException {
+		encoder.writeAscii("# ");
+		encoder.writeDecimal(this.paletteCount++);
+		encoder.writeByte(' ');
+		encoder.writeAscii(palette.getClass().getSimpleName());
+		encoder.writeByte('\n');
+		for(int index = 0; index < palette.getSize(); index++) {
+			int rgb = PackedColor.getRGB(palette.getColor(index));
+			encoder.writePaddedChannel(PackedColor.getRed(rgb));
+			encoder.writeByte(' ');
+			encoder.writePaddedChannel(PackedColor.getGreen(rgb));
+			encoder.writeByte(' ');
+			encoder.writePaddedChannel(PackedColor.getBlue(rgb));
+			encoder.writeAscii("\t#");
+			encoder.writeHex(rgb);
+			encoder.writeByte('\n');
+		}
+	}
+
+	@Override
+	public void end(PaletteEncoder encoder) throws IOException {
+	}
+}
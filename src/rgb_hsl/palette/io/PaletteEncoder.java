@@ -0,0 +1,309 @@
+package rgb_hsl.palette.io;
+
+import rgb_hsl.color.PackedColor;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered encoder shared by every PaletteExporter. Output
+ * is collected in a single reused ByteBuffer and written to a
+ * WritableByteChannel only once the buffer fills. Hex codes,
+ * decimal channel values and channel floats are looked up in
+ * tables built once, so encoding a color creates no objects.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class PaletteEncoder implements Closeable, Flushable {
+	private static final int DEFAULT_CAPACITY = 1 << 16;
+
+	/**
+	 * Two lowercase hex digits for every channel value.
+	 */
+	private static final byte[] HEX_PAIRS = new byte[256 * 2];
+
+	/**
+	 * Decimal digits for every channel value, stored as
+	 * three right-aligned bytes padded with spaces.
+	 */
+	private static final byte[] DECIMALS = new byte[256 * 3];
+
+	/**
+	 * IEEE 754 bits for every channel value interpolated on
+	 * the range [0, 1], inclusive.
+	 */
+	private static final int[] CHANNEL_FLOAT_BITS = new int[256];
+
+	static {
+		byte[] digits = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+		for(int value = 0; value < 256; value++) {
+			HEX_PAIRS[value * 2] = digits[value >> 4];
+			HEX_PAIRS[(value * 2) + 1] = digits[value & 0xf];
+			DECIMALS[value * 3] = (value >= 100) ? digits[value / 100] : (byte) ' ';
+			DECIMALS[(value * 3) + 1] = (value >= 10) ? digits[(value / 10) % 10] : (byte) ' ';
+			DECIMALS[(value * 3) + 2] = digits[value % 10];
+			CHANNEL_FLOAT_BITS[value] = Float.floatToIntBits((float) value / 255);
+		}
+	}
+
+	private final WritableByteChannel channel;
+	private final ByteBuffer buffer;
+	private long flushed;
+
+	/**
+	 * Create an encoder writing to the given channel with
+	 * the default buffer capacity.
+	 * @param channel WritableByteChannel reference to write to.
+	 */
+	public PaletteEncoder(WritableByteChannel channel) {
+		this(channel, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create an encoder writing to the given channel.
+	 * @param channel WritableByteChannel reference to write to.
+	 * @param capacity integer value containing the size of the
+	 *                 buffer in bytes. Must be at least 16.
+	 */
+	public PaletteEncoder(WritableByteChannel channel, int capacity) {
+		if(capacity < 16) {
+			throw new IllegalArgumentException("Capacity must be at least 16 bytes");
+		}
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocate(capacity);
+	}
+
+	/**
+	 * Get the number of bytes encoded so far, including bytes
+	 * that are still buffered.
+	 * @return long value containing the current position.
+	 */
+	public long position() {
+		return this.flushed + this.buffer.position();
+	}
+
+	/**
+	 * Write a single byte.
+	 * @param value integer value whose lowest byte is written.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeByte(int value) throws IOException {
+		this.ensure(1);
+		this.buffer.put((byte) value);
+	}
+
+	/**
+	 * Write a big-endian 16 bit value.
+	 * @param value integer value whose lowest two bytes are written.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeShort(int value) throws IOException {
+		this.ensure(2);
+		this.buffer.putShort((short) value);
+	}
+
+	/**
+	 * Write a big-endian 32 bit value.
+	 * @param value integer value to write.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeInt(int value) throws IOException {
+		this.ensure(4);
+		this.buffer.putInt(value);
+	}
+
+	/**
+	 * Write a channel value interpolated on the range [0, 1]
+	 * as a big-endian 32 bit float.
+	 * @param channel integer value on the range [0, 255], inclusive.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeChannelFloat(int channel) throws IOException {
+		this.writeInt(CHANNEL_FLOAT_BITS[channel & 0xff]);
+	}
+
+	/**
+	 * Write a String containing only US-ASCII characters.
+	 * @param text String reference to write.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeAscii(String text) throws IOException {
+		for(int index = 0; index < text.length(); index++) {
+			this.ensure(1);
+			this.buffer.put((byte) text.charAt(index));
+		}
+	}
+
+	/**
+	 * Write a String as big-endian UTF-16 code units.
+	 * @param text String reference to write.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeUtf16(String text) throws IOException {
+		for(int index = 0; index < text.length(); index++) {
+			this.writeShort(text.charAt(index));
+		}
+	}
+
+	/**
+	 * Write a non-negative integer in base ten as big-endian
+	 * UTF-16 code units.
+	 * @param value integer value to write.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeDecimalUtf16(int value) throws IOException {
+		if(value >= 0 && value < 256) {
+			int start = (value >= 100) ? 0 : (value >= 10) ? 1 : 2;
+			this.ensure((3 - start) * 2);
+			for(int index = (value * 3) + start; index < (value + 1) * 3; index++) {
+				this.buffer.putShort(DECIMALS[index]);
+			}
+		}else {
+			this.writeDecimalUtf16(value / 10);
+			this.writeShort('0' + (value % 10));
+		}
+	}
+
+	/**
+	 * Get the number of characters written by writeDecimal or
+	 * writeDecimalUtf16 for a non-negative integer.
+	 * @param value integer value to measure.
+	 * @return integer value containing the number of digits.
+	 */
+	public static int getDecimalLength(int value) {
+		int length = 1;
+		for(; value >= 10; value /= 10) {
+			length++;
+		}
+		return length;
+	}
+
+	/**
+	 * Write a non-negative integer in base ten.
+	 * @param value integer value to write.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeDecimal(int value) throws IOException {
+		if(value >= 0 && value < 256) {
+			int start = (value >= 100) ? 0 : (value >= 10) ? 1 : 2;
+			this.ensure(3);
+			this.buffer.put(DECIMALS, (value * 3) + start, 3 - start);
+		}else {
+			this.writeAscii(Integer.toString(value));
+		}
+	}
+
+	/**
+	 * Write a channel value in base ten, right-aligned to
+	 * three characters with spaces.
+	 * @param channel integer value on the range [0, 255], inclusive.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writePaddedChannel(int channel) throws IOException {
+		this.ensure(3);
+		this.buffer.put(DECIMALS, (channel & 0xff) * 3, 3);
+	}
+
+	/**
+	 * Write the six lowercase hex digits of a packed color,
+	 * without a leading '#'.
+	 * @param rgb integer value containing a packed color.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeHex(int rgb) throws IOException {
+		this.ensure(6);
+		this.buffer.put(HEX_PAIRS, PackedColor.getRed(rgb) * 2, 2);
+		this.buffer.put(HEX_PAIRS, PackedColor.getGreen(rgb) * 2, 2);
+		this.buffer.put(HEX_PAIRS, PackedColor.getBlue(rgb) * 2, 2);
+	}
+
+	/**
+	 * Write the six lowercase hex digits of a packed color,
+	 * without a leading '#', as big-endian UTF-16 code units.
+	 * @param rgb integer value containing a packed color.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	public void writeHexUtf16(int rgb) throws IOException {
+		this.ensure(12);
+		for(int shift = 16; shift >= 0; shift -= 8) {
+			int pair = ((rgb >> shift) & 0xff) * 2;
+			this.buffer.putShort(HEX_PAIRS[pair]);
+			this.buffer.putShort(HEX_PAIRS[pair + 1]);
+		}
+	}
+
+	/**
+	 * Overwrite a big-endian 32 bit value that was written
+	 * earlier, such as a count that is only known once all
+	 * palettes have been encoded. The underlying channel must
+	 * be seekable.
+	 * @param position long value containing the position returned
+	 *                 by position() before the value was written.
+	 * @param value integer value to write.
+	 * @throws IOException if the channel cannot be written to.
+	 * @throws UnsupportedOperationException if the value has already
+	 * been flushed to a channel that is not seekable.
+	 */
+	public void patchInt(long position, int value) throws IOException {
+		if(position >= this.flushed) {
+			this.buffer.putInt((int) (position - this.flushed), value);
+			return;
+		}
+		if(!(this.channel instanceof SeekableByteChannel)) {
+			throw new UnsupportedOperationException("Channel is not seekable");
+		}
+		this.flush();
+		ByteBuffer patch = ByteBuffer.allocate(4);
+		patch.putInt(0, value);
+		if(this.channel instanceof FileChannel) {
+			FileChannel fileChannel = (FileChannel) this.channel;
+			while(patch.hasRemaining()) {
+				fileChannel.write(patch, position + patch.position());
+			}
+		}else {
+			SeekableByteChannel seekable = (SeekableByteChannel) this.channel;
+			long current = seekable.position();
+			seekable.position(position);
+			while(patch.hasRemaining()) {
+				seekable.write(patch);
+			}
+			seekable.position(current);
+		}
+	}
+
+	/**
+	 * Make sure the buffer has room for the given number of bytes,
+	 * flushing it to the channel if it does not.
+	 * @param bytes integer value containing the number of bytes needed.
+	 * @throws IOException if the channel cannot be written to.
+	 */
+	private void ensure(int bytes) throws IOException {
+		if(this.buffer.remaining() < bytes) {
+			this.flush();
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		this.buffer.flip();
+		while(this.buffer.hasRemaining()) {
+			this.flushed += this.channel.write(this.buffer);
+		}
+		this.buffer.clear();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			this.flush();
+		}finally {
+			this.channel.close();
+		}
+	}
+}
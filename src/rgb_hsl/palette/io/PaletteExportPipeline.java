@@ -0,0 +1,127 @@
+package rgb_hsl.palette.io;
+
+import rgb_hsl.palette.Palette;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Pipeline used to export a stream of palettes into one
+ * file per format in a single pass. Each exporter is given
+ * its own file, named after the pipeline and the exporter's
+ * extension, and its own PaletteEncoder. Every palette is
+ * handed to every exporter before the next palette is read.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class PaletteExportPipeline implements Closeable {
+	private final PaletteExporter[] exporters;
+	private final PaletteEncoder[] encoders;
+	private boolean closed;
+
+	/**
+	 * Create an export pipeline. Files are created, or overwritten
+	 * if they already exist, in the given directory.
+	 * @param directory Path reference containing the directory to
+	 *                  write to.
+	 * @param name String reference containing the name of the files,
+	 *             without an extension.
+	 * @param exporters PaletteExporter references, one per format.
+	 * @throws IOException if any file cannot be opened or written to.
+	 */
+	public PaletteExportPipeline(Path directory, String name, PaletteExporter... exporters) throws IOException {
+		this.exporters = exporters.clone();
+		this.encoders = new PaletteEncoder[exporters.length];
+		try {
+			for(int index = 0; index < exporters.length; index++) {
+				Path file = directory.resolve(name + "." + exporters[index].getExtension());
+				this.encoders[index] = new PaletteEncoder(FileChannel.open(file,
+						StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING));
+				exporters[index].begin(this.encoders[index], name);
+			}
+		}catch(IOException exception) {
+			try {
+				this.closeEncoders();
+			}catch(IOException closing) {
+				exception.addSuppressed(closing);
+			}
+			throw exception;
+		}
+	}
+
+	/**
+	 * Export a single palette in every format.
+	 * @param palette Palette reference to export.
+	 * @throws IOException if any file cannot be written to.
+	 */
+	public void export(Palette palette) throws IOException {
+		if(this.closed) {
+			throw new IllegalStateException("Pipeline is closed");
+		}
+		for(int index = 0; index < this.exporters.length; index++) {
+			this.exporters[index].export(this.encoders[index], palette);
+		}
+	}
+
+	/**
+	 * Export every palette in the given Iterable in every format.
+	 * @param palettes Iterable reference containing the palettes
+	 *                 to export.
+	 * @throws IOException if any file cannot be written to.
+	 */
+	public void exportAll(Iterable<? extends Palette> palettes) throws IOException {
+		for(Palette palette : palettes) {
+			this.export(palette);
+		}
+	}
+
+	/**
+	 * Finish every format and close every file.
+	 * @throws IOException if any file cannot be written to.
+	 */
+	@Override
+	public void close() throws IOException {
+		if(this.closed) {
+			return;
+		}
+		this.closed = true;
+		try {
+			for(int index = 0; index < this.exporters.length; index++) {
+				this.exporters[index].end(this.encoders[index]);
+			}
+		}finally {
+			this.closeEncoders();
+		}
+	}
+
+	/**
+	 * Close every encoder that was opened, keeping the
+	 * first exception thrown.
+	 * @throws IOException if any encoder could not be closed.
+	 */
+	private void closeEncoders() throws IOException {
+		IOException first = null;
+		for(PaletteEncoder encoder : this.encoders) {
+			if(encoder == null) {
+				continue;
+			}
+			try {
+				encoder.close();
+			}catch(IOException exception) {
+				if(first == null) {
+					first = exception;
+				}else {
+					first.addSuppressed(exception);
+				}
+			}
+		}
+		if(first != null) {
+			throw first;
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package rgb_hsl.palette.io;
+
+import rgb_hsl.palette.Palette;
+
+import java.io.IOException;
+
+/**
+ * Interface used to export palettes into a particular
+ * file format. An exporter writes a single output: begin
+ * is invoked once, followed by export for every palette,
+ * followed by end. All bytes are written through the shared
+ * PaletteEncoder, so exporters hold no buffers of their own.
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public interface PaletteExporter {
+	/**
+	 * Get the file extension of the format, without a leading dot.
+	 * @return String object containing the file extension.
+	 */
+	String getExtension();
+
+	/**
+	 * Write anything that precedes the first palette.
+	 * @param encoder PaletteEncoder reference to write to.
+	 * @param name String reference containing the name of the output.
+	 * @throws IOException if the encoder cannot be written to.
+	 */
+	void begin(PaletteEncoder encoder, String name) throws IOException;
+
+	/**
+	 * Write a single palette.
+	 * @param encoder PaletteEncoder reference to write to.
+	 * @param palette Palette reference to export.
+	 * @throws IOException if the encoder cannot be written to.
+	 */
+	void export(PaletteEncoder encoder, Palette palette) throws IOException;
+
+	/**
+	 * Write anything that follows the last palette.
+	 * @param encoder PaletteEncoder reference to write to.
+	 * @throws IOException if the encoder cannot be written to.
+	 */
+	void end(PaletteEncoder encoder) throws IOException;
+}
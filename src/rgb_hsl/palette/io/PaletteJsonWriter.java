@@ -0,0 +1,288 @@
+package rgb_hsl.palette.io;
+
+import rgb_hsl.color.Color;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.palette.Palette;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streaming JSON writer for palettes. Palettes are written
+ * directly to an Appendable or a ByteBuffer without reflection
+ * and without building intermediate objects. Each palette is
+ * written in the following form
+ * <pre>
+ * {"type":"ComplementaryPalette",
+ *  "startingColor":{"hex":"#ff0000","rgb":[255,0,0],"hsl":[0,1.0000,0.5000]},
+ *  "colors":[{...},{...}]}
+ * </pre>
+ * Colors that are not opaque have their alpha appended to the hex
+ * code, as in #rrggbbaa.
+ * Several palettes may be streamed into a single JSON array with
+ * beginArray(), writePalette(Palette) and endArray().
+ * @author Noah Teshima
+ * @since 1.1.0
+ */
+public class PaletteJsonWriter {
+	/**
+	 * Pre-encoded tokens, indexed by the TOKEN_* constants.
+	 */
+	private static final String[] TOKENS = {
+			"{\"type\":\"",
+			"\",\"startingColor\":",
+			",\"colors\":[",
+			"]}",
+			"{\"hex\":\"#",
+			"\",\"rgb\":[",
+			"],\"hsl\":[",
+			"]}"
+	};
+	private static final int TOKEN_TYPE = 0,
+			TOKEN_STARTING_COLOR = 1,
+			TOKEN_COLORS = 2,
+			TOKEN_PALETTE_END = 3,
+			TOKEN_HEX = 4,
+			TOKEN_RGB = 5,
+			TOKEN_HSL = 6,
+			TOKEN_COLOR_END = 7;
+	private static final byte[][] TOKEN_BYTES = new byte[TOKENS.length][];
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Scale used to write saturation and lightness with four
+	 * decimal places.
+	 */
+	private static final int DECIMAL_SCALE = 10000;
+
+	static {
+		for(int index = 0; index < TOKENS.length; index++) {
+			TOKEN_BYTES[index] = TOKENS[index].getBytes(StandardCharsets.US_ASCII);
+		}
+	}
+
+	private final Appendable appendable;
+	private final ByteBuffer buffer;
+	private boolean inArray,
+			firstInArray;
+
+	/**
+	 * Create a JSON writer that appends characters to the
+	 * given Appendable reference.
+	 * @param appendable Appendable reference to write to.
+	 */
+	public PaletteJsonWriter(Appendable appendable) {
+		this.appendable = appendable;
+		this.buffer = null;
+	}
+
+	/**
+	 * Create a JSON writer that puts UTF-8 bytes into
+	 * the given ByteBuffer reference.
+	 * @param buffer ByteBuffer reference to write to.
+	 */
+	public PaletteJsonWriter(ByteBuffer buffer) {
+		this.appendable = null;
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Begin a JSON array of palettes. Every palette written
+	 * before endArray() is invoked becomes an element of the array.
+	 * @throws IOException if the underlying Appendable fails.
+	 * @throws IllegalStateException if an array was already begun.
+	 */
+	public void beginArray() throws IOException {
+		if(this.inArray) {
+			throw new IllegalStateException("Array already begun");
+		}
+		this.inArray = true;
+		this.firstInArray = true;
+		this.write('[');
+	}
+
+	/**
+	 * End the current JSON array of palettes.
+	 * @throws IOException if the underlying Appendable fails.
+	 * @throws IllegalStateException if no array was begun.
+	 */
+	public void endArray() throws IOException {
+		if(!this.inArray) {
+			throw new IllegalStateException("No array begun");
+		}
+		this.inArray = false;
+		this.write(']');
+	}
+
+	/**
+	 * Write every palette in the given Iterable as a single JSON array.
+	 * @param palettes Iterable reference containing the palettes to write.
+	 * @throws IOException if the underlying Appendable fails.
+	 */
+	public void writePalettes(Iterable<? extends Palette> palettes) throws IOException {
+		this.beginArray();
+		for(Palette palette : palettes) {
+			this.writePalette(palette);
+		}
+		this.endArray();
+	}
+
+	/**
+	 * Write the given palette as a JSON object. If an array
+	 * has been begun, the palette is written as its next element.
+	 * @param palette Palette reference to write.
+	 * @throws IOException if the underlying Appendable fails.
+	 */
+	public void writePalette(Palette palette) throws IOException {
+		if(this.inArray) {
+			if(!this.firstInArray) {
+				this.write(',');
+			}
+			this.firstInArray = false;
+		}
+		this.writeToken(TOKEN_TYPE);
+		this.writeString(palette.getClass().getSimpleName());
+		this.writeToken(TOKEN_STARTING_COLOR);
+		this.writeColor(palette.getStartingColor());
+		this.writeToken(TOKEN_COLORS);
+		for(int index = 0; index < palette.getSize(); index++) {
+			if(index > 0) {
+				this.write(',');
+			}
+			this.writeColor(palette.getColor(index));
+		}
+		this.writeToken(TOKEN_PALETTE_END);
+	}
+
+	/**
+	 * Write a single color as a JSON object containing its
+	 * hex code, RGB triplet and HSL triplet. The hex code of
+	 * a color that is not opaque ends with its alpha.
+	 * @param color Color reference to write.
+	 * @throws IOException if the underlying Appendable fails.
+	 */
+	public void writeColor(Color color) throws IOException {
+		int rgb = PackedColor.getRGB(color),
+				alpha = PackedColor.getAlpha(color),
+				hue;
+		double saturation,
+				lightness;
+
+		if(color instanceof HSLColor) {
+			HSLColor hslColor = (HSLColor) color;
+			hue = hslColor.getHue();
+			saturation = hslColor.getSaturation();
+			lightness = hslColor.getLightness();
+		}else {
+			hue = PackedColor.getHue(rgb);
+			saturation = PackedColor.getSaturation(rgb);
+			lightness = PackedColor.getLightness(rgb);
+		}
+
+		this.writeToken(TOKEN_HEX);
+		for(int shift = 20; shift >= 0; shift -= 4) {
+			this.write(HEX_DIGITS[(rgb >> shift) & 0xf]);
+		}
+		if(alpha != 255) {
+			this.write(HEX_DIGITS[alpha >> 4]);
+			this.write(HEX_DIGITS[alpha & 0xf]);
+		}
+		this.writeToken(TOKEN_RGB);
+		this.writeInt(PackedColor.getRed(rgb));
+		this.write(',');
+		this.writeInt(PackedColor.getGreen(rgb));
+		this.write(',');
+		this.writeInt(PackedColor.getBlue(rgb));
+		this.writeToken(TOKEN_HSL);
+		this.writeInt(hue);
+		this.write(',');
+		this.writeFraction(saturation);
+		this.write(',');
+		this.writeFraction(lightness);
+		this.writeToken(TOKEN_COLOR_END);
+	}
+
+	/**
+	 * Write a non-negative integer in base ten.
+	 * @param value integer value to write.
+	 * @throws IOException if the underlying Appendable fails.
+	 */
+	private void writeInt(int value) throws IOException {
+		if(value >= 10) {
+			this.writeInt(value / 10);
+		}
+		this.write((char) ('0' + (value % 10)));
+	}
+
+	/**
+	 * Write a value on the range [0, 1] with a fixed number
+	 * of decimal places.
+	 * @param value double value to write.
+	 * @throws IOException if the underlying Appendable fails.
+	 */
+	private void writeFraction(double value) throws IOException {
+		int scaled = (int) Math.round(value * DECIMAL_SCALE);
+		this.writeInt(scaled / DECIMAL_SCALE);
+		this.write('.');
+		for(int divisor = DECIMAL_SCALE / 10; divisor > 0; divisor /= 10) {
+			this.write((char) ('0' + ((scaled / divisor) % 10)));
+		}
+	}
+
+	/**
+	 * Write one of the pre-encoded tokens.
+	 * @param token integer value containing the index of the token.
+	 * @throws IOException if the underlying Appendable fails.
+	 */
+	private void writeToken(int token) throws IOException {
+		if(this.buffer != null) {
+			this.buffer.put(TOKEN_BYTES[token]);
+		}else {
+			this.appendable.append(TOKENS[token]);
+		}
+	}
+
+	/**
+	 * Write the contents of a JSON string, escaping quotes,
+	 * backslashes and control characters. Characters outside of
+	 * US-ASCII are encoded as UTF-8 when writing to a ByteBuffer.
+	 * @param value String reference to write.
+	 * @throws IOException if the underlying Appendable fails.
+	 */
+	void writeString(String value) throws IOException {
+		StringBuilder escaped = new StringBuilder(value.length());
+		for(int index = 0; index < value.length(); index++) {
+			char character = value.charAt(index);
+			if(character == '"' || character == '\\') {
+				escaped.append('\\').append(character);
+			}else if(character < 0x20) {
+				escaped.append("\\u00")
+						.append(HEX_DIGITS[character >> 4])
+						.append(HEX_DIGITS[character & 0xf]);
+			}else {
+				escaped.append(character);
+			}
+		}
+
+		if(this.buffer != null) {
+			this.buffer.put(escaped.toString().getBytes(StandardCharsets.UTF_8));
+		}else {
+			this.appendable.append(escaped);
+		}
+	}
+
+	/**
+	 * Write a single US-ASCII character.
+	 * @param character char value to write.
+	 * @throws IOException if the underlying Appendable fails.
+	 */
+	private void write(char character) throws IOException {
+		if(this.buffer != null) {
+			this.buffer.put((byte) character);
+		}else {
+			this.appendable.append(character);
+		}
+	}
+}
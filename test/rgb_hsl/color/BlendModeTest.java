@@ -0,0 +1,120 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+import rgb_hsl.palette.MonoChromaticPalette;
+import rgb_hsl.palette.Palette;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for BlendMode.
+ * @author Noah Teshima
+ */
+public class BlendModeTest {
+    /**
+     * Unit test for blends of known colors.
+     */
+    @Test
+    public void testKnownBlends() {
+        assertEquals(0xff336699, BlendMode.MULTIPLY.blend(0xff336699, 0xffffffff));
+        assertEquals(0xff000000, BlendMode.MULTIPLY.blend(0xff336699, 0xff000000));
+        assertEquals(0x00336699, BlendMode.SCREEN.blend(0x00336699, 0xff000000));
+        assertEquals(0xffffffff, BlendMode.SCREEN.blend(0xff336699, 0xffffffff));
+        assertEquals(0xff808080, BlendMode.NORMAL.blend(0xff000000, 0x80ffffff));
+        assertEquals(0xff336699, BlendMode.OVERLAY.blend(0xff336699, 0x00ff0000));
+        assertEquals(0xff336699, BlendMode.SOFT_LIGHT.blend(0xff336699, 0xff808080));
+    }
+
+    /**
+     * Unit test for determining whether every mode is within one
+     * level of the floating point formulas of the specification, and
+     * whether the bulk and single color blends agree.
+     */
+    @Test
+    public void testMatchesFormulas() {
+        Random random = new Random(4);
+        int[] backdrops = new int[20000],
+                sources = new int[backdrops.length],
+                out = new int[backdrops.length];
+        for(int index = 0; index < backdrops.length; index++) {
+            backdrops[index] = random.nextInt();
+            sources[index] = random.nextInt();
+        }
+        for(BlendMode mode : BlendMode.values()) {
+            mode.blend(backdrops, sources, out, 0, out.length);
+            for(int index = 0; index < out.length; index++) {
+                assertEquals(mode.blend(backdrops[index], sources[index]), out[index]);
+                assertEquals(backdrops[index] & 0xff000000, out[index] & 0xff000000);
+                for(int shift = 0; shift < 24; shift += 8) {
+                    int expected = reference(mode, (backdrops[index] >> shift) & 0xff,
+                            (sources[index] >> shift) & 0xff, sources[index] >>> 24);
+                    assertTrue(mode + " is off by more than one level",
+                            Math.abs(expected - ((out[index] >> shift) & 0xff)) <= 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unit test for blending over a single backdrop, in place.
+     */
+    @Test
+    public void testSingleBackdrop() {
+        int[] sources = {0xff102030, 0x80ffffff, 0x00abcdef, 0xff000000},
+                expected = new int[sources.length];
+        for(int index = 0; index < sources.length; index++) {
+            expected[index] = BlendMode.OVERLAY.blend(0xff7799bb, sources[index]);
+        }
+        BlendMode.OVERLAY.blend(0xff7799bb, sources, sources, 0, sources.length);
+        assertArrayEquals(expected, sources);
+    }
+
+    /**
+     * Unit test for blending every color of a palette.
+     */
+    @Test
+    public void testPaletteBlend() {
+        Palette palette = new MonoChromaticPalette(new RGBColor(200, 40, 90), 4);
+        List<Color> blended = palette.blend(BlendMode.MULTIPLY, new RGBColor(255, 255, 255), 1);
+        for(int index = 0; index < palette.getSize(); index++) {
+            assertEquals(PackedColor.getRGB(palette.getColor(index)), PackedColor.getRGB(blended.get(index)));
+        }
+        blended = palette.blend(BlendMode.SCREEN, new RGBColor(10, 20, 30), 0);
+        for(Color color : blended) {
+            assertEquals(0x0a141e, PackedColor.getRGB(color));
+        }
+    }
+
+    private static int reference(BlendMode mode, int backdropChannel, int sourceChannel, int alpha) {
+        double b = backdropChannel / 255.0,
+                s = sourceChannel / 255.0,
+                blended;
+        switch(mode) {
+            case NORMAL:
+                blended = s;
+                break;
+            case MULTIPLY:
+                blended = b * s;
+                break;
+            case SCREEN:
+                blended = b + s - (b * s);
+                break;
+            case OVERLAY:
+                blended = (b <= 0.5) ? 2 * b * s : 1 - (2 * (1 - b) * (1 - s));
+                break;
+            default:
+                double d = (b <= 0.25) ? ((16 * b - 12) * b + 4) * b : Math.sqrt(b);
+                blended = (s <= 0.5) ? b - (1 - 2 * s) * b * (1 - b) : b + (2 * s - 1) * (d - b);
+                break;
+        }
+        double a = alpha / 255.0;
+        return (int) Math.round(((b * (1 - a)) + (blended * a)) * 255);
+    }
+}
@@ -0,0 +1,134 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for ColorAdjustment.
+ * @author Noah Teshima
+ */
+public class ColorAdjustmentTest {
+    /**
+     * Unit test for single adjustments of known colors.
+     */
+    @Test
+    public void testKnownAdjustments() {
+        assertEquals(0xff00ff00, ColorAdjustment.IDENTITY.rotateHue(120).apply(0xffff0000));
+        assertEquals(0x80ff0000, ColorAdjustment.IDENTITY.rotateHue(-90).rotateHue(450).apply(0x80ff0000));
+        assertEquals(PackedColor.fromHSL(0, 0.25, 0.5),
+                ColorAdjustment.IDENTITY.scaleSaturation(0.25).apply(0xff0000));
+        assertEquals(0xffffff, ColorAdjustment.IDENTITY.scaleLightness(3).apply(0xff0000));
+        assertEquals(0x808080, ColorAdjustment.IDENTITY.tint(0xffffff, 0.5).apply(0x000000));
+        assertEquals(PackedColor.fromHSL(0, 1, 0.3),
+                ColorAdjustment.IDENTITY.clampLightness(0.1, 0.3).apply(0xff0000));
+    }
+
+    /**
+     * Unit test for determining whether repeated tints mix toward
+     * each target in turn.
+     */
+    @Test
+    public void testRepeatedTint() {
+        ColorAdjustment adjustment = ColorAdjustment.IDENTITY.tint(0xff0000, 0.5).tint(0x0000ff, 0.5);
+        assertEquals(0x400080, adjustment.apply(0x000000));
+    }
+
+    /**
+     * Unit test for determining whether bulk and parallel adjustment
+     * match adjusting each HSLColor.
+     */
+    @Test
+    public void testBulkMatchesHSLColor() {
+        ColorAdjustment adjustment = ColorAdjustment.IDENTITY.rotateHue(75).scaleSaturation(1.3)
+                .scaleLightness(0.8).clampSaturation(0.1, 0.9).clampLightness(0.05, 0.85);
+        Random random = new Random(3);
+        int[] colors = new int[100000];
+        for(int index = 0; index < colors.length; index++) {
+            colors[index] = random.nextInt();
+        }
+        int[] expected = colors.clone(),
+                parallel = colors.clone();
+        for(int index = 0; index < expected.length; index++) {
+            HSLColor color = PackedColor.toHSLColor(expected[index]);
+            color.adjust(adjustment);
+            expected[index] = (expected[index] & 0xff000000) | PackedColor.getRGB(color);
+        }
+        adjustment.apply(colors, 0, colors.length);
+        assertArrayEquals(expected, colors);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            adjustment.apply(parallel, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, parallel);
+    }
+
+    /**
+     * Unit test for adjusting separate arrays of hue, saturation,
+     * and lightness.
+     */
+    @Test
+    public void testApplyHSL() {
+        int[] hues = {350, 10};
+        double[] saturations = {0.5, 0.9},
+                lightnesses = {0.5, 0.2};
+        ColorAdjustment.IDENTITY.rotateHue(20).scaleSaturation(2).scaleLightness(0.5)
+                .applyHSL(hues, saturations, lightnesses, 0, 2);
+        assertArrayEquals(new int[] {10, 30}, hues);
+        assertArrayEquals(new double[] {1, 1}, saturations, 0);
+        assertArrayEquals(new double[] {0.25, 0.1}, lightnesses, 1e-12);
+    }
+
+    /**
+     * Unit test for the single color methods of HSLColor.
+     */
+    @Test
+    public void testHSLColorMethods() {
+        HSLColor color = new HSLColor(200, 0.4, 0.6);
+        color.scaleSaturation(2);
+        color.scaleLightness(0.5);
+        assertEquals(new HSLColor(200, 0.8, 0.3), color);
+        color.clampSaturation(0, 0.5);
+        color.clampLightness(0.4, 1);
+        assertEquals(new HSLColor(200, 0.5, 0.4), color);
+        color.tint(new RGBColor(0, 0, 0), 1);
+        assertEquals(0, color.getLightness(), 0);
+    }
+
+    /**
+     * Unit test for a negative factor.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeFactor() {
+        ColorAdjustment.IDENTITY.scaleLightness(-1);
+    }
+
+    /**
+     * Unit test for overlapping clamps, which give the same result as
+     * applying each in turn.
+     */
+    @Test
+    public void testOverlappingClamps() {
+        ColorAdjustment adjustment = ColorAdjustment.IDENTITY.clampLightness(0.1, 0.5).clampLightness(0.3, 0.8);
+        assertEquals(0.3, PackedColor.getLightness(adjustment.apply(0x000000)), 0.01);
+        assertEquals(0.5, PackedColor.getLightness(adjustment.apply(0xffffff)), 0.01);
+    }
+
+    /**
+     * Unit test for clamps that do not overlap, which no single
+     * clamp can replace.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDisjointClamps() {
+        ColorAdjustment.IDENTITY.clampLightness(0.1, 0.3).clampLightness(0.6, 0.8);
+    }
+}
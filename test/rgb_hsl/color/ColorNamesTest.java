@@ -0,0 +1,89 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary tests
+ * for ColorNames.
+ * @author Noah Teshima
+ */
+public class ColorNamesTest {
+    /**
+     * Array containing color names, in any case.
+     */
+    private String[] NAMES = {"red", "RebeccaPurple", "ALICEBLUE", "yellowgreen", "x11gray", "navyblue"};
+
+    /**
+     * Array containing the packed colors for NAMES.
+     */
+    private int[] PACKED_COLORS = {0xff0000, 0x663399, 0xf0f8ff, 0x9acd32, 0xbebebe, 0x000080};
+
+    /**
+     * Array containing strings that are not color names.
+     */
+    private String[] UNKNOWN_NAMES = {"", "reds", "re", "notacolor", "light gray", "grey1"};
+
+    /**
+     * Unit test for looking up colors by name.
+     */
+    @Test
+    public void testGetRGB() {
+        for(int index = 0; index < NAMES.length; index++) {
+            assertEquals(String.format("Color name %s should be %06x!\n", NAMES[index], PACKED_COLORS[index]),
+                    PACKED_COLORS[index], ColorNames.getRGB(NAMES[index]));
+        }
+        for(String name : UNKNOWN_NAMES) {
+            assertEquals(String.format("%s is not a color name!\n", name),
+                    ColorNames.NOT_FOUND, ColorNames.getRGB(name));
+        }
+        assertEquals(0x0000ff, ColorNames.getRGB("[Blue]", 1, 5));
+    }
+
+    /**
+     * Unit test for determining whether every named color is its
+     * own nearest name, or an alias with the same color.
+     */
+    @Test
+    public void testNearestNameOfNamedColors() {
+        for(String name : NAMES) {
+            int rgb = ColorNames.getRGB(name);
+            assertEquals(rgb, ColorNames.getRGB(ColorNames.getNearestName(rgb)));
+        }
+        assertEquals("aqua", ColorNames.getNearestName(new RGBColor(0, 255, 255)));
+        assertEquals("red", ColorNames.getNearestName(new HSLColor(0, 1, 0.5)));
+    }
+
+    /**
+     * Unit test for determining whether the grid search always returns
+     * a name exactly as close as a linear scan over every name, over a
+     * sample of RGB space.
+     */
+    @Test
+    public void testNearestNameIsNearest() {
+        for(int rgb = 0; rgb <= 0xffffff; rgb += 4099) {
+            int nearest = ColorNames.getRGB(ColorNames.getNearestName(rgb)),
+                    bestDistance = Integer.MAX_VALUE;
+            for(int index = 0; index < ColorNames.size(); index++) {
+                bestDistance = Math.min(bestDistance, distance(rgb, ColorNames.getValue(index)));
+            }
+            assertEquals(String.format("Nearest name of %06x is too far!\n", rgb),
+                    bestDistance, distance(rgb, nearest));
+        }
+    }
+
+    /**
+     * Helper method used to get the squared distance of two packed colors.
+     * @param one integer value containing a packed color.
+     * @param two integer value containing a packed color.
+     * @return integer value containing the squared distance.
+     */
+    private int distance(int one, int two) {
+        int red = PackedColor.getRed(one) - PackedColor.getRed(two),
+                green = PackedColor.getGreen(one) - PackedColor.getGreen(two),
+                blue = PackedColor.getBlue(one) - PackedColor.getBlue(two);
+        return (red * red) + (green * green) + (blue * blue);
+    }
+}
@@ -0,0 +1,102 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for ColorSorter.
+ * @author Noah Teshima
+ */
+public class ColorSorterTest {
+    /**
+     * Unit test for determining whether every key gives the same
+     * order as a stable comparison sort, on the calling thread and
+     * in parallel.
+     */
+    @Test
+    public void testMatchesComparisonSort() {
+        Random random = new Random(10);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for(int size : new int[] {1000, 150000}) {
+                int[] colors = new int[size];
+                for(int index = 0; index < size; index++) {
+                    //few distinct colors, so many keys are equal
+                    colors[index] = random.nextInt(1 << 12) * 4099;
+                }
+                for(ColorSorter.Key key : ColorSorter.Key.values()) {
+                    List<Integer> expected = new ArrayList<>();
+                    for(int index = 0; index < size; index++) {
+                        expected.add(index);
+                    }
+                    Collections.sort(expected, Comparator.comparingInt(index -> key.getKey(colors[index])));
+
+                    ColorSorter sorter = new ColorSorter(key, pool);
+                    int[] indices = sorter.sortIndices(colors, 0, size),
+                            sorted = colors.clone();
+                    sorter.sort(sorted, 0, size);
+                    for(int index = 0; index < size; index++) {
+                        assertEquals(key.toString(), (int) expected.get(index), indices[index]);
+                        assertEquals(colors[expected.get(index)], sorted[index]);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Unit test for sorting a range in the middle of an array.
+     */
+    @Test
+    public void testRange() {
+        int[] colors = {0xffffff, 0x808080, 0x000000, 0x404040, 0xffffff};
+        new ColorSorter(ColorSorter.Key.LUMINANCE).sort(colors, 1, 4);
+        assertArrayEquals(new int[] {0xffffff, 0x000000, 0x404040, 0x808080, 0xffffff}, colors);
+        assertArrayEquals(new int[] {2, 3, 1},
+                new ColorSorter(ColorSorter.Key.LIGHTNESS).sortIndices(new int[] {0xffffff, 0x808080, 0x000000, 0x404040}, 1, 4));
+    }
+
+    /**
+     * Unit test for determining whether consecutive positions on the
+     * Hilbert curve are adjacent colors. The curve starts at black, so
+     * its first 4096 positions fill the cube of the 16 darkest levels
+     * of each channel.
+     */
+    @Test
+    public void testHilbertCurve() {
+        int[] colors = new int[4096];
+        for(int index = 0; index < colors.length; index++) {
+            colors[index] = PackedColor.pack(index >> 8, (index >> 4) & 15, index & 15);
+        }
+        new ColorSorter(ColorSorter.Key.HILBERT).sort(colors, 0, colors.length);
+        assertEquals(0, colors[0]);
+        for(int index = 0; index < colors.length; index++) {
+            assertEquals(index, ColorSorter.Key.HILBERT.getKey(colors[index]));
+            if(index > 0) {
+                int previous = colors[index - 1],
+                        current = colors[index],
+                        distance = Math.abs(PackedColor.getRed(previous) - PackedColor.getRed(current))
+                                + Math.abs(PackedColor.getGreen(previous) - PackedColor.getGreen(current))
+                                + Math.abs(PackedColor.getBlue(previous) - PackedColor.getBlue(current));
+                assertEquals(1, distance);
+            }
+        }
+        assertTrue(ColorSorter.Key.HILBERT.getKey(0xffffff) < (1 << 24));
+        assertEquals(0b111111000, ColorSorter.Key.MORTON.getKey(0x060606));
+        assertEquals(0b100, ColorSorter.Key.MORTON.getKey(0x010000));
+    }
+}
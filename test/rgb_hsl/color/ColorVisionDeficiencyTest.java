@@ -0,0 +1,97 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+import rgb_hsl.palette.ComplementaryPalette;
+import rgb_hsl.palette.Palette;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for ColorVisionDeficiency.
+ * @author Noah Teshima
+ */
+public class ColorVisionDeficiencyTest {
+    private static final double[][] MATRICES = {
+            {0.152286, 1.052583, -0.204868, 0.114503, 0.786281, 0.099216, -0.003882, -0.048116, 1.051998},
+            {0.367322, 0.860646, -0.227968, 0.280085, 0.672501, 0.047413, -0.011820, 0.042940, 0.968881},
+            {1.255528, -0.076749, -0.178779, -0.078411, 0.930809, 0.147602, 0.004733, 0.691367, 0.303900}
+    };
+
+    /**
+     * Unit test for determining whether the tables give the same
+     * result as applying each matrix with Math.pow.
+     */
+    @Test
+    public void testMatrices() {
+        Random random = new Random(39);
+        for(ColorVisionDeficiency deficiency : ColorVisionDeficiency.values()) {
+            double[] matrix = MATRICES[deficiency.ordinal()];
+            for(int count = 0; count < 20000; count++) {
+                int rgb = random.nextInt(0x1000000),
+                        simulated = deficiency.simulate(rgb);
+                double[] linear = {
+                        ColorConversions.toLinear(PackedColor.getRed(rgb)),
+                        ColorConversions.toLinear(PackedColor.getGreen(rgb)),
+                        ColorConversions.toLinear(PackedColor.getBlue(rgb))};
+                for(int channel = 0; channel < 3; channel++) {
+                    int expected = ColorConversions.fromLinear((matrix[channel * 3] * linear[0])
+                            + (matrix[(channel * 3) + 1] * linear[1]) + (matrix[(channel * 3) + 2] * linear[2]));
+                    assertEquals(expected, (simulated >> (16 - (8 * channel))) & 0xff, 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unit test for simulating grays, colors, palettes and rasters.
+     */
+    @Test
+    public void testEntryPoints() {
+        for(ColorVisionDeficiency deficiency : ColorVisionDeficiency.values()) {
+            assertEquals(0xffffff, deficiency.simulate(0xffffff));
+            assertEquals(0x80000000, deficiency.simulate(0x80000000));
+        }
+
+        RGBColor red = ColorVisionDeficiency.PROTANOPIA.simulate(new HSLColor(0, 1, 0.5));
+        assertTrue(red.getRed() < 255 && red.getGreen() > 0);
+
+        Palette palette = new ComplementaryPalette(new RGBColor(255, 0, 0));
+        List<Color> simulated = palette.simulate(ColorVisionDeficiency.DEUTERANOPIA);
+        assertEquals(2, simulated.size());
+        assertEquals(ColorVisionDeficiency.DEUTERANOPIA.simulate(0xff0000),
+                PackedColor.getRGB(simulated.get(0)));
+        assertEquals(ColorVisionDeficiency.DEUTERANOPIA.simulate(0x00ffff),
+                PackedColor.getRGB(simulated.get(1)));
+        assertTrue(simulated.get(0) instanceof RGBColor && !(simulated.get(0) instanceof RGBAColor));
+
+        simulated = new ComplementaryPalette(new RGBAColor(255, 0, 0, 64)).simulate(ColorVisionDeficiency.DEUTERANOPIA);
+        for(Color color : simulated) {
+            assertEquals(64, PackedColor.getAlpha(color));
+        }
+        assertEquals(ColorVisionDeficiency.DEUTERANOPIA.simulate(0x40ff0000), PackedColor.getARGB(simulated.get(0)));
+
+        int[] raster = {0xff123456, 0x00abcdef, 0x7f000000};
+        ColorVisionDeficiency.TRITANOPIA.simulate(raster, 1, 3);
+        assertEquals(0xff123456, raster[0]);
+        assertEquals(ColorVisionDeficiency.TRITANOPIA.simulate(0x00abcdef), raster[1]);
+        assertEquals(0x7f000000, raster[2]);
+    }
+
+    /**
+     * Unit test for determining whether table encoding stays within
+     * one level of exact encoding.
+     */
+    @Test
+    public void testEncodeLinear() {
+        for(int step = -10; step <= 110000; step++) {
+            double linear = step / 100000.0;
+            assertEquals(ColorConversions.fromLinear(linear), ColorConversions.encodeLinear(linear), 1);
+        }
+    }
+}
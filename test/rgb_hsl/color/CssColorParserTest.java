@@ -0,0 +1,165 @@
+package rgb_hsl.color;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.InputMismatchException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+/**
+ * Unit testing class containing the necessary tests
+ * for CssColorParser.
+ * @author Noah Teshima
+ */
+public class CssColorParserTest {
+    private CssColorParser parser;
+
+    /**
+     * Array containing parseable CSS color strings.
+     */
+    private String[] PARSEABLE_COLORS = {"#fff", "  #FF0000\n", "#0ea8", "#78a0c880", "rgb(120, 160, 200)",
+            "RGBA(120,160,200,0.5)", "rgb(120 160 200 / 50%)", "rgb(100%, 0%, 0%)", "hsl(0, 100%, 50%)",
+            "hsla(120deg, 100%, 50%, 1)", "hsl(240 100% 50% / .25)", "rebeccapurple", "DarkSlateGray",
+            "transparent", "rgb(300, -5, 0)"};
+
+    /**
+     * Array containing the packed colors, in the form 0xAARRGGBB,
+     * for PARSEABLE_COLORS.
+     */
+    private int[] PARSED_COLORS = {0xffffffff, 0xffff0000, 0x8800eeaa, 0x8078a0c8, 0xff78a0c8,
+            0x8078a0c8, 0x8078a0c8, 0xffff0000, 0xffff0000,
+            0xff00ff00, 0x400000ff, 0xff663399, 0xff2f4f4f,
+            0x00000000, 0xffff0000};
+
+    /**
+     * Array containing strings that are not CSS colors.
+     */
+    private String[] UNPARSEABLE_COLORS = {"", "   ", "#ff", "#fffff", "fff", "##fff", "#gggggg",
+            "rgb(1, 2)", "rgb(1, 2, 3", "rgb(1, 2 3)", "hsl(10%, 5%, 5%)", "cmyk(1, 2, 3)",
+            "notacolor", "red blue", "rgb(a, b, c)"};
+
+    @Before
+    public void init() {
+        this.parser = new CssColorParser();
+    }
+
+    /**
+     * Unit test for parsing every supported form of CSS color.
+     */
+    @Test
+    public void testParse() {
+        String err;
+        for(int index = 0; index < PARSEABLE_COLORS.length; index++) {
+            String color = PARSEABLE_COLORS[index];
+            err = String.format("CSS color %s should be parseable!\n", color);
+            assertTrue(err, this.parser.parse(color, 0, color.length()));
+            err = String.format("CSS color %s should be %08x!\n", color, PARSED_COLORS[index]);
+            assertEquals(err, PARSED_COLORS[index], this.parser.getARGB());
+        }
+    }
+
+    /**
+     * Unit test for rejecting strings that are not CSS colors.
+     */
+    @Test
+    public void testUnparseable() {
+        for(String color : UNPARSEABLE_COLORS) {
+            assertFalse(String.format("CSS color %s is not parseable!\n", color),
+                    this.parser.parse(color, 0, color.length()));
+        }
+    }
+
+    /**
+     * Unit test for rejecting digits and whitespace outside of ASCII,
+     * which CSS does not accept.
+     */
+    @Test
+    public void testNonAsciiUnparseable() {
+        for(String color : new String[] {"#\uff11\uff12\uff13", "#\u0661\u0662\u0663", "#12\u0663",
+                "\u00a0#123", "rgb(1,\u20032, 3)", "#123\u2028"}) {
+            assertFalse(String.format("CSS color %s is not parseable!\n", color),
+                    this.parser.parse(color, 0, color.length()));
+        }
+        assertTrue(this.parser.parse("\t\f#aBc\r\n", 0, 8));
+        assertEquals(0xffaabbcc, this.parser.getARGB());
+    }
+
+    /**
+     * Unit test for rejecting X11 color names that CSS does not define,
+     * even though ColorNames knows them.
+     */
+    @Test
+    public void testX11NamesUnparseable() {
+        for(String color : new String[] {"navyblue", "webgray", "VioletRed", "x11gray"}) {
+            assertTrue(ColorNames.getRGB(color) != ColorNames.NOT_FOUND);
+            assertFalse(String.format("CSS color %s is not parseable!\n", color),
+                    this.parser.parse(color, 0, color.length()));
+        }
+    }
+
+    /**
+     * Unit test for determining whether the parser agrees with
+     * HexColor for hex color codes.
+     */
+    @Test
+    public void testMatchesHexColor() {
+        String[] codes = {"#000", "#fff", "#Ff0000", "#0ea", "#789aBc", "#bCa", "#AFDB01", "#69EFaa"};
+        for(String code : codes) {
+            this.parser.parse(code, 0, code.length());
+            assertEquals(new HexColor(code), this.parser.toRGBColor());
+        }
+    }
+
+    /**
+     * Unit test for determining whether HSL input keeps its own
+     * saturation and lightness.
+     */
+    @Test
+    public void testToHSLColor() {
+        String color = "hsl(200, 25%, 12.5%)";
+        this.parser.parse(color, 0, color.length());
+        assertEquals(new HSLColor(200, 0.25, 0.125), this.parser.toHSLColor());
+        assertEquals(new HSLColor(200, 0.25, 0.125).getRGBColor(), this.parser.toRGBColor());
+    }
+
+    /**
+     * Unit test for parsing a buffer of colors in bulk.
+     */
+    @Test
+    public void testParseAll() {
+        int[] out = new int[4];
+        int count = this.parser.parseAll(new StringBuilder("#f00;\n rgb(0, 255, 0)\n\n;blue;"), out);
+        assertEquals(3, count);
+        assertEquals(0xffff0000, out[0]);
+        assertEquals(0xff00ff00, out[1]);
+        assertEquals(0xff0000ff, out[2]);
+    }
+
+    /**
+     * Unit test for determining whether invalid entries in a bulk
+     * buffer throw an exception.
+     */
+    @Test(expected = InputMismatchException.class)
+    public void testParseAllUnparseable() {
+        this.parser.parseAll("#f00\nnotacolor", new int[2]);
+    }
+
+    /**
+     * Unit test for the static convenience method.
+     */
+    @Test
+    public void testParseARGB() {
+        assertEquals(0xff663399, CssColorParser.parseARGB("rebeccapurple"));
+        try {
+            CssColorParser.parseARGB("#12");
+            fail("#12 is not parseable!\n");
+        }catch(InputMismatchException exception) {
+            //success if caught
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+import rgb_hsl.palette.ComplementaryPalette;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for FloatColorConversions.
+ * @author Noah Teshima
+ */
+public class FloatColorConversionsTest {
+    /**
+     * Unit test for determining whether every 8-bit color survives
+     * a round trip through HSL space with float components.
+     */
+    @Test
+    public void testRoundTrip() {
+        int[] packed = new int[1 << 18],
+                result = new int[packed.length];
+        float[] colors = new float[packed.length * 3];
+        for(int index = 0; index < packed.length; index++) {
+            packed[index] = index * 64 + (index % 64);
+        }
+        FloatColorConversions.fromPacked(packed, colors, 0, packed.length);
+        FloatColorConversions.rgbToHSL(colors, colors, 0, packed.length);
+        FloatColorConversions.hslToRGB(colors, colors, 0, packed.length);
+        FloatColorConversions.quantize(colors, result, 0, packed.length);
+        assertArrayEquals(packed, result);
+    }
+
+    /**
+     * Unit test for determining whether conversions to RGB space
+     * agree with HSLColor for whole degrees of hue.
+     */
+    @Test
+    public void testMatchesHSLColor() {
+        Random random = new Random(6);
+        for(int trial = 0; trial < 5000; trial++) {
+            HSLColor color = new HSLColor(random.nextInt(360), random.nextDouble(), random.nextDouble());
+            int expected = PackedColor.getRGB(color),
+                    actual = PackedColor.getRGB(Color.getFloatHSLColor(color));
+            for(int shift = 0; shift < 24; shift += 8) {
+                assertTrue(Math.abs(((expected >> shift) & 0xff) - ((actual >> shift) & 0xff)) <= 1);
+            }
+        }
+    }
+
+    /**
+     * Unit test for 16-bit channels, which round trip exactly and
+     * are clamped when out of range.
+     */
+    @Test
+    public void testShorts() {
+        short[] channels = {0, 1, (short) 65535, 12345, (short) 40000, (short) 65534},
+                result = new short[channels.length];
+        float[] colors = new float[channels.length];
+        FloatColorConversions.fromShorts(channels, colors, 0, 2);
+        assertEquals(1, colors[2], 0);
+        FloatColorConversions.toShorts(colors, result, 0, 2);
+        assertArrayEquals(channels, result);
+
+        FloatColorConversions.toShorts(new float[] {-1, 2.5f, Float.NaN}, result, 0, 1);
+        assertEquals(0, result[0]);
+        assertEquals(-1, result[1]);
+        assertEquals(0, result[2]);
+    }
+
+    /**
+     * Unit test for colors with float channels, which keep HDR values
+     * until they are quantized.
+     */
+    @Test
+    public void testColors() {
+        FloatRGBColor color = new FloatRGBColor(2, 0.5f, -0.25f);
+        assertEquals(2, color.getRed(), 0);
+        assertEquals(new RGBColor(255, 128, 0), color.quantize());
+        assertEquals(new RGBColor(255, 128, 0), Color.getRGBColor(color));
+
+        FloatHSLColor hslColor = new FloatHSLColor(-0.5f, 0.75f, 0.5f);
+        assertEquals(359.5f, hslColor.getHue(), 0);
+        FloatHSLColor roundTrip = hslColor.getRGBColor().getHSLColor();
+        assertEquals(hslColor.getHue(), roundTrip.getHue(), 1e-3);
+        assertEquals(hslColor.getSaturation(), roundTrip.getSaturation(), 1e-5);
+        assertEquals(hslColor.getLightness(), roundTrip.getLightness(), 1e-5);
+    }
+
+    /**
+     * Unit test for HDR colors, which HSL space cannot describe.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testHDRToHSL() {
+        new FloatRGBColor(2, 0.5f, 0).getHSLColor();
+    }
+
+    /**
+     * Unit test for palettes generated from an HDR color, which
+     * must not silently lose its brightness.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testHDRPalette() {
+        new ComplementaryPalette(new FloatRGBColor(2, 0.5f, 0));
+    }
+
+    /**
+     * Unit test for bulk conversions of channels that are not numbers.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNaNToHSL() {
+        float[] rgb = {0.5f, 0.5f, 0.5f, Float.NaN, 0, 0};
+        FloatColorConversions.rgbToHSL(rgb, rgb, 0, 2);
+    }
+
+    /**
+     * Unit test for equality and hash codes of float colors.
+     */
+    @Test
+    public void testHashCode() {
+        assertEquals(new FloatRGBColor(0, 0.5f, 1), new FloatRGBColor(-0f, 0.5f, 1));
+        assertEquals(new FloatRGBColor(0, 0.5f, 1).hashCode(), new FloatRGBColor(-0f, 0.5f, 1).hashCode());
+        assertEquals(new FloatHSLColor(0, 0.5f, 0.25f).hashCode(), new FloatHSLColor(-0f, 0.5f, 0.25f).hashCode());
+    }
+}
@@ -40,7 +40,7 @@ public class HexColorTest {
     /**
      * Array containing hex Strings that are not parseable for HexColor instances.
      */
-    private String[] UNPARSEABLE_CODES = {"0000", "#gaa", "asdf #123", "-1-2-3", "#aabbzz", "7017234", "##fff"};
+    private String[] UNPARSEABLE_CODES = {"00000", "#gaa", "asdf #123", "-1-2-3", "#aabbzz", "7017234", "##fff"};
 
     /**
      * 2D array containing the corresponding coordinates in RGB space for PARSEABLE_CODES
@@ -139,4 +139,23 @@ public class HexColorTest {
         }
     }
 
+    /**
+     * Unit test for determining whether hex color codes with an
+     * alpha are parsed, and written back out with the alpha.
+     */
+    @Test
+    public void testAlphaHexCodes() {
+        this.colorTwo.setColor("#12345680");
+        assertEquals(0x80123456, this.colorTwo.getARGB());
+        assertEquals("12345680", this.colorTwo.getHexCode());
+        this.colorTwo.setColor("#abc8");
+        assertEquals(0x88aabbcc, this.colorTwo.getARGB());
+        assertEquals("aabbcc88", this.colorTwo.getHexCode());
+        this.colorTwo.setColor("aabbcc");
+        assertEquals(255, this.colorTwo.getAlpha());
+        assertEquals("aabbcc", this.colorTwo.getHexCode());
+        this.colorTwo.setAlpha(5);
+        assertEquals("#aabbcc05", this.colorTwo.toString());
+    }
+
 }
@@ -0,0 +1,124 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+
+/**
+ * Unit testing class containing the necessary tests
+ * for LabColor, OKLabColor, and their conversions in
+ * ColorConversions.
+ * @author Noah Teshima
+ */
+public class LabColorTest {
+    /**
+     * 2D array containing coordinates in RGB space.
+     */
+    private int[][] RGB_COLORS = {{0, 0, 0}, {255, 255, 255}, {255, 0, 0}, {0, 255, 0}, {0, 0, 255}};
+
+    /**
+     * 2D array containing the corresponding coordinates in CIELAB space
+     * for RGB_COLORS.
+     */
+    private double[][] LAB_COLORS = {{0, 0, 0}, {100, 0, 0}, {53.24, 80.09, 67.20},
+            {87.73, -86.18, 83.18}, {32.30, 79.19, -107.86}};
+
+    /**
+     * 2D array containing the corresponding coordinates in OKLab space
+     * for RGB_COLORS.
+     */
+    private double[][] OKLAB_COLORS = {{0, 0, 0}, {1, 0, 0}, {0.6280, 0.2249, 0.1258},
+            {0.8664, -0.2339, 0.1795}, {0.4520, -0.0325, -0.3115}};
+
+    /**
+     * Unit test for converting RGB colors into CIELAB and OKLab space.
+     */
+    @Test
+    public void testFromRGB() {
+        for(int index = 0; index < RGB_COLORS.length; index++) {
+            int[] coords = RGB_COLORS[index];
+            RGBColor color = new RGBColor(coords[0], coords[1], coords[2]);
+            LabColor lab = Color.getLabColor(color);
+            OKLabColor okLab = Color.getOKLabColor(color);
+            String err = String.format("%s was given for %s!\n", lab, color);
+
+            assertEquals(err, LAB_COLORS[index][0], lab.getLightness(), 0.01);
+            assertEquals(err, LAB_COLORS[index][1], lab.getA(), 0.01);
+            assertEquals(err, LAB_COLORS[index][2], lab.getB(), 0.01);
+
+            err = String.format("%s was given for %s!\n", okLab, color);
+            assertEquals(err, OKLAB_COLORS[index][0], okLab.getLightness(), 0.0005);
+            assertEquals(err, OKLAB_COLORS[index][1], okLab.getA(), 0.0005);
+            assertEquals(err, OKLAB_COLORS[index][2], okLab.getB(), 0.0005);
+        }
+    }
+
+    /**
+     * Unit test for determining whether a sample of RGB space survives
+     * a round trip through CIELAB and OKLab space, in bulk and through
+     * Color's conversion helpers.
+     */
+    @Test
+    public void testRoundTrip() {
+        int[] rgb = new int[(0x1000000 / 257) + 1],
+                result = new int[rgb.length];
+        double[] lab = new double[rgb.length * 3];
+        for(int index = 0; index < rgb.length; index++) {
+            rgb[index] = index * 257;
+        }
+
+        ColorConversions.rgbToLab(rgb, 0, rgb.length, lab);
+        ColorConversions.labToRGB(lab, result, 0, rgb.length);
+        assertEquals(Arrays.toString(rgb), Arrays.toString(result));
+
+        ColorConversions.rgbToOKLab(rgb, 0, rgb.length, lab);
+        ColorConversions.okLabToRGB(lab, result, 0, rgb.length);
+        assertEquals(Arrays.toString(rgb), Arrays.toString(result));
+
+        RGBColor color = new RGBColor(120, 160, 200);
+        assertEquals(color, Color.getRGBColor(Color.getLabColor(color)));
+        assertEquals(color, Color.getRGBColor(Color.getOKLabColor(color)));
+        assertEquals(color.getHSLColor(), Color.getHSLColor(Color.getOKLabColor(color)));
+    }
+
+    /**
+     * Unit test for the cube root approximation.
+     */
+    @Test
+    public void testCbrt() {
+        for(double value = -8; value <= 8; value += 0.0137) {
+            assertEquals(Math.cbrt(value), ColorConversions.cbrt(value), 1e-10);
+        }
+        assertEquals(0, ColorConversions.cbrt(0), 0);
+        assertEquals(1e-4, ColorConversions.cbrt(1e-12), 1e-16);
+    }
+
+    /**
+     * Unit test for perceptual distances.
+     */
+    @Test
+    public void testDistance() {
+        LabColor black = new LabColor(),
+                white = new LabColor(100, 0, 0);
+        assertEquals(100, black.getDistance(white), 0);
+        assertEquals(1, new OKLabColor().getDistance(new OKLabColor(1, 0, 0)), 0);
+    }
+
+    /**
+     * Unit test for equality and hash codes.
+     */
+    @Test
+    public void testEquals() {
+        LabColor lab = new LabColor(50, 0.0, -10),
+                negativeZero = new LabColor(50, -0.0, -10);
+        assertEquals(lab, negativeZero);
+        assertEquals(lab.hashCode(), negativeZero.hashCode());
+        assertEquals(new OKLabColor(0.5, 0.1, -0.1).hashCode(), new OKLabColor(0.5, 0.1, -0.1).hashCode());
+        assertNotEquals(new LabColor(1, 0, 0), new OKLabColor(1, 0, 0));
+        assertNotEquals(lab, new LabColor(50, 0, 10));
+    }
+}
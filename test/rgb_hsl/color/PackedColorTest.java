@@ -0,0 +1,65 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary tests
+ * for PackedColor. Packed conversions are compared
+ * against RGBColor and HSLColor.
+ * @author Noah Teshima
+ */
+public class PackedColorTest {
+    /**
+     * 2D array containing coordinates in RGB space.
+     */
+    private int[][] RGB_COLORS = {{0, 0, 0}, {255, 0, 0}, {0, 255, 0}, {0, 0, 255}, {120, 160, 200},
+            {60, 120, 4}, {255, 255, 255}, {17, 200, 99}};
+
+    /**
+     * Unit test for packing and unpacking coordinates in RGB space.
+     */
+    @Test
+    public void testPack() {
+        for(int[] coords : RGB_COLORS) {
+            int rgb = PackedColor.pack(coords[0], coords[1], coords[2]);
+            assertEquals(coords[0], PackedColor.getRed(rgb));
+            assertEquals(coords[1], PackedColor.getGreen(rgb));
+            assertEquals(coords[2], PackedColor.getBlue(rgb));
+            assertEquals(new RGBColor(coords[0], coords[1], coords[2]), PackedColor.toRGBColor(rgb));
+        }
+    }
+
+    /**
+     * Unit test for determining whether packed RGB to HSL conversions
+     * agree with RGBColor for a sample of RGB space.
+     */
+    @Test
+    public void testToHSLColor() {
+        for(int rgb = 0; rgb <= 0xffffff; rgb += 997) {
+            HSLColor expected = PackedColor.toRGBColor(rgb).getHSLColor();
+            assertEquals("Packed HSL conversion should match RGBColor!\n",
+                    expected, PackedColor.toHSLColor(rgb));
+        }
+    }
+
+    /**
+     * Unit test for determining whether packed HSL to RGB conversions
+     * agree with HSLColor.
+     */
+    @Test
+    public void testFromHSL() {
+        for(int hue = -360; hue < 720; hue += 7) {
+            for(int step = 0; step <= 20; step++) {
+                double saturation = step / 20.0,
+                        lightness = 1 - (step / 20.0);
+                RGBColor expected = new HSLColor(hue, saturation, lightness).getRGBColor();
+                assertEquals(PackedColor.getRGB(expected), PackedColor.fromHSL(hue, saturation, lightness));
+                assertEquals(PackedColor.getRGB(expected),
+                        PackedColor.getRGB(new HSLColor(hue, saturation, lightness)));
+            }
+        }
+    }
+}
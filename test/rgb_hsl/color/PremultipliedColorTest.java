@@ -0,0 +1,81 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for PremultipliedColor.
+ * @author Noah Teshima
+ */
+public class PremultipliedColorTest {
+    /**
+     * Unit test for determining whether premultiplying and dividing
+     * by alpha match rounded floating point division for every
+     * channel and alpha.
+     */
+    @Test
+    public void testMatchesDivision() {
+        for(int alpha = 0; alpha < 256; alpha++) {
+            for(int channel = 0; channel < 256; channel++) {
+                int premultiplied = PremultipliedColor.premultiply((alpha << 24) | channel);
+                assertEquals((int) Math.round(channel * alpha / 255.0), premultiplied & 0xff);
+                assertEquals(alpha, premultiplied >>> 24);
+                if(alpha > 0 && channel <= alpha) {
+                    assertEquals((int) Math.round(channel * 255.0 / alpha),
+                            PremultipliedColor.unpremultiply((alpha << 24) | channel) & 0xff);
+                }
+            }
+        }
+        assertEquals(0, PremultipliedColor.unpremultiply(0x00123456));
+    }
+
+    /**
+     * Unit test for determining whether round trips through
+     * premultiplied alpha lose no more than alpha allows.
+     */
+    @Test
+    public void testRoundTrip() {
+        int[] colors = {0xff123456, 0x80ff8000, 0x10abcdef, 0x00ffffff},
+                copy = colors.clone();
+        PremultipliedColor.premultiply(copy, 0, copy.length);
+        PremultipliedColor.unpremultiply(copy, 0, copy.length);
+        assertEquals(colors[0], copy[0]);
+        assertEquals(colors[1], copy[1]);
+        for(int shift = 0; shift < 24; shift += 8) {
+            assertTrue(Math.abs(((colors[2] >> shift) & 0xff) - ((copy[2] >> shift) & 0xff)) <= 8);
+        }
+        assertEquals(0, copy[3]);
+    }
+
+    /**
+     * Unit test for determining whether compositing premultiplied
+     * colors matches normal blending of straight colors over an
+     * opaque backdrop.
+     */
+    @Test
+    public void testComposite() {
+        Random random = new Random(2);
+        int[] backdrops = new int[1000],
+                sources = new int[backdrops.length],
+                out = new int[backdrops.length];
+        for(int index = 0; index < backdrops.length; index++) {
+            backdrops[index] = 0xff000000 | random.nextInt();
+            sources[index] = PremultipliedColor.premultiply(random.nextInt());
+        }
+        PremultipliedColor.composite(backdrops, sources, out, 0, out.length);
+        for(int index = 0; index < out.length; index++) {
+            int expected = BlendMode.NORMAL.blend(backdrops[index], PremultipliedColor.unpremultiply(sources[index]));
+            assertEquals(0xff, out[index] >>> 24);
+            for(int shift = 0; shift < 24; shift += 8) {
+                assertTrue(Math.abs(((expected >> shift) & 0xff) - ((out[index] >> shift) & 0xff)) <= 2);
+            }
+        }
+        assertEquals(0x80402010, PremultipliedColor.composite(0x00000000, 0x80402010));
+    }
+}
@@ -0,0 +1,84 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+import rgb_hsl.palette.HarmonyTemplate;
+import rgb_hsl.palette.MonoChromaticPalette;
+import rgb_hsl.palette.Palette;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for RGBAColor and HSLAColor.
+ * @author Noah Teshima
+ */
+public class RGBAColorTest {
+    /**
+     * Unit test for determining whether alpha is packed and
+     * kept through conversions between RGB and HSL space.
+     */
+    @Test
+    public void testConversions() {
+        RGBAColor color = new RGBAColor(255, 0, 0, 64);
+        assertEquals(0x40ff0000, color.getARGB());
+        HSLAColor hslColor = (HSLAColor) color.getHSLColor();
+        assertEquals(64, hslColor.getAlpha());
+        assertEquals(0x40ff0000, hslColor.getARGB());
+        assertEquals(color, hslColor.getRGBColor());
+        assertEquals(64, PackedColor.getAlpha(Color.getHSLColor(color)));
+        assertEquals(64, PackedColor.getAlpha(Color.getRGBColor(hslColor)));
+        assertEquals(color, PackedColor.toRGBAColor(0x40ff0000));
+        assertEquals(hslColor, PackedColor.toHSLAColor(0x40ff0000));
+    }
+
+    /**
+     * Unit test for determining whether alpha is clamped, and
+     * whether colors without alpha are opaque.
+     */
+    @Test
+    public void testAlpha() {
+        RGBAColor color = new RGBAColor(1, 2, 3, 300);
+        assertEquals(255, color.getAlpha());
+        color.setAlpha(-4);
+        assertEquals(0, color.getAlpha());
+        assertEquals(255, PackedColor.getAlpha(new RGBColor(1, 2, 3)));
+        assertEquals(0xff010203, PackedColor.getARGB(new RGBColor(1, 2, 3)));
+        assertEquals(0x00010203, PackedColor.getARGB(color));
+    }
+
+    /**
+     * Unit test for determining whether colors are only equal
+     * when their alpha is equal, in either order.
+     */
+    @Test
+    public void testEquals() {
+        RGBColor opaque = new RGBColor(10, 20, 30);
+        assertTrue(opaque.equals(new RGBAColor(10, 20, 30)));
+        assertTrue(new RGBAColor(10, 20, 30).equals(opaque));
+        assertFalse(opaque.equals(new RGBAColor(10, 20, 30, 5)));
+        assertFalse(new RGBAColor(10, 20, 30, 5).equals(opaque));
+        assertFalse(new HSLColor(10, 0.5, 0.5).equals(new HSLAColor(10, 0.5, 0.5, 5)));
+        assertTrue(new HSLAColor(10, 0.5, 0.5).equals(new HSLColor(10, 0.5, 0.5)));
+    }
+
+    /**
+     * Unit test for determining whether generated palettes keep
+     * the alpha of their starting color.
+     */
+    @Test
+    public void testPalettes() {
+        Palette[] palettes = {new MonoChromaticPalette(new RGBAColor(200, 40, 90, 128), 4),
+                HarmonyTemplate.TETRADIC.apply(new HSLAColor(200, 0.5, 0.5, 128))};
+        for(Palette palette : palettes) {
+            for(Color color : palette.getColors()) {
+                assertEquals(128, PackedColor.getAlpha(color));
+            }
+        }
+        for(Color color : new MonoChromaticPalette(new RGBColor(200, 40, 90), 4).getColors()) {
+            assertEquals(255, PackedColor.getAlpha(color));
+        }
+    }
+}
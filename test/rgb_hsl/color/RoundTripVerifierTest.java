@@ -0,0 +1,88 @@
+package rgb_hsl.color;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for RoundTripVerifier.
+ * @author Noah Teshima
+ */
+public class RoundTripVerifierTest {
+    /**
+     * Largest error of any channel after a round trip through
+     * HSLColor, whose hue is truncated to a whole degree.
+     */
+    private static final int HSL_MAX_ERROR = 9;
+
+    /**
+     * Unit test for the round trip of every color in RGB space
+     * through HSLColor, which must not drift further than it does now.
+     */
+    @Test
+    public void testExhaustiveHSLRoundTrip() {
+        RoundTripReport report = new RoundTripVerifier().verify();
+        assertEquals(RoundTripVerifier.COLOR_COUNT, report.getCount());
+        for(int channel = RoundTripReport.RED; channel <= RoundTripReport.BLUE; channel++) {
+            assertTrue(report.toString(), report.getMaxError(channel) <= HSL_MAX_ERROR);
+            long total = 0;
+            for(int error = 0; error < 256; error++) {
+                total += report.getCount(channel, error);
+            }
+            assertEquals(RoundTripVerifier.COLOR_COUNT, total);
+        }
+        int worst = report.getWorstColor();
+        int result = RoundTripVerifier.HSL_ROUND_TRIP.applyAsInt(worst);
+        assertEquals(report.getWorstError(), Math.abs(PackedColor.getRed(worst) - PackedColor.getRed(result))
+                + Math.abs(PackedColor.getGreen(worst) - PackedColor.getGreen(result))
+                + Math.abs(PackedColor.getBlue(worst) - PackedColor.getBlue(result)));
+    }
+
+    /**
+     * Unit test for round trips through HSL space with float
+     * components, which are exact.
+     */
+    @Test
+    public void testFloatRoundTrip() {
+        RoundTripReport report = new RoundTripVerifier(rgb -> PackedColor.getRGB(
+                FloatRGBColor.fromRGB(rgb).getHSLColor().quantize())).verify(0x400000, 0x500000);
+        assertEquals(0x100000, report.getCount());
+        assertEquals(0, report.getMismatches());
+        assertEquals(-1, report.getWorstColor());
+    }
+
+    /**
+     * Unit test for determining whether reports do not depend on the
+     * number of threads verifying them.
+     */
+    @Test
+    public void testDeterministic() {
+        ForkJoinPool single = new ForkJoinPool(1),
+                several = new ForkJoinPool(4);
+        try {
+            RoundTripReport expected = new RoundTripVerifier(RoundTripVerifier.HSL_ROUND_TRIP, single)
+                    .verify(0x123456, 0x323456),
+                    actual = new RoundTripVerifier(RoundTripVerifier.HSL_ROUND_TRIP, several)
+                    .verify(0x123456, 0x323456);
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(expected.getWorstColor(), actual.getWorstColor());
+            assertEquals(expected.getMismatches(), actual.getMismatches());
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    /**
+     * Unit test for ranges outside of RGB space.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testInvalidRange() {
+        new RoundTripVerifier().verify(0, RoundTripVerifier.COLOR_COUNT + 1);
+    }
+}
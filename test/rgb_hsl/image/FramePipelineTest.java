@@ -0,0 +1,83 @@
+package rgb_hsl.image;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for FramePipeline and PixelOperations.
+ * @author Noah Teshima
+ */
+public class FramePipelineTest {
+    private static final int WIDTH = 16,
+            HEIGHT = 9;
+
+    /**
+     * Unit test for determining whether every frame is processed
+     * and written in the order it was read.
+     */
+    @Test
+    public void testOrderedFrames() throws IOException {
+        byte[] input = new byte[WIDTH * HEIGHT * 3 * 40];
+        new Random(36).nextBytes(input);
+        PixelOperation operation = PixelOperations.chain(
+                PixelOperations.adjust(new PaletteRecolorer(60, 0.05)),
+                PixelOperations.quantize(6));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long frames = new FramePipeline(WIDTH, HEIGHT, 3, 2, operation).run(
+                Channels.newChannel(new ByteArrayInputStream(input)), Channels.newChannel(output));
+        assertEquals(40, frames);
+
+        byte[] expected = new byte[input.length];
+        int[] pixel = new int[1];
+        for(int offset = 0; offset < input.length; offset += 3) {
+            pixel[0] = ((input[offset] & 0xff) << 16) | ((input[offset + 1] & 0xff) << 8) | (input[offset + 2] & 0xff);
+            operation.apply(pixel, 0, 1);
+            expected[offset] = (byte) (pixel[0] >> 16);
+            expected[offset + 1] = (byte) (pixel[0] >> 8);
+            expected[offset + 2] = (byte) pixel[0];
+        }
+        assertArrayEquals(expected, output.toByteArray());
+    }
+
+    /**
+     * Unit test for quantizing channels to evenly spaced levels.
+     */
+    @Test
+    public void testQuantize() {
+        int[] pixels = {0x80ff7f00, 0x00406080};
+        PixelOperations.quantize(3).apply(pixels, 0, 2);
+        assertArrayEquals(new int[]{0x80ff8000, 0x00808080}, pixels);
+    }
+
+    /**
+     * Unit test for input ending in the middle of a frame.
+     */
+    @Test(expected = IOException.class)
+    public void testPartialFrame() throws IOException {
+        new FramePipeline(WIDTH, HEIGHT, 2, 1).run(
+                Channels.newChannel(new ByteArrayInputStream(new byte[(WIDTH * HEIGHT * 3) + 5])),
+                Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    /**
+     * Unit test for failures of an operation reaching the caller.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testFailingOperation() throws IOException {
+        new FramePipeline(WIDTH, HEIGHT, 2, 1, (pixels, from, to) -> {
+            throw new IllegalStateException("failed");
+        }).run(Channels.newChannel(new ByteArrayInputStream(new byte[WIDTH * HEIGHT * 3 * 10])),
+                Channels.newChannel(new ByteArrayOutputStream()));
+    }
+}
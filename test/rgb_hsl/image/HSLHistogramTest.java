@@ -0,0 +1,105 @@
+package rgb_hsl.image;
+
+import org.junit.Test;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for HSLHistogram.
+ * @author Noah Teshima
+ */
+public class HSLHistogramTest {
+
+    /**
+     * Unit test for determining whether colors are counted in the
+     * bucket of the hue, saturation, and lightness of HSLColor.
+     */
+    @Test
+    public void testBuckets() {
+        Random random = new Random(33);
+        int[] pixels = new int[300000];
+        for(int index = 0; index < pixels.length; index++) {
+            pixels[index] = random.nextInt(0x1000000);
+        }
+        HSLHistogram histogram = new HSLHistogram(4, 5);
+        histogram.add(pixels);
+
+        long[] hues = new long[HSLHistogram.HUES];
+        for(int rgb : pixels) {
+            HSLColor color = new RGBColor(PackedColor.getRed(rgb), PackedColor.getGreen(rgb),
+                    PackedColor.getBlue(rgb)).getHSLColor();
+            int saturation = Math.min(3, (int) (color.getSaturation() * 4)),
+                    lightness = Math.min(4, (int) (color.getLightness() * 5));
+            hues[color.getHue()]++;
+            assertEquals(histogram.getCount(rgb), histogram.getCount(color.getHue(), saturation, lightness));
+        }
+        assertEquals(pixels.length, histogram.getTotal());
+        assertArrayEquals(hues, histogram.getHueCounts());
+    }
+
+    /**
+     * Unit test for determining whether pools, streams, and single
+     * updates all give the same counts.
+     */
+    @Test
+    public void testIncrementalUpdates() {
+        Random random = new Random(133);
+        int[] pixels = new int[200000];
+        for(int index = 0; index < pixels.length; index++) {
+            pixels[index] = random.nextInt(0x1000000);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            HSLHistogram frames = new HSLHistogram(3, 3, pool),
+                    stream = new HSLHistogram(3, 3),
+                    single = new HSLHistogram(3, 3, new ForkJoinPool(1));
+            frames.add(pixels, 0, 50000);
+            frames.add(pixels, 50000, pixels.length);
+            stream.add(IntStream.of(pixels).parallel());
+            for(int rgb : pixels) {
+                single.add(rgb);
+            }
+            assertArrayEquals(single.getHueCounts(), frames.getHueCounts());
+            assertArrayEquals(single.getHueCounts(), stream.getHueCounts());
+
+            frames.add(stream);
+            assertEquals(2L * pixels.length, frames.getTotal());
+            frames.clear();
+            assertEquals(0, frames.getTotal());
+        }finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Unit test for finding dominant hues, ignoring grays.
+     */
+    @Test
+    public void testDominantHues() {
+        HSLHistogram histogram = new HSLHistogram(4, 4);
+        for(int count = 0; count < 100; count++) {
+            histogram.add(0x808080);
+        }
+        for(int count = 0; count < 30; count++) {
+            histogram.add(PackedColor.fromHSL(200, 0.8, 0.5));
+        }
+        for(int count = 0; count < 10; count++) {
+            histogram.add(PackedColor.fromHSL(30, 0.8, 0.5));
+        }
+        int hueOne = PackedColor.getHue(PackedColor.fromHSL(200, 0.8, 0.5)),
+                hueTwo = PackedColor.getHue(PackedColor.fromHSL(30, 0.8, 0.5));
+        assertArrayEquals(new int[]{hueOne, hueTwo}, histogram.getDominantHues(5));
+        assertEquals(new HSLColor(hueOne, 0.875, 0.625), histogram.getBucketColor(hueOne, 3, 2));
+    }
+}
@@ -0,0 +1,72 @@
+package rgb_hsl.image;
+
+import org.junit.Test;
+import rgb_hsl.color.BlendMode;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for ImageBlender.
+ * @author Noah Teshima
+ */
+public class ImageBlenderTest {
+    /**
+     * Unit test for determining whether tiles blended in parallel
+     * match blending the whole raster in order.
+     */
+    @Test
+    public void testMatchesSequential() {
+        int width = 301,
+                height = 157;
+        Random random = new Random(8);
+        int[] backdrop = new int[width * height],
+                source = new int[backdrop.length];
+        for(int index = 0; index < backdrop.length; index++) {
+            backdrop[index] = random.nextInt();
+            source[index] = random.nextInt();
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for(BlendMode mode : BlendMode.values()) {
+                int[] expected = new int[backdrop.length],
+                        actual = backdrop.clone();
+                mode.blend(backdrop, source, expected, 0, expected.length);
+                new ImageBlender(mode, pool).blend(actual, source, width, height);
+                assertArrayEquals(expected, actual);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Unit test for blending an opaque image over another image,
+     * which replaces the backdrop in normal mode.
+     */
+    @Test
+    public void testImages() {
+        BufferedImage backdrop = new BufferedImage(70, 70, BufferedImage.TYPE_INT_RGB),
+                source = new BufferedImage(70, 70, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(5, 6, 0x123456);
+        backdrop.setRGB(7, 8, 0xffffff);
+        new ImageBlender(BlendMode.NORMAL).blend(backdrop, source);
+        assertEquals(0xff123456, backdrop.getRGB(5, 6));
+        assertEquals(0xff000000, backdrop.getRGB(7, 8));
+    }
+
+    /**
+     * Unit test for images of different sizes.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentSizes() {
+        new ImageBlender(BlendMode.SCREEN).blend(new BufferedImage(2, 2, BufferedImage.TYPE_INT_RGB),
+                new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB));
+    }
+}
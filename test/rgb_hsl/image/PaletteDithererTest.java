@@ -0,0 +1,133 @@
+package rgb_hsl.image;
+
+import org.junit.Before;
+import org.junit.Test;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+import rgb_hsl.palette.MonoChromaticPalette;
+import rgb_hsl.palette.PaletteIndex;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for PaletteDitherer.
+ * @author Noah Teshima
+ */
+public class PaletteDithererTest {
+    private static final int WIDTH = 203,
+            HEIGHT = 77;
+
+    private PaletteIndex index;
+    private int[] raster;
+
+    @Before
+    public void init() {
+        this.index = new PaletteIndex(new MonoChromaticPalette(new RGBColor(30, 140, 200), 6));
+        this.raster = new int[WIDTH * HEIGHT];
+        Random random = new Random(37);
+        for(int pixel = 0; pixel < this.raster.length; pixel++) {
+            this.raster[pixel] = random.nextInt();
+        }
+    }
+
+    /**
+     * Unit test for determining whether the wavefront schedule gives
+     * the same result as diffusing errors in order.
+     */
+    @Test
+    public void testErrorDiffusion() {
+        int[] expected = this.raster.clone();
+        this.diffuse(expected);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new PaletteDitherer(this.index, pool).errorDiffuse(this.raster, WIDTH, HEIGHT);
+        }finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, this.raster);
+    }
+
+    /**
+     * Unit test for ordered dithering to palette colors, keeping alpha.
+     */
+    @Test
+    public void testOrderedDither() {
+        int[] original = this.raster.clone();
+        new PaletteDitherer(this.index).orderedDither(this.raster, WIDTH, HEIGHT, 0);
+        for(int pixel = 0; pixel < original.length; pixel++) {
+            assertEquals((original[pixel] & 0xff000000) | this.index.getNearestRGB(original[pixel]),
+                    this.raster[pixel]);
+        }
+    }
+
+    /**
+     * Unit test for determining whether dithering a flat color mixes
+     * palette colors in about the right proportion.
+     */
+    @Test
+    public void testMixing() {
+        //black and a gray of 127
+        PaletteIndex grays = new PaletteIndex(new MonoChromaticPalette(new RGBColor(0, 0, 0), 2));
+        PaletteDitherer ditherer = new PaletteDitherer(grays);
+        int[] ordered = new int[64 * 64],
+                diffused = new int[64 * 64];
+        Arrays.fill(ordered, 0x404040);
+        Arrays.fill(diffused, 0x404040);
+        ditherer.orderedDither(ordered, 64, 64);
+        ditherer.errorDiffuse(diffused, 64, 64);
+
+        for(int[] result : new int[][]{ordered, diffused}) {
+            double total = 0;
+            for(int pixel : result) {
+                assertTrue(pixel == 0 || pixel == 0x7f7f7f);
+                total += PackedColor.getRed(pixel);
+            }
+            assertEquals(0x40, total / result.length, 2);
+        }
+    }
+
+    /**
+     * Reference Floyd-Steinberg error diffusion, in order on one thread.
+     */
+    private void diffuse(int[] pixels) {
+        int[] errors = new int[(WIDTH * HEIGHT + WIDTH + 1) * 3];
+        for(int row = 0; row < HEIGHT; row++) {
+            for(int column = 0; column < WIDTH; column++) {
+                int pixel = (row * WIDTH) + column;
+                int[] target = new int[3];
+                for(int channel = 0; channel < 3; channel++) {
+                    int sixteenths = errors[(pixel * 3) + channel],
+                            rounded = (sixteenths >= 0) ? (sixteenths + 8) / 16 : -((8 - sixteenths) / 16);
+                    target[channel] = Math.max(0, Math.min(255,
+                            ((pixels[pixel] >> (16 - (8 * channel))) & 0xff) + rounded));
+                }
+                int nearest = this.index.getNearestRGB(PackedColor.pack(target[0], target[1], target[2]));
+                pixels[pixel] = (pixels[pixel] & 0xff000000) | nearest;
+                for(int channel = 0; channel < 3; channel++) {
+                    int error = target[channel] - ((nearest >> (16 - (8 * channel))) & 0xff);
+                    if(column + 1 < WIDTH) {
+                        errors[((pixel + 1) * 3) + channel] += 7 * error;
+                    }
+                    if(row + 1 < HEIGHT) {
+                        if(column > 0) {
+                            errors[((pixel + WIDTH - 1) * 3) + channel] += 3 * error;
+                        }
+                        errors[((pixel + WIDTH) * 3) + channel] += 5 * error;
+                        if(column + 1 < WIDTH) {
+                            errors[((pixel + WIDTH + 1) * 3) + channel] += error;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
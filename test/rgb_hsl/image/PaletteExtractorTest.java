@@ -0,0 +1,94 @@
+package rgb_hsl.image;
+
+import org.junit.Test;
+import rgb_hsl.color.Color;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for PaletteExtractor.
+ * @author Noah Teshima
+ */
+public class PaletteExtractorTest {
+
+    /**
+     * Unit test for extracting the colors of an image made of
+     * three solid regions, in order of their area.
+     */
+    @Test
+    public void testSolidRegions() {
+        BufferedImage image = new BufferedImage(100, 10, BufferedImage.TYPE_INT_RGB);
+        for(int x = 0; x < 100; x++) {
+            int rgb = (x < 60) ? 0x2050e0 : (x < 90) ? 0xf0c010 : 0x108020;
+            for(int y = 0; y < 10; y++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+
+        List<Color> colors = new PaletteExtractor().extract(image, 3);
+        assertEquals(3, colors.size());
+        assertNear(0x2050e0, colors.get(0));
+        assertNear(0xf0c010, colors.get(1));
+        assertNear(0x108020, colors.get(2));
+        assertNear(0x2050e0, new PaletteExtractor().getDominantColor(image));
+    }
+
+    /**
+     * Unit test for asking for more colors than the image holds.
+     */
+    @Test
+    public void testFewerColors() {
+        int[] pixels = new int[1000];
+        Arrays.fill(pixels, 0, 400, 0xff000000);
+        Arrays.fill(pixels, 400, 1000, 0xffffffff);
+
+        int[] colors = new PaletteExtractor().extractRGB(pixels, 8);
+        assertEquals(2, colors.length);
+        assertNear(0xffffff, PackedColor.toRGBColor(colors[0]));
+        assertNear(0x000000, PackedColor.toRGBColor(colors[1]));
+    }
+
+    /**
+     * Unit test for determining whether the number of threads
+     * changes the result.
+     */
+    @Test
+    public void testParallelism() {
+        Random random = new Random(32);
+        int[] pixels = new int[500000];
+        for(int index = 0; index < pixels.length; index++) {
+            pixels[index] = random.nextInt(0x1000000) & ((index % 3 == 0) ? 0xff0000 : 0xffffff);
+        }
+
+        ForkJoinPool single = new ForkJoinPool(1),
+                several = new ForkJoinPool(4);
+        try {
+            int[] expected = new PaletteExtractor(single, 3).extractRGB(pixels, 16),
+                    actual = new PaletteExtractor(several, 3).extractRGB(pixels, 16);
+            assertEquals(16, expected.length);
+            assertArrayEquals(expected, actual);
+        }finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    private static void assertNear(int expected, Color actual) {
+        RGBColor rgbColor = Color.getRGBColor(actual);
+        assertTrue(actual.toString(), Math.abs(PackedColor.getRed(expected) - rgbColor.getRed()) <= 4
+                && Math.abs(PackedColor.getGreen(expected) - rgbColor.getGreen()) <= 4
+                && Math.abs(PackedColor.getBlue(expected) - rgbColor.getBlue()) <= 4);
+    }
+}
@@ -0,0 +1,82 @@
+package rgb_hsl.image;
+
+import org.junit.Test;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+import rgb_hsl.palette.AnalogousPalette;
+import rgb_hsl.palette.ComplementaryPalette;
+import rgb_hsl.palette.Palette;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for PaletteRecolorer.
+ * @author Noah Teshima
+ */
+public class PaletteRecolorerTest {
+
+    /**
+     * Unit test for determining whether recoloring the starting
+     * color of a palette gives the other colors of the palette.
+     */
+    @Test
+    public void testPaletteShifts() {
+        RGBColor color = new RGBColor(200, 60, 30);
+        Palette complementary = new ComplementaryPalette(color),
+                analogous = new AnalogousPalette(color, 30);
+
+        PaletteRecolorer opposite = new PaletteRecolorer(complementary, 1);
+        assertEquals(180, opposite.getHueShift());
+        assertEquals(0, opposite.getLightnessShift(), 0);
+        assertEquals(PackedColor.getRGB(complementary.getColor(1)), opposite.apply(PackedColor.getRGB(color)));
+
+        assertEquals(30, new PaletteRecolorer(analogous, 1).getHueShift());
+        assertEquals(330, new PaletteRecolorer(analogous, 2).getHueShift());
+        assertEquals(PackedColor.getRGB(analogous.getColor(2)),
+                new PaletteRecolorer(analogous, 2).apply(PackedColor.getRGB(color)));
+    }
+
+    /**
+     * Unit test for determining whether tiled recoloring matches
+     * recoloring each pixel, and keeps alpha.
+     */
+    @Test
+    public void testRaster() {
+        Random random = new Random(34);
+        int width = 301,
+                height = 157;
+        int[] raster = new int[width * height],
+                expected = new int[raster.length];
+        PaletteRecolorer recolorer = new PaletteRecolorer(-45, 0.1);
+        for(int index = 0; index < raster.length; index++) {
+            raster[index] = random.nextInt();
+            expected[index] = recolorer.apply(raster[index]);
+        }
+        recolorer.apply(raster, width, height);
+        assertArrayEquals(expected, raster);
+        assertEquals(expected[7] >>> 24, raster[7] >>> 24);
+    }
+
+    /**
+     * Unit test for recoloring images with and without a packed
+     * integer data buffer.
+     */
+    @Test
+    public void testImages() {
+        PaletteRecolorer recolorer = new PaletteRecolorer(120, 0);
+        BufferedImage packed = new BufferedImage(70, 70, BufferedImage.TYPE_INT_RGB),
+                bytes = new BufferedImage(70, 70, BufferedImage.TYPE_3BYTE_BGR);
+        packed.setRGB(3, 4, 0xff0000);
+        bytes.setRGB(3, 4, 0xff0000);
+        recolorer.apply(packed);
+        recolorer.apply(bytes);
+        assertEquals(recolorer.apply(0xff0000), packed.getRGB(3, 4) & 0xffffff);
+        assertEquals(recolorer.apply(0xff0000), bytes.getRGB(3, 4) & 0xffffff);
+    }
+}
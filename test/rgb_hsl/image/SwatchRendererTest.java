@@ -0,0 +1,107 @@
+package rgb_hsl.image;
+
+import org.junit.After;
+import org.junit.Test;
+import rgb_hsl.color.RGBColor;
+import rgb_hsl.palette.ComplementaryPalette;
+import rgb_hsl.palette.MonoChromaticPalette;
+import rgb_hsl.palette.Palette;
+import rgb_hsl.palette.TriadPalette;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for SwatchRenderer.
+ * @author Noah Teshima
+ */
+public class SwatchRendererTest {
+    private Path directory;
+
+    @After
+    public void cleanup() throws IOException {
+        if(this.directory != null) {
+            try(Stream<Path> paths = Files.walk(this.directory)) {
+                for(Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unit test for the layout of swatches and their labels.
+     */
+    @Test
+    public void testRender() {
+        SwatchRenderer renderer = new SwatchRenderer(60, 20, 2);
+        BufferedImage image = renderer.render(new TriadPalette(new RGBColor(255, 0, 0)));
+        assertEquals(4 + 60 + 4 + 60 + 4, image.getWidth());
+        assertEquals(4 + 20 + 4 + 20 + 4, image.getHeight());
+
+        assertEquals(0xffffff, image.getRGB(2, 2) & 0xffffff);
+        assertEquals(0xff0000, image.getRGB(60, 5) & 0xffffff);
+        assertEquals(0x00ff00, image.getRGB(120, 5) & 0xffffff);
+        assertEquals(0x0000ff, image.getRGB(60, 30) & 0xffffff);
+        assertEquals(0xffffff, image.getRGB(120, 30) & 0xffffff);
+
+        //"#ff0000" in black, in the bottom left of the first swatch
+        int ink = 0;
+        for(int y = 4; y < 24; y++) {
+            for(int x = 4; x < 64; x++) {
+                int rgb = image.getRGB(x, y) & 0xffffff;
+                assertTrue(rgb == 0xff0000 || rgb == 0);
+                ink += (rgb == 0) ? 1 : 0;
+            }
+        }
+        assertTrue(ink > 40);
+        assertEquals(0, image.getRGB(4 + 2 + 1, 4 + 20 - 2 - 7) & 0xffffff);
+
+        renderer.setLabels(false);
+        renderer.render(new TriadPalette(new RGBColor(255, 0, 0)), image);
+        assertEquals(0xff0000, image.getRGB(4 + 2 + 1, 4 + 20 - 2 - 7) & 0xffffff);
+    }
+
+    /**
+     * Unit test for writing a batch of palettes in parallel.
+     */
+    @Test
+    public void testWriteAll() throws IOException {
+        List<Palette> palettes = Arrays.asList(
+                new ComplementaryPalette(new RGBColor(20, 200, 90)),
+                new TriadPalette(new RGBColor(0, 0, 255)),
+                new MonoChromaticPalette(new RGBColor(90, 30, 60), 7),
+                new ComplementaryPalette(new RGBColor(250, 250, 0)));
+        Path directory = this.directory = Files.createTempDirectory("swatches");
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SwatchRenderer renderer = new SwatchRenderer(64, 32, 4, pool);
+            renderer.setLabelScale(2);
+            List<Path> files = renderer.writeAll(palettes, directory, "palette");
+            assertEquals(directory.resolve("palette-0002.png"), files.get(2));
+
+            for(int index = 0; index < palettes.size(); index++) {
+                BufferedImage expected = renderer.render(palettes.get(index)),
+                        actual = ImageIO.read(files.get(index).toFile());
+                assertArrayEquals(expected.getRGB(0, 0, expected.getWidth(), expected.getHeight(), null, 0,
+                        expected.getWidth()), actual.getRGB(0, 0, actual.getWidth(), actual.getHeight(), null, 0, actual.getWidth()));
+            }
+        }finally {
+            pool.shutdown();
+        }
+    }
+}
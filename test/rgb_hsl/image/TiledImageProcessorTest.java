@@ -0,0 +1,125 @@
+package rgb_hsl.image;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import rgb_hsl.color.RGBColor;
+import rgb_hsl.palette.PaletteIndex;
+import rgb_hsl.palette.TriadPalette;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for TiledImageProcessor and RawImageFile.
+ * @author Noah Teshima
+ */
+public class TiledImageProcessorTest {
+    private static final int WIDTH = 37,
+            HEIGHT = 29;
+
+    private Path directory;
+    private byte[] samples;
+    private ForkJoinPool pool;
+    private TiledImageProcessor processor;
+
+    @Before
+    public void init() throws IOException {
+        this.directory = Files.createTempDirectory("raw");
+        this.samples = new byte[WIDTH * HEIGHT * 3];
+        new Random(35).nextBytes(this.samples);
+        Files.write(this.directory.resolve("in.rgb"), this.samples);
+        //two rows per tile, with fewer cached tiles than tiles
+        this.pool = new ForkJoinPool(2);
+        this.processor = new TiledImageProcessor(80, 3, this.pool);
+    }
+
+    @After
+    public void shutdown() throws IOException {
+        this.pool.shutdown();
+        try(Stream<Path> paths = Files.walk(this.directory)) {
+            for(Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Unit test for mapping every pixel to a palette, from an RGB
+     * image into a new RGBA image.
+     */
+    @Test
+    public void testMap() throws IOException {
+        PaletteIndex index = new PaletteIndex(new TriadPalette(new RGBColor(255, 0, 0)));
+        try(RawImageFile in = new RawImageFile(this.directory.resolve("in.rgb"), WIDTH, HEIGHT, 3);
+                RawImageFile out = RawImageFile.create(this.directory.resolve("out.rgba"), WIDTH, HEIGHT, 4)) {
+            assertEquals(2, this.processor.getTileRows(in));
+            this.processor.map(in, out, index);
+        }
+
+        byte[] mapped = Files.readAllBytes(this.directory.resolve("out.rgba"));
+        assertEquals(WIDTH * HEIGHT * 4, mapped.length);
+        for(int pixel = 0; pixel < WIDTH * HEIGHT; pixel++) {
+            int rgb = this.getRGB(this.samples, pixel * 3),
+                    expected = index.getNearestRGB(rgb);
+            assertEquals(expected, this.getRGB(mapped, pixel * 4));
+            assertEquals(-1, mapped[(pixel * 4) + 3]);
+        }
+    }
+
+    /**
+     * Unit test for adjusting an image in place.
+     */
+    @Test
+    public void testAdjustInPlace() throws IOException {
+        PaletteRecolorer recolorer = new PaletteRecolorer(90, -0.1);
+        try(RawImageFile image = new RawImageFile(this.directory.resolve("in.rgb"), WIDTH, HEIGHT, 3, true)) {
+            this.processor.adjust(image, image, recolorer);
+        }
+
+        byte[] adjusted = Files.readAllBytes(this.directory.resolve("in.rgb"));
+        for(int pixel = 0; pixel < WIDTH * HEIGHT; pixel++) {
+            assertEquals(recolorer.apply(this.getRGB(this.samples, pixel * 3)) & 0xffffff,
+                    this.getRGB(adjusted, pixel * 3));
+        }
+    }
+
+    /**
+     * Unit test for counting every pixel of an image.
+     */
+    @Test
+    public void testHistogram() throws IOException {
+        HSLHistogram histogram = new HSLHistogram(2, 2),
+                expected = new HSLHistogram(2, 2);
+        try(RawImageFile in = new RawImageFile(this.directory.resolve("in.rgb"), WIDTH, HEIGHT, 3)) {
+            this.processor.histogram(in, histogram);
+        }
+        for(int pixel = 0; pixel < WIDTH * HEIGHT; pixel++) {
+            expected.add(this.getRGB(this.samples, pixel * 3));
+        }
+        assertEquals(WIDTH * HEIGHT, histogram.getTotal());
+        assertArrayEquals(expected.getHueCounts(), histogram.getHueCounts());
+    }
+
+    /**
+     * Unit test for opening files smaller than their dimensions.
+     */
+    @Test(expected = IOException.class)
+    public void testShortFile() throws IOException {
+        new RawImageFile(this.directory.resolve("in.rgb"), WIDTH, HEIGHT + 1, 3).close();
+    }
+
+    private int getRGB(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xff) << 16) | ((bytes[offset + 1] & 0xff) << 8) | (bytes[offset + 2] & 0xff);
+    }
+}
@@ -3,10 +3,16 @@ package rgb_hsl.palette;
 import org.junit.Before;
 import org.junit.Test;
 import rgb_hsl.color.Color;
+import rgb_hsl.color.HexColor;
 import rgb_hsl.color.RGBColor;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 
@@ -73,4 +79,33 @@ public class ComplementaryPaletteTest {
             }
         }
     }
+
+    /**
+     * Unit test designed to test naming the colors of a palette.
+     */
+    @Test
+    public void testColorNames() {
+        this.paletteOne = new ComplementaryPalette(new RGBColor(255, 0, 0));
+        assertArrayEquals(new String[]{"red", "aqua"}, this.paletteOne.getColorNames());
+    }
+
+    /**
+     * Unit test for determining whether palettes seeded from an opaque
+     * HexColor print and write the same colors as before alpha existed.
+     */
+    @Test
+    public void testOpaqueHexColor() throws IOException {
+        this.paletteOne = new ComplementaryPalette(new HexColor("#ff0000"));
+        assertEquals("[#ff0000, HSL (180, 1.00, 0.50)]\nTotal colors: 2.", this.paletteOne.toString());
+        assertEquals("RGB(0, 255, 255)\n", Color.getRGBColor(this.paletteOne.getColor(1)).toString());
+
+        File file = File.createTempFile("palette", ".txt");
+        try {
+            this.paletteOne.writeToFile(file.getPath());
+            assertEquals("HSL (0, 1.00, 0.50)\nHSL (180, 1.00, 0.50)\n",
+                    new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        } finally {
+            file.delete();
+        }
+    }
 }
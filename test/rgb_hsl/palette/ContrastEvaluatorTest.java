@@ -0,0 +1,127 @@
+package rgb_hsl.palette;
+
+import org.junit.Test;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for ContrastEvaluator.
+ * @author Noah Teshima
+ */
+public class ContrastEvaluatorTest {
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Unit test for the contrast of known pairs of colors.
+     */
+    @Test
+    public void testKnownRatios() {
+        assertEquals(21, ContrastEvaluator.getContrast(0x000000, 0xffffff), DELTA);
+        assertEquals(21, ContrastEvaluator.getContrast(0xffffff, 0x000000), DELTA);
+        assertEquals(1, ContrastEvaluator.getContrast(0x3366cc, 0x3366cc), DELTA);
+        assertEquals(0.2126, ContrastEvaluator.getLuminance(0xff0000), DELTA);
+        assertEquals(4.0, ContrastEvaluator.getContrast(0xff0000, 0xffffff), 0.01);
+    }
+
+    /**
+     * Unit test for determining whether the matrix is symmetric
+     * and agrees with the ratio of each pair.
+     */
+    @Test
+    public void testContrastMatrix() {
+        Palette palette = new MonoChromaticPalette(new RGBColor(200, 40, 90), 6);
+        double[] matrix = ContrastEvaluator.getContrastMatrix(palette);
+        int size = palette.getSize();
+        assertEquals(size * size, matrix.length);
+        for(int row = 0; row < size; row++) {
+            assertEquals(1, matrix[(row * size) + row], DELTA);
+            for(int column = 0; column < size; column++) {
+                assertEquals(matrix[(row * size) + column], matrix[(column * size) + row], 0);
+                assertEquals(ContrastEvaluator.getContrast(rgb(palette, row), rgb(palette, column)),
+                        matrix[(row * size) + column], DELTA);
+            }
+        }
+    }
+
+    /**
+     * Unit test for determining whether a parallel batch finds
+     * the same violations, in order, as a loop over every pair.
+     */
+    @Test
+    public void testBatchMatchesBruteForce() {
+        Random random = new Random(11);
+        int palettes = 3000;
+        int[] offsets = new int[palettes + 1];
+        for(int palette = 0; palette < palettes; palette++) {
+            offsets[palette + 1] = offsets[palette] + 1 + random.nextInt(8);
+        }
+        int[] colors = new int[offsets[palettes]];
+        for(int color = 0; color < colors.length; color++) {
+            colors[color] = random.nextInt(0x1000000);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ContrastViolations violations = new ContrastEvaluator(pool).evaluateAll(colors, offsets,
+                    ContrastEvaluator.AA);
+            int violation = 0;
+            for(int palette = 0; palette < palettes; palette++) {
+                for(int first = offsets[palette]; first < offsets[palette + 1]; first++) {
+                    for(int second = first + 1; second < offsets[palette + 1]; second++) {
+                        double ratio = ContrastEvaluator.getContrast(colors[first], colors[second]);
+                        if(ratio < ContrastEvaluator.AA) {
+                            assertEquals(palette, violations.getPalette(violation));
+                            assertEquals(first - offsets[palette], violations.getFirst(violation));
+                            assertEquals(second - offsets[palette], violations.getSecond(violation));
+                            assertEquals(ratio, violations.getRatio(violation), 0);
+                            violation++;
+                        }
+                    }
+                }
+            }
+            assertEquals(violation, violations.size());
+            assertTrue(violation > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Unit test for evaluating a list of palettes.
+     */
+    @Test
+    public void testEvaluatePalettes() {
+        List<Palette> palettes = new ArrayList<>();
+        palettes.add(new MonoChromaticPalette(new RGBColor(0, 0, 0), 2));
+        palettes.add(new TriadPalette(new RGBColor(255, 0, 0)));
+        ContrastViolations violations = new ContrastEvaluator().evaluateAll(palettes, ContrastEvaluator.AA_LARGE);
+        for(int violation = 0; violation < violations.size(); violation++) {
+            assertEquals(1, violations.getPalette(violation));
+        }
+        assertEquals(new ContrastEvaluator().evaluate(palettes.get(1), ContrastEvaluator.AA_LARGE).size(),
+                violations.size());
+        assertTrue(new ContrastEvaluator().evaluate(palettes.get(0), ContrastEvaluator.AA_LARGE).isEmpty());
+    }
+
+    /**
+     * Unit test for reading a violation past the end.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        new ContrastEvaluator().evaluate(new MonoChromaticPalette(new RGBColor(0, 0, 0), 2), 1).getRatio(0);
+    }
+
+    private static int rgb(Palette palette, int index) {
+        return PackedColor.getRGB(palette.getColor(index));
+    }
+}
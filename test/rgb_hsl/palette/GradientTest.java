@@ -0,0 +1,115 @@
+package rgb_hsl.palette;
+
+import org.junit.Test;
+import rgb_hsl.color.Color;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for Gradient and Easing.
+ * @author Noah Teshima
+ */
+public class GradientTest {
+    /**
+     * Unit test for the steps of a gradient in RGB space.
+     */
+    @Test
+    public void testRGB() {
+        Gradient gradient = new Gradient(Gradient.Space.RGB, new RGBColor(0, 0, 0), new RGBColor(200, 100, 50));
+        assertArrayEquals(new int[] {0x000000, 0x643219, 0xc86432}, gradient.getColors(3));
+        assertEquals(0x32190d, gradient.getRGB(0.25));
+    }
+
+    /**
+     * Unit test for determining whether every stop is reached and
+     * the first and last steps are the first and last stops.
+     */
+    @Test
+    public void testStops() {
+        RGBColor[] stops = {new RGBColor(255, 0, 0), new RGBColor(20, 200, 90), new RGBColor(0, 0, 255)};
+        for(Gradient.Space space : Gradient.Space.values()) {
+            int[] colors = new Gradient(space, stops).getColors(5);
+            for(int stop = 0; stop < stops.length; stop++) {
+                //integer hues make a round trip through HSL space inexact
+                int expected = (space == Gradient.Space.HSL)
+                        ? PackedColor.getRGB(Color.getHSLColor(stops[stop]))
+                        : PackedColor.getRGB(stops[stop]),
+                        actual = colors[stop * 2];
+                for(int shift = 0; shift < 24; shift += 8) {
+                    assertTrue(space + " misses a stop",
+                            Math.abs(((expected >> shift) & 0xff) - ((actual >> shift) & 0xff)) <= 2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unit test for interpolating hue along the shorter arc, and
+     * keeping the hue of a colored stop next to a gray stop.
+     */
+    @Test
+    public void testHueArc() {
+        Gradient gradient = new Gradient(Gradient.Space.HSL, new HSLColor(340, 1, 0.5), new HSLColor(20, 1, 0.5));
+        assertEquals(PackedColor.fromHSL(0, 1, 0.5), gradient.getRGB(0.5));
+        assertEquals(PackedColor.fromHSL(350, 1, 0.5), gradient.getRGB(0.25));
+
+        Gradient gray = new Gradient(Gradient.Space.HSL, new HSLColor(0, 0, 0.5), new HSLColor(200, 1, 0.5));
+        assertEquals(200, PackedColor.getHue(gray.getRGB(0.5)), 2);
+    }
+
+    /**
+     * Unit test for determining whether the fill, iterator, and
+     * parallel stream all give the same steps.
+     */
+    @Test
+    public void testIterationMatchesFill() {
+        Gradient gradient = new Gradient(Gradient.Space.OKLAB, new RGBColor(10, 20, 30),
+                new RGBColor(250, 200, 0), new RGBColor(0, 120, 255), new RGBColor(255, 255, 255));
+        gradient.setEasing(Easing.EASE_IN_OUT);
+        int steps = 100000;
+        int[] colors = new int[steps + 2];
+        gradient.fill(colors, 1, steps);
+
+        PrimitiveIterator.OfInt iterator = gradient.iterator(steps);
+        for(int step = 0; step < steps; step++) {
+            assertEquals(colors[step + 1], iterator.nextInt());
+        }
+        assertFalse(iterator.hasNext());
+        assertArrayEquals(gradient.getColors(steps), gradient.stream(steps).parallel().toArray());
+    }
+
+    /**
+     * Unit test for determining whether sampled easings follow
+     * their curves.
+     */
+    @Test
+    public void testEasing() {
+        Easing cubic = Easing.of(position -> position * position * position);
+        for(int step = 0; step <= 100; step++) {
+            double position = step / 100.0;
+            assertEquals(position, Easing.LINEAR.apply(position), 1e-12);
+            assertEquals(position * position, Easing.EASE_IN.apply(position), 1e-5);
+            assertEquals(position * position * position, cubic.apply(position), 1e-5);
+        }
+        assertEquals(0, Easing.EASE_OUT.apply(-1), 0);
+        assertEquals(1, Easing.EASE_OUT.apply(2), 0);
+    }
+
+    /**
+     * Unit test for a gradient with a single stop.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSingleStop() {
+        new Gradient(Gradient.Space.RGB, new RGBColor(0, 0, 0));
+    }
+}
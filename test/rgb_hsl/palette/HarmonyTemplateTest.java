@@ -0,0 +1,158 @@
+package rgb_hsl.palette;
+
+import org.junit.Test;
+import rgb_hsl.color.Color;
+import rgb_hsl.color.FloatHSLColor;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for HarmonyTemplate.
+ * @author Noah Teshima
+ */
+public class HarmonyTemplateTest {
+    /**
+     * Seeds of the palettes in HUE_RESULTS.
+     */
+    private static final int[][] SEEDS = {{255, 0, 0}, {120, 160, 200}, {10, 200, 90}, {250, 240, 5}};
+
+    /**
+     * Hues generated from each seed by version 1.0.0, before palettes
+     * used templates: the complementary color, the two triad colors, and
+     * the two analogous colors for offsets of 30, -45 and 200.
+     */
+    private static final int[][] HUE_RESULTS = {
+            {180, 120, 240, 30, 330, 45, 315, 120, 240},
+            {30, 330, 90, 240, 180, 255, 165, 330, 90},
+            {324, 264, 24, 174, 114, 189, 99, 264, 24},
+            {237, 177, 297, 87, 27, 102, 12, 177, 297}
+    };
+
+    /**
+     * Saturation and lightness of every color generated from each seed
+     * by version 1.0.0.
+     */
+    private static final double[][] SATURATION_LIGHTNESS_RESULTS = {
+            {1.0, 0.5},
+            {0.42105263157894735, 0.6274509803921569},
+            {0.9047619047619049, 0.4117647058823529},
+            {0.9607843137254901, 0.5}
+    };
+
+    /**
+     * Unit test for determining whether the built in palettes generate
+     * the same colors as they did before they used templates.
+     */
+    @Test
+    public void testMatchesPalettes() {
+        for(int seed = 0; seed < SEEDS.length; seed++) {
+            Color color = new RGBColor(SEEDS[seed][0], SEEDS[seed][1], SEEDS[seed][2]);
+            Palette[] palettes = {new ComplementaryPalette(color), new TriadPalette(color),
+                    new AnalogousPalette(color, 30), new AnalogousPalette(color, -45),
+                    new AnalogousPalette(color, 200)};
+            int expected = 0;
+            for(Palette palette : palettes) {
+                assertEquals(color, palette.getColor(0));
+                for(int index = 1; index < palette.getSize(); index++) {
+                    assertEquals(palette.toString(), new HSLColor(HUE_RESULTS[seed][expected++],
+                            SATURATION_LIGHTNESS_RESULTS[seed][0], SATURATION_LIGHTNESS_RESULTS[seed][1]),
+                            palette.getColor(index));
+                }
+            }
+            assertEquals(HUE_RESULTS[seed].length, expected);
+        }
+    }
+
+    /**
+     * Unit test for the colors of templates with deltas and
+     * offsets past a full turn.
+     */
+    @Test
+    public void testDeltas() {
+        HarmonyTemplate template = new HarmonyTemplate(new int[] {-30, 390},
+                new double[] {0, -0.25}, new double[] {0.1, 0.8});
+        Palette palette = template.apply(new HSLColor(10, 0.5, 0.4));
+        assertEquals(3, palette.getSize());
+        assertEquals(new HSLColor(340, 0.5, 0.5), palette.getColor(1));
+        assertEquals(new HSLColor(40, 0.25, 1), palette.getColor(2));
+        assertEquals(4, HarmonyTemplate.SQUARE.getSize());
+    }
+
+    /**
+     * Unit test for determining whether bulk application gives the
+     * same colors as palettes of each seed.
+     */
+    @Test
+    public void testBulkMatchesPalettes() {
+        Random random = new Random(9);
+        int[] seeds = new int[500];
+        for(int seed = 0; seed < seeds.length; seed++) {
+            seeds[seed] = random.nextInt(0x1000000);
+        }
+        HarmonyTemplate[] templates = {HarmonyTemplate.SPLIT_COMPLEMENTARY, HarmonyTemplate.TETRADIC,
+                new HarmonyTemplate(new int[] {45, -45}, new double[] {-0.2, 0.2}, new double[] {0.15, -0.15})};
+        for(HarmonyTemplate template : templates) {
+            int[] colors = new int[(seeds.length + 1) * template.getSize()];
+            template.apply(seeds, 0, seeds.length, colors, template.getSize());
+            for(int seed = 0; seed < seeds.length; seed++) {
+                Palette palette = template.apply(PackedColor.toHSLColor(seeds[seed]));
+                for(int color = 0; color < template.getSize(); color++) {
+                    int expected = (color == 0) ? seeds[seed] : PackedColor.getRGB(palette.getColor(color));
+                    assertEquals(expected, colors[((seed + 1) * template.getSize()) + color]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unit test for determining whether colors generated from a
+     * translucent packed seed keep its alpha.
+     */
+    @Test
+    public void testTranslucentSeed() {
+        assertArrayEquals(new int[] {0x80ff0000, 0x8000ffff}, HarmonyTemplate.COMPLEMENTARY.apply(0x80ff0000));
+        int[] colors = HarmonyTemplate.TRIAD.apply(0x400000ff);
+        for(int color = 0; color < colors.length; color++) {
+            assertEquals(0x40000000, colors[color] & 0xff000000);
+            assertEquals(HarmonyTemplate.TRIAD.apply(0x0000ff)[color], colors[color] & 0xffffff);
+        }
+    }
+
+    /**
+     * Unit test for an output too small for every color.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutputTooSmall() {
+        HarmonyTemplate.TRIAD.apply(new int[4], 0, 4, new int[11], 0);
+    }
+
+    /**
+     * Unit test for determining whether templates keep fractional
+     * hues, both on float arrays and in palettes generated from a
+     * high precision starting color.
+     */
+    @Test
+    public void testHighPrecision() {
+        float[] colors = new float[HarmonyTemplate.TRIAD.getSize() * 3];
+        HarmonyTemplate.TRIAD.apply(new float[] {10.25f, 0.5f, 0.25f}, 0, 1, colors, 0);
+        assertArrayEquals(new float[] {10.25f, 0.5f, 0.25f, 130.25f, 0.5f, 0.25f, 250.25f, 0.5f, 0.25f},
+                colors, 0);
+
+        Palette palette = HarmonyTemplate.TRIAD.apply(new FloatHSLColor(10.25f, 0.5f, 0.25f));
+        assertEquals(new FloatHSLColor(130.25f, 0.5f, 0.25f), palette.getColor(1));
+        assertEquals(new FloatHSLColor(250.25f, 0.5f, 0.25f), palette.getColor(2));
+        for(Color color : palette.quantize()) {
+            assertTrue(color instanceof RGBColor);
+        }
+        assertEquals(PackedColor.getRGB(palette.getColor(1)), PackedColor.getRGB(palette.quantize().get(1)));
+    }
+}
@@ -0,0 +1,103 @@
+package rgb_hsl.palette;
+
+import org.junit.Before;
+import org.junit.Test;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for PaletteIndex.
+ * @author Noah Teshima
+ */
+public class PaletteIndexTest {
+    private Palette paletteOne;
+
+    @Before
+    public void init() {
+        this.paletteOne = new MonoChromaticPalette(new RGBColor(200, 40, 90), 12);
+    }
+
+    /**
+     * Unit test for finding palette colors themselves.
+     */
+    @Test
+    public void testExactColors() {
+        PaletteIndex index = new PaletteIndex(new TriadPalette(new RGBColor(255, 0, 0)));
+        assertEquals(0, index.getNearestIndex(new RGBColor(250, 10, 10)));
+        assertEquals(1, index.getNearestIndex(new HSLColor(120, 1, 0.4)));
+        assertEquals(2, index.getNearestIndex(0x0000f0));
+        assertEquals(0xff0000, index.getNearestRGB(0xff0101));
+    }
+
+    /**
+     * Unit test for determining whether every metric agrees with
+     * a linear search over the palette.
+     */
+    @Test
+    public void testMatchesLinearSearch() {
+        Random random = new Random(7);
+        int[] pixels = new int[20000],
+                indices = new int[pixels.length];
+        for(int index = 0; index < pixels.length; index++) {
+            pixels[index] = random.nextInt(0x1000000);
+        }
+
+        for(PaletteIndex.Metric metric : PaletteIndex.Metric.values()) {
+            PaletteIndex paletteIndex = new PaletteIndex(this.paletteOne, metric);
+            paletteIndex.mapPixels(pixels, indices);
+            for(int index = 0; index < pixels.length; index++) {
+                assertEquals(String.format("%s nearest color of %06x is wrong!\n", metric, pixels[index]),
+                        this.linearNearest(metric, pixels[index]), indices[index]);
+            }
+        }
+    }
+
+    /**
+     * Unit test for determining whether ties are broken in favor of the
+     * first palette color.
+     */
+    @Test
+    public void testTies() {
+        PaletteIndex index = new PaletteIndex(new TriadPalette(new RGBColor(0, 0, 0)));
+        assertEquals(0, index.getNearestIndex(0xffffff));
+    }
+
+    /**
+     * Helper method used to find the nearest palette color by linear search.
+     * @param metric Metric used to measure distance.
+     * @param rgb integer value containing a packed color.
+     * @return integer value containing the nearest palette index.
+     */
+    private int linearNearest(PaletteIndex.Metric metric, int rgb) {
+        int size = this.paletteOne.getSize();
+        int[] colors = new int[size + 1];
+        for(int index = 0; index < size; index++) {
+            colors[index] = PackedColor.getRGB(this.paletteOne.getColor(index));
+        }
+        colors[size] = rgb;
+        double[] points = new double[colors.length * 3];
+        PaletteIndex.toCoordinates(metric, colors, colors.length, points);
+
+        int nearest = 0;
+        double nearestDistance = Double.POSITIVE_INFINITY;
+        for(int index = 0; index < size; index++) {
+            double distance = 0;
+            for(int axis = 0; axis < 3; axis++) {
+                double difference = points[(index * 3) + axis] - points[(size * 3) + axis];
+                distance += difference * difference;
+            }
+            if(distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = index;
+            }
+        }
+        return nearest;
+    }
+}
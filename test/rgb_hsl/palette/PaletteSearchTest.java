@@ -0,0 +1,181 @@
+package rgb_hsl.palette;
+
+import org.junit.Test;
+import rgb_hsl.color.Color;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for PaletteSearch.
+ * @author Noah Teshima
+ */
+public class PaletteSearchTest {
+    private static final int[] HUE_OFFSETS = {-40, -20, 0, 20, 40, 180};
+    private static final double[] SATURATIONS = {0.3, 0.6, 0.9};
+    private static final double[] LIGHTNESSES = {0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9};
+
+    private final Color start = new RGBColor(30, 90, 200);
+
+    /**
+     * Unit test for determining whether every palette found meets
+     * the constraints, and the scores are the best of every palette.
+     */
+    @Test
+    public void testMatchesExhaustiveSearch() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PaletteSearch search = new PaletteSearch(HUE_OFFSETS, SATURATIONS, LIGHTNESSES, pool);
+            search.setMinimumContrast(ContrastEvaluator.AA_LARGE);
+            search.setLightnessSpacing(0.2);
+            List<SearchedPalette> palettes = search.search(this.start, 3, 10);
+
+            List<Double> expected = this.exhaustiveScores(3, 3, 0.2, search.getScore());
+            assertEquals(Math.min(10, expected.size()), palettes.size());
+            for(int index = 0; index < palettes.size(); index++) {
+                assertEquals(expected.get(index), palettes.get(index).getScore(), 0);
+                this.assertConstraints(palettes.get(index), 3, 0.2);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Unit test for determining whether a custom score without a
+     * bound ranks palettes the same way as checking every palette.
+     */
+    @Test
+    public void testCustomScore() {
+        PaletteScore lightnessRange = (colors, size) -> {
+            double low = 1,
+                    high = 0;
+            for(int index = 0; index < size; index++) {
+                low = Math.min(low, PackedColor.getLightness(colors[index]));
+                high = Math.max(high, PackedColor.getLightness(colors[index]));
+            }
+            return -(high - low);
+        };
+        PaletteSearch search = new PaletteSearch(HUE_OFFSETS, SATURATIONS, LIGHTNESSES);
+        search.setScore(lightnessRange);
+        search.setMinimumContrast(2);
+        List<SearchedPalette> palettes = search.search(this.start, 4, 5);
+
+        List<Double> expected = this.exhaustiveScores(4, 2, 0, lightnessRange);
+        assertEquals(5, palettes.size());
+        for(int index = 0; index < palettes.size(); index++) {
+            assertEquals(expected.get(index), palettes.get(index).getScore(), 0);
+            this.assertConstraints(palettes.get(index), 2, 0);
+        }
+    }
+
+    /**
+     * Unit test for determining whether the result does not depend
+     * on the number of threads.
+     */
+    @Test
+    public void testDeterministic() {
+        ForkJoinPool single = new ForkJoinPool(1),
+                several = new ForkJoinPool(4);
+        try {
+            PaletteSearch one = new PaletteSearch(HUE_OFFSETS, SATURATIONS, LIGHTNESSES, single),
+                    two = new PaletteSearch(HUE_OFFSETS, SATURATIONS, LIGHTNESSES, several);
+            one.setLightnessSpacing(0.1);
+            two.setLightnessSpacing(0.1);
+            assertEquals(one.search(this.start, 4, 8), two.search(this.start, 4, 8));
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    /**
+     * Unit test for constraints that no palette can meet.
+     */
+    @Test
+    public void testNoPalette() {
+        PaletteSearch search = new PaletteSearch(HUE_OFFSETS, SATURATIONS, LIGHTNESSES);
+        search.setMinimumContrast(ContrastEvaluator.AAA);
+        assertTrue(search.search(this.start, 4, 3).isEmpty());
+        assertEquals(1, search.search(this.start, 1, 3).size());
+    }
+
+    /**
+     * Unit test for an invalid lightness.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLightness() {
+        new PaletteSearch(HUE_OFFSETS, SATURATIONS, new double[] {1.5});
+    }
+
+    private void assertConstraints(Palette palette, double contrast, double spacing) {
+        assertEquals(this.start, palette.getStartingColor());
+        for(int first = 0; first < palette.getSize(); first++) {
+            for(int second = first + 1; second < palette.getSize(); second++) {
+                assertTrue(ContrastEvaluator.getContrast(PackedColor.getRGB(palette.getColor(first)),
+                        PackedColor.getRGB(palette.getColor(second))) >= contrast);
+                assertTrue(Math.abs(Color.getHSLColor(palette.getColor(first)).getLightness()
+                        - Color.getHSLColor(palette.getColor(second)).getLightness()) >= spacing - 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Score every palette of distinct candidates and return the
+     * scores from best to worst.
+     */
+    private List<Double> exhaustiveScores(int size, double contrast, double spacing, PaletteScore score) {
+        HSLColor startHSL = Color.getHSLColor(this.start);
+        List<HSLColor> candidates = new ArrayList<>();
+        for(double lightness : LIGHTNESSES) {
+            for(double saturation : SATURATIONS) {
+                for(int offset : HUE_OFFSETS) {
+                    candidates.add(new HSLColor(Math.floorMod(startHSL.getHue() + offset, 360), saturation, lightness));
+                }
+            }
+        }
+        List<Double> scores = new ArrayList<>();
+        List<HSLColor> chosen = new ArrayList<>();
+        chosen.add(startHSL);
+        this.enumerate(candidates, 0, chosen, size, contrast, spacing, score, scores);
+        Collections.sort(scores, Collections.reverseOrder());
+        return scores;
+    }
+
+    private void enumerate(List<HSLColor> candidates, int first, List<HSLColor> chosen, int size, double contrast,
+            double spacing, PaletteScore score, List<Double> scores) {
+        if(chosen.size() == size) {
+            int[] colors = new int[size];
+            for(int index = 0; index < size; index++) {
+                colors[index] = PackedColor.getRGB(chosen.get(index));
+            }
+            colors[0] = PackedColor.getRGB(this.start);
+            scores.add(score.score(colors, size));
+            return;
+        }
+        for(int candidate = first; candidate < candidates.size(); candidate++) {
+            HSLColor color = candidates.get(candidate);
+            boolean fits = true;
+            for(int index = 0; index < chosen.size() && fits; index++) {
+                int other = (index == 0) ? PackedColor.getRGB(this.start) : PackedColor.getRGB(chosen.get(index));
+                fits = ContrastEvaluator.getContrast(PackedColor.getRGB(color), other) >= contrast
+                        && Math.abs(color.getLightness() - chosen.get(index).getLightness()) >= spacing - 1e-9;
+            }
+            if(fits) {
+                chosen.add(color);
+                this.enumerate(candidates, candidate + 1, chosen, size, contrast, spacing, score, scores);
+                chosen.remove(chosen.size() - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package rgb_hsl.palette;
+
+import org.junit.Test;
+import rgb_hsl.color.PackedColor;
+import rgb_hsl.color.RGBColor;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for PaletteTransition.
+ * @author Noah Teshima
+ */
+public class PaletteTransitionTest {
+    private final Palette from = new TriadPalette(new RGBColor(255, 0, 0));
+    private final Palette to = new TriadPalette(new RGBColor(20, 60, 200));
+
+    /**
+     * Unit test for the first, middle, and last frames in RGB space.
+     */
+    @Test
+    public void testFrames() {
+        PaletteTransition transition = new PaletteTransition(this.from, this.to, 3, Gradient.Space.RGB,
+                ForkJoinPool.commonPool());
+        int[] colors = new int[4];
+        transition.getFrame(0, colors, 1);
+        for(int color = 0; color < 3; color++) {
+            assertEquals(PackedColor.getRGB(this.from.getColor(color)), colors[color + 1]);
+        }
+        transition.getFrame(2, colors, 0);
+        for(int color = 0; color < 3; color++) {
+            assertEquals(PackedColor.getRGB(this.to.getColor(color)), colors[color]);
+        }
+        transition.getFrame(1, colors, 0);
+        assertEquals(new Gradient(Gradient.Space.RGB, this.from.getColor(0), this.to.getColor(0)).getRGB(0.5),
+                colors[0]);
+    }
+
+    /**
+     * Unit test for determining whether streamed frames and a
+     * parallel atlas hold the same colors.
+     */
+    @Test
+    public void testAtlasMatchesFrames() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PaletteTransition transition = new PaletteTransition(this.from, this.to, 1000, Gradient.Space.HSL, pool);
+            transition.setEasing(Easing.EASE_OUT);
+            int[] atlas = transition.getAtlas(),
+                    streamed = new int[atlas.length];
+            transition.forEachFrame((colors, frame) ->
+                    System.arraycopy(colors, 0, streamed, frame * colors.length, colors.length));
+            assertArrayEquals(streamed, atlas);
+            assertEquals(1000 * 3, atlas.length);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Unit test for palettes of different sizes.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentSizes() {
+        new PaletteTransition(this.from, new ComplementaryPalette(new RGBColor(0, 0, 0)), 10);
+    }
+}
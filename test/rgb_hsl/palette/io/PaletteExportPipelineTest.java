@@ -0,0 +1,162 @@
+package rgb_hsl.palette.io;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import rgb_hsl.color.RGBColor;
+import rgb_hsl.palette.ComplementaryPalette;
+import rgb_hsl.palette.Palette;
+import rgb_hsl.palette.TriadPalette;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary tests for
+ * PaletteExportPipeline and the built in PaletteExporters.
+ * @author Noah Teshima
+ */
+public class PaletteExportPipelineTest {
+    private Path directory;
+    private List<Palette> palettes;
+
+    @Before
+    public void init() throws IOException {
+        this.directory = Files.createTempDirectory("palettes");
+        this.palettes = Arrays.asList(
+                new ComplementaryPalette(new RGBColor(255, 0, 0)),
+                new TriadPalette(new RGBColor(0, 0, 255)));
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try(Stream<Path> paths = Files.walk(this.directory)) {
+            for(Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Unit test for exporting palettes in every built in format.
+     */
+    @Test
+    public void testExportAll() throws IOException {
+        try(PaletteExportPipeline pipeline = new PaletteExportPipeline(this.directory, "test",
+                new GplExporter(), new CssExporter("theme"), new AseExporter())) {
+            pipeline.exportAll(this.palettes);
+        }
+
+        assertEquals("GIMP Palette\nName: test\n#\n"
+                        + "# 0 ComplementaryPalette\n"
+                        + "255   0   0\t#ff0000\n"
+                        + "  0 255 255\t#00ffff\n"
+                        + "# 1 TriadPalette\n"
+                        + "  0   0 255\t#0000ff\n"
+                        + "255   0   0\t#ff0000\n"
+                        + "  0 255   0\t#00ff00\n",
+                this.read("test.gpl"));
+
+        assertEquals("/* test */\n:root {\n"
+                        + "  --theme-0-0: #ff0000;\n"
+                        + "  --theme-0-1: #00ffff;\n"
+                        + "  --theme-1-0: #0000ff;\n"
+                        + "  --theme-1-1: #ff0000;\n"
+                        + "  --theme-1-2: #00ff00;\n"
+                        + "}\n",
+                this.read("test.css"));
+
+        ByteBuffer ase = ByteBuffer.wrap(Files.readAllBytes(this.directory.resolve("test.ase")));
+        assertEquals(0x41534546, ase.getInt());
+        assertEquals(1, ase.getShort());
+        assertEquals(0, ase.getShort());
+        //two groups with a start and end block each, plus five colors
+        assertEquals(9, ase.getInt());
+        assertEquals(0xc001, ase.getShort() & 0xffff);
+        String group = "ComplementaryPalette 0";
+        assertEquals(2 + ((group.length() + 1) * 2), ase.getInt());
+        assertEquals(group.length() + 1, ase.getShort());
+        assertEquals(group, this.readUtf16(ase, group.length()));
+        assertEquals(0, ase.getShort());
+        assertEquals(0x0001, ase.getShort());
+        ase.getInt();
+        assertEquals(8, ase.getShort());
+        assertEquals("#ff0000", this.readUtf16(ase, 7));
+    }
+
+    /**
+     * Unit test for determining whether the ASE block count is patched
+     * correctly once it has already been flushed to the file.
+     */
+    @Test
+    public void testAseBlockCountAfterFlush() throws IOException {
+        int count = 500;
+        try(PaletteExportPipeline pipeline = new PaletteExportPipeline(this.directory, "large",
+                new AseExporter())) {
+            for(int index = 0; index < count; index++) {
+                pipeline.export(new ComplementaryPalette(new RGBColor(index % 256, 0, 0)));
+            }
+        }
+
+        ByteBuffer ase = ByteBuffer.wrap(Files.readAllBytes(this.directory.resolve("large.ase")));
+        assertEquals(count * 4, ase.getInt(8));
+    }
+
+    /**
+     * Unit test for determining whether a palette name cannot close
+     * the comment at the top of a stylesheet.
+     */
+    @Test
+    public void testCssComment() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(PaletteEncoder encoder = new PaletteEncoder(Channels.newChannel(bytes))) {
+            new CssExporter().begin(encoder, "a*/b\u012a/");
+        }
+        String css = new String(bytes.toByteArray(), StandardCharsets.US_ASCII);
+        assertEquals("/* a* /b?/ */\n:root {\n", css);
+    }
+
+    /**
+     * Unit test for determining whether a prefix that is not a CSS
+     * identifier is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCssPrefix() {
+        new CssExporter("theme: red; --x");
+    }
+
+    /**
+     * Helper method used to read big-endian UTF-16 characters.
+     * @param buffer ByteBuffer reference to read from.
+     * @param length integer value containing the number of characters.
+     * @return String object containing the characters.
+     */
+    private String readUtf16(ByteBuffer buffer, int length) {
+        StringBuilder builder = new StringBuilder();
+        for(int index = 0; index < length; index++) {
+            builder.append(buffer.getChar());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Helper method used to read an exported text file.
+     * @param file String reference containing the name of the file.
+     * @return String object containing the contents of the file.
+     */
+    private String read(String file) throws IOException {
+        return new String(Files.readAllBytes(this.directory.resolve(file)), StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,126 @@
+package rgb_hsl.palette.io;
+
+import org.junit.Before;
+import org.junit.Test;
+import rgb_hsl.color.HSLColor;
+import rgb_hsl.color.RGBAColor;
+import rgb_hsl.color.RGBColor;
+import rgb_hsl.palette.ComplementaryPalette;
+import rgb_hsl.palette.Palette;
+import rgb_hsl.palette.TriadPalette;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit testing class containing the necessary
+ * tests for PaletteJsonWriter.
+ * @author Noah Teshima
+ */
+public class PaletteJsonWriterTest {
+    private StringBuilder builder;
+    private PaletteJsonWriter writer;
+
+    /**
+     * Expected JSON for a complementary palette of pure red.
+     */
+    private static final String RED_COMPLEMENTARY = "{\"type\":\"ComplementaryPalette\","
+            + "\"startingColor\":{\"hex\":\"#ff0000\",\"rgb\":[255,0,0],\"hsl\":[0,1.0000,0.5000]},"
+            + "\"colors\":[{\"hex\":\"#ff0000\",\"rgb\":[255,0,0],\"hsl\":[0,1.0000,0.5000]},"
+            + "{\"hex\":\"#00ffff\",\"rgb\":[0,255,255],\"hsl\":[180,1.0000,0.5000]}]}";
+
+    @Before
+    public void init() {
+        this.builder = new StringBuilder();
+        this.writer = new PaletteJsonWriter(this.builder);
+    }
+
+    /**
+     * Unit test for writing a single palette to an Appendable.
+     */
+    @Test
+    public void testWritePalette() throws IOException {
+        this.writer.writePalette(new ComplementaryPalette(new RGBColor(255, 0, 0)));
+        assertEquals(RED_COMPLEMENTARY, this.builder.toString());
+    }
+
+    /**
+     * Unit test for writing HSL colors, which should keep their
+     * own saturation and lightness.
+     */
+    @Test
+    public void testWriteHSLColor() throws IOException {
+        this.writer.writeColor(new HSLColor(200, 0.25, 0.125));
+        assertEquals("{\"hex\":\"#182328\",\"rgb\":[24,35,40],\"hsl\":[200,0.2500,0.1250]}",
+                this.builder.toString());
+    }
+
+    /**
+     * Unit test for writing colors that are not opaque, whose hex
+     * code should keep their alpha.
+     */
+    @Test
+    public void testWriteTranslucentColor() throws IOException {
+        this.writer.writeColor(new RGBAColor(255, 0, 0, 0x40));
+        assertEquals("{\"hex\":\"#ff000040\",\"rgb\":[255,0,0],\"hsl\":[0,1.0000,0.5000]}",
+                this.builder.toString());
+    }
+
+    /**
+     * Unit test for streaming an array of palettes.
+     */
+    @Test
+    public void testWritePalettes() throws IOException {
+        Palette red = new ComplementaryPalette(new RGBColor(255, 0, 0));
+        this.writer.beginArray();
+        this.writer.endArray();
+        this.writer.writePalettes(Arrays.asList(red, red));
+
+        assertEquals("[][" + RED_COMPLEMENTARY + "," + RED_COMPLEMENTARY + "]", this.builder.toString());
+    }
+
+    /**
+     * Unit test for determining whether the ByteBuffer output is
+     * identical to the Appendable output.
+     */
+    @Test
+    public void testByteBuffer() throws IOException {
+        Palette palette = new TriadPalette(new RGBColor(120, 160, 200));
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        new PaletteJsonWriter(buffer).writePalette(palette);
+        this.writer.writePalette(palette);
+
+        assertEquals(this.builder.toString(),
+                new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Unit test for writing strings that need escaping or are not
+     * US-ASCII, which should be encoded as UTF-8 in a ByteBuffer.
+     */
+    @Test
+    public void testWriteString() throws IOException {
+        String value = "Pal\u00e9tte \"\\\n";
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        new PaletteJsonWriter(buffer).writeString(value);
+        this.writer.writeString(value);
+
+        assertEquals("Pal\u00e9tte \\\"\\\\\\u000a", this.builder.toString());
+        assertEquals(this.builder.toString(),
+                new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Unit test for determining whether ending an array that was never
+     * begun is rejected.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testEndArrayWithoutBegin() throws IOException {
+        this.writer.endArray();
+    }
+}